@@ -0,0 +1,28 @@
+package com.project.chess.benchmark;
+
+import com.project.chess.board.Board;
+import com.project.chess.perft.PerftPosition;
+
+/**
+ * 벤치마크에 사용하는 게임 단계별 포지션입니다.
+ */
+public enum BenchmarkPosition {
+
+  OPENING(PerftPosition.START),
+  MIDDLEGAME(PerftPosition.POSITION_6),
+  ENDGAME(PerftPosition.POSITION_3);
+
+  private final PerftPosition position;
+
+  BenchmarkPosition(final PerftPosition position) {
+    this.position = position;
+  }
+
+  public Board createBoard() {
+    return this.position.createBoard();
+  }
+
+  public String getFen() {
+    return this.position.getFen();
+  }
+}
@@ -0,0 +1,61 @@
+package com.project.chess.benchmark;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.Board;
+import com.project.chess.board.Builder;
+import com.project.chess.pieces.Piece;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link Builder}로 보드를 구성하는 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardBenchmark {
+
+  @Param
+  public BenchmarkPosition position;
+
+  private List<Piece> pieces;
+  private Alliance moveMaker;
+
+  @Setup
+  public void setUp() {
+    final Board board = this.position.createBoard();
+    this.pieces = new ArrayList<>(board.getWhitePieces());
+    this.pieces.addAll(board.getBlackPieces());
+    this.moveMaker = board.getNextMoveMaker();
+  }
+
+  /**
+   * 기물 배치에서 새 보드를 만듭니다. 플레이어와 합법 이동은 지연 계산되므로 포함되지 않습니다.
+   */
+  @Benchmark
+  public Board buildBoard() {
+    final Builder builder = new Builder();
+    for (final Piece piece : this.pieces) {
+      builder.setPiece(piece);
+    }
+    builder.setMoveMaker(this.moveMaker);
+    return builder.build();
+  }
+
+  /**
+   * 새 보드를 만들고 현재 플레이어의 합법 이동까지 계산합니다.
+   */
+  @Benchmark
+  public int buildBoardWithLegalMoves() {
+    return buildBoard().getCurrentPlayer().getLegalMoves().size();
+  }
+}
@@ -0,0 +1,90 @@
+package com.project.chess.benchmark;
+
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.MoveList;
+import com.project.chess.player.ai.Evaluator;
+import com.project.chess.player.ai.MaterialEvaluator;
+import com.project.chess.player.ai.PawnStructureEvaluator;
+import com.project.chess.player.ai.PieceSquareEvaluator;
+import com.project.chess.player.ai.nnue.NnueEvaluator;
+import com.project.chess.player.ai.nnue.NnueKernel;
+import com.project.chess.player.ai.nnue.NnueNetwork;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 평가 함수의 비용을 측정합니다. 한 번의 연산은 포지션의 의사 합법 이동마다 이동을 수행하고 평가한 뒤 되돌리는 것이므로, 증분 갱신
+ * 비용도 포함됩니다.
+ * <p>
+ * 신경망은 고정된 시드의 난수 가중치를 사용합니다. 연산량은 가중치 값과 관계없으므로 학습된 가중치 파일이 필요 없습니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EvaluationBenchmark {
+
+  private static final int HIDDEN_SIZE = 256;
+
+  @Param
+  public BenchmarkPosition position;
+
+  @Param({"material", "pieceSquare", "pieceSquareRescan", "pawnStructure", "nnueScalar",
+      "nnueVector"})
+  public String evaluatorName;
+
+  private Evaluator evaluator;
+  private MutableBoard board;
+  private final MoveList moves = new MoveList();
+
+  @Setup
+  public void setUp() {
+    this.board = new MutableBoard(this.position.createBoard());
+    MoveGenerator.generateMoves(this.board, this.moves);
+    this.evaluator = switch (this.evaluatorName) {
+      case "material" -> new MaterialEvaluator();
+      case "pieceSquare" -> new PieceSquareEvaluator();
+      case "pieceSquareRescan" -> new PieceSquareEvaluator(true);
+      case "pawnStructure" -> new PawnStructureEvaluator();
+      case "nnueScalar" -> new NnueEvaluator(randomNetwork(), NnueKernel.scalar(), false);
+      case "nnueVector" -> new NnueEvaluator(randomNetwork(), NnueKernel.best(), false);
+      default -> throw new IllegalArgumentException("알 수 없는 평가 함수입니다: " + this.evaluatorName);
+    };
+  }
+
+  @Benchmark
+  public int makeEvaluateUnmake() {
+    int sum = 0;
+    for (int i = 0; i < this.moves.size(); i++) {
+      this.board.makeMove(this.moves.get(i));
+      sum += this.evaluator.evaluate(this.board);
+      this.board.unmakeMove();
+    }
+    return sum;
+  }
+
+  private static NnueNetwork randomNetwork() {
+    final SplittableRandom random = new SplittableRandom(1L);
+    final short[] featureWeights = new short[NnueNetwork.NUM_FEATURES * HIDDEN_SIZE];
+    final short[] featureBiases = new short[HIDDEN_SIZE];
+    final short[] outputWeights = new short[2 * HIDDEN_SIZE];
+    for (int i = 0; i < featureWeights.length; i++) {
+      featureWeights[i] = (short) random.nextInt(-20, 21);
+    }
+    for (int i = 0; i < featureBiases.length; i++) {
+      featureBiases[i] = (short) random.nextInt(0, 200);
+    }
+    for (int i = 0; i < outputWeights.length; i++) {
+      outputWeights[i] = (short) random.nextInt(-64, 65);
+    }
+    return new NnueNetwork(HIDDEN_SIZE, featureWeights, featureBiases, outputWeights, 0);
+  }
+}
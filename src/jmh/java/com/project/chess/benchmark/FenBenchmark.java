@@ -0,0 +1,55 @@
+package com.project.chess.benchmark;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Builder;
+import com.project.chess.board.Fen;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 초당 처리하는 FEN 수를 측정합니다.
+ * <p>
+ * {@link #read()}는 문자열을 읽어 빌더를 채우는 비용만, {@link #parse()}는 보드 생성까지 포함한 비용을 측정하므로 둘의 차이가
+ * 보드 생성 비용입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FenBenchmark {
+
+  @Param
+  public BenchmarkPosition position;
+
+  private String fen;
+  private Board board;
+  private final StringBuilder buffer = new StringBuilder(90);
+
+  @Setup
+  public void setUp() {
+    this.fen = this.position.getFen();
+    this.board = this.position.createBoard();
+  }
+
+  @Benchmark
+  public Builder read() {
+    return Fen.read(this.fen, new Builder());
+  }
+
+  @Benchmark
+  public Board parse() {
+    return Fen.parse(this.fen);
+  }
+
+  @Benchmark
+  public int write() {
+    this.buffer.setLength(0);
+    return Fen.write(this.board, this.buffer).length();
+  }
+}
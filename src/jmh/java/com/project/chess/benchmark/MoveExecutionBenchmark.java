@@ -0,0 +1,82 @@
+package com.project.chess.benchmark;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveList;
+import com.project.chess.player.Player;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 한 포지션의 모든 이동을 수행하는 비용을 측정합니다. 한 번의 연산은 포지션의 이동 전체를 한 번씩 수행하는 것입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveExecutionBenchmark {
+
+  @Param
+  public BenchmarkPosition position;
+
+  private Player player;
+  private List<Move> legalMoves;
+  private MutableBoard mutableBoard;
+  private final MoveList moves = new MoveList();
+
+  @Setup
+  public void setUp() {
+    final Board board = this.position.createBoard();
+    this.player = board.getCurrentPlayer();
+    this.legalMoves = new ArrayList<>(this.player.getLegalMoves());
+    this.mutableBoard = new MutableBoard(board);
+    MoveGenerator.generateMoves(this.mutableBoard, this.moves);
+  }
+
+  /**
+   * {@link Move#execute()}로 이동마다 새 보드를 만듭니다.
+   */
+  @Benchmark
+  public void execute(final Blackhole blackhole) {
+    for (final Move move : this.legalMoves) {
+      blackhole.consume(move.execute());
+    }
+  }
+
+  /**
+   * {@link Player#makeMove(Move)}로 이동마다 새 보드를 만들고 킹의 안전을 검사합니다.
+   */
+  @Benchmark
+  public void makeMove(final Blackhole blackhole) {
+    for (final Move move : this.legalMoves) {
+      blackhole.consume(this.player.makeMove(move));
+    }
+  }
+
+  /**
+   * 비교 기준: {@link MutableBoard}에서 이동을 수행하고 킹의 안전을 검사한 뒤 되돌립니다.
+   */
+  @Benchmark
+  public int makeUnmakeMove() {
+    int legal = 0;
+    for (int i = 0; i < this.moves.size(); i++) {
+      this.mutableBoard.makeMove(this.moves.get(i));
+      if (!this.mutableBoard.leavesKingInCheck()) {
+        legal++;
+      }
+      this.mutableBoard.unmakeMove();
+    }
+    return legal;
+  }
+}
@@ -0,0 +1,67 @@
+package com.project.chess.benchmark;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.MoveList;
+import com.project.chess.pieces.Piece;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 한 포지션에서 둘 차례인 쪽의 이동을 모두 생성하는 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveGenerationBenchmark {
+
+  @Param
+  public BenchmarkPosition position;
+
+  private Board board;
+  private MutableBoard mutableBoard;
+  private final MoveList moves = new MoveList();
+
+  @Setup
+  public void setUp() {
+    this.board = this.position.createBoard();
+    this.mutableBoard = new MutableBoard(this.board);
+  }
+
+  /**
+   * 현재 플레이어의 모든 기물에 대해 {@link Piece#calculateLegalMoves}를 호출합니다.
+   */
+  @Benchmark
+  public void calculateLegalMoves(final Blackhole blackhole) {
+    for (final Piece piece : this.board.getCurrentPlayer().getActivePieces()) {
+      blackhole.consume(piece.calculateLegalMoves(this.board));
+    }
+  }
+
+  /**
+   * 비교 기준: 같은 포지션에서 인코딩된 의사 합법 이동을 생성합니다.
+   */
+  @Benchmark
+  public int generateMoves() {
+    MoveGenerator.generateMoves(this.mutableBoard, this.moves);
+    return this.moves.size();
+  }
+
+  /**
+   * 비교 기준: 같은 포지션에서 인코딩된 합법 이동을 생성합니다.
+   */
+  @Benchmark
+  public int generateLegalMoves() {
+    MoveGenerator.generateLegalMoves(this.mutableBoard, this.moves);
+    return this.moves.size();
+  }
+}
@@ -3,15 +3,28 @@ package com.project;
 
 import com.project.chess.board.Board;
 import com.project.gui.Table;
+import com.project.uci.UciEngine;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 
 public class Main {
 
   public static void main(String[] args) {
 
+    // --uci: 창을 띄우지 않고 표준 입출력으로 UCI 명령을 처리합니다.
+    if (args.length > 0 && args[0].equals("--uci")) {
+      new UciEngine(System.in,
+          new PrintStream(new FileOutputStream(FileDescriptor.out), true, StandardCharsets.UTF_8))
+          .run();
+      return;
+    }
+
     Board board = Board.createStandardBoard();
 
     System.out.println(board);
 
     Table table = new Table();
   }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.project.chess;
 
+import com.project.chess.board.BoardUtil;
 import com.project.chess.player.BlackPlayer;
 import com.project.chess.player.Player;
 import com.project.chess.player.WhitePlayer;
@@ -8,7 +9,7 @@ public enum Alliance {
   WHITE {
     @Override
     public int getDirection() {
-      return 0;
+      return -1;
     }
 
     @Override
@@ -21,6 +22,16 @@ public enum Alliance {
       return false;
     }
 
+    @Override
+    public boolean isPawnPromotionSquare(final int position) {
+      return BoardUtil.EIGHTH_RANK[position];
+    }
+
+    @Override
+    public Alliance getOpposite() {
+      return BLACK;
+    }
+
     @Override
     public Player choosePlayer(final WhitePlayer whitePlayer, final BlackPlayer blackPlayer) {
       return whitePlayer;
@@ -42,6 +53,16 @@ public enum Alliance {
       return true;
     }
 
+    @Override
+    public boolean isPawnPromotionSquare(final int position) {
+      return BoardUtil.FIRST_RANK[position];
+    }
+
+    @Override
+    public Alliance getOpposite() {
+      return WHITE;
+    }
+
     @Override
     public Player choosePlayer(final WhitePlayer whitePlayer, final BlackPlayer blackPlayer) {
       return blackPlayer;
@@ -54,5 +75,20 @@ public enum Alliance {
 
   public abstract boolean isBlack();
 
+  /**
+   * 해당 위치가 이 연합의 폰이 승진하는 칸인지 확인합니다.
+   *
+   * @param position 확인할 타일 좌표
+   * @return 승진 칸이면 true, 아니면 false
+   */
+  public abstract boolean isPawnPromotionSquare(int position);
+
+  /**
+   * 상대 연합을 반환합니다.
+   *
+   * @return 상대 연합
+   */
+  public abstract Alliance getOpposite();
+
   public abstract Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer);
 }
@@ -0,0 +1,88 @@
+package com.project.chess.bitbase;
+
+import com.project.chess.io.MappedRecords;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑한 엔드게임 비트베이스 파일 하나입니다.
+ * <p>
+ * 파일은 {@link Endgame}의 인덱스마다 2비트 결과를 담은 바이트 배열이며, 인덱스 i의 결과는 바이트 i / 4의 (i % 4) * 2번째 비트부터
+ * 있습니다. 결과는 둘 차례인 쪽에서 본 {@link #WIN}, {@link #DRAW}, {@link #LOSS}이고, 불가능한 포지션은 {@link #INVALID}입니다.
+ * 50수 규칙은 고려하지 않습니다. 조회는 절대 위치 읽기만 하므로 여러 스레드가 동시에 조회할 수 있습니다.
+ */
+public final class Bitbase {
+
+  public static final String EXTENSION = ".bitbase";
+
+  public static final int DRAW = 0;
+  public static final int WIN = 1;
+  public static final int LOSS = 2;
+  static final int INVALID = 3;
+  // 비트베이스에 없는 포지션
+  public static final int UNKNOWN = -1;
+
+  static final int RESULTS_PER_BYTE = 4;
+  static final int RESULT_MASK = 0x3;
+
+  private final Endgame endgame;
+  private final MappedRecords results;
+
+  private Bitbase(final Endgame endgame, final MappedRecords results) {
+    this.endgame = endgame;
+    this.results = results;
+  }
+
+  /**
+   * 비트베이스 파일을 읽기 전용으로 매핑합니다.
+   *
+   * @param path    비트베이스 파일 경로
+   * @param endgame 파일이 담은 엔드게임
+   * @return 매핑한 비트베이스
+   * @throws IOException 파일을 열거나 매핑할 수 없거나, 크기가 엔드게임과 맞지 않는 경우
+   */
+  public static Bitbase open(final Path path, final Endgame endgame) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() != byteCount(endgame)) {
+        throw new IOException(
+            endgame + " 비트베이스 파일의 크기가 " + byteCount(endgame) + "바이트가 아닙니다: " + path);
+      }
+      // 결과 바이트 하나를 레코드 하나로 매핑합니다.
+      return new Bitbase(endgame, MappedRecords.map(channel, 0L, channel.size(), 0));
+    }
+  }
+
+  static long byteCount(final Endgame endgame) {
+    return (endgame.getPositionCount() + RESULTS_PER_BYTE - 1) / RESULTS_PER_BYTE;
+  }
+
+  public Endgame getEndgame() {
+    return this.endgame;
+  }
+
+  /**
+   * 인덱스의 결과를 반환합니다.
+   *
+   * @param index {@link Endgame}의 인덱스
+   * @return {@link #WIN}, {@link #DRAW}, {@link #LOSS} 또는 불가능한 포지션이면 {@link #INVALID}
+   */
+  int probe(final long index) {
+    final int packed = this.results.getByte(index / RESULTS_PER_BYTE, 0);
+    return packed >>> (int) (index % RESULTS_PER_BYTE * 2) & RESULT_MASK;
+  }
+
+  /**
+   * 결과마다 포지션 수를 셉니다.
+   *
+   * @return {@link #DRAW}, {@link #WIN}, {@link #LOSS}, {@link #INVALID}로 색인된 포지션 수
+   */
+  public long[] countResults() {
+    final long[] counts = new long[RESULT_MASK + 1];
+    for (long index = 0; index < this.endgame.getPositionCount(); index++) {
+      counts[probe(index)]++;
+    }
+    return counts;
+  }
+}
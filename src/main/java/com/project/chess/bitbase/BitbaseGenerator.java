@@ -0,0 +1,433 @@
+package com.project.chess.bitbase;
+
+import static com.project.chess.bitbase.Endgame.STRONG;
+import static com.project.chess.bitbase.Endgame.STRONG_KING;
+import static com.project.chess.bitbase.Endgame.WEAK_KING;
+
+import com.project.chess.Alliance;
+import com.project.chess.pieces.Piece.PieceType;
+import com.project.chess.pieces.precompute.KingMovePrecompute;
+import com.project.chess.pieces.precompute.KnightMovePrecompute;
+import com.project.chess.pieces.precompute.MagicBitboard;
+import com.project.chess.pieces.precompute.PawnAttackPrecompute;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 역행 분석으로 엔드게임 비트베이스 파일을 만듭니다.
+ * <p>
+ * 엔드게임의 모든 인덱스를 미정으로 두고, 먼저 불가능한 포지션을 표시한 뒤 미정인 포지션을 되풀이해 훑습니다. 한 번 훑을 때 이동 후
+ * 포지션 중 상대가 지는 것이 있으면 승, 모든 이동이 상대의 승으로 이어지면 패, 이동이 없으면 체크 여부에 따라 패 또는 무승부로
+ * 정합니다. 더 이상 바뀌는 포지션이 없으면 남은 미정 포지션은 어느 쪽도 이길 수 없으므로 무승부입니다. 잡기나 승진으로 기물 구성이
+ * 바뀌는 이동은 그 엔드게임의 비트베이스에서 결과를 읽으므로, 필요한 엔드게임을 먼저 만들거나 디렉터리에 있는 파일을 읽습니다.
+ * <p>
+ * 한 번 훑기는 인덱스 구간을 나누어 {@link ForkJoinPool}에서 병렬로 실행합니다. 결과는 미정에서 승이나 패로 한 번만 바뀌고, 미정으로
+ * 읽은 결과는 다음 훑기에서 다시 보므로, 스레드들이 같은 배열을 잠금 없이 고쳐도 결과가 같습니다. 앙파상과 50수 규칙은 고려하지
+ * 않습니다. 스레드 안전하지 않습니다.
+ */
+public final class BitbaseGenerator {
+
+  // 결과 배열의 미정 값, 파일에 쓸 때 무승부가 됩니다.
+  private static final byte UNKNOWN_STATE = 4;
+  // 킹을 체크 상태로 두는 이동
+  private static final int ILLEGAL = -1;
+  private static final int NO_SLOT = -1;
+  private static final int NO_PROMOTION = -1;
+  private static final PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK,
+      PieceType.BISHOP, PieceType.KNIGHT};
+  // 작업 하나가 훑는 인덱스 수
+  private static final int SPLIT_THRESHOLD = 1 << 14;
+
+  private final ForkJoinPool pool;
+  private final Path directory;
+  // 만들었거나 읽은 비트베이스의 결과 바이트
+  private final Map<String, byte[]> tables = new HashMap<>();
+  private final List<String> generated = new ArrayList<>();
+
+  /**
+   * 생성자
+   *
+   * @param pool      훑기를 실행할 풀
+   * @param directory 비트베이스 파일을 읽고 쓸 디렉터리
+   * @throws IOException 디렉터리를 만들 수 없는 경우
+   */
+  public BitbaseGenerator(final ForkJoinPool pool, final Path directory) throws IOException {
+    this.pool = pool;
+    this.directory = Files.createDirectories(directory);
+  }
+
+  /**
+   * 엔드게임과 그 엔드게임에서 잡기나 승진으로 이어지는 엔드게임의 비트베이스를 만듭니다. 파일이 이미 있는 엔드게임은 다시 만들지
+   * 않습니다.
+   *
+   * @param endgame 만들 엔드게임
+   * @return 비트베이스 파일 경로
+   * @throws IOException 파일을 읽거나 쓸 수 없는 경우
+   */
+  public Path generate(final Endgame endgame) throws IOException {
+    table(endgame);
+    return path(endgame);
+  }
+
+  /**
+   * 이 생성기가 새로 만든 엔드게임의 이름을 만든 순서대로 반환합니다.
+   *
+   * @return 엔드게임 이름
+   */
+  public List<String> getGenerated() {
+    return List.copyOf(this.generated);
+  }
+
+  private Path path(final Endgame endgame) {
+    return this.directory.resolve(endgame.getName() + Bitbase.EXTENSION);
+  }
+
+  private byte[] table(final Endgame endgame) throws IOException {
+    byte[] table = this.tables.get(endgame.getName());
+    if (table != null) {
+      return table;
+    }
+    final Path path = path(endgame);
+    if (Files.exists(path)) {
+      table = Files.readAllBytes(path);
+      if (table.length != Bitbase.byteCount(endgame)) {
+        throw new IOException(
+            endgame + " 비트베이스 파일의 크기가 " + Bitbase.byteCount(endgame) + "바이트가 아닙니다: " + path);
+      }
+    } else {
+      table = build(endgame);
+      // 중단되어도 잘린 파일이 남지 않도록 임시 파일에 쓴 뒤 옮깁니다.
+      final Path temporary = Files.createTempFile(this.directory, endgame.getName(), ".tmp");
+      Files.write(temporary, table);
+      Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      this.generated.add(endgame.getName());
+    }
+    this.tables.put(endgame.getName(), table);
+    return table;
+  }
+
+  private byte[] build(final Endgame endgame) throws IOException {
+    final Transition[] transitions = transitions(endgame);
+    final byte[] states = new byte[Math.toIntExact(endgame.getPositionCount())];
+    Arrays.fill(states, UNKNOWN_STATE);
+    this.pool.invoke(new PassTask(endgame, transitions, states, 0, states.length, true));
+    while (this.pool.invoke(new PassTask(endgame, transitions, states, 0, states.length, false))
+        > 0) {
+      // 바뀌는 포지션이 없을 때까지 훑습니다.
+    }
+
+    final byte[] table = new byte[Math.toIntExact(Bitbase.byteCount(endgame))];
+    for (int index = 0; index < states.length; index++) {
+      final int result = states[index] == UNKNOWN_STATE ? Bitbase.DRAW : states[index];
+      table[index / Bitbase.RESULTS_PER_BYTE] |=
+          (byte) (result << (index % Bitbase.RESULTS_PER_BYTE * 2));
+    }
+    return table;
+  }
+
+  // 잡기나 승진으로 기물 구성이 바뀌는 모든 (움직이는 슬롯, 잡히는 슬롯, 승진 기물) 조합의 전이를 만듭니다.
+  private Transition[] transitions(final Endgame endgame) throws IOException {
+    final int slots = endgame.getSlotCount();
+    final Transition[] transitions = new Transition[transitionKey(slots, slots, 0, 0)];
+    for (int mover = 0; mover < slots; mover++) {
+      for (int captured = NO_SLOT; captured < slots; captured++) {
+        if (captured != NO_SLOT && (captured <= WEAK_KING
+            || endgame.getSide(captured) == endgame.getSide(mover))) {
+          continue;
+        }
+        for (int promotion = NO_PROMOTION; promotion < PROMOTION_TYPES.length; promotion++) {
+          if ((captured == NO_SLOT && promotion == NO_PROMOTION) || (promotion != NO_PROMOTION
+              && endgame.getType(mover) != PieceType.PAWN)) {
+            continue;
+          }
+          transitions[transitionKey(slots, mover, captured, promotion)] =
+              transition(endgame, mover, captured, promotion);
+        }
+      }
+    }
+    return transitions;
+  }
+
+  private static int transitionKey(final int slots, final int mover, final int captured,
+      final int promotion) {
+    return (mover * (slots + 1) + captured + 1) * (PROMOTION_TYPES.length + 1) + promotion + 1;
+  }
+
+  private Transition transition(final Endgame endgame, final int mover, final int captured,
+      final int promotion) throws IOException {
+    final int slots = endgame.getSlotCount();
+    final PieceType[] types = new PieceType[slots];
+    final int[][] counts = new int[2][Endgame.NAME_ORDER.length];
+    for (int slot = WEAK_KING + 1; slot < slots; slot++) {
+      types[slot] = slot == mover && promotion != NO_PROMOTION ? PROMOTION_TYPES[promotion]
+          : endgame.getType(slot);
+      if (slot != captured) {
+        counts[endgame.getSide(slot)][Arrays.asList(Endgame.NAME_ORDER).indexOf(types[slot])]++;
+      }
+    }
+    final boolean flip = !Endgame.isFirstStrong(counts[STRONG], counts[Endgame.WEAK]);
+    final Endgame child = Endgame.of(counts[STRONG], counts[Endgame.WEAK]);
+
+    final int[] parentSlots = new int[child.getSlotCount()];
+    final boolean[] used = new boolean[slots];
+    for (int childSlot = 0; childSlot < parentSlots.length; childSlot++) {
+      final int side = flip ? 1 - child.getSide(childSlot) : child.getSide(childSlot);
+      if (childSlot <= WEAK_KING) {
+        parentSlots[childSlot] = side == STRONG ? STRONG_KING : WEAK_KING;
+        continue;
+      }
+      for (int slot = WEAK_KING + 1; slot < slots; slot++) {
+        if (!used[slot] && slot != captured && endgame.getSide(slot) == side
+            && types[slot] == child.getType(childSlot)) {
+          used[slot] = true;
+          parentSlots[childSlot] = slot;
+          break;
+        }
+      }
+    }
+    return new Transition(child, table(child), flip, parentSlots);
+  }
+
+  private static long attacks(final PieceType type, final int side, final int square,
+      final long occupancy) {
+    return switch (type) {
+      case PAWN -> PawnAttackPrecompute.getPawnAttacks(side == STRONG ? Alliance.WHITE
+          : Alliance.BLACK, square);
+      case KNIGHT -> KnightMovePrecompute.getKnightAttacks(square);
+      case BISHOP -> MagicBitboard.getBishopAttacks(square, occupancy);
+      case ROOK -> MagicBitboard.getRookAttacks(square, occupancy);
+      case QUEEN -> MagicBitboard.getQueenAttacks(square, occupancy);
+      case KING -> KingMovePrecompute.getKingAttacks(square);
+    };
+  }
+
+  // 잡기나 승진 후의 엔드게임과, 그 엔드게임의 슬롯마다 대응하는 원래 슬롯
+  private record Transition(Endgame endgame, byte[] table, boolean flip, int[] parentSlots) {
+
+  }
+
+  // 인덱스 구간을 한 번 훑고 바뀐 포지션 수를 반환합니다.
+  @SuppressWarnings("serial")
+  private static final class PassTask extends RecursiveTask<Long> {
+
+    private final Endgame endgame;
+    private final Transition[] transitions;
+    private final byte[] states;
+    private final int start;
+    private final int end;
+    private final boolean validate;
+
+    private PassTask(final Endgame endgame, final Transition[] transitions, final byte[] states,
+        final int start, final int end, final boolean validate) {
+      this.endgame = endgame;
+      this.transitions = transitions;
+      this.states = states;
+      this.start = start;
+      this.end = end;
+      this.validate = validate;
+    }
+
+    @Override
+    protected Long compute() {
+      if (this.end - this.start > SPLIT_THRESHOLD) {
+        final int middle = (this.start + this.end) >>> 1;
+        final PassTask left = new PassTask(this.endgame, this.transitions, this.states,
+            this.start, middle, this.validate);
+        left.fork();
+        final long right = new PassTask(this.endgame, this.transitions, this.states, middle,
+            this.end, this.validate).compute();
+        return right + left.join();
+      }
+      final Worker worker = new Worker(this.endgame, this.transitions, this.states);
+      long changed = 0L;
+      for (int index = this.start; index < this.end; index++) {
+        if (this.states[index] != UNKNOWN_STATE) {
+          continue;
+        }
+        if (this.validate) {
+          if (!worker.isValid(index)) {
+            this.states[index] = Bitbase.INVALID;
+            changed++;
+          }
+        } else {
+          final int result = worker.evaluate(index);
+          if (result != UNKNOWN_STATE) {
+            this.states[index] = (byte) result;
+            changed++;
+          }
+        }
+      }
+      return changed;
+    }
+  }
+
+  // 포지션 하나를 풀어 이동을 만들고 이동 후 포지션의 결과를 읽습니다.
+  private static final class Worker {
+
+    private final Endgame endgame;
+    private final Transition[] transitions;
+    private final byte[] states;
+    private final int slots;
+    private final int[] squares;
+    private final int[] childSquares;
+
+    private Worker(final Endgame endgame, final Transition[] transitions, final byte[] states) {
+      this.endgame = endgame;
+      this.transitions = transitions;
+      this.states = states;
+      this.slots = endgame.getSlotCount();
+      this.squares = new int[this.slots];
+      this.childSquares = new int[this.slots];
+    }
+
+    // 기물이 겹치거나, 폰이 첫 줄이나 마지막 줄에 있거나, 킹이 붙어 있거나, 둘 차례가 아닌 쪽이 체크면 불가능한 포지션입니다.
+    private boolean isValid(final long index) {
+      final int sideToMove = this.endgame.decode(index, this.squares);
+      long occupancy = 0L;
+      for (int slot = 0; slot < this.slots; slot++) {
+        final long bit = 1L << this.squares[slot];
+        if ((occupancy & bit) != 0) {
+          return false;
+        }
+        occupancy |= bit;
+        final int row = this.squares[slot] >>> 3;
+        if (this.endgame.getType(slot) == PieceType.PAWN && (row == 0 || row == 7)) {
+          return false;
+        }
+      }
+      if ((KingMovePrecompute.getKingAttacks(this.squares[STRONG_KING])
+          & 1L << this.squares[WEAK_KING]) != 0) {
+        return false;
+      }
+      final int otherKing = sideToMove == STRONG ? WEAK_KING : STRONG_KING;
+      return !isAttacked(this.squares[otherKing], sideToMove, occupancy, NO_SLOT);
+    }
+
+    private int evaluate(final long index) {
+      final int sideToMove = this.endgame.decode(index, this.squares);
+      long occupancy = 0L;
+      long own = 0L;
+      for (int slot = 0; slot < this.slots; slot++) {
+        final long bit = 1L << this.squares[slot];
+        occupancy |= bit;
+        if (this.endgame.getSide(slot) == sideToMove) {
+          own |= bit;
+        }
+      }
+      final int direction = sideToMove == STRONG ? -8 : 8;
+      final int startRow = sideToMove == STRONG ? 6 : 1;
+      final int promotionRow = sideToMove == STRONG ? 0 : 7;
+
+      boolean legal = false;
+      boolean allWin = true;
+      for (int mover = 0; mover < this.slots; mover++) {
+        if (this.endgame.getSide(mover) != sideToMove) {
+          continue;
+        }
+        final int from = this.squares[mover];
+        final PieceType type = this.endgame.getType(mover);
+        long targets;
+        if (type == PieceType.PAWN) {
+          targets = attacks(type, sideToMove, from, occupancy) & occupancy & ~own;
+          final int push = from + direction;
+          if ((occupancy & 1L << push) == 0) {
+            targets |= 1L << push;
+            if (from >>> 3 == startRow && (occupancy & 1L << (push + direction)) == 0) {
+              targets |= 1L << (push + direction);
+            }
+          }
+        } else {
+          targets = attacks(type, sideToMove, from, occupancy) & ~own;
+        }
+        while (targets != 0) {
+          final int to = Long.numberOfTrailingZeros(targets);
+          targets &= targets - 1;
+          final int captured = (occupancy & 1L << to) != 0 ? slotAt(to) : NO_SLOT;
+          final boolean promotes = type == PieceType.PAWN && to >>> 3 == promotionRow;
+          final int promotions = promotes ? PROMOTION_TYPES.length : 1;
+          for (int promotion = 0; promotion < promotions; promotion++) {
+            final int result = child(sideToMove, mover, to, captured,
+                promotes ? promotion : NO_PROMOTION, occupancy);
+            if (result == ILLEGAL) {
+              continue;
+            }
+            legal = true;
+            if (result == Bitbase.LOSS) {
+              return Bitbase.WIN;
+            }
+            if (result != Bitbase.WIN) {
+              allWin = false;
+            }
+          }
+        }
+      }
+      if (!legal) {
+        final int king = sideToMove == STRONG ? STRONG_KING : WEAK_KING;
+        return isAttacked(this.squares[king], 1 - sideToMove, occupancy, NO_SLOT) ? Bitbase.LOSS
+            : Bitbase.DRAW;
+      }
+      return allWin ? Bitbase.LOSS : UNKNOWN_STATE;
+    }
+
+    // 이동 후 포지션의 결과를 상대 쪽에서 본 값으로 반환합니다. 킹이 체크 상태로 남으면 ILLEGAL입니다.
+    private int child(final int sideToMove, final int mover, final int to, final int captured,
+        final int promotion, final long occupancy) {
+      final int from = this.squares[mover];
+      final long childOccupancy = occupancy & ~(1L << from) | 1L << to;
+      this.squares[mover] = to;
+      try {
+        final int king = this.squares[sideToMove == STRONG ? STRONG_KING : WEAK_KING];
+        if (isAttacked(king, 1 - sideToMove, childOccupancy, captured)) {
+          return ILLEGAL;
+        }
+        if (captured == NO_SLOT && promotion == NO_PROMOTION) {
+          return this.states[(int) this.endgame.index(1 - sideToMove, this.squares)];
+        }
+        final Transition transition =
+            this.transitions[transitionKey(this.slots, mover, captured, promotion)];
+        final int[] parentSlots = transition.parentSlots();
+        for (int childSlot = 0; childSlot < parentSlots.length; childSlot++) {
+          final int square = this.squares[parentSlots[childSlot]];
+          this.childSquares[childSlot] = transition.flip() ? square ^ 56 : square;
+        }
+        final long childIndex = transition.endgame()
+            .index(transition.flip() ? sideToMove : 1 - sideToMove, this.childSquares);
+        return transition.table()[(int) (childIndex / Bitbase.RESULTS_PER_BYTE)]
+            >>> (int) (childIndex % Bitbase.RESULTS_PER_BYTE * 2) & Bitbase.RESULT_MASK;
+      } finally {
+        this.squares[mover] = from;
+      }
+    }
+
+    private int slotAt(final int square) {
+      for (int slot = 0; slot < this.slots; slot++) {
+        if (this.squares[slot] == square) {
+          return slot;
+        }
+      }
+      return NO_SLOT;
+    }
+
+    private boolean isAttacked(final int square, final int attacker, final long occupancy,
+        final int excluded) {
+      for (int slot = 0; slot < this.slots; slot++) {
+        if (slot != excluded && this.endgame.getSide(slot) == attacker
+            && (attacks(this.endgame.getType(slot), attacker, this.squares[slot], occupancy)
+            & 1L << square) != 0) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.project.chess.bitbase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 엔드게임 비트베이스를 만드는 명령줄 실행기입니다.
+ * <p>
+ * 나머지 인자를 KRKP처럼 강한 쪽 기물을 먼저 쓴 엔드게임 이름으로 읽어 {@link BitbaseGenerator}로 만들며, 다음 옵션을 받습니다.
+ * <pre>
+ * --dir DIR         비트베이스 파일을 읽고 쓸 디렉터리 (필수)
+ * --threads N       훑기를 실행할 스레드 수 (기본값 사용 가능한 프로세서 수)
+ * </pre>
+ */
+public final class BitbaseRunner {
+
+  private BitbaseRunner() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  public static void main(final String[] args) throws IOException {
+    Path directory = null;
+    int threads = Runtime.getRuntime().availableProcessors();
+    final List<Endgame> endgames = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--dir" -> directory = Path.of(args[++i]);
+        case "--threads" -> threads = Integer.parseInt(args[++i]);
+        default -> {
+          if (args[i].startsWith("--")) {
+            throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+          }
+          endgames.add(Endgame.parse(args[i]));
+        }
+      }
+    }
+    if (directory == null || endgames.isEmpty()) {
+      throw new IllegalArgumentException("--dir과 엔드게임 이름이 필요합니다.");
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      final BitbaseGenerator generator = new BitbaseGenerator(pool, directory);
+      for (final Endgame endgame : endgames) {
+        final long start = System.nanoTime();
+        final Path path = generator.generate(endgame);
+        final long elapsed = System.nanoTime() - start;
+        final long[] counts = Bitbase.open(path, endgame).countResults();
+        System.out.printf("%s: %d positions, %d bytes, %d ms, %d threads%n", endgame,
+            endgame.getPositionCount(), Files.size(path), elapsed / 1_000_000L, threads);
+        System.out.printf("  win %d, draw %d, loss %d, invalid %d%n", counts[Bitbase.WIN],
+            counts[Bitbase.DRAW], counts[Bitbase.LOSS], counts[Bitbase.INVALID]);
+      }
+      System.out.println("generated: " + generator.getGenerated());
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.project.chess.bitbase;
+
+import static com.project.chess.bitbase.Endgame.STRONG;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.Board;
+import com.project.chess.board.BoardUtil;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.pieces.Piece.PieceType;
+import com.project.chess.pieces.precompute.PawnAttackPrecompute;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 디렉터리의 비트베이스를 모두 매핑하고 보드의 결과를 찾습니다.
+ * <p>
+ * 기물 구성은 킹을 뺀 10가지 기물의 수(0 ~ 2)를 3진수로 이어 붙인 재료 키로 나타내며, 재료 키마다 비트베이스와 강한 쪽의 색을 배열에
+ * 담아 둡니다. 조회는 재료 키를 세고 배열에서 비트베이스를 고른 뒤 비트보드에서 곧바로 인덱스를 계산하므로 기물 수와 상관없는 상수
+ * 시간이 걸리고 객체를 만들지 않습니다. 비트베이스는 캐슬링 권리와 앙파상이 없는 포지션만 다루므로 캐슬링 권리가 있거나
+ * 앙파상으로 잡을 수 있는 포지션은 찾지 않습니다. 여러 스레드가 동시에 조회할 수 있습니다.
+ */
+public final class Bitbases {
+
+  private static final int MAX_COUNT = 2;
+  private static final int NUM_MATERIAL_KEYS = 59_049;
+  // 킹이 아닌 기물 인덱스마다 재료 키의 자릿값, 킹은 0
+  private static final int[] MATERIAL_WEIGHTS = new int[BitBoard.NUM_PIECE_BITBOARDS];
+
+  static {
+    int weight = 1;
+    for (int pieceIndex = 0; pieceIndex < MATERIAL_WEIGHTS.length; pieceIndex++) {
+      if (pieceIndex % PieceType.values().length != PieceType.KING.ordinal()) {
+        MATERIAL_WEIGHTS[pieceIndex] = weight;
+        weight *= MAX_COUNT + 1;
+      }
+    }
+  }
+
+  private final Entry[] entries = new Entry[NUM_MATERIAL_KEYS];
+  private final List<Endgame> endgames = new ArrayList<>();
+
+  private Bitbases() {
+  }
+
+  /**
+   * 디렉터리의 {@value Bitbase#EXTENSION} 파일을 모두 매핑합니다.
+   *
+   * @param directory 비트베이스 디렉터리
+   * @return 매핑한 비트베이스
+   * @throws IOException 디렉터리나 파일을 읽을 수 없거나, 파일 이름이나 크기가 잘못된 경우
+   */
+  public static Bitbases open(final Path directory) throws IOException {
+    final Bitbases bitbases = new Bitbases();
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(directory, "*" + Bitbase.EXTENSION)) {
+      for (final Path file : files) {
+        final String fileName = file.getFileName().toString();
+        final String name = fileName.substring(0, fileName.length() - Bitbase.EXTENSION.length());
+        final Endgame endgame;
+        try {
+          endgame = Endgame.parse(name);
+        } catch (IllegalArgumentException e) {
+          throw new IOException("비트베이스 파일 이름이 잘못되었습니다: " + file, e);
+        }
+        bitbases.add(Bitbase.open(file, endgame));
+      }
+    }
+    return bitbases;
+  }
+
+  private void add(final Bitbase bitbase) {
+    final Endgame endgame = bitbase.getEndgame();
+    // 양쪽 기물이 같으면 두 색이 같은 재료 키이므로 백을 강한 쪽으로 놓습니다.
+    for (final Alliance strong : new Alliance[]{Alliance.BLACK, Alliance.WHITE}) {
+      int key = 0;
+      for (int slot = Endgame.WEAK_KING + 1; slot < endgame.getSlotCount(); slot++) {
+        final Alliance alliance = endgame.getSide(slot) == STRONG ? strong : strong.getOpposite();
+        key += MATERIAL_WEIGHTS[BitBoard.pieceIndex(endgame.getType(slot), alliance)];
+      }
+      this.entries[key] = new Entry(bitbase, strong);
+    }
+    this.endgames.add(endgame);
+  }
+
+  public List<Endgame> getEndgames() {
+    return Collections.unmodifiableList(this.endgames);
+  }
+
+  /**
+   * 보드의 결과를 찾습니다.
+   *
+   * @param board 찾을 보드
+   * @return 둘 차례인 쪽에서 본 {@link Bitbase#WIN}, {@link Bitbase#DRAW}, {@link Bitbase#LOSS}, 비트베이스에 없으면
+   * {@link Bitbase#UNKNOWN}
+   */
+  public int probe(final Board board) {
+    final Alliance sideToMove = board.getNextMoveMaker();
+    if (board.getCastlingRights() != 0 || canCaptureEnPassant(board.getEnPassantSquare(),
+        sideToMove, board.getBitBoard().getPieceBitboard(
+            BitBoard.pieceIndex(PieceType.PAWN, sideToMove)))) {
+      return Bitbase.UNKNOWN;
+    }
+    return probe(board.getBitBoard(), null, sideToMove);
+  }
+
+  /**
+   * 탐색용 보드의 결과를 찾습니다.
+   *
+   * @param board 찾을 보드
+   * @return 둘 차례인 쪽에서 본 {@link Bitbase#WIN}, {@link Bitbase#DRAW}, {@link Bitbase#LOSS}, 비트베이스에 없으면
+   * {@link Bitbase#UNKNOWN}
+   */
+  public int probe(final MutableBoard board) {
+    final Alliance sideToMove = board.getSideToMove();
+    if (Long.bitCount(board.getOccupancy()) > Endgame.MAX_PIECES + 2
+        || board.getCastlingRights() != 0 || canCaptureEnPassant(board.getEnPassantSquare(),
+        sideToMove, board.getPieceBitboard(BitBoard.pieceIndex(PieceType.PAWN, sideToMove)))) {
+      return Bitbase.UNKNOWN;
+    }
+    return probe(null, board, sideToMove);
+  }
+
+  // 앙파상 칸이 있어도 잡을 폰이 없으면 결과에 영향이 없습니다.
+  private static boolean canCaptureEnPassant(final int enPassantSquare,
+      final Alliance sideToMove, final long pawns) {
+    return enPassantSquare != BoardUtil.NO_SQUARE && (PawnAttackPrecompute.getPawnAttacks(
+        sideToMove.getOpposite(), enPassantSquare) & pawns) != 0L;
+  }
+
+  // 두 보드 표현 중 null이 아닌 쪽에서 비트보드를 읽습니다.
+  private int probe(final BitBoard bitBoard, final MutableBoard board,
+      final Alliance sideToMove) {
+    int key = 0;
+    for (int pieceIndex = 0; pieceIndex < BitBoard.NUM_PIECE_BITBOARDS; pieceIndex++) {
+      final int count = Long.bitCount(pieces(bitBoard, board, pieceIndex));
+      if (MATERIAL_WEIGHTS[pieceIndex] != 0) {
+        if (count > MAX_COUNT) {
+          return Bitbase.UNKNOWN;
+        }
+        key += count * MATERIAL_WEIGHTS[pieceIndex];
+      }
+    }
+    final Entry entry = this.entries[key];
+    if (entry == null) {
+      return Bitbase.UNKNOWN;
+    }
+
+    final Endgame endgame = entry.bitbase.getEndgame();
+    // 강한 쪽이 흑이면 보드를 상하로 뒤집어 강한 쪽을 백으로 놓습니다.
+    final int flip = entry.strong.isWhite() ? 0 : 56;
+    final Alliance weak = entry.strong.getOpposite();
+    final int strongKing = Long.numberOfTrailingZeros(
+        pieces(bitBoard, board, BitBoard.pieceIndex(PieceType.KING, entry.strong))) ^ flip;
+    final int symmetry = endgame.symmetry(strongKing);
+    long index = endgame.kingIndex(symmetry, strongKing);
+    index = Endgame.appendSquare(index, symmetry, Long.numberOfTrailingZeros(
+        pieces(bitBoard, board, BitBoard.pieceIndex(PieceType.KING, weak))) ^ flip);
+    // 같은 기물은 이웃한 슬롯이므로 비트보드에서 차례로 꺼냅니다.
+    int pieceIndex = -1;
+    long remaining = 0L;
+    for (int slot = Endgame.WEAK_KING + 1; slot < endgame.getSlotCount(); slot++) {
+      final int slotPiece = BitBoard.pieceIndex(endgame.getType(slot),
+          endgame.getSide(slot) == STRONG ? entry.strong : weak);
+      if (slotPiece != pieceIndex) {
+        pieceIndex = slotPiece;
+        remaining = pieces(bitBoard, board, pieceIndex);
+      }
+      index = Endgame.appendSquare(index, symmetry,
+          Long.numberOfTrailingZeros(remaining) ^ flip);
+      remaining &= remaining - 1;
+    }
+    final int result = entry.bitbase.probe(Endgame.appendSideToMove(index,
+        sideToMove == entry.strong ? STRONG : Endgame.WEAK));
+    return result == Bitbase.INVALID ? Bitbase.UNKNOWN : result;
+  }
+
+  private static long pieces(final BitBoard bitBoard, final MutableBoard board,
+      final int pieceIndex) {
+    return bitBoard != null ? bitBoard.getPieceBitboard(pieceIndex)
+        : board.getPieceBitboard(pieceIndex);
+  }
+
+  private record Entry(Bitbase bitbase, Alliance strong) {
+
+  }
+}
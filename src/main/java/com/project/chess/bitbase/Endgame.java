@@ -0,0 +1,326 @@
+package com.project.chess.bitbase;
+
+import com.project.chess.board.BoardUtil;
+import com.project.chess.pieces.Piece.PieceType;
+import java.util.Arrays;
+
+/**
+ * 비트베이스 하나가 다루는 엔드게임의 기물 구성과 포지션 인덱스입니다.
+ * <p>
+ * 이름은 강한 쪽과 약한 쪽의 기물을 킹, 퀸, 룩, 비숍, 나이트, 폰 순서로 이어 쓴 것입니다 (예: KRKP). 기물 가치의 합이 큰 쪽을 강한
+ * 쪽으로 정하므로 색과 상관없이 엔드게임마다 이름이 하나입니다. 인덱스는 강한 쪽을 백으로 놓은 방향에서 계산하며, 슬롯은 강한 킹, 약한
+ * 킹, 강한 쪽 기물, 약한 쪽 기물 순서입니다.
+ * <p>
+ * 폰이 없으면 보드의 8가지 대칭으로 강한 킹을 a8-a5-d5 삼각형의 10칸으로 옮기고, 폰이 있으면 좌우 대칭으로 a-d 열의 32칸으로
+ * 옮깁니다. 인덱스의 가장 낮은 비트는 둘 차례(강한 쪽 0, 약한 쪽 1)이고 그 위로 강한 킹의 칸 번호, 나머지 슬롯의 타일 좌표를 6비트씩
+ * 담습니다. 따라서 기물이 겹치는 포지션처럼 불가능한 포지션도 인덱스를 가지며, 비트베이스는 이를 무효로 표시합니다.
+ */
+public final class Endgame {
+
+  // 킹을 뺀 기물 수의 최대값
+  public static final int MAX_PIECES = 2;
+
+  static final int STRONG = 0;
+  static final int WEAK = 1;
+  static final int STRONG_KING = 0;
+  static final int WEAK_KING = 1;
+
+  // 이름에 쓰는 기물 순서와 문자, 강한 쪽을 정할 때 쓰는 가치
+  static final PieceType[] NAME_ORDER = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP,
+      PieceType.KNIGHT, PieceType.PAWN};
+  private static final String NAME_LETTERS = "QRBNP";
+  private static final int[] NAME_VALUES = {9, 5, 3, 3, 1};
+
+  private static final int SQUARE_BITS = 6;
+  // 대칭 변환: 1 = 좌우, 2 = 상하, 4 = 대각선 뒤집기, 차례대로 적용합니다.
+  private static final int NUM_SYMMETRIES = 8;
+  private static final int[][] TRANSFORMS = new int[NUM_SYMMETRIES][BoardUtil.NUM_TILES];
+  private static final int[] PAWNLESS_SYMMETRY = new int[BoardUtil.NUM_TILES];
+  private static final int[] PAWN_SYMMETRY = new int[BoardUtil.NUM_TILES];
+  private static final int[] PAWNLESS_KING_INDEX = new int[BoardUtil.NUM_TILES];
+  private static final int[] PAWN_KING_INDEX = new int[BoardUtil.NUM_TILES];
+  private static final int[] PAWNLESS_KING_SQUARES;
+  private static final int[] PAWN_KING_SQUARES;
+
+  static {
+    for (int symmetry = 0; symmetry < NUM_SYMMETRIES; symmetry++) {
+      for (int square = 0; square < BoardUtil.NUM_TILES; square++) {
+        int transformed = square;
+        if ((symmetry & 1) != 0) {
+          transformed ^= 7;
+        }
+        if ((symmetry & 2) != 0) {
+          transformed ^= 56;
+        }
+        if ((symmetry & 4) != 0) {
+          transformed = (transformed & 7) << 3 | transformed >>> 3;
+        }
+        TRANSFORMS[symmetry][square] = transformed;
+      }
+    }
+    final int[] pawnlessSquares = new int[BoardUtil.NUM_TILES];
+    final int[] pawnSquares = new int[BoardUtil.NUM_TILES];
+    int pawnlessCount = 0;
+    int pawnCount = 0;
+    for (int square = 0; square < BoardUtil.NUM_TILES; square++) {
+      final int row = square >>> 3;
+      final int column = square & 7;
+      int symmetry = column > 3 ? 1 : 0;
+      PAWN_SYMMETRY[square] = symmetry;
+      if (row > 3) {
+        symmetry |= 2;
+      }
+      final int canonicalRow = row > 3 ? 7 - row : row;
+      final int canonicalColumn = column > 3 ? 7 - column : column;
+      if (canonicalColumn > canonicalRow) {
+        symmetry |= 4;
+      }
+      PAWNLESS_SYMMETRY[square] = symmetry;
+
+      PAWN_KING_INDEX[square] = column <= 3 ? pawnCount : -1;
+      if (column <= 3) {
+        pawnSquares[pawnCount++] = square;
+      }
+      PAWNLESS_KING_INDEX[square] = row <= 3 && column <= row ? pawnlessCount : -1;
+      if (row <= 3 && column <= row) {
+        pawnlessSquares[pawnlessCount++] = square;
+      }
+    }
+    PAWNLESS_KING_SQUARES = Arrays.copyOf(pawnlessSquares, pawnlessCount);
+    PAWN_KING_SQUARES = Arrays.copyOf(pawnSquares, pawnCount);
+  }
+
+  private final String name;
+  // 슬롯마다의 기물 종류와 편
+  private final PieceType[] types;
+  private final int[] sides;
+  private final boolean pawns;
+  private final long positionCount;
+
+  private Endgame(final String name, final PieceType[] types, final int[] sides) {
+    this.name = name;
+    this.types = types;
+    this.sides = sides;
+    this.pawns = Arrays.asList(types).contains(PieceType.PAWN);
+    this.positionCount = (long) kingSquares().length << (SQUARE_BITS * (types.length - 1) + 1);
+  }
+
+  /**
+   * 이름으로 엔드게임을 만듭니다. 약한 쪽이 먼저 적힌 이름(예: KKP)도 받으며, 반환한 엔드게임의 이름은 정규화된 이름입니다.
+   *
+   * @param name 두 킹과 기물 문자(Q, R, B, N, P)로 된 이름
+   * @return 엔드게임
+   * @throws IllegalArgumentException 이름이 잘못되었거나 킹을 뺀 기물이 {@value #MAX_PIECES}개보다 많은 경우
+   */
+  public static Endgame parse(final String name) {
+    final String upper = name.toUpperCase();
+    final int weakKing = upper.indexOf('K', 1);
+    if (!upper.startsWith("K") || weakKing < 0) {
+      throw new IllegalArgumentException("엔드게임 이름은 두 개의 K를 포함해야 합니다: " + name);
+    }
+    return of(counts(upper.substring(1, weakKing), name), counts(upper.substring(weakKing + 1),
+        name));
+  }
+
+  /**
+   * 양쪽의 기물 수로 엔드게임을 만듭니다.
+   *
+   * @param first  한쪽의 {@link #NAME_ORDER} 순서 기물 수
+   * @param second 다른 쪽의 기물 수
+   * @return 엔드게임
+   */
+  static Endgame of(final int[] first, final int[] second) {
+    final boolean firstStrong = isFirstStrong(first, second);
+    final int[] strong = firstStrong ? first : second;
+    final int[] weak = firstStrong ? second : first;
+    final int pieces = Arrays.stream(strong).sum() + Arrays.stream(weak).sum();
+    if (pieces > MAX_PIECES) {
+      throw new IllegalArgumentException(
+          "킹을 뺀 기물은 " + MAX_PIECES + "개까지만 지원합니다: " + pieces);
+    }
+    final PieceType[] types = new PieceType[pieces + 2];
+    final int[] sides = new int[pieces + 2];
+    types[STRONG_KING] = PieceType.KING;
+    types[WEAK_KING] = PieceType.KING;
+    sides[WEAK_KING] = WEAK;
+    final StringBuilder name = new StringBuilder("K");
+    int slot = 2;
+    for (int side = STRONG; side <= WEAK; side++) {
+      final int[] counts = side == STRONG ? strong : weak;
+      if (side == WEAK) {
+        name.append('K');
+      }
+      for (int i = 0; i < NAME_ORDER.length; i++) {
+        for (int n = 0; n < counts[i]; n++) {
+          types[slot] = NAME_ORDER[i];
+          sides[slot++] = side;
+          name.append(NAME_LETTERS.charAt(i));
+        }
+      }
+    }
+    return new Endgame(name.toString(), types, sides);
+  }
+
+  /**
+   * 첫째 쪽을 강한 쪽으로 놓아야 하는지 확인합니다. 가치의 합, 그다음 {@link #NAME_ORDER} 순서의 기물 수를 비교하며 같으면
+   * 첫째 쪽을 강한 쪽으로 놓습니다.
+   */
+  static boolean isFirstStrong(final int[] first, final int[] second) {
+    int order = Integer.compare(value(first), value(second));
+    for (int i = 0; order == 0 && i < first.length; i++) {
+      order = Integer.compare(first[i], second[i]);
+    }
+    return order >= 0;
+  }
+
+  private static int value(final int[] counts) {
+    int value = 0;
+    for (int i = 0; i < counts.length; i++) {
+      value += counts[i] * NAME_VALUES[i];
+    }
+    return value;
+  }
+
+  private static int[] counts(final String pieces, final String name) {
+    final int[] counts = new int[NAME_ORDER.length];
+    for (int i = 0; i < pieces.length(); i++) {
+      final int index = NAME_LETTERS.indexOf(pieces.charAt(i));
+      if (index < 0) {
+        throw new IllegalArgumentException("엔드게임 이름에 알 수 없는 기물이 있습니다: " + name);
+      }
+      counts[index]++;
+    }
+    return counts;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * 불가능한 포지션을 포함한 인덱스의 수를 반환합니다.
+   *
+   * @return 인덱스 수
+   */
+  public long getPositionCount() {
+    return this.positionCount;
+  }
+
+  int getSlotCount() {
+    return this.types.length;
+  }
+
+  PieceType getType(final int slot) {
+    return this.types[slot];
+  }
+
+  int getSide(final int slot) {
+    return this.sides[slot];
+  }
+
+  boolean hasPawns() {
+    return this.pawns;
+  }
+
+  /**
+   * 한쪽의 {@link #NAME_ORDER} 순서 기물 수를 반환합니다.
+   *
+   * @param side {@link #STRONG} 또는 {@link #WEAK}
+   * @return 기물 수
+   */
+  int[] getCounts(final int side) {
+    final int[] counts = new int[NAME_ORDER.length];
+    for (int slot = 2; slot < this.types.length; slot++) {
+      if (this.sides[slot] == side) {
+        counts[Arrays.asList(NAME_ORDER).indexOf(this.types[slot])]++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * 강한 킹을 정규 영역으로 옮기는 대칭 변환을 반환합니다.
+   *
+   * @param strongKing 강한 킹의 타일 좌표
+   * @return {@link #transform}에 넘길 대칭 변환
+   */
+  int symmetry(final int strongKing) {
+    return this.pawns ? PAWN_SYMMETRY[strongKing] : PAWNLESS_SYMMETRY[strongKing];
+  }
+
+  static int transform(final int symmetry, final int square) {
+    return TRANSFORMS[symmetry][square];
+  }
+
+  /**
+   * 대칭 변환한 강한 킹의 칸 번호를 반환합니다. 나머지 슬롯의 타일 좌표는 이 값 뒤에 6비트씩 붙입니다.
+   *
+   * @param symmetry   {@link #symmetry}가 반환한 대칭 변환
+   * @param strongKing 변환하기 전 강한 킹의 타일 좌표
+   * @return 칸 번호
+   */
+  long kingIndex(final int symmetry, final int strongKing) {
+    final int square = TRANSFORMS[symmetry][strongKing];
+    return this.pawns ? PAWN_KING_INDEX[square] : PAWNLESS_KING_INDEX[square];
+  }
+
+  static long appendSquare(final long index, final int symmetry, final int square) {
+    return index << SQUARE_BITS | TRANSFORMS[symmetry][square];
+  }
+
+  static long appendSideToMove(final long index, final int sideToMove) {
+    return index << 1 | sideToMove;
+  }
+
+  /**
+   * 강한 쪽을 백으로 놓은 방향의 포지션으로 인덱스를 계산합니다.
+   *
+   * @param sideToMove {@link #STRONG} 또는 {@link #WEAK}
+   * @param squares    슬롯마다의 타일 좌표
+   * @return 인덱스
+   */
+  long index(final int sideToMove, final int[] squares) {
+    final int symmetry = symmetry(squares[STRONG_KING]);
+    long index = kingIndex(symmetry, squares[STRONG_KING]);
+    for (int slot = 1; slot < this.types.length; slot++) {
+      index = appendSquare(index, symmetry, squares[slot]);
+    }
+    return appendSideToMove(index, sideToMove);
+  }
+
+  /**
+   * 인덱스를 포지션으로 되돌립니다. 강한 킹은 정규 영역에 있습니다.
+   *
+   * @param index   인덱스
+   * @param squares 슬롯마다의 타일 좌표를 받을 배열
+   * @return 둘 차례, {@link #STRONG} 또는 {@link #WEAK}
+   */
+  int decode(final long index, final int[] squares) {
+    long rest = index >>> 1;
+    for (int slot = this.types.length - 1; slot > 0; slot--) {
+      squares[slot] = (int) rest & (BoardUtil.NUM_TILES - 1);
+      rest >>>= SQUARE_BITS;
+    }
+    squares[STRONG_KING] = kingSquares()[(int) rest];
+    return (int) index & 1;
+  }
+
+  private int[] kingSquares() {
+    return this.pawns ? PAWN_KING_SQUARES : PAWNLESS_KING_SQUARES;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return other instanceof Endgame endgame && this.name.equals(endgame.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.name.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.name;
+  }
+}
@@ -0,0 +1,187 @@
+package com.project.chess.board;
+
+import com.project.chess.Alliance;
+import com.project.chess.pieces.Piece;
+import com.project.chess.pieces.Piece.PieceType;
+import com.project.chess.pieces.precompute.BishopBitboard;
+import com.project.chess.pieces.precompute.KingMovePrecompute;
+import com.project.chess.pieces.precompute.KnightMovePrecompute;
+import com.project.chess.pieces.precompute.PawnAttackPrecompute;
+import com.project.chess.pieces.precompute.RookBitboard;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 보드의 기물 배치를 비트보드로 표현하는 클래스입니다.
+ * <p>
+ * 기물 종류와 연합별로 12개의 비트보드를 가지며, 비트의 인덱스는 타일 좌표와 같습니다 (0 = a8, 63 = h1).
+ */
+public final class BitBoard {
+
+  public static final int NUM_PIECE_BITBOARDS = 12;
+
+  private static final int NUM_PIECE_TYPES = PieceType.values().length;
+
+  private final long[] pieceBitboards;
+  private final long whiteOccupancy;
+  private final long blackOccupancy;
+  private final long occupancy;
+
+  /**
+   * 생성자: 주어진 기물들로 비트보드를 구성합니다.
+   *
+   * @param pieces 보드 위의 모든 기물
+   */
+  BitBoard(final Collection<Piece> pieces) {
+    this.pieceBitboards = new long[NUM_PIECE_BITBOARDS];
+    long white = 0L;
+    long black = 0L;
+    for (final Piece piece : pieces) {
+      final long square = 1L << piece.getPiecePosition();
+      this.pieceBitboards[pieceIndex(piece.getPieceType(), piece.getPieceAlliance())] |= square;
+      if (piece.getPieceAlliance().isWhite()) {
+        white |= square;
+      } else {
+        black |= square;
+      }
+    }
+    this.whiteOccupancy = white;
+    this.blackOccupancy = black;
+    this.occupancy = white | black;
+  }
+
+  /**
+   * 기물 종류와 연합에 해당하는 비트보드 인덱스를 반환합니다.
+   *
+   * @param pieceType 기물 종류
+   * @param alliance  연합(색깔)
+   * @return 0부터 11까지의 비트보드 인덱스
+   */
+  public static int pieceIndex(final PieceType pieceType, final Alliance alliance) {
+    return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+  }
+
+  public long getPieceBitboard(final PieceType pieceType, final Alliance alliance) {
+    return this.pieceBitboards[pieceIndex(pieceType, alliance)];
+  }
+
+  public long getPieceBitboard(final int pieceIndex) {
+    return this.pieceBitboards[pieceIndex];
+  }
+
+  public long getAllianceOccupancy(final Alliance alliance) {
+    return alliance.isWhite() ? this.whiteOccupancy : this.blackOccupancy;
+  }
+
+  public long getOccupancy() {
+    return this.occupancy;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof BitBoard otherBitBoard)) {
+      return false;
+    }
+    return Arrays.equals(this.pieceBitboards, otherBitBoard.pieceBitboards);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.pieceBitboards);
+  }
+
+  /**
+   * 주어진 타일이 특정 연합의 기물에게 공격받고 있는지 확인합니다.
+   *
+   * @param square   확인할 타일 좌표
+   * @param attacker 공격하는 연합
+   * @return 공격받고 있으면 true, 아니면 false
+   */
+  public boolean isSquareAttacked(final int square, final Alliance attacker) {
+    return isSquareAttacked(this.pieceBitboards, this.occupancy, square, attacker);
+  }
+
+  /**
+   * 기물 비트보드 배열을 기준으로 주어진 타일이 공격받고 있는지 확인합니다.
+   *
+   * @param pieceBitboards {@link #pieceIndex}로 색인된 12개의 기물 비트보드
+   * @param occupancy      보드 전체의 점유 비트마스크
+   * @param square         확인할 타일 좌표
+   * @param attacker       공격하는 연합
+   * @return 공격받고 있으면 true, 아니면 false
+   */
+  public static boolean isSquareAttacked(final long[] pieceBitboards, final long occupancy,
+      final int square, final Alliance attacker) {
+    final int base = attacker.ordinal() * NUM_PIECE_TYPES;
+    // 폰의 공격은 대칭이므로 방어하는 쪽 폰의 공격 범위로 역추적합니다.
+    if ((PawnAttackPrecompute.getPawnAttacks(attacker.getOpposite(), square)
+        & pieceBitboards[base + PieceType.PAWN.ordinal()]) != 0) {
+      return true;
+    }
+    if ((KnightMovePrecompute.getKnightAttacks(square)
+        & pieceBitboards[base + PieceType.KNIGHT.ordinal()]) != 0) {
+      return true;
+    }
+    if ((KingMovePrecompute.getKingAttacks(square)
+        & pieceBitboards[base + PieceType.KING.ordinal()]) != 0) {
+      return true;
+    }
+    final long queens = pieceBitboards[base + PieceType.QUEEN.ordinal()];
+    if ((BishopBitboard.getBishopAttacks(square, occupancy)
+        & (pieceBitboards[base + PieceType.BISHOP.ordinal()] | queens)) != 0) {
+      return true;
+    }
+    return (RookBitboard.getRookAttacks(square, occupancy)
+        & (pieceBitboards[base + PieceType.ROOK.ordinal()] | queens)) != 0;
+  }
+
+  /**
+   * 주어진 타일을 공격하는 양쪽 연합의 모든 기물을 반환합니다.
+   *
+   * @param square 확인할 타일 좌표
+   * @return 공격하는 기물들의 타일 비트마스크
+   */
+  public long attackersOf(final int square) {
+    return attackersOf(this.pieceBitboards, this.occupancy, square);
+  }
+
+  /**
+   * 기물 비트보드 배열을 기준으로 주어진 타일을 공격하는 양쪽 연합의 모든 기물을 반환합니다.
+   * <p>
+   * 슬라이딩 기물의 공격은 {@code occupancy}로 계산하므로, 점유에서 기물을 지운 값을 넘기면 그 뒤에 숨어 있던 공격자도 포함됩니다.
+   * 이때 지운 기물 자체는 결과에 남을 수 있으므로 호출하는 쪽에서 {@code occupancy}와 AND해야 합니다.
+   *
+   * @param pieceBitboards {@link #pieceIndex}로 색인된 12개의 기물 비트보드
+   * @param occupancy      보드 전체의 점유 비트마스크
+   * @param square         확인할 타일 좌표
+   * @return 공격하는 기물들의 타일 비트마스크
+   */
+  public static long attackersOf(final long[] pieceBitboards, final long occupancy,
+      final int square) {
+    final int white = Alliance.WHITE.ordinal() * NUM_PIECE_TYPES;
+    final int black = Alliance.BLACK.ordinal() * NUM_PIECE_TYPES;
+    final int pawn = PieceType.PAWN.ordinal();
+    final int knight = PieceType.KNIGHT.ordinal();
+    final int bishop = PieceType.BISHOP.ordinal();
+    final int rook = PieceType.ROOK.ordinal();
+    final int queen = PieceType.QUEEN.ordinal();
+    final int king = PieceType.KING.ordinal();
+    final long diagonalSliders = pieceBitboards[white + bishop] | pieceBitboards[black + bishop]
+        | pieceBitboards[white + queen] | pieceBitboards[black + queen];
+    final long straightSliders = pieceBitboards[white + rook] | pieceBitboards[black + rook]
+        | pieceBitboards[white + queen] | pieceBitboards[black + queen];
+    return (PawnAttackPrecompute.getPawnAttacks(Alliance.BLACK, square)
+        & pieceBitboards[white + pawn])
+        | (PawnAttackPrecompute.getPawnAttacks(Alliance.WHITE, square)
+        & pieceBitboards[black + pawn])
+        | (KnightMovePrecompute.getKnightAttacks(square)
+        & (pieceBitboards[white + knight] | pieceBitboards[black + knight]))
+        | (KingMovePrecompute.getKingAttacks(square)
+        & (pieceBitboards[white + king] | pieceBitboards[black + king]))
+        | (BishopBitboard.getBishopAttacks(square, occupancy) & diagonalSliders)
+        | (RookBitboard.getRookAttacks(square, occupancy) & straightSliders);
+  }
+}
@@ -12,14 +12,14 @@ import com.project.chess.pieces.King;
 import com.project.chess.pieces.Knight;
 import com.project.chess.pieces.Pawn;
 import com.project.chess.pieces.Piece;
+import com.project.chess.pieces.Piece.PieceType;
 import com.project.chess.pieces.Queen;
 import com.project.chess.pieces.Rook;
 import com.project.chess.player.BlackPlayer;
 import com.project.chess.player.Player;
 import com.project.chess.player.WhitePlayer;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -28,67 +28,131 @@ import lombok.Getter;
 @Getter
 public class Board {
 
-  private final List<Tile> gameBoard;
+  @Getter(AccessLevel.NONE)
+  private final Tile[] gameBoard;
+  private final BitBoard bitBoard;
   private final Collection<Piece> whitePieces;
   private final Collection<Piece> blackPieces;
+  private final Pawn enPassantPawn;
+  private final Alliance nextMoveMaker;
+  private final int castlingRights;
+  private final int halfmoveClock;
+  private final int fullmoveNumber;
+  private final long zobristKey;
 
-  private final WhitePlayer whitePlayer;
-  private final BlackPlayer blackPlayer;
-  private final Player currentPlayer;
+  // 플레이어와 합법적인 이동은 처음 접근할 때 계산합니다.
+  private volatile WhitePlayer whitePlayer;
+  private volatile BlackPlayer blackPlayer;
 
   /**
    * 생성자: 빌더를 사용하여 보드를 초기화합니다.
+   * <p>
+   * 타일과 비트보드만 구성하며, 플레이어와 합법적인 이동은 {@link #getCurrentPlayer()} 등으로 처음 요청될 때 계산됩니다.
    *
    * @param builder 보드를 구성하는 빌더 객체
    */
   Board(final Builder builder) {
     this.gameBoard = createGameBoard(builder);
-    this.whitePieces = calculateActivePieces(this.gameBoard, WHITE);
-    this.blackPieces = calculateActivePieces(this.gameBoard, BLACK);
+    this.bitBoard = new BitBoard(builder.getBoardConfig().values());
+    this.whitePieces = calculateActivePieces(WHITE);
+    this.blackPieces = calculateActivePieces(BLACK);
+    this.enPassantPawn = builder.getEnpassantPawn();
+    this.nextMoveMaker = builder.getNextMoveMaker();
+    this.castlingRights = calculateCastlingRights();
+    this.halfmoveClock = builder.getHalfmoveClock();
+    this.fullmoveNumber = builder.getFullmoveNumber();
+    // 이동으로 만들어진 보드는 빌더가 증분 갱신된 키를 전달합니다.
+    this.zobristKey = builder.getZobristKey() != null ? builder.getZobristKey()
+        : Zobrist.calculateKey(this);
+  }
 
-    final Collection<Move> whiteStandardLegalMoves = calculateLegalMoves(this.whitePieces);
-    final Collection<Move> blackStandardLegalMoves = calculateLegalMoves(this.blackPieces);
+  /**
+   * 킹과 원래 자리의 룩이 아직 움직이지 않았는지로 캐슬링 권한을 계산합니다.
+   *
+   * @return {@link BoardUtil#WHITE_KING_SIDE} 등의 비트 조합
+   */
+  private int calculateCastlingRights() {
+    int rights = 0;
+    if (isUnmoved(60, PieceType.KING, WHITE)) {
+      rights |= isUnmoved(63, PieceType.ROOK, WHITE) ? BoardUtil.WHITE_KING_SIDE : 0;
+      rights |= isUnmoved(56, PieceType.ROOK, WHITE) ? BoardUtil.WHITE_QUEEN_SIDE : 0;
+    }
+    if (isUnmoved(4, PieceType.KING, BLACK)) {
+      rights |= isUnmoved(7, PieceType.ROOK, BLACK) ? BoardUtil.BLACK_KING_SIDE : 0;
+      rights |= isUnmoved(0, PieceType.ROOK, BLACK) ? BoardUtil.BLACK_QUEEN_SIDE : 0;
+    }
+    return rights;
+  }
 
-    this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-    this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-    this.currentPlayer = builder.getNextMoveMaker()
-        .choosePlayer(this.whitePlayer, this.blackPlayer);
+  private boolean isUnmoved(final int position, final PieceType pieceType,
+      final Alliance alliance) {
+    final Piece piece = getPiece(position);
+    return piece != null && piece.getPieceType() == pieceType
+        && piece.getPieceAlliance() == alliance && piece.isFirstMove();
   }
 
   /**
-   * 주어진 조각들의 합법적인 이동을 계산합니다.
+   * 앙파상으로 공격할 수 있는 타일을 반환합니다.
    *
-   * @param pieces 조각 컬렉션
-   * @return 합법적인 이동 목록
+   * @return 직전에 두 칸 전진한 폰이 지나간 타일, 없으면 {@link BoardUtil#NO_SQUARE}
    */
-  private Collection<Move> calculateLegalMoves(final Collection<Piece> pieces) {
-    final List<Move> legalMoves = new ArrayList<>();
+  public int getEnPassantSquare() {
+    return this.enPassantPawn == null ? BoardUtil.NO_SQUARE
+        : this.enPassantPawn.getPiecePosition()
+            - this.enPassantPawn.getPieceAlliance().getDirection() * BoardUtil.NUM_TILES_PER_ROW;
+  }
 
-    for (final Piece piece : pieces) {
-      legalMoves.addAll(piece.calculateLegalMoves(this));
+  /**
+   * 화이트 플레이어를 반환합니다. 처음 호출될 때 생성하여 저장합니다.
+   *
+   * @return 화이트 플레이어
+   */
+  public WhitePlayer getWhitePlayer() {
+    WhitePlayer player = this.whitePlayer;
+    if (player == null) {
+      player = new WhitePlayer(this);
+      this.whitePlayer = player;
     }
+    return player;
+  }
 
-    return ImmutableList.copyOf(legalMoves);
+  /**
+   * 블랙 플레이어를 반환합니다. 처음 호출될 때 생성하여 저장합니다.
+   *
+   * @return 블랙 플레이어
+   */
+  public BlackPlayer getBlackPlayer() {
+    BlackPlayer player = this.blackPlayer;
+    if (player == null) {
+      player = new BlackPlayer(this);
+      this.blackPlayer = player;
+    }
+    return player;
   }
 
   /**
-   * 활성화된 조각들을 계산합니다.
+   * 현재 차례인 플레이어를 반환합니다.
    *
-   * @param gameBoard 게임 보드
-   * @param alliance  연합(색깔)
+   * @return 현재 플레이어
+   */
+  public Player getCurrentPlayer() {
+    return this.nextMoveMaker.choosePlayer(getWhitePlayer(), getBlackPlayer());
+  }
+
+  /**
+   * 비트보드의 점유 비트를 따라 활성화된 조각들을 계산합니다.
+   *
+   * @param alliance 연합(색깔)
    * @return 활성화된 조각 컬렉션
    */
-  private static Collection<Piece> calculateActivePieces(final List<Tile> gameBoard,
-      final Alliance alliance) {
-    final List<Piece> activePieces = new ArrayList<>();
-
-    for (final Tile tile : gameBoard) {
-      if (tile.isTileOccupied()) {
-        final Piece piece = tile.getPiece();
-        if (piece.getPieceAlliance() == alliance) {
-          activePieces.add(piece);
-        }
-      }
+  private Collection<Piece> calculateActivePieces(final Alliance alliance) {
+    long occupancy = this.bitBoard.getAllianceOccupancy(alliance);
+    final Piece[] activePieces = new Piece[Long.bitCount(occupancy)];
+
+    int index = 0;
+    while (occupancy != 0) {
+      activePieces[index++] = this.gameBoard[Long.numberOfTrailingZeros(occupancy)].getPiece();
+      occupancy &= occupancy - 1;
     }
     return ImmutableList.copyOf(activePieces);
   }
@@ -100,16 +164,26 @@ public class Board {
    * @return 해당 좌표의 타일
    */
   public Tile getTile(final int tileCoordinate) {
-    return gameBoard.get(tileCoordinate);
+    return this.gameBoard[tileCoordinate];
+  }
+
+  /**
+   * 주어진 좌표에 있는 조각을 반환합니다.
+   *
+   * @param tileCoordinate 타일의 좌표
+   * @return 해당 좌표의 조각, 비어 있으면 null
+   */
+  public Piece getPiece(final int tileCoordinate) {
+    return this.gameBoard[tileCoordinate].getPiece();
   }
 
   /**
    * 빌더 객체를 사용하여 게임 보드를 생성합니다.
    *
    * @param builder 보드 빌더 객체
-   * @return 생성된 게임 보드 리스트
+   * @return 생성된 타일 배열
    */
-  private static List<Tile> createGameBoard(final Builder builder) {
+  private static Tile[] createGameBoard(final Builder builder) {
     final Tile[] tiles = new Tile[BoardUtil.NUM_TILES];
 
     // 각 타일을 생성하여 배열에 할당합니다.
@@ -117,7 +191,7 @@ public class Board {
       tiles[i] = Tile.createTile(i, builder.getBoardConfig().get(i));
     }
 
-    return ImmutableList.copyOf(tiles);
+    return tiles;
   }
 
   /**
@@ -163,15 +237,38 @@ public class Board {
 
   public Iterable<Move> getAllLegalMoves() {
     return Iterables.unmodifiableIterable(Iterables.concat(
-        this.whitePlayer.getLegalMoves(),
-        this.blackPlayer.getLegalMoves()));
+        getWhitePlayer().getLegalMoves(),
+        getBlackPlayer().getLegalMoves()));
+  }
+
+  /**
+   * 기물 배치, 둘 차례, 캐슬링 권한, 앙파상 타일이 모두 같으면 같은 보드로 봅니다.
+   */
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof Board otherBoard)) {
+      return false;
+    }
+    return this.zobristKey == otherBoard.zobristKey
+        && this.nextMoveMaker == otherBoard.nextMoveMaker
+        && this.castlingRights == otherBoard.castlingRights
+        && getEnPassantSquare() == otherBoard.getEnPassantSquare()
+        && this.bitBoard.equals(otherBoard.bitBoard);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.zobristKey);
   }
 
   @Override
   public String toString() {
     final StringBuilder builder = new StringBuilder();
     for (int i = 0; i < BoardUtil.NUM_TILES; i++) {
-      final String tileText = this.gameBoard.get(i).toString();
+      final String tileText = this.gameBoard[i].toString();
       builder.append(String.format("%3s", tileText));
       if ((i + 1) % BoardUtil.NUM_TILES_PER_ROW == 0) {
         builder.append("\n");
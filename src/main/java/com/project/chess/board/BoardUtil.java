@@ -1,5 +1,7 @@
 package com.project.chess.board;
 
+import java.util.Arrays;
+
 /**
  * 체스 보드에 대한 유틸리티 클래스입니다.
  */
@@ -21,6 +23,18 @@ public final class BoardUtil {
 
   public static final int NUM_TILES = 64;
   public static final int NUM_TILES_PER_ROW = 8;
+  public static final int NO_SQUARE = -1;
+
+  // 캐슬링 권한 비트
+  public static final int WHITE_KING_SIDE = 1;
+  public static final int WHITE_QUEEN_SIDE = 2;
+  public static final int BLACK_KING_SIDE = 4;
+  public static final int BLACK_QUEEN_SIDE = 8;
+  public static final int ALL_CASTLING_RIGHTS =
+      WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE;
+
+  // 타일에서 기물이 출발하거나 도착할 때 남는 캐슬링 권한
+  private static final int[] CASTLING_RIGHTS_MASK = initCastlingRightsMask();
 
   /**
    * 유틸리티 클래스의 인스턴스화를 방지합니다.
@@ -61,6 +75,65 @@ public final class BoardUtil {
     return row;
   }
 
+  /**
+   * 킹이나 룩의 원래 자리에서 기물이 움직이거나 잡힐 때 사라지는 캐슬링 권한을 표시하는 배열을 초기화합니다.
+   *
+   * @return 타일별로 남는 캐슬링 권한 마스크
+   */
+  private static int[] initCastlingRightsMask() {
+    final int[] mask = new int[NUM_TILES];
+    Arrays.fill(mask, ALL_CASTLING_RIGHTS);
+    mask[56] &= ~WHITE_QUEEN_SIDE;
+    mask[63] &= ~WHITE_KING_SIDE;
+    mask[60] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+    mask[0] &= ~BLACK_QUEEN_SIDE;
+    mask[7] &= ~BLACK_KING_SIDE;
+    mask[4] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+    return mask;
+  }
+
+  /**
+   * 이동 후 남는 캐슬링 권한을 계산합니다.
+   *
+   * @param castlingRights 이동 전 캐슬링 권한
+   * @param from           출발 타일
+   * @param to             도착 타일
+   * @return 이동 후 캐슬링 권한
+   */
+  public static int updateCastlingRights(final int castlingRights, final int from,
+      final int to) {
+    return castlingRights & CASTLING_RIGHTS_MASK[from] & CASTLING_RIGHTS_MASK[to];
+  }
+
+  /**
+   * 타일 좌표를 대수 기보법 위치로 변환합니다.
+   *
+   * @param coordinate 타일 좌표 (0 = a8, 63 = h1)
+   * @return "e4" 형식의 위치
+   */
+  public static String getPositionAtCoordinate(final int coordinate) {
+    return String.valueOf((char) ('a' + coordinate % NUM_TILES_PER_ROW))
+        + (char) ('8' - coordinate / NUM_TILES_PER_ROW);
+  }
+
+  /**
+   * 대수 기보법 위치를 타일 좌표로 변환합니다.
+   *
+   * @param position "e4" 형식의 위치
+   * @return 타일 좌표, 형식이 잘못되었으면 {@link #NO_SQUARE}
+   */
+  public static int getCoordinateAtPosition(final CharSequence position) {
+    if (position.length() != 2) {
+      return NO_SQUARE;
+    }
+    final int file = position.charAt(0) - 'a';
+    final int rank = position.charAt(1) - '1';
+    if (file < 0 || file >= NUM_TILES_PER_ROW || rank < 0 || rank >= NUM_TILES_PER_ROW) {
+      return NO_SQUARE;
+    }
+    return (NUM_TILES_PER_ROW - 1 - rank) * NUM_TILES_PER_ROW + file;
+  }
+
   /**
    * 좌표가 보드의 유효 범위 내에 있는지 확인합니다.
    *
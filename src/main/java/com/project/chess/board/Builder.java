@@ -18,6 +18,12 @@ public class Builder {
   private final Map<Integer, Piece> boardConfig;
   private Alliance nextMoveMaker;
   private Pawn enpassantPawn;
+  // 마지막으로 폰이 움직이거나 기물이 잡힌 뒤의 반수, 50수 규칙에 사용합니다.
+  private int halfmoveClock;
+  // 1부터 시작하여 흑이 둘 때마다 1씩 늘어나는 수 번호
+  private int fullmoveNumber = 1;
+  // 이동으로 보드를 만들 때 증분 갱신된 Zobrist 키, 없으면 보드가 직접 계산합니다.
+  private Long zobristKey;
 
   public Builder() {
     this.boardConfig = new HashMap<>();
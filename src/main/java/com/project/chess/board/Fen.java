@@ -0,0 +1,308 @@
+package com.project.chess.board;
+
+import static com.project.chess.board.BoardUtil.BLACK_KING_SIDE;
+import static com.project.chess.board.BoardUtil.BLACK_QUEEN_SIDE;
+import static com.project.chess.board.BoardUtil.NO_SQUARE;
+import static com.project.chess.board.BoardUtil.NUM_TILES_PER_ROW;
+import static com.project.chess.board.BoardUtil.WHITE_KING_SIDE;
+import static com.project.chess.board.BoardUtil.WHITE_QUEEN_SIDE;
+
+import com.project.chess.Alliance;
+import com.project.chess.pieces.Bishop;
+import com.project.chess.pieces.King;
+import com.project.chess.pieces.Knight;
+import com.project.chess.pieces.Pawn;
+import com.project.chess.pieces.Piece;
+import com.project.chess.pieces.Queen;
+import com.project.chess.pieces.Rook;
+
+/**
+ * FEN 문자열과 보드를 서로 변환합니다.
+ * <p>
+ * 기물 배치, 둘 차례, 캐슬링 권한, 앙파상 타일, 하프무브 클럭, 수 번호의 여섯 필드를 읽고 씁니다. 캐슬링 권한은 킹과 룩의 첫 이동
+ * 여부로 옮겨지고, 앙파상 타일은 그 뒤의 폰을 {@link Builder#setEnpassantPawn}으로 지정합니다. 두 수 카운터가 없는 EPD
+ * 형식도 읽을 수 있으며, 이때 카운터는 0과 1이 됩니다.
+ * <p>
+ * 많은 포지션을 읽을 수 있도록 문자열을 앞에서부터 한 글자씩 읽으며, 정규식이나 분할로 중간 문자열을 만들지 않습니다. 캐슬링 권한은
+ * 기물 배치 뒤에 나오므로, 뒤의 필드를 먼저 읽은 다음 기물 배치로 돌아와 킹과 룩을 처음부터 올바른 상태로 만듭니다.
+ */
+public final class Fen {
+
+  public static final String STARTING_POSITION =
+      "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+  // BitBoard.pieceIndex 순서의 기물 기호
+  private static final String PIECE_SYMBOLS = "PRNBQKprnbqk";
+  private static final int NUM_PIECE_TYPES = PIECE_SYMBOLS.length() / 2;
+
+  private Fen() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * FEN 문자열을 읽어 보드를 만듭니다.
+   *
+   * @param fen FEN 또는 EPD 문자열
+   * @return 새 보드
+   * @throws IllegalArgumentException 형식이 잘못된 경우
+   */
+  public static Board parse(final CharSequence fen) {
+    return read(fen, new Builder()).build();
+  }
+
+  /**
+   * FEN 문자열을 읽어 빌더에 기물, 둘 차례, 앙파상 폰과 수 카운터를 설정합니다.
+   * <p>
+   * 여섯 번째 필드 뒤의 내용과, 카운터 대신 오는 EPD 연산자는 무시합니다.
+   *
+   * @param fen     FEN 또는 EPD 문자열
+   * @param builder 채울 빌더, 비어 있어야 합니다
+   * @return 전달받은 빌더
+   * @throws IllegalArgumentException 형식이 잘못된 경우
+   */
+  public static Builder read(final CharSequence fen, final Builder builder) {
+    final int length = fen.length();
+    final int placementStart = skipSpaces(fen, 0);
+    int index = placementStart;
+    while (index < length && fen.charAt(index) != ' ') {
+      index++;
+    }
+
+    index = skipSpaces(fen, index);
+    if (index >= length) {
+      throw invalid(fen, "둘 차례가 없습니다");
+    }
+    final Alliance moveMaker = switch (fen.charAt(index++)) {
+      case 'w' -> Alliance.WHITE;
+      case 'b' -> Alliance.BLACK;
+      default -> throw invalid(fen, "둘 차례는 w 또는 b여야 합니다");
+    };
+
+    int castlingRights = 0;
+    index = skipSpaces(fen, index);
+    while (index < length && fen.charAt(index) != ' ') {
+      castlingRights |= switch (fen.charAt(index++)) {
+        case 'K' -> WHITE_KING_SIDE;
+        case 'Q' -> WHITE_QUEEN_SIDE;
+        case 'k' -> BLACK_KING_SIDE;
+        case 'q' -> BLACK_QUEEN_SIDE;
+        case '-' -> 0;
+        default -> throw invalid(fen, "알 수 없는 캐슬링 권한입니다");
+      };
+    }
+
+    int enPassantSquare = NO_SQUARE;
+    index = skipSpaces(fen, index);
+    if (index < length && fen.charAt(index) == '-') {
+      index++;
+    } else if (index + 1 < length) {
+      final int file = fen.charAt(index) - 'a';
+      final int rank = fen.charAt(index + 1) - '1';
+      if (file < 0 || file >= NUM_TILES_PER_ROW || rank < 0 || rank >= NUM_TILES_PER_ROW) {
+        throw invalid(fen, "앙파상 타일이 잘못되었습니다");
+      }
+      enPassantSquare = (NUM_TILES_PER_ROW - 1 - rank) * NUM_TILES_PER_ROW + file;
+      index += 2;
+    } else if (index < length) {
+      throw invalid(fen, "앙파상 타일이 잘못되었습니다");
+    }
+
+    // EPD에는 카운터 대신 연산자가 오므로, 숫자로 시작할 때만 카운터로 읽습니다.
+    int halfmoveClock = 0;
+    int fullmoveNumber = 1;
+    index = skipSpaces(fen, index);
+    if (index < length && isDigit(fen.charAt(index))) {
+      int value = 0;
+      while (index < length && isDigit(fen.charAt(index))) {
+        value = appendDigit(fen, value, fen.charAt(index++));
+      }
+      halfmoveClock = value;
+      index = skipSpaces(fen, index);
+      if (index < length && isDigit(fen.charAt(index))) {
+        value = 0;
+        while (index < length && isDigit(fen.charAt(index))) {
+          value = appendDigit(fen, value, fen.charAt(index++));
+        }
+        fullmoveNumber = Math.max(1, value);
+      }
+    }
+
+    readPlacement(fen, placementStart, castlingRights, builder);
+
+    if (enPassantSquare != NO_SQUARE) {
+      // 앙파상 타일 바로 뒤, 방금 두 칸 전진한 상대 폰의 위치
+      final Piece pawn = builder.getBoardConfig().get(enPassantSquare
+          + moveMaker.getOpposite().getDirection() * NUM_TILES_PER_ROW);
+      if (!(pawn instanceof Pawn enPassantPawn) || pawn.getPieceAlliance() == moveMaker) {
+        throw invalid(fen, "앙파상 타일 뒤에 상대 폰이 없습니다");
+      }
+      builder.setEnpassantPawn(enPassantPawn);
+    }
+    builder.setMoveMaker(moveMaker);
+    builder.setHalfmoveClock(halfmoveClock);
+    builder.setFullmoveNumber(fullmoveNumber);
+    return builder;
+  }
+
+  private static void readPlacement(final CharSequence fen, int index, final int castlingRights,
+      final Builder builder) {
+    final int length = fen.length();
+    // 각 행의 칸 수를 따로 세어야 88/8/8/8/8/8/8처럼 합계만 64칸인 배치를 거를 수 있습니다.
+    int row = 0;
+    int file = 0;
+    int whiteKings = 0;
+    int blackKings = 0;
+    while (index < length && fen.charAt(index) != ' ') {
+      final char symbol = fen.charAt(index++);
+      if (symbol == '/') {
+        if (file != NUM_TILES_PER_ROW) {
+          throw invalid(fen, "행의 칸 수가 8이 아닙니다");
+        }
+        if (++row >= NUM_TILES_PER_ROW) {
+          throw invalid(fen, "행이 8개보다 많습니다");
+        }
+        file = 0;
+      } else if (symbol >= '1' && symbol <= '8') {
+        file += symbol - '0';
+        if (file > NUM_TILES_PER_ROW) {
+          throw invalid(fen, "행의 칸 수가 8이 아닙니다");
+        }
+      } else if (file < NUM_TILES_PER_ROW) {
+        if (symbol == 'K') {
+          whiteKings++;
+        } else if (symbol == 'k') {
+          blackKings++;
+        }
+        builder.setPiece(createPiece(fen, symbol, row * NUM_TILES_PER_ROW + file++,
+            castlingRights));
+      } else {
+        throw invalid(fen, "행의 칸 수가 8이 아닙니다");
+      }
+    }
+    if (row != NUM_TILES_PER_ROW - 1 || file != NUM_TILES_PER_ROW) {
+      throw invalid(fen, "기물 배치가 8칸씩 8행이 아닙니다");
+    }
+    // 킹이 없거나 둘 이상인 포지션은 이동 생성과 체크 판정이 성립하지 않습니다.
+    if (whiteKings != 1 || blackKings != 1) {
+      throw invalid(fen, "양쪽 모두 킹이 하나씩 있어야 합니다");
+    }
+  }
+
+  private static Piece createPiece(final CharSequence fen, final char symbol, final int square,
+      final int castlingRights) {
+    return switch (symbol) {
+      case 'P' -> new Pawn(square, Alliance.WHITE);
+      case 'p' -> new Pawn(square, Alliance.BLACK);
+      case 'N' -> new Knight(square, Alliance.WHITE, false);
+      case 'n' -> new Knight(square, Alliance.BLACK, false);
+      case 'B' -> new Bishop(square, Alliance.WHITE, false);
+      case 'b' -> new Bishop(square, Alliance.BLACK, false);
+      case 'Q' -> new Queen(square, Alliance.WHITE, false);
+      case 'q' -> new Queen(square, Alliance.BLACK, false);
+      case 'R' -> new Rook(square, Alliance.WHITE,
+          (square == 63 && (castlingRights & WHITE_KING_SIDE) != 0)
+              || (square == 56 && (castlingRights & WHITE_QUEEN_SIDE) != 0));
+      case 'r' -> new Rook(square, Alliance.BLACK,
+          (square == 7 && (castlingRights & BLACK_KING_SIDE) != 0)
+              || (square == 0 && (castlingRights & BLACK_QUEEN_SIDE) != 0));
+      case 'K' -> new King(square, Alliance.WHITE,
+          square == 60 && (castlingRights & (WHITE_KING_SIDE | WHITE_QUEEN_SIDE)) != 0);
+      case 'k' -> new King(square, Alliance.BLACK,
+          square == 4 && (castlingRights & (BLACK_KING_SIDE | BLACK_QUEEN_SIDE)) != 0);
+      default -> throw invalid(fen, "알 수 없는 기물 기호 '" + symbol + "'");
+    };
+  }
+
+  /**
+   * 보드를 FEN 문자열로 씁니다.
+   *
+   * @param board 쓸 보드
+   * @return FEN 문자열
+   */
+  public static String write(final Board board) {
+    return write(board, new StringBuilder(90)).toString();
+  }
+
+  /**
+   * 보드를 FEN 문자열로 써서 주어진 버퍼 뒤에 붙입니다.
+   *
+   * @param board  쓸 보드
+   * @param buffer 결과를 붙일 버퍼
+   * @return 전달받은 버퍼
+   */
+  public static StringBuilder write(final Board board, final StringBuilder buffer) {
+    for (int row = 0; row < NUM_TILES_PER_ROW; row++) {
+      if (row > 0) {
+        buffer.append('/');
+      }
+      int emptyTiles = 0;
+      for (int file = 0; file < NUM_TILES_PER_ROW; file++) {
+        final Piece piece = board.getPiece(row * NUM_TILES_PER_ROW + file);
+        if (piece == null) {
+          emptyTiles++;
+          continue;
+        }
+        if (emptyTiles > 0) {
+          buffer.append((char) ('0' + emptyTiles));
+          emptyTiles = 0;
+        }
+        buffer.append(PIECE_SYMBOLS.charAt(piece.getPieceAlliance().ordinal() * NUM_PIECE_TYPES
+            + piece.getPieceType().ordinal()));
+      }
+      if (emptyTiles > 0) {
+        buffer.append((char) ('0' + emptyTiles));
+      }
+    }
+
+    buffer.append(' ').append(board.getNextMoveMaker().isWhite() ? 'w' : 'b').append(' ');
+    final int castlingRights = board.getCastlingRights();
+    if (castlingRights == 0) {
+      buffer.append('-');
+    } else {
+      appendIf(buffer, castlingRights, WHITE_KING_SIDE, 'K');
+      appendIf(buffer, castlingRights, WHITE_QUEEN_SIDE, 'Q');
+      appendIf(buffer, castlingRights, BLACK_KING_SIDE, 'k');
+      appendIf(buffer, castlingRights, BLACK_QUEEN_SIDE, 'q');
+    }
+
+    buffer.append(' ');
+    final int enPassantSquare = board.getEnPassantSquare();
+    if (enPassantSquare == NO_SQUARE) {
+      buffer.append('-');
+    } else {
+      buffer.append((char) ('a' + enPassantSquare % NUM_TILES_PER_ROW))
+          .append((char) ('8' - enPassantSquare / NUM_TILES_PER_ROW));
+    }
+    return buffer.append(' ').append(board.getHalfmoveClock())
+        .append(' ').append(board.getFullmoveNumber());
+  }
+
+  private static void appendIf(final StringBuilder buffer, final int castlingRights,
+      final int right, final char symbol) {
+    if ((castlingRights & right) != 0) {
+      buffer.append(symbol);
+    }
+  }
+
+  private static int skipSpaces(final CharSequence fen, int index) {
+    while (index < fen.length() && fen.charAt(index) == ' ') {
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int appendDigit(final CharSequence fen, final int value, final char digit) {
+    if (value > (Integer.MAX_VALUE - 9) / 10) {
+      throw invalid(fen, "수 카운터가 너무 큽니다");
+    }
+    return value * 10 + (digit - '0');
+  }
+
+  private static IllegalArgumentException invalid(final CharSequence fen, final String reason) {
+    return new IllegalArgumentException("잘못된 FEN입니다 (" + reason + "): " + fen);
+  }
+}
@@ -0,0 +1,255 @@
+package com.project.chess.board;
+
+import static com.project.chess.board.BoardUtil.BLACK_KING_SIDE;
+import static com.project.chess.board.BoardUtil.BLACK_QUEEN_SIDE;
+import static com.project.chess.board.BoardUtil.NO_SQUARE;
+import static com.project.chess.board.BoardUtil.WHITE_KING_SIDE;
+import static com.project.chess.board.BoardUtil.WHITE_QUEEN_SIDE;
+import static com.project.chess.moves.MoveEncoding.KIND_CASTLE;
+import static com.project.chess.moves.MoveEncoding.KIND_EN_PASSANT;
+import static com.project.chess.moves.MoveEncoding.KIND_NORMAL;
+import static com.project.chess.moves.MoveEncoding.KIND_PAWN_JUMP;
+import static com.project.chess.moves.MoveEncoding.NONE;
+
+import com.project.chess.Alliance;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.pieces.Piece.PieceType;
+import com.project.chess.pieces.precompute.KingMovePrecompute;
+import com.project.chess.pieces.precompute.KnightMovePrecompute;
+import com.project.chess.pieces.precompute.MagicBitboard;
+import com.project.chess.pieces.precompute.PawnAttackPrecompute;
+
+/**
+ * {@link MutableBoard}의 비트보드에서 인코딩된 이동을 생성하는 유틸리티 클래스입니다.
+ * <p>
+ * 생성된 이동은 {@link MoveEncoding} 형식으로 {@link MoveList}에 채워지며, 생성 과정에서 객체를 할당하지 않습니다.
+ * {@link #generateMoves}와 {@link #generateCaptures}는 킹을 공격받는 상태로 남기는 이동도 포함하는 의사 합법 이동을
+ * 생성하므로, 호출하는 쪽에서 {@link MutableBoard#leavesKingInCheck()}로 걸러야 합니다.
+ */
+public final class MoveGenerator {
+
+  private static final int NUM_PIECE_TYPES = PieceType.values().length;
+
+  private static final int PAWN = PieceType.PAWN.ordinal();
+  private static final int KNIGHT = PieceType.KNIGHT.ordinal();
+  private static final int BISHOP = PieceType.BISHOP.ordinal();
+  private static final int ROOK = PieceType.ROOK.ordinal();
+  private static final int QUEEN = PieceType.QUEEN.ordinal();
+  private static final int KING = PieceType.KING.ordinal();
+
+  // 승진 기물 생성 순서
+  private static final int[] PROMOTION_TYPES = {QUEEN, ROOK, BISHOP, KNIGHT};
+
+  // 두 칸 전진의 중간 타일이 속한 랭크 (백: 3랭크, 흑: 6랭크)
+  private static final long WHITE_PAWN_JUMP_RANK = 0x0000FF0000000000L;
+  private static final long BLACK_PAWN_JUMP_RANK = 0x0000000000FF0000L;
+  // 승진 랭크 (백: 8랭크, 흑: 1랭크)
+  private static final long WHITE_PROMOTION_RANK = 0x00000000000000FFL;
+  private static final long BLACK_PROMOTION_RANK = 0xFF00000000000000L;
+
+  private MoveGenerator() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * 둘 차례인 쪽의 의사 합법 이동을 모두 생성합니다.
+   *
+   * @param board 이동을 생성할 보드
+   * @param moves 이동을 채울 목록 (기존 내용은 지워집니다)
+   */
+  public static void generateMoves(final MutableBoard board, final MoveList moves) {
+    moves.clear();
+    generate(board, moves, false);
+  }
+
+  /**
+   * 둘 차례인 쪽의 잡는 이동과 퀸 승진만 의사 합법 이동으로 생성합니다.
+   *
+   * @param board 이동을 생성할 보드
+   * @param moves 이동을 채울 목록 (기존 내용은 지워집니다)
+   */
+  public static void generateCaptures(final MutableBoard board, final MoveList moves) {
+    moves.clear();
+    generate(board, moves, true);
+  }
+
+  /**
+   * 둘 차례인 쪽의 합법적인 이동을 모두 생성합니다. 의사 합법 이동을 생성한 뒤 하나씩 수행해 보고 킹이 공격받는 이동을 제거합니다.
+   *
+   * @param board 이동을 생성할 보드 (반환 시 원래 상태로 돌아옵니다)
+   * @param moves 이동을 채울 목록 (기존 내용은 지워집니다)
+   */
+  public static void generateLegalMoves(final MutableBoard board, final MoveList moves) {
+    generateMoves(board, moves);
+    int legalCount = 0;
+    for (int i = 0; i < moves.size(); i++) {
+      final int move = moves.get(i);
+      board.makeMove(move);
+      if (!board.leavesKingInCheck()) {
+        moves.set(legalCount++, move);
+      }
+      board.unmakeMove();
+    }
+    moves.truncate(legalCount);
+  }
+
+  private static void generate(final MutableBoard board, final MoveList moves,
+      final boolean capturesOnly) {
+    final Alliance side = board.getSideToMove();
+    final int base = side.ordinal() * NUM_PIECE_TYPES;
+    final long own = board.getAllianceOccupancy(side);
+    final long enemy = board.getAllianceOccupancy(side.getOpposite());
+    final long occupancy = board.getOccupancy();
+    final long targets = capturesOnly ? enemy : ~own;
+
+    generatePawnMoves(board, moves, side, enemy, occupancy, capturesOnly);
+
+    long knights = board.getPieceBitboard(base + KNIGHT);
+    while (knights != 0) {
+      final int from = Long.numberOfTrailingZeros(knights);
+      addMoves(board, moves, from, base + KNIGHT,
+          KnightMovePrecompute.getKnightAttacks(from) & targets);
+      knights &= knights - 1;
+    }
+    long bishops = board.getPieceBitboard(base + BISHOP);
+    while (bishops != 0) {
+      final int from = Long.numberOfTrailingZeros(bishops);
+      addMoves(board, moves, from, base + BISHOP,
+          MagicBitboard.getBishopAttacks(from, occupancy) & targets);
+      bishops &= bishops - 1;
+    }
+    long rooks = board.getPieceBitboard(base + ROOK);
+    while (rooks != 0) {
+      final int from = Long.numberOfTrailingZeros(rooks);
+      addMoves(board, moves, from, base + ROOK,
+          MagicBitboard.getRookAttacks(from, occupancy) & targets);
+      rooks &= rooks - 1;
+    }
+    long queens = board.getPieceBitboard(base + QUEEN);
+    while (queens != 0) {
+      final int from = Long.numberOfTrailingZeros(queens);
+      addMoves(board, moves, from, base + QUEEN,
+          MagicBitboard.getQueenAttacks(from, occupancy) & targets);
+      queens &= queens - 1;
+    }
+    final long king = board.getPieceBitboard(base + KING);
+    if (king != 0) {
+      final int from = Long.numberOfTrailingZeros(king);
+      addMoves(board, moves, from, base + KING, KingMovePrecompute.getKingAttacks(from) & targets);
+      if (!capturesOnly) {
+        generateCastles(board, moves, side, from, occupancy);
+      }
+    }
+  }
+
+  private static void addMoves(final MutableBoard board, final MoveList moves, final int from,
+      final int piece, long destinations) {
+    while (destinations != 0) {
+      final int to = Long.numberOfTrailingZeros(destinations);
+      moves.add(MoveEncoding.encode(from, to, piece, board.getPieceAt(to), NONE, KIND_NORMAL));
+      destinations &= destinations - 1;
+    }
+  }
+
+  private static void generatePawnMoves(final MutableBoard board, final MoveList moves,
+      final Alliance side, final long enemy, final long occupancy, final boolean capturesOnly) {
+    final int pawn = side.ordinal() * NUM_PIECE_TYPES + PAWN;
+    final long pawns = board.getPieceBitboard(pawn);
+    final long empty = ~occupancy;
+    final int offset = side.getDirection() * 8;
+    final long promotionRank = side.isWhite() ? WHITE_PROMOTION_RANK : BLACK_PROMOTION_RANK;
+
+    // 전진은 모든 폰을 한 번에 밀어서 계산합니다.
+    final long singlePushes = (side.isWhite() ? pawns >>> 8 : pawns << 8) & empty;
+    long promotions = singlePushes & promotionRank;
+    while (promotions != 0) {
+      final int to = Long.numberOfTrailingZeros(promotions);
+      addPromotions(moves, to - offset, to, pawn, NONE, capturesOnly);
+      promotions &= promotions - 1;
+    }
+    if (!capturesOnly) {
+      long pushes = singlePushes & ~promotionRank;
+      while (pushes != 0) {
+        final int to = Long.numberOfTrailingZeros(pushes);
+        moves.add(MoveEncoding.encode(to - offset, to, pawn, NONE, NONE, KIND_NORMAL));
+        pushes &= pushes - 1;
+      }
+      long jumps = side.isWhite()
+          ? ((singlePushes & WHITE_PAWN_JUMP_RANK) >>> 8) & empty
+          : ((singlePushes & BLACK_PAWN_JUMP_RANK) << 8) & empty;
+      while (jumps != 0) {
+        final int to = Long.numberOfTrailingZeros(jumps);
+        moves.add(MoveEncoding.encode(to - 2 * offset, to, pawn, NONE, NONE, KIND_PAWN_JUMP));
+        jumps &= jumps - 1;
+      }
+    }
+
+    long attackers = pawns;
+    while (attackers != 0) {
+      final int from = Long.numberOfTrailingZeros(attackers);
+      long captures = PawnAttackPrecompute.getPawnAttacks(side, from) & enemy;
+      while (captures != 0) {
+        final int to = Long.numberOfTrailingZeros(captures);
+        if (((1L << to) & promotionRank) != 0) {
+          addPromotions(moves, from, to, pawn, board.getPieceAt(to), capturesOnly);
+        } else {
+          moves.add(MoveEncoding.encode(from, to, pawn, board.getPieceAt(to), NONE, KIND_NORMAL));
+        }
+        captures &= captures - 1;
+      }
+      attackers &= attackers - 1;
+    }
+
+    final int enPassantSquare = board.getEnPassantSquare();
+    if (enPassantSquare != NO_SQUARE) {
+      // 앙파상 타일을 공격할 수 있는 폰은 상대 폰의 공격 범위로 역추적합니다.
+      long enPassantAttackers =
+          PawnAttackPrecompute.getPawnAttacks(side.getOpposite(), enPassantSquare) & pawns;
+      while (enPassantAttackers != 0) {
+        final int from = Long.numberOfTrailingZeros(enPassantAttackers);
+        moves.add(MoveEncoding.encode(from, enPassantSquare, pawn,
+            board.getPieceAt(enPassantSquare - offset), NONE, KIND_EN_PASSANT));
+        enPassantAttackers &= enPassantAttackers - 1;
+      }
+    }
+  }
+
+  private static void addPromotions(final MoveList moves, final int from, final int to,
+      final int pawn, final int capturedPiece, final boolean queenOnly) {
+    for (final int promotionType : PROMOTION_TYPES) {
+      moves.add(MoveEncoding.encode(from, to, pawn, capturedPiece, promotionType, KIND_NORMAL));
+      if (queenOnly) {
+        return;
+      }
+    }
+  }
+
+  private static void generateCastles(final MutableBoard board, final MoveList moves,
+      final Alliance side, final int kingSquare, final long occupancy) {
+    final int castlingRights = board.getCastlingRights();
+    final int kingSide = side.isWhite() ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+    final int queenSide = side.isWhite() ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+    if ((castlingRights & (kingSide | queenSide)) == 0) {
+      return;
+    }
+    final Alliance opponent = side.getOpposite();
+    final int king = side.ordinal() * NUM_PIECE_TYPES + KING;
+    if (board.isSquareAttacked(kingSquare, opponent)) {
+      return;
+    }
+    if ((castlingRights & kingSide) != 0
+        && (occupancy & ((1L << (kingSquare + 1)) | (1L << (kingSquare + 2)))) == 0
+        && !board.isSquareAttacked(kingSquare + 1, opponent)
+        && !board.isSquareAttacked(kingSquare + 2, opponent)) {
+      moves.add(MoveEncoding.encode(kingSquare, kingSquare + 2, king, NONE, NONE, KIND_CASTLE));
+    }
+    if ((castlingRights & queenSide) != 0
+        && (occupancy & ((1L << (kingSquare - 1)) | (1L << (kingSquare - 2))
+        | (1L << (kingSquare - 3)))) == 0
+        && !board.isSquareAttacked(kingSquare - 1, opponent)
+        && !board.isSquareAttacked(kingSquare - 2, opponent)) {
+      moves.add(MoveEncoding.encode(kingSquare, kingSquare - 2, king, NONE, NONE, KIND_CASTLE));
+    }
+  }
+}
@@ -0,0 +1,520 @@
+package com.project.chess.board;
+
+import static com.project.chess.board.BoardUtil.BLACK_KING_SIDE;
+import static com.project.chess.board.BoardUtil.BLACK_QUEEN_SIDE;
+import static com.project.chess.board.BoardUtil.NO_SQUARE;
+import static com.project.chess.board.BoardUtil.WHITE_KING_SIDE;
+import static com.project.chess.board.BoardUtil.WHITE_QUEEN_SIDE;
+import static com.project.chess.moves.MoveEncoding.KIND_CASTLE;
+import static com.project.chess.moves.MoveEncoding.KIND_EN_PASSANT;
+import static com.project.chess.moves.MoveEncoding.KIND_PAWN_JUMP;
+
+import com.project.chess.Alliance;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.pieces.Bishop;
+import com.project.chess.pieces.King;
+import com.project.chess.pieces.Knight;
+import com.project.chess.pieces.Pawn;
+import com.project.chess.pieces.Piece;
+import com.project.chess.pieces.Piece.PieceType;
+import com.project.chess.pieces.Queen;
+import com.project.chess.pieces.Rook;
+import java.util.Arrays;
+
+/**
+ * 탐색용 가변 보드 클래스입니다.
+ * <p>
+ * {@link Board}는 이동마다 새 객체를 만들지만, 이 클래스는 하나의 비트보드 상태를 직접 수정하고 되돌립니다.
+ * {@link #makeMove}는 이전 상태를 기본형 배열로 된 되돌리기 스택에 기록하고, {@link #unmakeMove}는 그 기록으로
+ * 할당 없이 상태를 복원합니다. 기물을 놓고 치울 때마다 {@link PieceSquareTable}의 중반·종반 점수와 게임 단계도 함께 더하고
+ * 빼므로, 평가할 때 기물을 다시 훑을 필요가 없습니다. 스레드 안전하지 않으므로 탐색 스레드마다 별도의 인스턴스를 사용해야 합니다.
+ */
+public final class MutableBoard {
+
+  public static final int EMPTY = -1;
+
+  private static final int NUM_PIECE_TYPES = PieceType.values().length;
+  private static final int INITIAL_STACK_CAPACITY = 256;
+
+  private final long[] pieceBitboards = new long[BitBoard.NUM_PIECE_BITBOARDS];
+  private final long[] allianceOccupancy = new long[Alliance.values().length];
+  private long occupancy;
+  private final int[] mailbox = new int[BoardUtil.NUM_TILES];
+
+  private Alliance sideToMove;
+  private int castlingRights;
+  private int enPassantSquare;
+  private int halfmoveClock;
+  private int fullmoveNumber;
+  private long zobristKey;
+  private long pawnKey;
+
+  // 기물을 놓고 치울 때마다 갱신하는 평가 항목 (백 기준, PieceSquareTable 참고)
+  private int midgameScore;
+  private int endgameScore;
+  private int phase;
+
+  // 기물이 놓이거나 치워질 때 알릴 리스너, 없으면 null
+  private PieceListener pieceListener;
+
+  // 되돌리기 스택
+  private int[] undoMoves = new int[INITIAL_STACK_CAPACITY];
+  private int[] undoCapturedPieces = new int[INITIAL_STACK_CAPACITY];
+  private int[] undoCastlingRights = new int[INITIAL_STACK_CAPACITY];
+  private int[] undoEnPassantSquares = new int[INITIAL_STACK_CAPACITY];
+  private int[] undoHalfmoveClocks = new int[INITIAL_STACK_CAPACITY];
+  private long[] undoZobristKeys = new long[INITIAL_STACK_CAPACITY];
+  private int ply;
+
+  /**
+   * 생성자: 불변 보드의 상태를 복사합니다.
+   *
+   * @param board 복사할 보드
+   */
+  public MutableBoard(final Board board) {
+    Arrays.fill(this.mailbox, EMPTY);
+    final BitBoard bitBoard = board.getBitBoard();
+    for (int index = 0; index < BitBoard.NUM_PIECE_BITBOARDS; index++) {
+      long pieces = bitBoard.getPieceBitboard(index);
+      this.pieceBitboards[index] = pieces;
+      while (pieces != 0) {
+        final int square = Long.numberOfTrailingZeros(pieces);
+        this.mailbox[square] = index;
+        this.midgameScore += PieceSquareTable.midgame(index, square);
+        this.endgameScore += PieceSquareTable.endgame(index, square);
+        this.phase += PieceSquareTable.phase(index);
+        pieces &= pieces - 1;
+      }
+    }
+    for (final Alliance alliance : Alliance.values()) {
+      this.allianceOccupancy[alliance.ordinal()] = bitBoard.getAllianceOccupancy(alliance);
+    }
+    this.occupancy = bitBoard.getOccupancy();
+    this.sideToMove = board.getNextMoveMaker();
+    this.castlingRights = board.getCastlingRights();
+    this.enPassantSquare = board.getEnPassantSquare();
+    this.halfmoveClock = board.getHalfmoveClock();
+    this.fullmoveNumber = board.getFullmoveNumber();
+    this.zobristKey = board.getZobristKey();
+    this.pawnKey = Zobrist.calculatePawnKey(board);
+  }
+
+  /**
+   * 생성자: 다른 가변 보드의 상태와 되돌리기 스택을 복사합니다. 이전 포지션 기록이 함께 복사되므로 복사본에서도 반복을 판정할 수
+   * 있습니다. 기물 리스너는 복사하지 않습니다.
+   *
+   * @param other 복사할 보드
+   */
+  public MutableBoard(final MutableBoard other) {
+    System.arraycopy(other.pieceBitboards, 0, this.pieceBitboards, 0,
+        this.pieceBitboards.length);
+    System.arraycopy(other.allianceOccupancy, 0, this.allianceOccupancy, 0,
+        this.allianceOccupancy.length);
+    this.occupancy = other.occupancy;
+    System.arraycopy(other.mailbox, 0, this.mailbox, 0, this.mailbox.length);
+    this.sideToMove = other.sideToMove;
+    this.castlingRights = other.castlingRights;
+    this.enPassantSquare = other.enPassantSquare;
+    this.halfmoveClock = other.halfmoveClock;
+    this.fullmoveNumber = other.fullmoveNumber;
+    this.zobristKey = other.zobristKey;
+    this.pawnKey = other.pawnKey;
+    this.midgameScore = other.midgameScore;
+    this.endgameScore = other.endgameScore;
+    this.phase = other.phase;
+    this.undoMoves = other.undoMoves.clone();
+    this.undoCapturedPieces = other.undoCapturedPieces.clone();
+    this.undoCastlingRights = other.undoCastlingRights.clone();
+    this.undoEnPassantSquares = other.undoEnPassantSquares.clone();
+    this.undoHalfmoveClocks = other.undoHalfmoveClocks.clone();
+    this.undoZobristKeys = other.undoZobristKeys.clone();
+    this.ply = other.ply;
+  }
+
+  /**
+   * 불변 보드의 이동을 수행합니다. 이동은 이 보드와 같은 상태의 {@link Board}에서 생성된 것이어야 합니다.
+   *
+   * @param move 수행할 이동
+   */
+  public void makeMove(final Move move) {
+    makeMove(MoveEncoding.fromMove(move));
+  }
+
+  /**
+   * 인코딩된 이동을 수행하고 되돌리기 정보를 스택에 기록합니다.
+   * <p>
+   * 잡히는 기물은 인코딩된 값이 아니라 현재 보드에서 읽으므로, 인코딩의 잡는 기물 필드는 정렬 등의 참고용입니다.
+   *
+   * @param move {@link MoveEncoding}으로 인코딩된 이동
+   */
+  public void makeMove(final int move) {
+    ensureStackCapacity();
+    final int from = MoveEncoding.getFrom(move);
+    final int to = MoveEncoding.getTo(move);
+    final int promotionType = MoveEncoding.getPromotionType(move);
+    final int kind = MoveEncoding.getKind(move);
+    final int side = this.sideToMove.ordinal();
+    final int movedPiece = this.mailbox[from];
+    final int captureSquare =
+        kind == KIND_EN_PASSANT ? to - this.sideToMove.getDirection() * 8 : to;
+    final int capturedPiece = this.mailbox[captureSquare];
+
+    this.undoMoves[this.ply] = move;
+    this.undoCapturedPieces[this.ply] = capturedPiece;
+    this.undoCastlingRights[this.ply] = this.castlingRights;
+    this.undoEnPassantSquares[this.ply] = this.enPassantSquare;
+    this.undoHalfmoveClocks[this.ply] = this.halfmoveClock;
+    this.undoZobristKeys[this.ply] = this.zobristKey;
+    this.ply++;
+
+    long key = this.zobristKey;
+    if (capturedPiece != EMPTY) {
+      removePiece(capturedPiece, captureSquare);
+      key ^= Zobrist.pieceKey(capturedPiece, captureSquare);
+    }
+    final int placedPiece =
+        promotionType == EMPTY ? movedPiece : side * NUM_PIECE_TYPES + promotionType;
+    removePiece(movedPiece, from);
+    putPiece(placedPiece, to);
+    key ^= Zobrist.pieceKey(movedPiece, from) ^ Zobrist.pieceKey(placedPiece, to);
+
+    if (kind == KIND_CASTLE) {
+      final int rookFrom = castleRookStart(to);
+      final int rookTo = castleRookDestination(to);
+      final int rook = this.mailbox[rookFrom];
+      removePiece(rook, rookFrom);
+      putPiece(rook, rookTo);
+      key ^= Zobrist.pieceKey(rook, rookFrom) ^ Zobrist.pieceKey(rook, rookTo);
+    }
+
+    final int nextCastlingRights = BoardUtil.updateCastlingRights(this.castlingRights, from, to);
+    final int nextEnPassantSquare =
+        kind == KIND_PAWN_JUMP ? (from + to) >>> 1 : NO_SQUARE;
+    key ^= Zobrist.castlingKey(this.castlingRights) ^ Zobrist.castlingKey(nextCastlingRights);
+    key ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.enPassantKey(nextEnPassantSquare);
+    key ^= Zobrist.blackToMoveKey();
+
+    this.castlingRights = nextCastlingRights;
+    this.enPassantSquare = nextEnPassantSquare;
+    this.halfmoveClock =
+        capturedPiece != EMPTY || movedPiece % NUM_PIECE_TYPES == PieceType.PAWN.ordinal()
+            ? 0 : this.halfmoveClock + 1;
+    this.zobristKey = key;
+    if (this.sideToMove.isBlack()) {
+      this.fullmoveNumber++;
+    }
+    this.sideToMove = this.sideToMove.getOpposite();
+  }
+
+  /**
+   * 마지막으로 수행한 이동을 되돌립니다.
+   */
+  public void unmakeMove() {
+    if (this.ply == 0) {
+      throw new IllegalStateException("되돌릴 이동이 없습니다.");
+    }
+    this.ply--;
+    final int move = this.undoMoves[this.ply];
+    final int from = MoveEncoding.getFrom(move);
+    final int to = MoveEncoding.getTo(move);
+    final int promotionType = MoveEncoding.getPromotionType(move);
+    final int kind = MoveEncoding.getKind(move);
+
+    this.sideToMove = this.sideToMove.getOpposite();
+    final int side = this.sideToMove.ordinal();
+    if (this.sideToMove.isBlack()) {
+      this.fullmoveNumber--;
+    }
+
+    if (kind == KIND_CASTLE) {
+      final int rookFrom = castleRookStart(to);
+      final int rookTo = castleRookDestination(to);
+      final int rook = this.mailbox[rookTo];
+      removePiece(rook, rookTo);
+      putPiece(rook, rookFrom);
+    }
+
+    final int pieceOnDestination = this.mailbox[to];
+    removePiece(pieceOnDestination, to);
+    putPiece(promotionType == EMPTY ? pieceOnDestination
+        : side * NUM_PIECE_TYPES + PieceType.PAWN.ordinal(), from);
+
+    final int capturedPiece = this.undoCapturedPieces[this.ply];
+    if (capturedPiece != EMPTY) {
+      putPiece(capturedPiece,
+          kind == KIND_EN_PASSANT ? to - this.sideToMove.getDirection() * 8 : to);
+    }
+
+    this.castlingRights = this.undoCastlingRights[this.ply];
+    this.enPassantSquare = this.undoEnPassantSquares[this.ply];
+    this.halfmoveClock = this.undoHalfmoveClocks[this.ply];
+    this.zobristKey = this.undoZobristKeys[this.ply];
+  }
+
+  private void ensureStackCapacity() {
+    if (this.ply == this.undoMoves.length) {
+      final int capacity = this.undoMoves.length * 2;
+      this.undoMoves = Arrays.copyOf(this.undoMoves, capacity);
+      this.undoCapturedPieces = Arrays.copyOf(this.undoCapturedPieces, capacity);
+      this.undoCastlingRights = Arrays.copyOf(this.undoCastlingRights, capacity);
+      this.undoEnPassantSquares = Arrays.copyOf(this.undoEnPassantSquares, capacity);
+      this.undoHalfmoveClocks = Arrays.copyOf(this.undoHalfmoveClocks, capacity);
+      this.undoZobristKeys = Arrays.copyOf(this.undoZobristKeys, capacity);
+    }
+  }
+
+  private void putPiece(final int piece, final int square) {
+    final long bit = 1L << square;
+    this.pieceBitboards[piece] |= bit;
+    this.allianceOccupancy[piece / NUM_PIECE_TYPES] |= bit;
+    this.occupancy |= bit;
+    this.mailbox[square] = piece;
+    this.midgameScore += PieceSquareTable.midgame(piece, square);
+    this.endgameScore += PieceSquareTable.endgame(piece, square);
+    this.phase += PieceSquareTable.phase(piece);
+    this.pawnKey ^= Zobrist.pawnKey(piece, square);
+    if (this.pieceListener != null) {
+      this.pieceListener.pieceAdded(piece, square);
+    }
+  }
+
+  private void removePiece(final int piece, final int square) {
+    final long bit = ~(1L << square);
+    this.pieceBitboards[piece] &= bit;
+    this.allianceOccupancy[piece / NUM_PIECE_TYPES] &= bit;
+    this.occupancy &= bit;
+    this.mailbox[square] = EMPTY;
+    this.midgameScore -= PieceSquareTable.midgame(piece, square);
+    this.endgameScore -= PieceSquareTable.endgame(piece, square);
+    this.phase -= PieceSquareTable.phase(piece);
+    this.pawnKey ^= Zobrist.pawnKey(piece, square);
+    if (this.pieceListener != null) {
+      this.pieceListener.pieceRemoved(piece, square);
+    }
+  }
+
+  /**
+   * 기물이 놓이거나 치워질 때 알림을 받을 리스너를 설정합니다. 리스너는 하나만 둘 수 있으며, 새로 설정하면 이전 리스너는 더 이상
+   * 알림을 받지 않습니다.
+   *
+   * @param pieceListener 리스너, null이면 알리지 않습니다
+   */
+  public void setPieceListener(final PieceListener pieceListener) {
+    this.pieceListener = pieceListener;
+  }
+
+  public PieceListener getPieceListener() {
+    return this.pieceListener;
+  }
+
+  static int castleRookStart(final int kingDestination) {
+    return kingDestination > (kingDestination & ~7) + 4 ? kingDestination + 1
+        : kingDestination - 2;
+  }
+
+  static int castleRookDestination(final int kingDestination) {
+    return kingDestination > (kingDestination & ~7) + 4 ? kingDestination - 1
+        : kingDestination + 1;
+  }
+
+  /**
+   * 주어진 연합의 킹이 공격받고 있는지 확인합니다.
+   *
+   * @param alliance 확인할 연합
+   * @return 킹이 공격받고 있으면 true, 아니면 false
+   */
+  public boolean isInCheck(final Alliance alliance) {
+    final long king = this.pieceBitboards[BitBoard.pieceIndex(PieceType.KING, alliance)];
+    return isSquareAttacked(Long.numberOfTrailingZeros(king), alliance.getOpposite());
+  }
+
+  /**
+   * 주어진 타일이 특정 연합의 기물에게 공격받고 있는지 확인합니다.
+   *
+   * @param square   확인할 타일 좌표
+   * @param attacker 공격하는 연합
+   * @return 공격받고 있으면 true, 아니면 false
+   */
+  public boolean isSquareAttacked(final int square, final Alliance attacker) {
+    return BitBoard.isSquareAttacked(this.pieceBitboards, this.occupancy, square, attacker);
+  }
+
+  /**
+   * 주어진 타일을 공격하는 양쪽 연합의 모든 기물을 반환합니다.
+   *
+   * @param square    확인할 타일 좌표
+   * @param occupancy 슬라이딩 기물의 공격을 계산할 점유 비트마스크
+   * @return 공격하는 기물들의 타일 비트마스크
+   * @see BitBoard#attackersOf(long[], long, int)
+   */
+  public long attackersOf(final int square, final long occupancy) {
+    return BitBoard.attackersOf(this.pieceBitboards, occupancy, square);
+  }
+
+  /**
+   * 방금 수행한 이동이 이동한 쪽의 킹을 공격받는 상태로 남겼는지 확인합니다.
+   *
+   * @return 이동이 불법이면 true, 아니면 false
+   */
+  public boolean leavesKingInCheck() {
+    return isInCheck(this.sideToMove.getOpposite());
+  }
+
+  /**
+   * 현재 포지션이 되돌리기 스택에 기록된 이전 포지션과 같은지 확인합니다.
+   * <p>
+   * 마지막으로 폰이 움직이거나 기물이 잡힌 뒤의 포지션만 같을 수 있으므로 하프무브 클럭만큼만, 같은 쪽이 둘 차례인 포지션만 비교합니다.
+   *
+   * @return 반복된 포지션이면 true, 아니면 false
+   */
+  public boolean isRepetition() {
+    final int earliest = Math.max(0, this.ply - this.halfmoveClock);
+    for (int i = this.ply - 2; i >= earliest; i -= 2) {
+      if (this.undoZobristKeys[i] == this.zobristKey) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 현재 상태를 불변 보드로 변환합니다.
+   *
+   * @return 같은 상태의 새 보드
+   */
+  public Board toBoard() {
+    final Builder builder = new Builder();
+    for (int square = 0; square < BoardUtil.NUM_TILES; square++) {
+      final int piece = this.mailbox[square];
+      if (piece != EMPTY) {
+        builder.setPiece(createPiece(piece, square));
+      }
+    }
+    if (this.enPassantSquare != NO_SQUARE) {
+      builder.setEnpassantPawn((Pawn) builder.getBoardConfig()
+          .get(this.enPassantSquare - this.sideToMove.getDirection() * 8));
+    }
+    builder.setMoveMaker(this.sideToMove);
+    builder.setHalfmoveClock(this.halfmoveClock);
+    builder.setFullmoveNumber(this.fullmoveNumber);
+    builder.setZobristKey(this.zobristKey);
+    return builder.build();
+  }
+
+  private Piece createPiece(final int piece, final int square) {
+    final Alliance alliance = Alliance.values()[piece / NUM_PIECE_TYPES];
+    return switch (PieceType.values()[piece % NUM_PIECE_TYPES]) {
+      case PAWN -> new Pawn(square, alliance);
+      case KNIGHT -> new Knight(square, alliance, false);
+      case BISHOP -> new Bishop(square, alliance, false);
+      case QUEEN -> new Queen(square, alliance, false);
+      case ROOK -> new Rook(square, alliance, (square == 63 && hasCastlingRight(WHITE_KING_SIDE))
+          || (square == 56 && hasCastlingRight(WHITE_QUEEN_SIDE))
+          || (square == 7 && hasCastlingRight(BLACK_KING_SIDE))
+          || (square == 0 && hasCastlingRight(BLACK_QUEEN_SIDE)));
+      case KING -> new King(square, alliance, alliance.isWhite()
+          ? hasCastlingRight(WHITE_KING_SIDE | WHITE_QUEEN_SIDE)
+          : hasCastlingRight(BLACK_KING_SIDE | BLACK_QUEEN_SIDE));
+    };
+  }
+
+  private boolean hasCastlingRight(final int rights) {
+    return (this.castlingRights & rights) != 0;
+  }
+
+  public long getPieceBitboard(final int pieceIndex) {
+    return this.pieceBitboards[pieceIndex];
+  }
+
+  public long getAllianceOccupancy(final Alliance alliance) {
+    return this.allianceOccupancy[alliance.ordinal()];
+  }
+
+  public long getOccupancy() {
+    return this.occupancy;
+  }
+
+  /**
+   * 주어진 타일의 기물 인덱스를 반환합니다.
+   *
+   * @param square 타일 좌표
+   * @return {@link BitBoard#pieceIndex} 형식의 기물 인덱스, 비어 있으면 {@link #EMPTY}
+   */
+  public int getPieceAt(final int square) {
+    return this.mailbox[square];
+  }
+
+  /**
+   * 보드 위 모든 기물의 중반 점수 합을 반환합니다. 이동할 때마다 갱신되므로 기물을 훑지 않습니다.
+   *
+   * @return 백 기준 중반 점수
+   */
+  public int getMidgameScore() {
+    return this.midgameScore;
+  }
+
+  /**
+   * 보드 위 모든 기물의 종반 점수 합을 반환합니다. 이동할 때마다 갱신되므로 기물을 훑지 않습니다.
+   *
+   * @return 백 기준 종반 점수
+   */
+  public int getEndgameScore() {
+    return this.endgameScore;
+  }
+
+  /**
+   * 남은 기물로 계산한 게임 단계를 반환합니다.
+   *
+   * @return 처음 배치에서 {@link PieceSquareTable#MAX_PHASE}, 폰과 킹만 남으면 0
+   */
+  public int getPhase() {
+    return this.phase;
+  }
+
+  public Alliance getSideToMove() {
+    return this.sideToMove;
+  }
+
+  public int getCastlingRights() {
+    return this.castlingRights;
+  }
+
+  public int getEnPassantSquare() {
+    return this.enPassantSquare;
+  }
+
+  public int getHalfmoveClock() {
+    return this.halfmoveClock;
+  }
+
+  public int getFullmoveNumber() {
+    return this.fullmoveNumber;
+  }
+
+  public long getZobristKey() {
+    return this.zobristKey;
+  }
+
+  /**
+   * 폰과 킹의 배치만으로 만든 Zobrist 키를 반환합니다. 폰 구조 평가를 캐시하는 데 사용합니다.
+   *
+   * @return 64비트 폰 키
+   */
+  public long getPawnKey() {
+    return this.pawnKey;
+  }
+
+  /**
+   * 마지막으로 수행한 이동을 반환합니다.
+   *
+   * @return 인코딩된 이동, 수행한 이동이 없으면 {@link MoveEncoding#NULL_MOVE}
+   */
+  public int getLastMove() {
+    return this.ply == 0 ? MoveEncoding.NULL_MOVE : this.undoMoves[this.ply - 1];
+  }
+
+  public int getPly() {
+    return this.ply;
+  }
+}
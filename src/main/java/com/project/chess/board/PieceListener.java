@@ -0,0 +1,26 @@
+package com.project.chess.board;
+
+/**
+ * {@link MutableBoard}에 기물이 놓이거나 치워질 때 알림을 받습니다.
+ * <p>
+ * 이동을 수행하거나 되돌릴 때 바뀐 기물마다 호출되므로, 보드 상태에서 파생된 값을 기물 단위로 증분 갱신할 수 있습니다. 되돌릴 때는
+ * 수행할 때의 반대 호출이 일어납니다.
+ */
+public interface PieceListener {
+
+  /**
+   * 기물이 놓였습니다.
+   *
+   * @param piece  {@link BitBoard#pieceIndex} 형식의 기물 인덱스
+   * @param square 타일 좌표
+   */
+  void pieceAdded(int piece, int square);
+
+  /**
+   * 기물이 치워졌습니다.
+   *
+   * @param piece  {@link BitBoard#pieceIndex} 형식의 기물 인덱스
+   * @param square 타일 좌표
+   */
+  void pieceRemoved(int piece, int square);
+}
@@ -0,0 +1,145 @@
+package com.project.chess.board;
+
+import com.project.chess.pieces.Piece;
+import com.project.chess.pieces.Piece.PieceType;
+import java.util.SplittableRandom;
+
+/**
+ * 64비트 Zobrist 해시 키를 위한 난수 테이블과 계산 유틸리티 클래스입니다.
+ * <p>
+ * 키는 기물 배치, 둘 차례, 캐슬링 권한, 앙파상 열을 포함합니다. 각 요소의 키를 XOR로 합치므로, 이동할 때는 바뀐 요소의 키만
+ * XOR하여 증분 갱신할 수 있습니다. 고정된 시드를 사용하므로 실행마다 같은 키가 만들어집니다.
+ * <p>
+ * 폰 구조 캐시를 위한 폰 키는 같은 기물 키를 폰과 킹에 대해서만 XOR한 값입니다. 킹을 포함하므로 폰 쉴드처럼 킹 위치에 따라
+ * 달라지는 폰 항목도 함께 캐시할 수 있습니다.
+ */
+public final class Zobrist {
+
+  private static final long SEED = 0x2D358DCCAA6C78A5L;
+
+  private static final long[][] PIECE_KEYS =
+      new long[BitBoard.NUM_PIECE_BITBOARDS][BoardUtil.NUM_TILES];
+  // 캐슬링 권한 16가지 조합마다 네 개의 기본 키를 미리 XOR해 둡니다.
+  private static final long[] CASTLING_KEYS = new long[BoardUtil.ALL_CASTLING_RIGHTS + 1];
+  private static final long[] EN_PASSANT_FILE_KEYS = new long[BoardUtil.NUM_TILES_PER_ROW];
+  private static final long BLACK_TO_MOVE_KEY;
+  // 폰과 킹은 PIECE_KEYS와 같고 나머지 기물은 0이므로 분기 없이 XOR할 수 있습니다.
+  private static final long[][] PAWN_KEYS =
+      new long[BitBoard.NUM_PIECE_BITBOARDS][BoardUtil.NUM_TILES];
+
+  static {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    for (final long[] pieceKeys : PIECE_KEYS) {
+      for (int square = 0; square < pieceKeys.length; square++) {
+        pieceKeys[square] = random.nextLong();
+      }
+    }
+    final long[] castlingRightKeys = new long[4];
+    for (int i = 0; i < castlingRightKeys.length; i++) {
+      castlingRightKeys[i] = random.nextLong();
+    }
+    for (int rights = 0; rights < CASTLING_KEYS.length; rights++) {
+      for (int i = 0; i < castlingRightKeys.length; i++) {
+        if ((rights & (1 << i)) != 0) {
+          CASTLING_KEYS[rights] ^= castlingRightKeys[i];
+        }
+      }
+    }
+    for (int file = 0; file < EN_PASSANT_FILE_KEYS.length; file++) {
+      EN_PASSANT_FILE_KEYS[file] = random.nextLong();
+    }
+    BLACK_TO_MOVE_KEY = random.nextLong();
+    for (int index = 0; index < BitBoard.NUM_PIECE_BITBOARDS; index++) {
+      final int pieceType = index % PieceType.values().length;
+      if (pieceType == PieceType.PAWN.ordinal() || pieceType == PieceType.KING.ordinal()) {
+        PAWN_KEYS[index] = PIECE_KEYS[index].clone();
+      }
+    }
+  }
+
+  private Zobrist() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  public static long pieceKey(final int pieceIndex, final int square) {
+    return PIECE_KEYS[pieceIndex][square];
+  }
+
+  public static long pieceKey(final Piece piece, final int square) {
+    return PIECE_KEYS[BitBoard.pieceIndex(piece.getPieceType(), piece.getPieceAlliance())][square];
+  }
+
+  /**
+   * 폰 키에 더할 기물의 키를 반환합니다.
+   *
+   * @param pieceIndex {@link BitBoard#pieceIndex} 형식의 기물 인덱스
+   * @param square     타일 좌표
+   * @return 폰과 킹이면 기물 키, 나머지 기물이면 0
+   */
+  public static long pawnKey(final int pieceIndex, final int square) {
+    return PAWN_KEYS[pieceIndex][square];
+  }
+
+  public static long castlingKey(final int castlingRights) {
+    return CASTLING_KEYS[castlingRights];
+  }
+
+  /**
+   * 앙파상 타일의 키를 반환합니다. 앙파상 타일이 없으면 0을 반환하므로 항상 XOR할 수 있습니다.
+   *
+   * @param enPassantSquare 앙파상 타일 좌표 또는 {@link BoardUtil#NO_SQUARE}
+   * @return 앙파상 열의 키
+   */
+  public static long enPassantKey(final int enPassantSquare) {
+    return enPassantSquare == BoardUtil.NO_SQUARE ? 0L
+        : EN_PASSANT_FILE_KEYS[enPassantSquare % BoardUtil.NUM_TILES_PER_ROW];
+  }
+
+  public static long blackToMoveKey() {
+    return BLACK_TO_MOVE_KEY;
+  }
+
+  /**
+   * 보드의 Zobrist 키를 처음부터 계산합니다. 이동으로 만들어진 보드는 증분 갱신된 키를 사용하므로, 이 메서드는 직접 구성한 보드와
+   * 검증에만 사용됩니다.
+   *
+   * @param board 키를 계산할 보드
+   * @return 64비트 Zobrist 키
+   */
+  public static long calculateKey(final Board board) {
+    final BitBoard bitBoard = board.getBitBoard();
+    long key = 0L;
+    for (int index = 0; index < BitBoard.NUM_PIECE_BITBOARDS; index++) {
+      long pieces = bitBoard.getPieceBitboard(index);
+      while (pieces != 0) {
+        key ^= PIECE_KEYS[index][Long.numberOfTrailingZeros(pieces)];
+        pieces &= pieces - 1;
+      }
+    }
+    key ^= castlingKey(board.getCastlingRights());
+    key ^= enPassantKey(board.getEnPassantSquare());
+    if (board.getNextMoveMaker().isBlack()) {
+      key ^= BLACK_TO_MOVE_KEY;
+    }
+    return key;
+  }
+
+  /**
+   * 보드의 폰 키를 처음부터 계산합니다.
+   *
+   * @param board 키를 계산할 보드
+   * @return 폰과 킹의 배치만으로 만든 64비트 키
+   */
+  public static long calculatePawnKey(final Board board) {
+    final BitBoard bitBoard = board.getBitBoard();
+    long key = 0L;
+    for (int index = 0; index < BitBoard.NUM_PIECE_BITBOARDS; index++) {
+      long pieces = bitBoard.getPieceBitboard(index);
+      while (pieces != 0) {
+        key ^= PAWN_KEYS[index][Long.numberOfTrailingZeros(pieces)];
+        pieces &= pieces - 1;
+      }
+    }
+    return key;
+  }
+}
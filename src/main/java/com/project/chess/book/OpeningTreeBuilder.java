@@ -0,0 +1,410 @@
+package com.project.chess.book;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.Board;
+import com.project.chess.io.RunFiles;
+import com.project.chess.io.RunMerger;
+import com.project.chess.moves.Move;
+import com.project.chess.pgn.PgnGame;
+import com.project.chess.pgn.PgnReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PGN 파일의 게임들로 오프닝 트리를 만들어 Polyglot 북이나 통계 파일로 씁니다.
+ * <p>
+ * PGN 파일은 {@link PgnReader#splitGames}로 게임 경계에서 나눈 구간마다 {@link ForkJoinPool}의 작업 하나가 읽습니다. 각
+ * 게임은 {@link PgnReader}가 {@link Board}와 {@link Move#execute()}로 재생하며, 처음 {@code maxPly}수까지 (Polyglot 키,
+ * 이동)마다 게임 수와 두는 쪽 기준의 승, 무, 패를 셉니다.
+ * <p>
+ * 집계는 키의 상위 {@value #SHARD_BITS}비트로 나눈 샤드의 {@link StatisticsTable}에 모읍니다. 작업은 먼저 자신의 작은 테이블에
+ * 모았다가 정렬해서 샤드별로 한 번씩 잠그고 더하므로, 모든 게임이 지나는 시작 포지션 같은 항목에서도 잠금 경쟁이 적습니다. 샤드가
+ * 메모리 예산의 자기 몫을 채우면 정렬해서 임시 파일로 내보내고, 쓸 때는 샤드마다 내보낸 파일들을 병합합니다. 샤드가 키 구간으로
+ * 나뉘므로 샤드 순서대로 병합한 결과는 전체가 키 순서입니다.
+ * <p>
+ * 통계 파일은 (부호 없는 키, 이동) 순서로 정렬한 {@value StatisticsTable#RECORD_SIZE}바이트 빅엔디언 레코드(키 8바이트, Polyglot
+ * 이동 2바이트, 게임 수, 승, 무, 패 각 4바이트)의 배열이므로 Polyglot 북처럼 키로 이진 탐색할 수 있습니다.
+ */
+public final class OpeningTreeBuilder implements Closeable {
+
+  public static final int DEFAULT_MAX_PLY = 30;
+
+  private static final int SHARD_BITS = 6;
+  private static final int NUM_SHARDS = 1 << SHARD_BITS;
+  private static final int LOCAL_TABLE_CAPACITY = 1 << 16;
+  // 스레드마다 이만큼의 구간으로 나누어 작업 크기의 차이를 흡수합니다.
+  private static final int CHUNKS_PER_THREAD = 8;
+  private static final long MIN_CHUNK_SIZE = 1L << 20;
+  private static final int MAX_WEIGHT = 0xFFFF;
+  // 한 포지션의 합법적인 이동 수의 상한
+  private static final int MAX_MOVES_PER_POSITION = 256;
+
+  private final int maxPly;
+  private final ForkJoinPool pool;
+  private final Path spillDirectory;
+  private final Shard[] shards = new Shard[NUM_SHARDS];
+  private final AtomicLong gamesRead = new AtomicLong();
+  private final AtomicLong positionsRead = new AtomicLong();
+
+  /**
+   * 생성자
+   *
+   * @param maxPly             게임마다 집계할 최대 수 (반수 기준)
+   * @param memoryBudget       집계 테이블에 쓸 대략적인 메모리 (바이트)
+   * @param pool               PGN을 읽을 풀
+   * @param temporaryDirectory 내보낸 파일을 둘 디렉터리, null이면 시스템 임시 디렉터리
+   * @throws IOException 임시 디렉터리를 만들 수 없는 경우
+   */
+  public OpeningTreeBuilder(final int maxPly, final long memoryBudget, final ForkJoinPool pool,
+      final Path temporaryDirectory) throws IOException {
+    if (maxPly <= 0) {
+      throw new IllegalArgumentException("최대 수는 양수여야 합니다: " + maxPly);
+    }
+    this.maxPly = maxPly;
+    this.pool = pool;
+    this.spillDirectory = temporaryDirectory == null
+        ? Files.createTempDirectory("opening-tree")
+        : Files.createTempDirectory(temporaryDirectory, "opening-tree");
+    // 작업마다의 테이블을 뺀 나머지를 샤드에 똑같이 나눕니다.
+    final long localBytes =
+        (long) pool.getParallelism() * LOCAL_TABLE_CAPACITY * StatisticsTable.BYTES_PER_ENTRY;
+    final long shardEntries = Math.max(0L, memoryBudget - localBytes) / NUM_SHARDS
+        / StatisticsTable.BYTES_PER_ENTRY;
+    for (int i = 0; i < NUM_SHARDS; i++) {
+      this.shards[i] = new Shard(i, (int) Math.min(Integer.MAX_VALUE >> 2, shardEntries));
+    }
+  }
+
+  public long getGamesRead() {
+    return this.gamesRead.get();
+  }
+
+  public long getPositionsRead() {
+    return this.positionsRead.get();
+  }
+
+  /**
+   * PGN 파일의 게임을 병렬로 읽어 집계에 더합니다.
+   *
+   * @param pgn PGN 파일 경로
+   * @throws IOException 파일을 읽거나 임시 파일을 쓸 수 없는 경우
+   */
+  public void addPgn(final Path pgn) throws IOException {
+    try (FileChannel channel = FileChannel.open(pgn, StandardOpenOption.READ)) {
+      final long chunkSize = Math.max(MIN_CHUNK_SIZE,
+          channel.size() / ((long) this.pool.getParallelism() * CHUNKS_PER_THREAD));
+      final long[] boundaries = PgnReader.splitGames(channel, chunkSize);
+      this.pool.invoke(new ChunkTask(channel, boundaries, 0, boundaries.length - 1));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * 집계를 Polyglot 북으로 씁니다.
+   * <p>
+   * 가중치는 두는 쪽의 점수(승 2점, 무 1점)이며, 한 포지션에서 가장 큰 가중치가 16비트를 넘으면 그 포지션의 가중치를 비례해서
+   * 줄입니다. 가중치가 0인 이동은 고를 일이 없으므로 쓰지 않습니다.
+   *
+   * @param output   쓸 파일 경로
+   * @param minGames 이동을 쓰기 위한 최소 게임 수
+   * @return 쓴 항목 수
+   * @throws IOException 파일을 쓰거나 임시 파일을 읽을 수 없는 경우
+   */
+  public long writePolyglotBook(final Path output, final int minGames) throws IOException {
+    try (DataOutputStream out = RunFiles.openOutput(output)) {
+      final PolyglotWriter writer = new PolyglotWriter(out);
+      merge(minGames, writer::add);
+      writer.flush();
+      return writer.entries;
+    }
+  }
+
+  /**
+   * 집계를 통계 파일로 씁니다.
+   *
+   * @param output   쓸 파일 경로
+   * @param minGames 이동을 쓰기 위한 최소 게임 수
+   * @return 쓴 레코드 수
+   * @throws IOException 파일을 쓰거나 임시 파일을 읽을 수 없는 경우
+   */
+  public long writeStatistics(final Path output, final int minGames) throws IOException {
+    try (DataOutputStream out = RunFiles.openOutput(output)) {
+      final long[] records = new long[1];
+      merge(minGames, (key, move, counters) -> {
+        StatisticsTable.writeRecord(out, key, move, counters, 0);
+        records[0]++;
+      });
+      return records[0];
+    }
+  }
+
+  /**
+   * 내보낸 임시 파일과 디렉터리를 지웁니다.
+   *
+   * @throws IOException 파일을 지울 수 없는 경우
+   */
+  @Override
+  public void close() throws IOException {
+    for (final Shard shard : this.shards) {
+      synchronized (shard) {
+        for (final Path run : shard.runs) {
+          Files.deleteIfExists(run);
+        }
+        shard.runs.clear();
+      }
+    }
+    Files.deleteIfExists(this.spillDirectory);
+  }
+
+  private void addGame(final PgnGame game, final StatisticsTable local, final int[] counters)
+      throws IOException {
+    final List<Move> moves = game.getMoves();
+    final List<Board> positions = game.getPositions();
+    final int plies = Math.min(this.maxPly, moves.size());
+    for (int ply = 0; ply < plies; ply++) {
+      final Board position = positions.get(ply);
+      Arrays.fill(counters, 0);
+      counters[StatisticsTable.GAMES] = 1;
+      final int outcome = outcome(game.getResult(), position.getNextMoveMaker());
+      if (outcome >= 0) {
+        counters[outcome] = 1;
+      }
+      local.add(PolyglotKey.calculateKey(position), PolyglotBook.toBookMove(moves.get(ply)),
+          counters, 0);
+      if (local.isFull()) {
+        flush(local);
+      }
+    }
+    this.gamesRead.incrementAndGet();
+    this.positionsRead.addAndGet(plies);
+  }
+
+  // 두는 쪽 기준의 결과 카운터, 결과를 모르면 -1
+  private static int outcome(final String result, final Alliance mover) {
+    return switch (result) {
+      case "1-0" -> mover.isWhite() ? StatisticsTable.WINS : StatisticsTable.LOSSES;
+      case "0-1" -> mover.isWhite() ? StatisticsTable.LOSSES : StatisticsTable.WINS;
+      case "1/2-1/2" -> StatisticsTable.DRAWS;
+      default -> -1;
+    };
+  }
+
+  // 작업의 테이블을 정렬해서 샤드마다 한 번씩 잠그고 더합니다.
+  private void flush(final StatisticsTable local) throws IOException {
+    local.sort();
+    int index = 0;
+    while (index < local.size()) {
+      final Shard shard = this.shards[shardIndex(local.keyAt(index))];
+      synchronized (shard) {
+        do {
+          local.addTo(index++, shard.table);
+          if (shard.table.isFull()) {
+            spill(shard);
+          }
+        } while (index < local.size() && this.shards[shardIndex(local.keyAt(index))] == shard);
+      }
+    }
+    local.clear();
+  }
+
+  private static int shardIndex(final long key) {
+    return (int) (key >>> (Long.SIZE - SHARD_BITS));
+  }
+
+  // 샤드의 잠금을 잡은 상태에서 호출해야 합니다.
+  private void spill(final Shard shard) throws IOException {
+    if (shard.table.size() == 0) {
+      return;
+    }
+    shard.table.sort();
+    final Path run = Files.createTempFile(this.spillDirectory, "shard" + shard.index + "-", ".run");
+    try (DataOutputStream out = RunFiles.openOutput(run)) {
+      shard.table.writeSorted(out);
+    }
+    shard.runs.add(run);
+    shard.table.clear();
+  }
+
+  // 모든 샤드를 내보낸 뒤 샤드 순서대로 병합하므로 여러 번 쓸 수 있고, 쓴 뒤에도 게임을 더할 수 있습니다.
+  private void merge(final int minGames, final RecordSink sink) throws IOException {
+    for (final Shard shard : this.shards) {
+      final List<Path> runs;
+      synchronized (shard) {
+        spill(shard);
+        runs = new ArrayList<>(shard.runs);
+      }
+      mergeRuns(runs, minGames, sink);
+    }
+  }
+
+  private static void mergeRuns(final List<Path> runs, final int minGames, final RecordSink sink)
+      throws IOException {
+    try (RunMerger<Run> merger = new RunMerger<>(runs, Run::new)) {
+      final int[] counters = new int[StatisticsTable.NUM_COUNTERS];
+      while (!merger.isEmpty()) {
+        final Run first = merger.poll();
+        final long key = first.key;
+        final int move = first.move;
+        System.arraycopy(first.counters, 0, counters, 0, counters.length);
+        merger.advance(first);
+        while (!merger.isEmpty() && merger.peek().key == key && merger.peek().move == move) {
+          final Run same = merger.poll();
+          for (int i = 0; i < counters.length; i++) {
+            counters[i] += same.counters[i];
+          }
+          merger.advance(same);
+        }
+        if (counters[StatisticsTable.GAMES] >= minGames) {
+          sink.accept(key, move, counters);
+        }
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface RecordSink {
+
+    void accept(long key, int move, int[] counters) throws IOException;
+  }
+
+  private static final class Shard {
+
+    private final int index;
+    private final StatisticsTable table;
+    private final List<Path> runs = new ArrayList<>();
+
+    private Shard(final int index, final int maxEntries) {
+      this.index = index;
+      this.table = new StatisticsTable(maxEntries);
+    }
+  }
+
+  // 내보낸 파일 하나의 현재 레코드
+  private static final class Run extends RunMerger.Run<Run> {
+
+    private long key;
+    private int move;
+    private final int[] counters = new int[StatisticsTable.NUM_COUNTERS];
+
+    private Run(final Path run) throws IOException {
+      super(run, StatisticsTable.RECORD_SIZE);
+    }
+
+    @Override
+    protected void read(final DataInputStream in) throws IOException {
+      this.key = in.readLong();
+      this.move = in.readUnsignedShort();
+      for (int i = 0; i < this.counters.length; i++) {
+        this.counters[i] = in.readInt();
+      }
+    }
+
+    @Override
+    public int compareTo(final Run other) {
+      final int order = Long.compareUnsigned(this.key, other.key);
+      return order != 0 ? order : Integer.compare(this.move, other.move);
+    }
+  }
+
+  // 한 키의 이동을 모았다가 가중치를 정해 Polyglot 항목으로 씁니다.
+  private static final class PolyglotWriter {
+
+    private final DataOutputStream out;
+    private final int[] moves = new int[MAX_MOVES_PER_POSITION];
+    private final long[] scores = new long[MAX_MOVES_PER_POSITION];
+    private long key;
+    private int count;
+    private long entries;
+
+    private PolyglotWriter(final DataOutputStream out) {
+      this.out = out;
+    }
+
+    private void add(final long key, final int move, final int[] counters) throws IOException {
+      // 키 충돌로 이동이 상한을 넘으면 나누어 씁니다.
+      if (this.count > 0 && (key != this.key || this.count == this.moves.length)) {
+        flush();
+      }
+      this.key = key;
+      this.moves[this.count] = move;
+      this.scores[this.count] = 2L * counters[StatisticsTable.WINS]
+          + counters[StatisticsTable.DRAWS];
+      this.count++;
+    }
+
+    private void flush() throws IOException {
+      long maxScore = 0L;
+      for (int i = 0; i < this.count; i++) {
+        maxScore = Math.max(maxScore, this.scores[i]);
+      }
+      for (int i = 0; i < this.count; i++) {
+        final long weight = maxScore > MAX_WEIGHT
+            ? this.scores[i] * MAX_WEIGHT / maxScore : this.scores[i];
+        if (weight > 0) {
+          this.out.writeLong(this.key);
+          this.out.writeShort(this.moves[i]);
+          this.out.writeShort((int) weight);
+          this.out.writeInt(0);
+          this.entries++;
+        }
+      }
+      this.count = 0;
+    }
+  }
+
+  // 경계 구간 [low, high)를 반으로 나누어 구간 하나씩 읽습니다.
+  @SuppressWarnings("serial")
+  private final class ChunkTask extends RecursiveAction {
+
+    private final FileChannel channel;
+    private final long[] boundaries;
+    private final int low;
+    private final int high;
+
+    private ChunkTask(final FileChannel channel, final long[] boundaries, final int low,
+        final int high) {
+      this.channel = channel;
+      this.boundaries = boundaries;
+      this.low = low;
+      this.high = high;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.high - this.low > 1) {
+        final int middle = (this.low + this.high) >>> 1;
+        invokeAll(new ChunkTask(this.channel, this.boundaries, this.low, middle),
+            new ChunkTask(this.channel, this.boundaries, middle, this.high));
+        return;
+      }
+      if (this.high == this.low) {
+        return;
+      }
+      final StatisticsTable local = new StatisticsTable(LOCAL_TABLE_CAPACITY);
+      final int[] counters = new int[StatisticsTable.NUM_COUNTERS];
+      try (PgnReader reader = new PgnReader(this.channel, this.boundaries[this.low],
+          this.boundaries[this.high], PgnReader.DEFAULT_BUFFER_SIZE)) {
+        while (reader.hasNext()) {
+          addGame(reader.next(), local, counters);
+        }
+        flush(local);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
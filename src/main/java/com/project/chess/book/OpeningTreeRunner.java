@@ -0,0 +1,84 @@
+package com.project.chess.book;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * PGN 파일로 오프닝 북을 만드는 명령줄 실행기입니다.
+ * <p>
+ * 나머지 인자를 PGN 파일로 읽어 {@link OpeningTreeBuilder}로 집계하며, 다음 옵션을 받습니다.
+ * <pre>
+ * --output FILE     쓸 파일 (필수)
+ * --format NAME     polyglot 또는 statistics (기본값 polyglot)
+ * --max-ply N       게임마다 집계할 최대 수 (기본값 {@value OpeningTreeBuilder#DEFAULT_MAX_PLY})
+ * --min-games N     이동을 쓰기 위한 최소 게임 수 (기본값 1)
+ * --memory MB       집계 테이블의 메모리 예산 (기본값 {@value #DEFAULT_MEMORY_MEGABYTES})
+ * --threads N       PGN을 읽을 스레드 수 (기본값 사용 가능한 프로세서 수)
+ * --temp DIR        내보낸 파일을 둘 디렉터리 (기본값 시스템 임시 디렉터리)
+ * </pre>
+ */
+public final class OpeningTreeRunner {
+
+  static final int DEFAULT_MEMORY_MEGABYTES = 256;
+
+  private OpeningTreeRunner() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  public static void main(final String[] args) throws IOException {
+    Path output = null;
+    boolean statistics = false;
+    int maxPly = OpeningTreeBuilder.DEFAULT_MAX_PLY;
+    int minGames = 1;
+    long memoryMegabytes = DEFAULT_MEMORY_MEGABYTES;
+    int threads = Runtime.getRuntime().availableProcessors();
+    Path temporaryDirectory = null;
+    final List<Path> inputs = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--output" -> output = Path.of(args[++i]);
+        case "--format" -> statistics = switch (args[++i]) {
+          case "polyglot" -> false;
+          case "statistics" -> true;
+          default -> throw new IllegalArgumentException("알 수 없는 형식입니다: " + args[i]);
+        };
+        case "--max-ply" -> maxPly = Integer.parseInt(args[++i]);
+        case "--min-games" -> minGames = Integer.parseInt(args[++i]);
+        case "--memory" -> memoryMegabytes = Long.parseLong(args[++i]);
+        case "--threads" -> threads = Integer.parseInt(args[++i]);
+        case "--temp" -> temporaryDirectory = Path.of(args[++i]);
+        default -> {
+          if (args[i].startsWith("--")) {
+            throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+          }
+          inputs.add(Path.of(args[i]));
+        }
+      }
+    }
+    if (output == null || inputs.isEmpty()) {
+      throw new IllegalArgumentException("--output과 PGN 파일이 필요합니다.");
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(threads);
+    try (OpeningTreeBuilder builder = new OpeningTreeBuilder(maxPly, memoryMegabytes << 20,
+        pool, temporaryDirectory)) {
+      final long start = System.nanoTime();
+      for (final Path input : inputs) {
+        builder.addPgn(input);
+        System.out.printf("%s: %d games, %d positions%n", input, builder.getGamesRead(),
+            builder.getPositionsRead());
+      }
+      final long parsed = System.nanoTime();
+      final long entries = statistics ? builder.writeStatistics(output, minGames)
+          : builder.writePolyglotBook(output, minGames);
+      final long written = System.nanoTime();
+      System.out.printf("%s: %d entries (read %d ms, write %d ms, %d threads)%n", output,
+          entries, (parsed - start) / 1_000_000L, (written - parsed) / 1_000_000L, threads);
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
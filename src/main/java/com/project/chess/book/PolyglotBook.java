@@ -0,0 +1,283 @@
+package com.project.chess.book;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.moves.PawnPromotion;
+import com.project.chess.pieces.Piece;
+import com.project.chess.io.MappedRecords;
+import com.project.chess.pieces.Piece.PieceType;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 메모리 매핑한 Polyglot 오프닝 북({@code .bin})입니다.
+ * <p>
+ * 북 파일은 키 순서로 정렬된 16바이트 빅엔디언 항목(키 8바이트, 이동 2바이트, 가중치 2바이트, 학습 값 4바이트)의 배열입니다.
+ * 파일을 힙으로 읽지 않고 {@link MappedRecords}로 1GB 조각으로 나누어 매핑합니다.
+ * <p>
+ * 조회는 위치를 바꾸지 않는 절대 위치 읽기만 사용하므로 여러 스레드가 하나의 북을 동시에 조회할 수 있고, 키 계산과 이진 탐색, 가중치
+ * 선택은 객체를 만들지 않습니다. 매핑은 북 객체에 더 이상 접근할 수 없게 되면 해제됩니다.
+ */
+public final class PolyglotBook {
+
+  public static final int ENTRY_SIZE = 16;
+  // 북에 이동이 없을 때 반환하는 Polyglot 이동, a1에서 a1로의 이동은 없으므로 0을 사용합니다.
+  public static final int NO_MOVE = 0;
+
+  private static final int ENTRY_SHIFT = 4;
+
+  private static final int MOVE_OFFSET = 8;
+  private static final int WEIGHT_OFFSET = 10;
+
+  // Polyglot 이동의 비트 배치: 도착 파일 0-2, 도착 랭크 3-5, 출발 파일 6-8, 출발 랭크 9-11, 승진 기물 12-14
+  private static final int SQUARE_MASK = 0x3F;
+  private static final int FROM_SHIFT = 6;
+  private static final int PROMOTION_SHIFT = 12;
+  private static final int PROMOTION_MASK = 0x7;
+  // Polyglot 승진 기물(1 = 나이트, 2 = 비숍, 3 = 룩, 4 = 퀸)을 엔진 기물 종류의 ordinal로 바꿉니다.
+  private static final int[] PROMOTION_TYPES = {MoveEncoding.NONE, PieceType.KNIGHT.ordinal(),
+      PieceType.BISHOP.ordinal(), PieceType.ROOK.ordinal(), PieceType.QUEEN.ordinal()};
+  // 캐슬링 전 킹의 타일 (e1, e8)
+  private static final int WHITE_KING_SQUARE = 60;
+  private static final int BLACK_KING_SQUARE = 4;
+
+  private final MappedRecords entries;
+  private final long entryCount;
+
+  private PolyglotBook(final MappedRecords entries) {
+    this.entries = entries;
+    this.entryCount = entries.getRecordCount();
+  }
+
+  /**
+   * 북 파일을 읽기 전용으로 매핑합니다.
+   *
+   * @param path 북 파일 경로
+   * @return 매핑한 북
+   * @throws IOException 파일을 열거나 매핑할 수 없거나, 크기가 항목 크기의 배수가 아닌 경우
+   */
+  public static PolyglotBook open(final Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size % ENTRY_SIZE != 0) {
+        throw new IOException(
+            "Polyglot 북 파일의 크기가 " + ENTRY_SIZE + "바이트의 배수가 아닙니다: " + path);
+      }
+      return new PolyglotBook(MappedRecords.map(channel, 0L, size, ENTRY_SHIFT));
+    }
+  }
+
+  public long getEntryCount() {
+    return this.entryCount;
+  }
+
+  /**
+   * 북에서 보드의 이동을 가중치에 비례하는 확률로 고릅니다.
+   *
+   * @param board 이동을 고를 보드
+   * @return 현재 플레이어의 {@link com.project.chess.player.Player#getLegalMoves()} 중 하나, 북에 없으면
+   * {@link Move#NULL_MOVE}
+   */
+  public Move pickMove(final Board board) {
+    return pickMove(board, ThreadLocalRandom.current());
+  }
+
+  /**
+   * 북에서 보드의 이동을 가중치에 비례하는 확률로 고릅니다.
+   *
+   * @param board  이동을 고를 보드
+   * @param random 선택에 사용할 난수 생성기
+   * @return 현재 플레이어의 {@link com.project.chess.player.Player#getLegalMoves()} 중 하나, 북에 없으면
+   * {@link Move#NULL_MOVE}
+   */
+  public Move pickMove(final Board board, final RandomGenerator random) {
+    final int bookMove = pickBookMove(PolyglotKey.calculateKey(board), random);
+    if (bookMove == NO_MOVE) {
+      return Move.NULL_MOVE;
+    }
+    final Piece piece = board.getPiece(fromSquare(bookMove));
+    // 키가 충돌한 항목이면 출발 타일에 기물이 없을 수 있습니다.
+    return piece == null ? Move.NULL_MOVE
+        : MoveEncoding.toMove(board, toEncodedMove(bookMove, piece.getPieceType().isKing()));
+  }
+
+  /**
+   * 북에서 탐색용 보드의 이동을 가중치에 비례하는 확률로 고릅니다.
+   *
+   * @param board      이동을 고를 보드 (반환 시 원래 상태로 돌아옵니다)
+   * @param legalMoves 합법적인 이동을 생성할 때 사용할 목록 (기존 내용은 지워집니다)
+   * @param random     선택에 사용할 난수 생성기
+   * @return 합법적인 이동 중 하나, 북에 없으면 {@link MoveEncoding#NULL_MOVE}
+   */
+  public int pickMove(final MutableBoard board, final MoveList legalMoves,
+      final RandomGenerator random) {
+    final int bookMove = pickBookMove(PolyglotKey.calculateKey(board), random);
+    if (bookMove == NO_MOVE) {
+      return MoveEncoding.NULL_MOVE;
+    }
+    final int pieceIndex = board.getPieceAt(fromSquare(bookMove));
+    final int move = toEncodedMove(bookMove, pieceIndex != MutableBoard.EMPTY
+        && pieceIndex % PieceType.values().length == PieceType.KING.ordinal());
+    MoveGenerator.generateLegalMoves(board, legalMoves);
+    for (int i = 0; i < legalMoves.size(); i++) {
+      final int candidate = legalMoves.get(i);
+      if (MoveEncoding.getFrom(candidate) == MoveEncoding.getFrom(move)
+          && MoveEncoding.getTo(candidate) == MoveEncoding.getTo(move)
+          && MoveEncoding.getPromotionType(candidate) == MoveEncoding.getPromotionType(move)) {
+        return candidate;
+      }
+    }
+    return MoveEncoding.NULL_MOVE;
+  }
+
+  /**
+   * 키에 해당하는 항목 중 하나를 가중치에 비례하는 확률로 고릅니다. 가중치가 0인 항목은 고르지 않습니다.
+   *
+   * @param key    {@link PolyglotKey}로 계산한 키
+   * @param random 선택에 사용할 난수 생성기
+   * @return Polyglot 형식의 이동, 항목이 없으면 {@link #NO_MOVE}
+   */
+  public int pickBookMove(final long key, final RandomGenerator random) {
+    final long first = findFirst(key);
+    long totalWeight = 0L;
+    long end = first;
+    for (; end < this.entryCount && keyAt(end) == key; end++) {
+      totalWeight += weightAt(end);
+    }
+    if (totalWeight == 0) {
+      return NO_MOVE;
+    }
+    long choice = random.nextLong(totalWeight);
+    for (long index = first; index < end; index++) {
+      choice -= weightAt(index);
+      if (choice < 0) {
+        return moveAt(index);
+      }
+    }
+    throw new AssertionError("가중치 합보다 작은 값을 고르지 못했습니다.");
+  }
+
+  /**
+   * 키에 해당하는 항목 중 가중치가 가장 큰 항목의 이동을 반환합니다.
+   *
+   * @param key {@link PolyglotKey}로 계산한 키
+   * @return Polyglot 형식의 이동, 항목이 없거나 모든 가중치가 0이면 {@link #NO_MOVE}
+   */
+  public int bestBookMove(final long key) {
+    int bestMove = NO_MOVE;
+    int bestWeight = 0;
+    for (long index = findFirst(key); index < this.entryCount && keyAt(index) == key; index++) {
+      final int weight = weightAt(index);
+      if (weight > bestWeight) {
+        bestWeight = weight;
+        bestMove = moveAt(index);
+      }
+    }
+    return bestMove;
+  }
+
+  // 키가 주어진 키보다 작지 않은 첫 번째 항목의 인덱스, 키는 부호 없는 값으로 정렬되어 있습니다.
+  private long findFirst(final long key) {
+    long low = 0;
+    long high = this.entryCount;
+    while (low < high) {
+      final long middle = (low + high) >>> 1;
+      if (Long.compareUnsigned(keyAt(middle), key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private long keyAt(final long index) {
+    return this.entries.getLong(index, 0);
+  }
+
+  private int moveAt(final long index) {
+    return Short.toUnsignedInt(this.entries.getShort(index, MOVE_OFFSET));
+  }
+
+  private int weightAt(final long index) {
+    return Short.toUnsignedInt(this.entries.getShort(index, WEIGHT_OFFSET));
+  }
+
+  /**
+   * Polyglot 이동의 출발 타일을 엔진의 타일 좌표로 반환합니다.
+   *
+   * @param bookMove Polyglot 형식의 이동
+   * @return 출발 타일 좌표
+   */
+  public static int fromSquare(final int bookMove) {
+    return PolyglotKey.toPolyglotSquare((bookMove >>> FROM_SHIFT) & SQUARE_MASK);
+  }
+
+  /**
+   * Polyglot 이동의 도착 타일을 엔진의 타일 좌표로 반환합니다. 캐슬링은 킹이 자기 룩을 잡는 이동으로 기록되므로 룩의 타일입니다.
+   *
+   * @param bookMove Polyglot 형식의 이동
+   * @return 도착 타일 좌표
+   */
+  public static int toSquare(final int bookMove) {
+    return PolyglotKey.toPolyglotSquare(bookMove & SQUARE_MASK);
+  }
+
+  /**
+   * 이동을 Polyglot 형식으로 바꿉니다. 캐슬링은 킹이 자기 룩을 잡는 이동으로 기록합니다.
+   *
+   * @param move 바꿀 이동
+   * @return Polyglot 형식의 이동
+   */
+  public static int toBookMove(final Move move) {
+    final int from = move.getCurrentCoordinate();
+    int to = move.getDestinationCoordinate();
+    if (move.isCastlingMove()) {
+      // 킹 쪽 룩은 킹에서 세 칸, 퀸 쪽 룩은 네 칸 떨어져 있습니다.
+      to = to > from ? from + 3 : from - 4;
+    }
+    int promotion = 0;
+    if (move instanceof PawnPromotion pawnPromotion) {
+      final int type = pawnPromotion.getPromotionPiece().getPieceType().ordinal();
+      while (PROMOTION_TYPES[promotion] != type) {
+        promotion++;
+      }
+    }
+    return PolyglotKey.toPolyglotSquare(to)
+        | PolyglotKey.toPolyglotSquare(from) << FROM_SHIFT
+        | promotion << PROMOTION_SHIFT;
+  }
+
+  /**
+   * Polyglot 이동을 출발 타일, 도착 타일, 승진 기물만 담은 인코딩된 이동으로 바꿉니다. 캐슬링은 e1이나 e8의 킹이 같은 랭크의
+   * h열이나 a열 룩을 잡는 이동으로 기록되므로, 그때만 도착 타일을 룩의 타일에서 킹의 도착 타일로 바꿉니다.
+   *
+   * @param bookMove Polyglot 형식의 이동
+   * @param kingMove 움직이는 기물이 킹인지 여부
+   * @return 이동 목록과 비교할 인코딩된 이동
+   */
+  static int toEncodedMove(final int bookMove, final boolean kingMove) {
+    final int from = fromSquare(bookMove);
+    int to = toSquare(bookMove);
+    if (kingMove && (from == WHITE_KING_SQUARE || from == BLACK_KING_SQUARE)) {
+      // 킹 쪽 룩은 킹에서 세 칸, 퀸 쪽 룩은 네 칸 떨어져 있습니다 (toBookMove의 반대).
+      if (to == from + 3) {
+        to = from + 2;
+      } else if (to == from - 4) {
+        to = from - 2;
+      }
+    }
+    final int promotion = (bookMove >>> PROMOTION_SHIFT) & PROMOTION_MASK;
+    return MoveEncoding.encode(from, to, 0, MoveEncoding.NONE,
+        promotion < PROMOTION_TYPES.length ? PROMOTION_TYPES[promotion] : MoveEncoding.NONE,
+        MoveEncoding.KIND_NORMAL);
+  }
+}
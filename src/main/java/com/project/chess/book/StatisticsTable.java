@@ -0,0 +1,222 @@
+package com.project.chess.book;
+
+import com.project.chess.io.IndexedSortable;
+import com.project.chess.io.RunFiles;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * (Polyglot 키, Polyglot 이동) 쌍마다 게임 수와 결과를 세는 기본형 배열 해시 테이블입니다.
+ * <p>
+ * 개방 주소법을 사용하며 키, 이동, 네 개의 카운터를 각각 기본형 배열에 담으므로 항목마다 객체를 만들지 않습니다. Polyglot 이동
+ * 0은 없으므로 이동이 0인 칸을 빈 칸으로 사용합니다. 최대 용량까지 두 배씩 커지고, 최대 용량에서 가득 차면 {@link #isFull()}이
+ * true가 되어 호출자가 내용을 디스크로 내보내고 비워야 합니다.
+ * <p>
+ * {@link #sort()}는 항목을 배열 앞쪽으로 모아 (부호 없는 키, 이동) 순서로 정렬하며, 그 뒤에는 {@link #clear()} 전까지 해시
+ * 조회를 할 수 없습니다. 스레드 안전하지 않습니다.
+ */
+final class StatisticsTable implements IndexedSortable {
+
+  // 항목 하나의 바이트 수: 키 8, 이동 4, 카운터 4 * 4
+  static final int BYTES_PER_ENTRY = 28;
+  static final int NUM_COUNTERS = 4;
+  static final int GAMES = 0;
+  static final int WINS = 1;
+  static final int DRAWS = 2;
+  static final int LOSSES = 3;
+  // 디스크 레코드: 키 8바이트, 이동 2바이트, 카운터 4바이트 * 4
+  static final int RECORD_SIZE = 26;
+
+  private static final int MIN_CAPACITY = 1 << 10;
+
+  private final int maxCapacity;
+  private long[] keys;
+  private int[] moves;
+  private int[] counters;
+  private int mask;
+  private int size;
+  private boolean sorted;
+
+  /**
+   * 생성자
+   *
+   * @param maxCapacity 최대 칸 수, 2의 거듭제곱으로 내림합니다
+   */
+  StatisticsTable(final int maxCapacity) {
+    this.maxCapacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, maxCapacity));
+    allocate(Math.min(MIN_CAPACITY << 4, this.maxCapacity));
+  }
+
+  /**
+   * 최대 용량에서 칸의 4분의 3이 찼는지 확인합니다.
+   *
+   * @return 내보내야 하면 true
+   */
+  boolean isFull() {
+    return this.keys.length == this.maxCapacity && this.size >= threshold(this.maxCapacity);
+  }
+
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * 항목의 카운터에 값을 더합니다. 없는 항목이면 추가합니다.
+   *
+   * @param key      Polyglot 키
+   * @param move     Polyglot 이동 (0이 아님)
+   * @param counters 더할 카운터 배열
+   * @param offset   카운터 배열에서 항목의 시작 위치
+   */
+  void add(final long key, final int move, final int[] counters, final int offset) {
+    if (this.sorted) {
+      throw new IllegalStateException("정렬한 테이블에는 추가할 수 없습니다.");
+    }
+    if (this.size >= threshold(this.keys.length) && this.keys.length < this.maxCapacity) {
+      grow();
+    }
+    int slot = slot(key, move);
+    while (this.moves[slot] != 0) {
+      if (this.keys[slot] == key && this.moves[slot] == move) {
+        final int base = slot * NUM_COUNTERS;
+        for (int i = 0; i < NUM_COUNTERS; i++) {
+          this.counters[base + i] += counters[offset + i];
+        }
+        return;
+      }
+      slot = (slot + 1) & this.mask;
+    }
+    this.keys[slot] = key;
+    this.moves[slot] = move;
+    System.arraycopy(counters, offset, this.counters, slot * NUM_COUNTERS, NUM_COUNTERS);
+    this.size++;
+  }
+
+  /**
+   * 항목을 배열 앞쪽으로 모아 (부호 없는 키, 이동) 순서로 정렬합니다. 정렬한 항목은 {@link #keyAt}, {@link #moveAt},
+   * {@link #counterAt}으로 읽습니다.
+   */
+  void sort() {
+    int count = 0;
+    for (int slot = 0; slot < this.keys.length; slot++) {
+      if (this.moves[slot] != 0) {
+        if (slot != count) {
+          this.keys[count] = this.keys[slot];
+          this.moves[count] = this.moves[slot];
+          System.arraycopy(this.counters, slot * NUM_COUNTERS, this.counters,
+              count * NUM_COUNTERS, NUM_COUNTERS);
+          this.moves[slot] = 0;
+        }
+        count++;
+      }
+    }
+    RunFiles.sort(this, count);
+    this.sorted = true;
+  }
+
+  long keyAt(final int index) {
+    return this.keys[index];
+  }
+
+  int moveAt(final int index) {
+    return this.moves[index];
+  }
+
+  int counterAt(final int index, final int counter) {
+    return this.counters[index * NUM_COUNTERS + counter];
+  }
+
+  /**
+   * 정렬한 항목 하나를 다른 테이블에 더합니다.
+   *
+   * @param index  정렬한 항목의 인덱스
+   * @param target 더할 테이블
+   */
+  void addTo(final int index, final StatisticsTable target) {
+    target.add(this.keys[index], this.moves[index], this.counters, index * NUM_COUNTERS);
+  }
+
+  /**
+   * 정렬한 항목을 {@link #RECORD_SIZE}바이트 레코드로 씁니다.
+   *
+   * @param out 쓸 스트림
+   * @throws IOException 쓸 수 없는 경우
+   */
+  void writeSorted(final DataOutputStream out) throws IOException {
+    for (int i = 0; i < this.size; i++) {
+      writeRecord(out, this.keys[i], this.moves[i], this.counters, i * NUM_COUNTERS);
+    }
+  }
+
+  static void writeRecord(final DataOutputStream out, final long key, final int move,
+      final int[] counters, final int offset) throws IOException {
+    out.writeLong(key);
+    out.writeShort(move);
+    for (int i = 0; i < NUM_COUNTERS; i++) {
+      out.writeInt(counters[offset + i]);
+    }
+  }
+
+  /**
+   * 모든 항목을 지우고 해시 조회를 다시 할 수 있게 합니다. 배열은 재사용합니다.
+   */
+  void clear() {
+    Arrays.fill(this.moves, 0);
+    this.size = 0;
+    this.sorted = false;
+  }
+
+  private void allocate(final int capacity) {
+    this.keys = new long[capacity];
+    this.moves = new int[capacity];
+    this.counters = new int[capacity * NUM_COUNTERS];
+    this.mask = capacity - 1;
+  }
+
+  private void grow() {
+    final long[] oldKeys = this.keys;
+    final int[] oldMoves = this.moves;
+    final int[] oldCounters = this.counters;
+    allocate(oldKeys.length * 2);
+    this.size = 0;
+    for (int slot = 0; slot < oldKeys.length; slot++) {
+      if (oldMoves[slot] != 0) {
+        add(oldKeys[slot], oldMoves[slot], oldCounters, slot * NUM_COUNTERS);
+      }
+    }
+  }
+
+  private int slot(final long key, final int move) {
+    // 키의 상위 비트는 샤드를 고르는 데 쓰이므로 하위 비트와 섞어 사용합니다.
+    final long hash = (key ^ (move * 0x9E3779B97F4A7C15L)) * 0xD6E8FEB86659FD93L;
+    return (int) (hash >>> 32) & this.mask;
+  }
+
+  private static int threshold(final int capacity) {
+    return capacity - (capacity >>> 2);
+  }
+
+  @Override
+  public int compare(final int i, final int j) {
+    final int order = Long.compareUnsigned(this.keys[i], this.keys[j]);
+    return order != 0 ? order : Integer.compare(this.moves[i], this.moves[j]);
+  }
+
+  @Override
+  public void swap(final int i, final int j) {
+    final long key = this.keys[i];
+    this.keys[i] = this.keys[j];
+    this.keys[j] = key;
+    final int move = this.moves[i];
+    this.moves[i] = this.moves[j];
+    this.moves[j] = move;
+    final int base = i * NUM_COUNTERS;
+    final int otherBase = j * NUM_COUNTERS;
+    for (int k = 0; k < NUM_COUNTERS; k++) {
+      final int counter = this.counters[base + k];
+      this.counters[base + k] = this.counters[otherBase + k];
+      this.counters[otherBase + k] = counter;
+    }
+  }
+}
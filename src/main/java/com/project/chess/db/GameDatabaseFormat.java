@@ -0,0 +1,98 @@
+package com.project.chess.db;
+
+import com.project.chess.moves.Move;
+import com.project.chess.moves.PawnPromotion;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * 바이너리 게임 데이터베이스의 파일 형식 상수와 공용 함수를 모은 유틸리티 클래스입니다.
+ * <p>
+ * 데이터베이스는 같은 이름에 확장자만 다른 세 파일로 이루어지며, 게임은 세 파일의 끝에 차례로 덧붙입니다.
+ * <pre>
+ * .moves  게임마다 이동 레코드: 수 (가변 길이 정수), 헤더 바이트, [시작 FEN], 이동 인덱스들
+ * .tags   게임마다 태그 레코드: 태그 수 (가변 길이 정수), 태그마다 이름 코드, [이름], 값
+ * .index  게임마다 16바이트: .moves와 .tags에서 그 게임 레코드가 끝나는 위치 (각 8바이트, 빅엔디언)
+ * </pre>
+ * 이동은 그 포지션의 {@link com.project.chess.player.Player#getLegalMoves()} 목록에서의 인덱스로 저장합니다. 목록이
+ * {@value #ONE_BYTE_MOVES}개 이하면 1바이트, 그보다 많으면 2바이트이며, 읽는 쪽도 같은 목록을 만들므로 길이를 따로 저장하지
+ * 않습니다. 헤더 바이트의 하위 2비트는 결과 코드이고, {@link #CUSTOM_START} 비트가 있으면 표준 시작 포지션이 아니므로 시작 포지션의
+ * FEN이 뒤따릅니다. 문자열은 UTF-8 바이트 수(가변 길이 정수)와 바이트로 저장하고, 자주 쓰는 태그 이름은 {@link #TAG_NAMES}의
+ * 인덱스 한 바이트로 줄입니다.
+ * <p>
+ * 색인은 레코드의 끝 위치를 담으므로 게임 i는 게임 i - 1이 끝난 곳에서 시작합니다. 색인을 가장 나중에 쓰므로, 덧붙이다 중단된
+ * 레코드는 색인에 없고 다음에 쓰기 위해 열 때 잘라 냅니다.
+ */
+final class GameDatabaseFormat {
+
+  static final String MOVES_EXTENSION = ".moves";
+  static final String TAGS_EXTENSION = ".tags";
+  static final String INDEX_EXTENSION = ".index";
+  static final int INDEX_ENTRY_SIZE = 16;
+
+  static final int ONE_BYTE_MOVES = 256;
+  static final String[] RESULTS = {"*", "1-0", "0-1", "1/2-1/2"};
+  static final int RESULT_MASK = 0x3;
+  static final int CUSTOM_START = 0x4;
+
+  static final String[] TAG_NAMES = {"Event", "Site", "Date", "Round", "White", "Black",
+      "Result", "WhiteElo", "BlackElo", "ECO", "Opening", "Variation", "TimeControl",
+      "Termination", "PlyCount", "EventDate", "SetUp", "FEN", "Annotator", "Mode"};
+  // 이름 코드가 이 값이면 이름 문자열이 뒤따릅니다.
+  static final int CUSTOM_TAG_NAME = 0xFF;
+
+  private GameDatabaseFormat() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  static Path resolve(final Path base, final String extension) {
+    return base.resolveSibling(base.getFileName() + extension);
+  }
+
+  static int resultCode(final String result) {
+    for (int code = 0; code < RESULTS.length; code++) {
+      if (RESULTS[code].equals(result)) {
+        return code;
+      }
+    }
+    return 0;
+  }
+
+  static int tagNameCode(final String name) {
+    for (int code = 0; code < TAG_NAMES.length; code++) {
+      if (TAG_NAMES[code].equals(name)) {
+        return code;
+      }
+    }
+    return CUSTOM_TAG_NAME;
+  }
+
+  /**
+   * 이동 목록에서 이동의 인덱스를 찾습니다. 같은 객체가 없으면 출발 타일, 도착 타일, 승진 기물이 같은 이동을 찾습니다.
+   *
+   * @param legalMoves 포지션의 이동 목록
+   * @param move       찾을 이동
+   * @return 인덱스, 없으면 -1
+   */
+  static int indexOf(final Collection<Move> legalMoves, final Move move) {
+    int index = 0;
+    int sameSquares = -1;
+    for (final Move candidate : legalMoves) {
+      if (candidate == move) {
+        return index;
+      }
+      if (sameSquares < 0 && candidate.getCurrentCoordinate() == move.getCurrentCoordinate()
+          && candidate.getDestinationCoordinate() == move.getDestinationCoordinate()
+          && promotionType(candidate) == promotionType(move)) {
+        sameSquares = index;
+      }
+      index++;
+    }
+    return sameSquares;
+  }
+
+  private static int promotionType(final Move move) {
+    return move instanceof PawnPromotion promotion
+        ? promotion.getPromotionPiece().getPieceType().ordinal() : -1;
+  }
+}
@@ -0,0 +1,241 @@
+package com.project.chess.db;
+
+import static com.project.chess.db.GameDatabaseFormat.CUSTOM_START;
+import static com.project.chess.db.GameDatabaseFormat.CUSTOM_TAG_NAME;
+import static com.project.chess.db.GameDatabaseFormat.INDEX_ENTRY_SIZE;
+import static com.project.chess.db.GameDatabaseFormat.ONE_BYTE_MOVES;
+import static com.project.chess.db.GameDatabaseFormat.RESULTS;
+import static com.project.chess.db.GameDatabaseFormat.RESULT_MASK;
+import static com.project.chess.db.GameDatabaseFormat.TAG_NAMES;
+
+import com.google.common.collect.Iterables;
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+import com.project.chess.moves.Move;
+import com.project.chess.pgn.PgnGame;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 바이너리 게임 데이터베이스의 게임을 처음부터 차례로 읽는 반복자입니다.
+ * <p>
+ * 형식은 {@link GameDatabaseFormat}에 설명되어 있습니다. 이동 인덱스를 해석하려면 포지션마다 이동 목록을 다시 만들어야 하지만,
+ * SAN 문자열을 해석하고 이동 목록에서 맞는 이동을 찾는 PGN보다 훨씬 적은 일을 합니다. 열 파일마다 다이렉트 버퍼 하나로 절대 위치
+ * 읽기를 하며, 연 시점의 색인에 있는 게임만 읽으므로 다른 프로세스가 덧붙이는 중인 레코드는 읽지 않습니다. {@link #readGame(long)}으로
+ * 게임 번호로 바로 읽을 수도 있습니다. 스레드 안전하지 않습니다.
+ */
+public final class GameDatabaseReader implements Iterator<PgnGame>, Closeable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Column moves;
+  private final Column tags;
+  private final FileChannel index;
+  private final long gameCount;
+  private final Board standardBoard = Board.createStandardBoard();
+  private long nextNumber;
+  private long gamesRead;
+
+  /**
+   * 데이터베이스를 읽기 위해 엽니다.
+   *
+   * @param base 확장자를 뺀 데이터베이스 경로
+   * @throws IOException 파일을 열 수 없는 경우
+   */
+  public GameDatabaseReader(final Path base) throws IOException {
+    this.index = FileChannel.open(
+        GameDatabaseFormat.resolve(base, GameDatabaseFormat.INDEX_EXTENSION),
+        StandardOpenOption.READ);
+    this.moves = new Column(GameDatabaseFormat.resolve(base, GameDatabaseFormat.MOVES_EXTENSION));
+    this.tags = new Column(GameDatabaseFormat.resolve(base, GameDatabaseFormat.TAGS_EXTENSION));
+    this.gameCount = this.index.size() / INDEX_ENTRY_SIZE;
+  }
+
+  public long getGameCount() {
+    return this.gameCount;
+  }
+
+  /**
+   * 지금까지 읽은 게임 수를 반환합니다.
+   *
+   * @return 게임 수
+   */
+  public long getGamesRead() {
+    return this.gamesRead;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return this.nextNumber < this.gameCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws UncheckedIOException 파일을 읽을 수 없거나 레코드가 잘못된 경우
+   */
+  @Override
+  public PgnGame next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      return readRecord();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 게임 번호로 게임을 읽습니다. 이후 {@link #next()}는 그 다음 게임부터 읽습니다.
+   *
+   * @param number 게임 번호 (0부터)
+   * @return 게임
+   * @throws IOException 파일을 읽을 수 없거나 레코드가 잘못된 경우
+   */
+  public PgnGame readGame(final long number) throws IOException {
+    if (number < 0 || number >= this.gameCount) {
+      throw new IndexOutOfBoundsException(
+          "게임 번호가 범위를 벗어났습니다: " + number + " / " + this.gameCount);
+    }
+    long movesStart = 0L;
+    long tagsStart = 0L;
+    if (number > 0) {
+      final ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+      final long position = (number - 1) * INDEX_ENTRY_SIZE;
+      while (entry.hasRemaining()) {
+        if (this.index.read(entry, position + entry.position()) < 0) {
+          throw new EOFException("게임 데이터베이스의 색인이 잘렸습니다.");
+        }
+      }
+      movesStart = entry.getLong(0);
+      tagsStart = entry.getLong(Long.BYTES);
+    }
+    this.moves.seek(movesStart);
+    this.tags.seek(tagsStart);
+    this.nextNumber = number;
+    return readRecord();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      this.moves.channel.close();
+      this.tags.channel.close();
+    } finally {
+      this.index.close();
+    }
+  }
+
+  private PgnGame readRecord() throws IOException {
+    final int plyCount = this.moves.readVarInt();
+    final int header = this.moves.readByte();
+    final String result = RESULTS[header & RESULT_MASK];
+    Board board = (header & CUSTOM_START) != 0 ? Fen.parse(this.moves.readString())
+        : this.standardBoard;
+    final List<Move> gameMoves = new ArrayList<>(plyCount);
+    final List<Board> positions = new ArrayList<>(plyCount + 1);
+    positions.add(board);
+    for (int ply = 0; ply < plyCount; ply++) {
+      final Collection<Move> legalMoves = board.getCurrentPlayer().getLegalMoves();
+      int moveIndex = this.moves.readByte();
+      if (legalMoves.size() > ONE_BYTE_MOVES) {
+        moveIndex = moveIndex << 8 | this.moves.readByte();
+      }
+      if (moveIndex >= legalMoves.size()) {
+        throw new IOException((this.nextNumber + 1) + "번째 게임의 " + (ply + 1)
+            + "번째 이동 인덱스가 이동 목록을 벗어났습니다: " + moveIndex);
+      }
+      final Move move = Iterables.get(legalMoves, moveIndex);
+      board = move.execute();
+      gameMoves.add(move);
+      positions.add(board);
+    }
+
+    final int tagCount = this.tags.readVarInt();
+    final Map<String, String> gameTags = new LinkedHashMap<>();
+    for (int i = 0; i < tagCount; i++) {
+      final int nameCode = this.tags.readByte();
+      if (nameCode != CUSTOM_TAG_NAME && nameCode >= TAG_NAMES.length) {
+        throw new IOException("알 수 없는 태그 이름 코드입니다: " + nameCode);
+      }
+      final String name = nameCode == CUSTOM_TAG_NAME ? this.tags.readString()
+          : TAG_NAMES[nameCode];
+      gameTags.put(name, this.tags.readString());
+    }
+
+    this.nextNumber++;
+    this.gamesRead++;
+    return new PgnGame(gameTags, gameMoves, positions, result, null);
+  }
+
+  // 파일 하나와 그 읽기 버퍼
+  private static final class Column {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    // 다음에 버퍼로 읽을 채널 위치
+    private long position;
+    private byte[] bytes = new byte[256];
+
+    private Column(final Path path) throws IOException {
+      this.channel = FileChannel.open(path, StandardOpenOption.READ);
+      this.buffer.flip();
+    }
+
+    private void seek(final long position) {
+      this.position = position;
+      this.buffer.clear().flip();
+    }
+
+    private int readByte() throws IOException {
+      if (!this.buffer.hasRemaining()) {
+        this.buffer.clear();
+        final int read = this.channel.read(this.buffer, this.position);
+        this.buffer.flip();
+        if (read <= 0) {
+          throw new EOFException("게임 데이터베이스의 레코드가 잘렸습니다.");
+        }
+        this.position += read;
+      }
+      return this.buffer.get() & 0xFF;
+    }
+
+    private int readVarInt() throws IOException {
+      int value = 0;
+      for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+        final int b = readByte();
+        value |= (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IOException("게임 데이터베이스의 가변 길이 정수가 잘못되었습니다.");
+    }
+
+    private String readString() throws IOException {
+      final int length = readVarInt();
+      if (length > this.bytes.length) {
+        this.bytes = new byte[Math.max(length, this.bytes.length * 2)];
+      }
+      for (int i = 0; i < length; i++) {
+        this.bytes[i] = (byte) readByte();
+      }
+      return new String(this.bytes, 0, length, StandardCharsets.UTF_8);
+    }
+  }
+}
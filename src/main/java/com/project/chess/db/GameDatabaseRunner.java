@@ -0,0 +1,160 @@
+package com.project.chess.db;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+import com.project.chess.pgn.PgnGame;
+import com.project.chess.pgn.PgnReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 바이너리 게임 데이터베이스를 만들고 읽는 명령줄 실행기입니다.
+ * <p>
+ * 나머지 인자를 PGN 파일로 읽어 데이터베이스에 덧붙이며, 다음 옵션을 받습니다.
+ * <pre>
+ * --db BASE          확장자를 뺀 데이터베이스 경로 (필수)
+ * --scan             모든 게임을 차례로 읽고 초당 게임 수를 출력합니다
+ * --index FILE       포지션 색인 파일 경로 (기본값 BASE.positions)
+ * --build-index      데이터베이스의 모든 게임으로 포지션 색인을 만듭니다
+ * --memory MB        색인을 만들 때 쓸 메모리 예산 (기본값 {@value #DEFAULT_MEMORY_MEGABYTES})
+ * --find FEN         포지션 색인에서 FEN 포지션을 지난 게임을 찾습니다, 공백 대신 _를 쓸 수 있습니다
+ * </pre>
+ * 덧붙이기, 읽기, 색인 만들기, 찾기를 이 순서대로 합니다.
+ */
+public final class GameDatabaseRunner {
+
+  static final int DEFAULT_MEMORY_MEGABYTES = 256;
+  private static final String INDEX_EXTENSION = ".positions";
+  // 찾은 게임 중 태그를 출력할 최대 수
+  private static final int MAX_PRINTED_GAMES = 20;
+
+  private GameDatabaseRunner() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  public static void main(final String[] args) throws IOException {
+    Path base = null;
+    boolean scan = false;
+    Path indexPath = null;
+    boolean buildIndex = false;
+    long memoryMegabytes = DEFAULT_MEMORY_MEGABYTES;
+    String fen = null;
+    final List<Path> inputs = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--db" -> base = Path.of(args[++i]);
+        case "--scan" -> scan = true;
+        case "--index" -> indexPath = Path.of(args[++i]);
+        case "--build-index" -> buildIndex = true;
+        case "--memory" -> memoryMegabytes = Long.parseLong(args[++i]);
+        case "--find" -> fen = args[++i].replace('_', ' ');
+        default -> {
+          if (args[i].startsWith("--")) {
+            throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+          }
+          inputs.add(Path.of(args[i]));
+        }
+      }
+    }
+    if (base == null || (inputs.isEmpty() && !scan && !buildIndex && fen == null)) {
+      throw new IllegalArgumentException(
+          "--db와 PGN 파일, --scan, --build-index, --find 중 하나 이상이 필요합니다.");
+    }
+    if (indexPath == null) {
+      indexPath = base.resolveSibling(base.getFileName() + INDEX_EXTENSION);
+    }
+
+    if (!inputs.isEmpty()) {
+      try (GameDatabaseWriter writer = new GameDatabaseWriter(base)) {
+        for (final Path input : inputs) {
+          importPgn(input, writer);
+        }
+      }
+      System.out.printf("%s: %d bytes%n", base, databaseSize(base));
+    }
+    if (scan) {
+      scan(base);
+    }
+    if (buildIndex) {
+      buildIndex(base, indexPath, memoryMegabytes << 20);
+    }
+    if (fen != null) {
+      find(base, indexPath, Fen.parse(fen));
+    }
+  }
+
+  private static void importPgn(final Path input, final GameDatabaseWriter writer)
+      throws IOException {
+    final long start = System.nanoTime();
+    long games = 0L;
+    long errors = 0L;
+    try (PgnReader reader = new PgnReader(input)) {
+      while (reader.hasNext()) {
+        final PgnGame game = reader.next();
+        if (game.hasError()) {
+          errors++;
+        }
+        writer.append(game);
+        games++;
+      }
+    }
+    final long elapsed = Math.max(1L, System.nanoTime() - start);
+    System.out.printf("%s: %d games (%d with errors), %d bytes, %d ms, %.0f games/s%n", input,
+        games, errors, Files.size(input), elapsed / 1_000_000L, games * 1e9 / elapsed);
+  }
+
+  private static void scan(final Path base) throws IOException {
+    final long start = System.nanoTime();
+    long moves = 0L;
+    try (GameDatabaseReader reader = new GameDatabaseReader(base)) {
+      while (reader.hasNext()) {
+        moves += reader.next().getMoves().size();
+      }
+      final long elapsed = Math.max(1L, System.nanoTime() - start);
+      System.out.printf("scan: %d games, %d moves, %d ms, %.0f games/s%n",
+          reader.getGamesRead(), moves, elapsed / 1_000_000L,
+          reader.getGamesRead() * 1e9 / elapsed);
+    }
+  }
+
+  private static void buildIndex(final Path base, final Path indexPath, final long memoryBudget)
+      throws IOException {
+    final long start = System.nanoTime();
+    try (PositionIndexBuilder builder = new PositionIndexBuilder(memoryBudget, null)) {
+      builder.addDatabase(base);
+      builder.write(indexPath);
+      System.out.printf("%s: %d games, %d positions, %d bytes, %d ms%n", indexPath,
+          builder.getGameCount(), builder.getRecordCount(), Files.size(indexPath),
+          (System.nanoTime() - start) / 1_000_000L);
+    }
+  }
+
+  private static void find(final Path base, final Path indexPath, final Board board)
+      throws IOException {
+    final PositionIndex index = PositionIndex.open(indexPath);
+    final PositionIndex.Cursor cursor = index.cursor();
+    final long start = System.nanoTime();
+    cursor.find(board);
+    final long found = System.nanoTime();
+    long hits = 0L;
+    try (GameDatabaseReader reader = new GameDatabaseReader(base)) {
+      while (cursor.next()) {
+        if (hits++ < MAX_PRINTED_GAMES) {
+          final PgnGame game = reader.readGame(cursor.getGameNumber());
+          System.out.printf("game %d, ply %d: %s - %s %s%n", cursor.getGameNumber(),
+              cursor.getPly(), game.getTag("White"), game.getTag("Black"), game.getResult());
+        }
+      }
+    }
+    System.out.printf("find: %d hits, lookup %d us%n", hits, (found - start) / 1_000L);
+  }
+
+  private static long databaseSize(final Path base) throws IOException {
+    return Files.size(GameDatabaseFormat.resolve(base, GameDatabaseFormat.MOVES_EXTENSION))
+        + Files.size(GameDatabaseFormat.resolve(base, GameDatabaseFormat.TAGS_EXTENSION))
+        + Files.size(GameDatabaseFormat.resolve(base, GameDatabaseFormat.INDEX_EXTENSION));
+  }
+}
@@ -0,0 +1,219 @@
+package com.project.chess.db;
+
+import static com.project.chess.db.GameDatabaseFormat.CUSTOM_START;
+import static com.project.chess.db.GameDatabaseFormat.CUSTOM_TAG_NAME;
+import static com.project.chess.db.GameDatabaseFormat.INDEX_ENTRY_SIZE;
+import static com.project.chess.db.GameDatabaseFormat.ONE_BYTE_MOVES;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+import com.project.chess.moves.Move;
+import com.project.chess.pgn.PgnGame;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 게임 데이터베이스에 게임을 덧붙입니다.
+ * <p>
+ * 형식은 {@link GameDatabaseFormat}에 설명되어 있습니다. 이미 있는 데이터베이스를 열면 색인에 있는 게임 뒤에 이어서 씁니다.
+ * 레코드는 버퍼에 모았다가 버퍼가 차거나 {@link #flush()}, {@link #close()}할 때 쓰며, 색인은 항상 두 열 파일보다 나중에
+ * 씁니다. 스레드 안전하지 않습니다.
+ */
+public final class GameDatabaseWriter implements Closeable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Column moves;
+  private final Column tags;
+  private final Column index;
+  private long gameCount;
+
+  /**
+   * 데이터베이스를 쓰기 위해 엽니다. 파일이 없으면 만듭니다.
+   *
+   * @param base 확장자를 뺀 데이터베이스 경로
+   * @throws IOException 파일을 열 수 없거나 색인이 가리키는 레코드가 열 파일에 없는 경우
+   */
+  public GameDatabaseWriter(final Path base) throws IOException {
+    this.index = new Column(GameDatabaseFormat.resolve(base, GameDatabaseFormat.INDEX_EXTENSION));
+    this.moves = new Column(GameDatabaseFormat.resolve(base, GameDatabaseFormat.MOVES_EXTENSION));
+    this.tags = new Column(GameDatabaseFormat.resolve(base, GameDatabaseFormat.TAGS_EXTENSION));
+    // 중단된 쓰기가 남긴 색인 밖의 바이트를 잘라 냅니다.
+    this.gameCount = this.index.channel.size() / INDEX_ENTRY_SIZE;
+    long movesEnd = 0L;
+    long tagsEnd = 0L;
+    if (this.gameCount > 0) {
+      final ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+      this.index.channel.read(entry, (this.gameCount - 1) * INDEX_ENTRY_SIZE);
+      movesEnd = entry.getLong(0);
+      tagsEnd = entry.getLong(Long.BYTES);
+    }
+    if (this.moves.channel.size() < movesEnd || this.tags.channel.size() < tagsEnd) {
+      close();
+      throw new IOException("게임 데이터베이스의 색인이 가리키는 레코드가 없습니다: " + base);
+    }
+    this.index.truncate(this.gameCount * INDEX_ENTRY_SIZE);
+    this.moves.truncate(movesEnd);
+    this.tags.truncate(tagsEnd);
+  }
+
+  public long getGameCount() {
+    return this.gameCount;
+  }
+
+  /**
+   * 게임을 덧붙입니다. 해석하지 못한 이동이 있는 게임은 그 앞까지의 이동만 저장합니다.
+   *
+   * @param game 덧붙일 게임
+   * @return 게임 번호 (0부터)
+   * @throws IOException              쓸 수 없는 경우
+   * @throws IllegalArgumentException 이동이 그 포지션의 이동 목록에 없는 경우
+   */
+  public long append(final PgnGame game) throws IOException {
+    final List<Move> gameMoves = game.getMoves();
+    final List<Board> positions = game.getPositions();
+    final Board initialBoard = game.getInitialBoard();
+    final String initialFen = Fen.write(initialBoard);
+    final boolean customStart = !initialFen.equals(Fen.STARTING_POSITION);
+    // 잘못된 이동으로 레코드의 일부만 쓰지 않도록 인덱스를 먼저 모두 구합니다.
+    final int[] moveIndices = new int[gameMoves.size()];
+    for (int ply = 0; ply < moveIndices.length; ply++) {
+      final Collection<Move> legalMoves = positions.get(ply).getCurrentPlayer().getLegalMoves();
+      final int moveIndex = GameDatabaseFormat.indexOf(legalMoves, gameMoves.get(ply));
+      if (moveIndex < 0) {
+        throw new IllegalArgumentException(
+            (ply + 1) + "번째 이동이 포지션의 이동 목록에 없습니다: " + gameMoves.get(ply));
+      }
+      // 1바이트로 부족한 포지션은 음수로 표시해 두 바이트로 씁니다.
+      moveIndices[ply] = legalMoves.size() > ONE_BYTE_MOVES ? ~moveIndex : moveIndex;
+    }
+
+    this.moves.writeVarInt(gameMoves.size());
+    this.moves.writeByte(GameDatabaseFormat.resultCode(game.getResult())
+        | (customStart ? CUSTOM_START : 0));
+    if (customStart) {
+      this.moves.writeString(initialFen);
+    }
+    for (final int moveIndex : moveIndices) {
+      if (moveIndex < 0) {
+        this.moves.writeByte(~moveIndex >>> 8);
+      }
+      this.moves.writeByte(moveIndex < 0 ? ~moveIndex : moveIndex);
+    }
+
+    final Map<String, String> gameTags = game.getTags();
+    this.tags.writeVarInt(gameTags.size());
+    for (final Map.Entry<String, String> tag : gameTags.entrySet()) {
+      final int nameCode = GameDatabaseFormat.tagNameCode(tag.getKey());
+      this.tags.writeByte(nameCode);
+      if (nameCode == CUSTOM_TAG_NAME) {
+        this.tags.writeString(tag.getKey());
+      }
+      this.tags.writeString(tag.getValue());
+    }
+
+    this.index.writeLong(this.moves.size());
+    this.index.writeLong(this.tags.size());
+    // 색인이 가리키는 바이트가 먼저 파일에 있도록, 색인 버퍼를 비우기 전에 열 버퍼를 비웁니다.
+    if (this.index.isFull()) {
+      flush();
+    }
+    return this.gameCount++;
+  }
+
+  /**
+   * 버퍼에 모은 레코드를 파일에 씁니다.
+   *
+   * @throws IOException 쓸 수 없는 경우
+   */
+  public void flush() throws IOException {
+    this.moves.flush();
+    this.tags.flush();
+    this.index.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      this.moves.channel.close();
+      this.tags.channel.close();
+      this.index.channel.close();
+    }
+  }
+
+  // 파일 하나와 그 쓰기 버퍼, 열 파일은 버퍼가 차면 스스로 비우고 색인은 append에서 비웁니다.
+  private static final class Column {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    // 파일에 쓴 바이트 수
+    private long written;
+
+    private Column(final Path path) throws IOException {
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.READ);
+    }
+
+    private void truncate(final long size) throws IOException {
+      if (this.channel.size() > size) {
+        this.channel.truncate(size);
+      }
+      this.channel.position(size);
+      this.written = size;
+    }
+
+    private long size() {
+      return this.written + this.buffer.position();
+    }
+
+    private boolean isFull() {
+      return this.buffer.remaining() < INDEX_ENTRY_SIZE;
+    }
+
+    private void writeByte(final int value) throws IOException {
+      if (!this.buffer.hasRemaining()) {
+        flush();
+      }
+      this.buffer.put((byte) value);
+    }
+
+    private void writeLong(final long value) {
+      this.buffer.putLong(value);
+    }
+
+    private void writeVarInt(final int value) throws IOException {
+      int remaining = value;
+      while ((remaining & ~0x7F) != 0) {
+        writeByte((remaining & 0x7F) | 0x80);
+        remaining >>>= 7;
+      }
+      writeByte(remaining);
+    }
+
+    private void writeString(final String value) throws IOException {
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(bytes.length);
+      for (final byte b : bytes) {
+        writeByte(b);
+      }
+    }
+
+    private void flush() throws IOException {
+      this.buffer.flip();
+      while (this.buffer.hasRemaining()) {
+        this.written += this.channel.write(this.buffer);
+      }
+      this.buffer.clear();
+    }
+  }
+}
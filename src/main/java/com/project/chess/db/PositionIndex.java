@@ -0,0 +1,202 @@
+package com.project.chess.db;
+
+import com.project.chess.board.Board;
+import com.project.chess.book.PolyglotKey;
+import java.io.IOException;
+import com.project.chess.io.MappedRecords;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 포지션의 {@link PolyglotKey}로 그 포지션을 지난 게임과 수를 찾는 메모리 매핑 색인입니다.
+ * <p>
+ * 엔진의 Zobrist 키는 폰이 두 칸 전진할 때마다 앙파상 파일을 더하므로, 1. e4 Nf6 2. Nc3과 1. Nc3 Nf6 2. e4처럼 두 칸 전진으로
+ * 옮겨 가는 같은 포지션이 서로 다른 키가 됩니다. Polyglot 키는 앙파상으로 실제로 잡을 수 있을 때만 앙파상 파일을 더하므로 이런
+ * 포지션을 하나로 찾습니다.
+ * <p>
+ * 색인 파일은 버킷 표와 레코드 배열로 이루어집니다. 레코드는 16바이트 빅엔디언(키 8바이트, 게임 번호 6바이트, 수 2바이트)이며
+ * (부호 없는 키, 게임 번호, 수) 순서로 정렬되어 있습니다. 버킷 표는 키의 상위 {@value #BUCKET_BITS}비트마다 그 버킷의 첫 레코드
+ * 번호를 담은 {@value #NUM_BUCKETS} + 1개의 8바이트 값이므로, 조회는 버킷 안에서만 이진 탐색합니다.
+ * <p>
+ * 버킷 표는 힙으로 읽고 레코드 배열은 {@link MappedRecords}로 1GB 조각으로 나누어 매핑합니다.
+ * 결과는 {@link Cursor}로 한 레코드씩 읽으므로 조회마다 객체를 만들지 않으며, 커서는 스레드마다 하나씩 만들어 재사용합니다. 색인
+ * 자체는 위치를 바꾸지 않는 절대 위치 읽기만 하므로 여러 스레드가 동시에 조회할 수 있습니다.
+ */
+public final class PositionIndex {
+
+  static final int RECORD_SIZE = 16;
+  static final int BUCKET_BITS = 16;
+  static final int NUM_BUCKETS = 1 << BUCKET_BITS;
+  static final int MAX_PLY = 0xFFFF;
+
+  private static final int PLY_BITS = 16;
+  private static final long HEADER_SIZE = (NUM_BUCKETS + 1L) * Long.BYTES;
+  private static final int RECORD_SHIFT = 4;
+
+  private final long[] bucketStarts;
+  private final MappedRecords records;
+  private final long recordCount;
+
+  private PositionIndex(final long[] bucketStarts, final MappedRecords records) {
+    this.bucketStarts = bucketStarts;
+    this.records = records;
+    this.recordCount = records.getRecordCount();
+  }
+
+  /**
+   * 색인 파일을 읽기 전용으로 매핑합니다.
+   *
+   * @param path 색인 파일 경로
+   * @return 매핑한 색인
+   * @throws IOException 파일을 열거나 매핑할 수 없거나, 버킷 표가 레코드 수와 맞지 않는 경우
+   */
+  public static PositionIndex open(final Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size < HEADER_SIZE || (size - HEADER_SIZE) % RECORD_SIZE != 0) {
+        throw new IOException("포지션 색인 파일의 크기가 잘못되었습니다: " + path);
+      }
+      final ByteBuffer header = ByteBuffer.allocate((int) HEADER_SIZE);
+      while (header.hasRemaining()) {
+        if (channel.read(header, header.position()) < 0) {
+          throw new IOException("포지션 색인 파일의 버킷 표를 읽을 수 없습니다: " + path);
+        }
+      }
+      header.flip();
+      final long[] bucketStarts = new long[NUM_BUCKETS + 1];
+      header.asLongBuffer().get(bucketStarts);
+      final long recordCount = (size - HEADER_SIZE) / RECORD_SIZE;
+      if (bucketStarts[NUM_BUCKETS] != recordCount) {
+        throw new IOException("포지션 색인 파일의 버킷 표가 레코드 수와 맞지 않습니다: " + path);
+      }
+      return new PositionIndex(bucketStarts,
+          MappedRecords.map(channel, HEADER_SIZE, size - HEADER_SIZE, RECORD_SHIFT));
+    }
+  }
+
+  public long getRecordCount() {
+    return this.recordCount;
+  }
+
+  /**
+   * 결과를 읽을 커서를 만듭니다. 커서는 여러 번의 조회에 재사용합니다.
+   *
+   * @return 새 커서
+   */
+  public Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * 키의 레코드 수를 반환합니다. 이진 탐색 두 번으로 세므로 레코드를 읽지 않습니다.
+   *
+   * @param key 포지션의 Polyglot 키
+   * @return 레코드 수
+   */
+  public long count(final long key) {
+    return search(key, true) - search(key, false);
+  }
+
+  // 키가 주어진 키보다 작은(after면 작거나 같은) 레코드 다음의 첫 레코드 번호, 키의 버킷 안에서만 찾습니다.
+  private long search(final long key, final boolean after) {
+    final int bucket = bucket(key);
+    long low = this.bucketStarts[bucket];
+    long high = this.bucketStarts[bucket + 1];
+    while (low < high) {
+      final long middle = (low + high) >>> 1;
+      final int order = Long.compareUnsigned(keyAt(middle), key);
+      if (order < 0 || (after && order == 0)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private long keyAt(final long index) {
+    return this.records.getLong(index, 0);
+  }
+
+  private long valueAt(final long index) {
+    return this.records.getLong(index, Long.BYTES);
+  }
+
+  static int bucket(final long key) {
+    return (int) (key >>> (Long.SIZE - BUCKET_BITS));
+  }
+
+  static long toValue(final long gameNumber, final int ply) {
+    return gameNumber << PLY_BITS | ply;
+  }
+
+  static int compare(final long key, final long value, final long otherKey,
+      final long otherValue) {
+    final int order = Long.compareUnsigned(key, otherKey);
+    return order != 0 ? order : Long.compare(value, otherValue);
+  }
+
+  /**
+   * 한 키의 레코드를 게임 번호 순서로 하나씩 읽는 커서입니다. 매핑에서 곧바로 읽으므로 결과를 모아 두지 않습니다.
+   * 스레드 안전하지 않습니다.
+   */
+  public final class Cursor {
+
+    private long key;
+    private long next;
+    private long value;
+
+    private Cursor() {
+    }
+
+    /**
+     * 보드의 포지션을 찾습니다.
+     *
+     * @param board 찾을 포지션
+     * @return 레코드가 있으면 true
+     */
+    public boolean find(final Board board) {
+      return find(PolyglotKey.calculateKey(board));
+    }
+
+    /**
+     * 키를 찾아 커서를 그 첫 레코드 앞에 둡니다. 레코드 수는 세지 않으므로 시작 포지션처럼 레코드가 아주 많은 키도 이진 탐색 한 번으로
+     * 찾고, 레코드는 {@link #next()}를 부를 때마다 읽습니다.
+     *
+     * @param key 포지션의 Polyglot 키
+     * @return 레코드가 있으면 true
+     */
+    public boolean find(final long key) {
+      this.key = key;
+      this.next = search(key, false);
+      return hasRecord(this.next);
+    }
+
+    /**
+     * 다음 레코드로 이동합니다.
+     *
+     * @return 레코드가 남아 있었으면 true
+     */
+    public boolean next() {
+      if (!hasRecord(this.next)) {
+        return false;
+      }
+      this.value = valueAt(this.next++);
+      return true;
+    }
+
+    private boolean hasRecord(final long index) {
+      return index < PositionIndex.this.recordCount && keyAt(index) == this.key;
+    }
+
+    public long getGameNumber() {
+      return this.value >>> PLY_BITS;
+    }
+
+    public int getPly() {
+      return (int) this.value & MAX_PLY;
+    }
+  }
+}
@@ -0,0 +1,229 @@
+package com.project.chess.db;
+
+import com.project.chess.board.Board;
+import com.project.chess.book.PolyglotKey;
+import com.project.chess.io.IndexedSortable;
+import com.project.chess.io.RunFiles;
+import com.project.chess.io.RunMerger;
+import com.project.chess.pgn.PgnGame;
+import com.project.chess.pgn.PgnReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 게임의 포지션으로 {@link PositionIndex} 파일을 만듭니다.
+ * <p>
+ * 게임마다 시작 포지션과 각 이동 후 포지션의 {@link PolyglotKey}를 (키, 게임 번호, 수) 레코드로 모읍니다. 레코드는 메모리 예산만큼의 기본형
+ * 배열에 모았다가 가득 차면 정렬해 임시 파일로 내보내고, {@link #write(Path)}에서 내보낸 파일을 병합해 색인 파일로 씁니다. 따라서
+ * 게임 수와 상관없이 메모리 예산 안에서 만들 수 있습니다. 게임 번호는 더한 순서대로 0부터 매기므로, 게임 데이터베이스를 처음부터
+ * 더하면 {@link GameDatabaseReader#readGame(long)}의 번호와 같습니다. 스레드 안전하지 않습니다.
+ */
+public final class PositionIndexBuilder implements Closeable {
+
+  private static final long MIN_MEMORY_BUDGET = 1L << 20;
+
+  private final Path spillDirectory;
+  private final Records records;
+  private int size;
+  private final List<Path> runs = new ArrayList<>();
+  // 버킷마다의 레코드 수, 색인 파일의 버킷 표를 병합 전에 쓰기 위해 미리 셉니다.
+  private final long[] bucketCounts = new long[PositionIndex.NUM_BUCKETS];
+  private long gameCount;
+  private long recordCount;
+
+  /**
+   * 생성자
+   *
+   * @param memoryBudget       레코드를 모을 배열에 쓸 대략적인 메모리 (바이트)
+   * @param temporaryDirectory 내보낸 파일을 둘 디렉터리, null이면 시스템 임시 디렉터리
+   * @throws IOException 임시 디렉터리를 만들 수 없는 경우
+   */
+  public PositionIndexBuilder(final long memoryBudget, final Path temporaryDirectory)
+      throws IOException {
+    final int capacity = (int) Math.min(Integer.MAX_VALUE - 8,
+        Math.max(MIN_MEMORY_BUDGET, memoryBudget) / PositionIndex.RECORD_SIZE);
+    this.records = new Records(capacity);
+    this.spillDirectory = temporaryDirectory == null
+        ? Files.createTempDirectory("position-index")
+        : Files.createTempDirectory(temporaryDirectory, "position-index");
+  }
+
+  public long getGameCount() {
+    return this.gameCount;
+  }
+
+  public long getRecordCount() {
+    return this.recordCount;
+  }
+
+  /**
+   * 게임의 포지션을 더합니다. {@value PositionIndex#MAX_PLY}수 이후의 포지션은 더하지 않습니다.
+   *
+   * @param game 더할 게임
+   * @return 게임에 매긴 번호
+   * @throws IOException 임시 파일을 쓸 수 없는 경우
+   */
+  public long add(final PgnGame game) throws IOException {
+    final long gameNumber = this.gameCount++;
+    final List<Board> positions = game.getPositions();
+    final int plies = Math.min(positions.size() - 1, PositionIndex.MAX_PLY);
+    for (int ply = 0; ply <= plies; ply++) {
+      if (this.size == this.records.keys.length) {
+        spill();
+      }
+      final long key = PolyglotKey.calculateKey(positions.get(ply));
+      this.records.keys[this.size] = key;
+      this.records.values[this.size] = PositionIndex.toValue(gameNumber, ply);
+      this.size++;
+      this.bucketCounts[PositionIndex.bucket(key)]++;
+    }
+    this.recordCount += plies + 1;
+    return gameNumber;
+  }
+
+  /**
+   * PGN 파일의 게임을 차례로 더합니다.
+   *
+   * @param pgn PGN 파일 경로
+   * @throws IOException 파일을 읽거나 임시 파일을 쓸 수 없는 경우
+   */
+  public void addPgn(final Path pgn) throws IOException {
+    try (PgnReader reader = new PgnReader(pgn)) {
+      addAll(reader);
+    }
+  }
+
+  /**
+   * 게임 데이터베이스의 게임을 차례로 더합니다.
+   *
+   * @param base 확장자를 뺀 데이터베이스 경로
+   * @throws IOException 파일을 읽거나 임시 파일을 쓸 수 없는 경우
+   */
+  public void addDatabase(final Path base) throws IOException {
+    try (GameDatabaseReader reader = new GameDatabaseReader(base)) {
+      addAll(reader);
+    }
+  }
+
+  private void addAll(final Iterator<PgnGame> games) throws IOException {
+    while (games.hasNext()) {
+      add(games.next());
+    }
+  }
+
+  /**
+   * 더한 레코드를 색인 파일로 씁니다. 쓴 뒤에도 게임을 더해 다시 쓸 수 있습니다.
+   *
+   * @param output 쓸 파일 경로
+   * @throws IOException 파일을 쓰거나 임시 파일을 읽을 수 없는 경우
+   */
+  public void write(final Path output) throws IOException {
+    spill();
+    try (DataOutputStream out = RunFiles.openOutput(output)) {
+      long start = 0L;
+      for (final long count : this.bucketCounts) {
+        out.writeLong(start);
+        start += count;
+      }
+      out.writeLong(start);
+      mergeRuns(out);
+    }
+  }
+
+  /**
+   * 내보낸 임시 파일과 디렉터리를 지웁니다.
+   *
+   * @throws IOException 파일을 지울 수 없는 경우
+   */
+  @Override
+  public void close() throws IOException {
+    for (final Path run : this.runs) {
+      Files.deleteIfExists(run);
+    }
+    this.runs.clear();
+    Files.deleteIfExists(this.spillDirectory);
+  }
+
+  private void spill() throws IOException {
+    if (this.size == 0) {
+      return;
+    }
+    RunFiles.sort(this.records, this.size);
+    final Path run = Files.createTempFile(this.spillDirectory, "positions-", ".run");
+    try (DataOutputStream out = RunFiles.openOutput(run)) {
+      for (int i = 0; i < this.size; i++) {
+        out.writeLong(this.records.keys[i]);
+        out.writeLong(this.records.values[i]);
+      }
+    }
+    this.runs.add(run);
+    this.size = 0;
+  }
+
+  private void mergeRuns(final DataOutputStream out) throws IOException {
+    try (RunMerger<Run> merger = new RunMerger<>(this.runs, Run::new)) {
+      while (!merger.isEmpty()) {
+        final Run first = merger.poll();
+        out.writeLong(first.key);
+        out.writeLong(first.value);
+        merger.advance(first);
+      }
+    }
+  }
+
+  // 내보내기 전까지 레코드를 모으는 키와 값의 병렬 배열
+  private static final class Records implements IndexedSortable {
+
+    private final long[] keys;
+    private final long[] values;
+
+    private Records(final int capacity) {
+      this.keys = new long[capacity];
+      this.values = new long[capacity];
+    }
+
+    @Override
+    public int compare(final int i, final int j) {
+      return PositionIndex.compare(this.keys[i], this.values[i], this.keys[j], this.values[j]);
+    }
+
+    @Override
+    public void swap(final int i, final int j) {
+      final long key = this.keys[i];
+      this.keys[i] = this.keys[j];
+      this.keys[j] = key;
+      final long value = this.values[i];
+      this.values[i] = this.values[j];
+      this.values[j] = value;
+    }
+  }
+
+  // 내보낸 파일 하나의 현재 레코드
+  private static final class Run extends RunMerger.Run<Run> {
+
+    private long key;
+    private long value;
+
+    private Run(final Path run) throws IOException {
+      super(run, PositionIndex.RECORD_SIZE);
+    }
+
+    @Override
+    protected void read(final DataInputStream in) throws IOException {
+      this.key = in.readLong();
+      this.value = in.readLong();
+    }
+
+    @Override
+    public int compareTo(final Run other) {
+      return PositionIndex.compare(this.key, this.value, other.key, other.value);
+    }
+  }
+}
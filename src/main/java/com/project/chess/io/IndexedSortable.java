@@ -0,0 +1,25 @@
+package com.project.chess.io;
+
+/**
+ * 인덱스로 두 원소를 비교하고 맞바꿀 수 있는 정렬 대상입니다. 기본형 병렬 배열을 객체로 감싸지 않고
+ * {@link RunFiles#sort(IndexedSortable, int)}로 정렬하기 위해 사용합니다.
+ */
+public interface IndexedSortable {
+
+  /**
+   * 두 원소를 비교합니다.
+   *
+   * @param i 첫 원소의 인덱스
+   * @param j 둘째 원소의 인덱스
+   * @return i가 앞이면 음수, 같으면 0, 뒤면 양수
+   */
+  int compare(int i, int j);
+
+  /**
+   * 두 원소를 맞바꿉니다.
+   *
+   * @param i 첫 원소의 인덱스
+   * @param j 둘째 원소의 인덱스
+   */
+  void swap(int i, int j);
+}
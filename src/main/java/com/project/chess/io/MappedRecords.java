@@ -0,0 +1,102 @@
+package com.project.chess.io;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * 파일의 고정 크기 레코드 배열을 읽기 전용으로 매핑합니다.
+ * <p>
+ * {@link MappedByteBuffer} 하나는 2GB를 넘을 수 없으므로 레코드 배열을 1GB 조각으로 나누어 매핑하고, 레코드 번호의 상위 비트로
+ * 조각을, 하위 비트로 조각 안의 위치를 고릅니다. 레코드 크기는 2의 거듭제곱이어야 하므로 레코드가 조각 경계에 걸치지 않습니다. 모든
+ * 읽기는 버퍼의 위치를 바꾸지 않는 절대 위치 읽기이므로 여러 스레드가 동시에 읽을 수 있습니다.
+ */
+public final class MappedRecords {
+
+  // 조각 크기 1GB
+  private static final int CHUNK_SHIFT = 30;
+
+  private final MappedByteBuffer[] chunks;
+  private final int recordShift;
+  private final int recordsPerChunkShift;
+  private final long recordIndexMask;
+  private final long recordCount;
+
+  private MappedRecords(final MappedByteBuffer[] chunks, final int recordShift,
+      final long recordCount) {
+    this.chunks = chunks;
+    this.recordShift = recordShift;
+    this.recordsPerChunkShift = CHUNK_SHIFT - recordShift;
+    this.recordIndexMask = (1L << this.recordsPerChunkShift) - 1;
+    this.recordCount = recordCount;
+  }
+
+  /**
+   * 채널의 구간을 매핑합니다. 매핑은 채널을 닫은 뒤에도 유효합니다.
+   *
+   * @param channel     읽기로 연 채널
+   * @param position    레코드 배열이 시작하는 파일 위치
+   * @param size        레코드 배열의 바이트 수, 레코드 크기의 배수
+   * @param recordShift 레코드 크기의 로그 (16바이트면 4)
+   * @return 매핑한 레코드 배열
+   * @throws IOException 매핑할 수 없는 경우
+   */
+  public static MappedRecords map(final FileChannel channel, final long position,
+      final long size, final int recordShift) throws IOException {
+    final long chunkSize = 1L << CHUNK_SHIFT;
+    final MappedByteBuffer[] chunks =
+        new MappedByteBuffer[(int) ((size + chunkSize - 1) >>> CHUNK_SHIFT)];
+    for (int i = 0; i < chunks.length; i++) {
+      final long offset = (long) i << CHUNK_SHIFT;
+      chunks[i] = channel.map(MapMode.READ_ONLY, position + offset,
+          Math.min(chunkSize, size - offset));
+    }
+    return new MappedRecords(chunks, recordShift, size >>> recordShift);
+  }
+
+  public long getRecordCount() {
+    return this.recordCount;
+  }
+
+  /**
+   * 레코드의 바이트 하나를 읽습니다.
+   *
+   * @param index  레코드 번호
+   * @param offset 레코드 안의 바이트 위치
+   * @return 읽은 값
+   */
+  public byte getByte(final long index, final int offset) {
+    return chunk(index).get(offset(index) + offset);
+  }
+
+  /**
+   * 레코드의 빅엔디언 2바이트 값을 읽습니다.
+   *
+   * @param index  레코드 번호
+   * @param offset 레코드 안의 바이트 위치
+   * @return 읽은 값
+   */
+  public short getShort(final long index, final int offset) {
+    return chunk(index).getShort(offset(index) + offset);
+  }
+
+  /**
+   * 레코드의 빅엔디언 8바이트 값을 읽습니다.
+   *
+   * @param index  레코드 번호
+   * @param offset 레코드 안의 바이트 위치
+   * @return 읽은 값
+   */
+  public long getLong(final long index, final int offset) {
+    return chunk(index).getLong(offset(index) + offset);
+  }
+
+  private MappedByteBuffer chunk(final long index) {
+    return this.chunks[(int) (index >>> this.recordsPerChunkShift)];
+  }
+
+  private int offset(final long index) {
+    return (int) (index & this.recordIndexMask) << this.recordShift;
+  }
+}
@@ -0,0 +1,85 @@
+package com.project.chess.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 메모리 예산을 넘는 레코드를 정렬된 임시 파일(런)로 내보내고 다시 읽는 외부 정렬의 공용 도구입니다.
+ * <p>
+ * 호출자는 레코드를 기본형 병렬 배열에 모았다가 {@link #sort(IndexedSortable, int)}로 정렬해 {@link #openOutput(Path)}로
+ * 쓰고, 내보낸 런들은 {@link RunMerger}로 병합합니다.
+ */
+public final class RunFiles {
+
+  private static final int IO_BUFFER_SIZE = 1 << 16;
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  private RunFiles() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * 앞쪽 원소들을 제자리에서 정렬합니다. 안정 정렬이 아닙니다.
+   *
+   * @param sortable 정렬할 대상
+   * @param size     정렬할 원소 수
+   */
+  public static void sort(final IndexedSortable sortable, final int size) {
+    quickSort(sortable, 0, size - 1);
+  }
+
+  /**
+   * 버퍼를 둔 출력 스트림을 엽니다. 파일이 있으면 덮어씁니다.
+   *
+   * @param path 쓸 파일 경로
+   * @return 열린 스트림
+   * @throws IOException 파일을 열 수 없는 경우
+   */
+  public static DataOutputStream openOutput(final Path path) throws IOException {
+    return new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE));
+  }
+
+  /**
+   * 버퍼를 둔 입력 스트림을 엽니다.
+   *
+   * @param path 읽을 파일 경로
+   * @return 열린 스트림
+   * @throws IOException 파일을 열 수 없는 경우
+   */
+  public static DataInputStream openInput(final Path path) throws IOException {
+    return new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_SIZE));
+  }
+
+  private static void quickSort(final IndexedSortable sortable, int low, int high) {
+    while (high - low > INSERTION_SORT_THRESHOLD) {
+      sortable.swap((low + high) >>> 1, high);
+      int store = low;
+      for (int i = low; i < high; i++) {
+        if (sortable.compare(i, high) < 0) {
+          sortable.swap(i, store++);
+        }
+      }
+      sortable.swap(store, high);
+      // 작은 쪽을 재귀로 처리해 스택 깊이를 로그로 제한합니다.
+      if (store - low < high - store) {
+        quickSort(sortable, low, store - 1);
+        low = store + 1;
+      } else {
+        quickSort(sortable, store + 1, high);
+        high = store - 1;
+      }
+    }
+    for (int i = low + 1; i <= high; i++) {
+      for (int j = i; j > low && sortable.compare(j - 1, j) > 0; j--) {
+        sortable.swap(j - 1, j);
+      }
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package com.project.chess.io;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 정렬된 런 파일들을 우선순위 큐로 k-way 병합합니다.
+ * <p>
+ * 런마다 {@link Run} 하나가 현재 레코드를 들고 있으며, 큐의 맨 앞은 모든 런의 현재 레코드 중 가장 앞선 것입니다. 호출자는
+ * {@link #poll()}로 꺼낸 런의 레코드를 쓴 뒤 {@link #advance(Run)}로 다음 레코드를 읽혀 큐에 되돌립니다. 같은 키의 레코드를
+ * 합치려면 {@link #peek()}으로 다음 런의 레코드를 확인합니다. 스레드 안전하지 않습니다.
+ *
+ * @param <R> 런의 레코드 형식
+ */
+public final class RunMerger<R extends RunMerger.Run<R>> implements Closeable {
+
+  private final PriorityQueue<R> queue;
+
+  /**
+   * 런들을 열고 첫 레코드를 읽습니다.
+   *
+   * @param runs   병합할 런 파일들
+   * @param opener 런 파일을 여는 함수
+   * @throws IOException 런을 열거나 읽을 수 없는 경우
+   */
+  public RunMerger(final List<Path> runs, final Opener<R> opener) throws IOException {
+    this.queue = new PriorityQueue<>(Math.max(1, runs.size()));
+    try {
+      for (final Path run : runs) {
+        advance(opener.open(run));
+      }
+    } catch (final IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  public boolean isEmpty() {
+    return this.queue.isEmpty();
+  }
+
+  /**
+   * 가장 앞선 레코드를 가진 런을 큐에서 꺼내지 않고 반환합니다.
+   *
+   * @return 런, 모두 병합했으면 null
+   */
+  public R peek() {
+    return this.queue.peek();
+  }
+
+  /**
+   * 가장 앞선 레코드를 가진 런을 큐에서 꺼냅니다.
+   *
+   * @return 런, 모두 병합했으면 null
+   */
+  public R poll() {
+    return this.queue.poll();
+  }
+
+  /**
+   * 꺼낸 런의 다음 레코드를 읽어 큐에 되돌리고, 남은 레코드가 없으면 런을 닫습니다.
+   *
+   * @param run 꺼낸 런
+   * @throws IOException 런을 읽을 수 없는 경우
+   */
+  public void advance(final R run) throws IOException {
+    if (run.next()) {
+      this.queue.add(run);
+    } else {
+      run.close();
+    }
+  }
+
+  /**
+   * 아직 큐에 남은 런을 닫습니다.
+   *
+   * @throws IOException 런을 닫을 수 없는 경우
+   */
+  @Override
+  public void close() throws IOException {
+    for (final R run : this.queue) {
+      run.close();
+    }
+    this.queue.clear();
+  }
+
+  /**
+   * 런 파일을 여는 함수입니다.
+   *
+   * @param <R> 런의 레코드 형식
+   */
+  @FunctionalInterface
+  public interface Opener<R> {
+
+    R open(Path run) throws IOException;
+  }
+
+  /**
+   * 고정 크기 레코드의 런 파일 하나를 레코드 단위로 읽습니다. 하위 클래스는 {@link #read(DataInputStream)}에서 현재 레코드를
+   * 필드로 읽고, 병합 순서를 {@link Comparable#compareTo}로 정합니다.
+   *
+   * @param <R> 하위 클래스 자신
+   */
+  public abstract static class Run<R extends Run<R>> implements Comparable<R>, Closeable {
+
+    private final DataInputStream in;
+    private long remaining;
+
+    /**
+     * 생성자
+     *
+     * @param run        런 파일 경로
+     * @param recordSize 레코드 하나의 바이트 수
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    protected Run(final Path run, final int recordSize) throws IOException {
+      this.remaining = Files.size(run) / recordSize;
+      this.in = RunFiles.openInput(run);
+    }
+
+    /**
+     * 현재 레코드를 읽습니다.
+     *
+     * @param in 런의 입력 스트림
+     * @throws IOException 읽을 수 없는 경우
+     */
+    protected abstract void read(DataInputStream in) throws IOException;
+
+    boolean next() throws IOException {
+      if (this.remaining == 0) {
+        return false;
+      }
+      this.remaining--;
+      read(this.in);
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.in.close();
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package com.project.chess.moves;
 
 import com.project.chess.board.Board;
+import com.project.chess.board.BoardUtil;
 import com.project.chess.board.Builder;
+import com.project.chess.board.Zobrist;
 import com.project.chess.pieces.Piece;
 import com.project.chess.pieces.Rook;
 import lombok.Getter;
@@ -44,9 +46,16 @@ public abstract class CastleMove extends Move {
       builder.setPiece(piece);
     }
 
-    builder.setPiece(this.movedPiece.movePiece(this));
-    builder.setPiece(new Rook(this.castleRookDestination, this.castleRook.getPieceAlliance()));
+    final Piece movedKing = this.movedPiece.movePiece(this);
+    final Rook movedRook =
+        new Rook(this.castleRookDestination, this.castleRook.getPieceAlliance(), false);
+    builder.setPiece(movedKing);
+    builder.setPiece(movedRook);
     builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+    setMoveCounters(builder);
+    builder.setZobristKey(calculateZobristKey(movedKing, BoardUtil.NO_SQUARE)
+        ^ Zobrist.pieceKey(this.castleRook, this.castleRookStart)
+        ^ Zobrist.pieceKey(movedRook, this.castleRookDestination));
 
     return builder.build();
   }
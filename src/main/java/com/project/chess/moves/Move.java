@@ -1,8 +1,11 @@
 package com.project.chess.moves;
 
 import com.project.chess.board.Board;
+import com.project.chess.board.BoardUtil;
 import com.project.chess.board.Builder;
+import com.project.chess.board.Zobrist;
 import com.project.chess.pieces.Piece;
+import com.project.chess.pieces.Piece.PieceType;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -33,12 +36,55 @@ public abstract class Move {
       builder.setPiece(piece);
     }
 
-    builder.setPiece(this.movedPiece.movePiece(this));
+    final Piece movedPiece = this.movedPiece.movePiece(this);
+    builder.setPiece(movedPiece);
     builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+    setMoveCounters(builder);
+    builder.setZobristKey(calculateZobristKey(movedPiece, BoardUtil.NO_SQUARE));
     return builder.build();
 
   }
 
+  /**
+   * 이 이동을 수행한 보드의 하프무브 클럭과 수 번호를 빌더에 설정합니다. 폰이 움직이거나 기물을 잡으면 하프무브 클럭이 0이 되고,
+   * 흑이 두면 수 번호가 1 늘어납니다.
+   *
+   * @param builder 이동 후의 보드를 만드는 빌더
+   */
+  protected void setMoveCounters(final Builder builder) {
+    builder.setHalfmoveClock(this.movedPiece.getPieceType() == PieceType.PAWN || isAttack()
+        ? 0 : this.board.getHalfmoveClock() + 1);
+    builder.setFullmoveNumber(this.board.getFullmoveNumber()
+        + (this.board.getNextMoveMaker().isBlack() ? 1 : 0));
+  }
+
+  /**
+   * 이 이동을 수행한 보드의 Zobrist 키를 현재 보드의 키에서 바뀐 요소만 XOR하여 계산합니다.
+   *
+   * @param placedPiece         목적지에 놓이는 조각 (승진이면 승진 기물)
+   * @param nextEnPassantSquare 이동 후의 앙파상 타일
+   * @return 이동 후의 Zobrist 키
+   */
+  protected long calculateZobristKey(final Piece placedPiece, final int nextEnPassantSquare) {
+    final int currentCoordinate = getCurrentCoordinate();
+    long key = this.board.getZobristKey()
+        ^ Zobrist.pieceKey(this.movedPiece, currentCoordinate)
+        ^ Zobrist.pieceKey(placedPiece, this.destinationCoordinate);
+
+    final Piece attackedPiece = getAttackedPiece();
+    if (attackedPiece != null) {
+      key ^= Zobrist.pieceKey(attackedPiece, attackedPiece.getPiecePosition());
+    }
+
+    final int castlingRights = this.board.getCastlingRights();
+    key ^= Zobrist.castlingKey(castlingRights) ^ Zobrist.castlingKey(
+        BoardUtil.updateCastlingRights(castlingRights, currentCoordinate,
+            this.destinationCoordinate));
+    key ^= Zobrist.enPassantKey(this.board.getEnPassantSquare())
+        ^ Zobrist.enPassantKey(nextEnPassantSquare);
+    return key ^ Zobrist.blackToMoveKey();
+  }
+
   public int getCurrentCoordinate() {
     return this.getMovedPiece().getPiecePosition();
   }
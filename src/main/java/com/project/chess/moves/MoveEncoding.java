@@ -0,0 +1,196 @@
+package com.project.chess.moves;
+
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.Board;
+import com.project.chess.board.BoardUtil;
+import com.project.chess.pieces.Piece;
+
+/**
+ * 이동을 32비트 정수 하나로 인코딩하는 유틸리티 클래스입니다.
+ * <p>
+ * 탐색과 이동 생성의 핫 패스에서는 {@link Move} 객체 대신 인코딩된 정수를 {@link MoveList}에 담아 사용합니다. 비트 배치는
+ * 다음과 같습니다.
+ * <pre>
+ *  0 -  5 출발 타일
+ *  6 - 11 도착 타일
+ * 12 - 15 이동하는 기물의 비트보드 인덱스
+ * 16 - 19 잡히는 기물의 비트보드 인덱스 + 1 (0 = 없음)
+ * 20 - 22 승진 기물 종류의 ordinal + 1 (0 = 없음)
+ * 23 - 24 이동 종류
+ * </pre>
+ * 출발 타일과 도착 타일이 같은 이동은 없으므로 0은 {@link #NULL_MOVE}로 사용합니다.
+ */
+public final class MoveEncoding {
+
+  public static final int NULL_MOVE = 0;
+
+  // 이동 종류
+  public static final int KIND_NORMAL = 0;
+  public static final int KIND_PAWN_JUMP = 1;
+  public static final int KIND_EN_PASSANT = 2;
+  public static final int KIND_CASTLE = 3;
+
+  // 잡는 기물, 승진 기물이 없을 때 사용하는 값
+  public static final int NONE = -1;
+
+  private static final int TO_SHIFT = 6;
+  private static final int PIECE_SHIFT = 12;
+  private static final int CAPTURED_SHIFT = 16;
+  private static final int PROMOTION_SHIFT = 20;
+  private static final int KIND_SHIFT = 23;
+
+  private static final int SQUARE_MASK = 0x3F;
+  private static final int PIECE_MASK = 0xF;
+  private static final int PROMOTION_MASK = 0x7;
+  private static final int KIND_MASK = 0x3;
+
+  private static final char[] PROMOTION_CHARS = {'p', 'r', 'n', 'b', 'q', 'k'};
+
+  private MoveEncoding() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * 이동을 인코딩합니다.
+   *
+   * @param from          출발 타일
+   * @param to            도착 타일
+   * @param piece         이동하는 기물의 비트보드 인덱스
+   * @param capturedPiece 잡히는 기물의 비트보드 인덱스, 없으면 {@link #NONE}
+   * @param promotionType 승진 기물 종류의 ordinal, 없으면 {@link #NONE}
+   * @param kind          이동 종류
+   * @return 인코딩된 이동
+   */
+  public static int encode(final int from, final int to, final int piece, final int capturedPiece,
+      final int promotionType, final int kind) {
+    return from
+        | (to << TO_SHIFT)
+        | (piece << PIECE_SHIFT)
+        | ((capturedPiece + 1) << CAPTURED_SHIFT)
+        | ((promotionType + 1) << PROMOTION_SHIFT)
+        | (kind << KIND_SHIFT);
+  }
+
+  public static int getFrom(final int move) {
+    return move & SQUARE_MASK;
+  }
+
+  public static int getTo(final int move) {
+    return (move >>> TO_SHIFT) & SQUARE_MASK;
+  }
+
+  public static int getPiece(final int move) {
+    return (move >>> PIECE_SHIFT) & PIECE_MASK;
+  }
+
+  public static int getCapturedPiece(final int move) {
+    return ((move >>> CAPTURED_SHIFT) & PIECE_MASK) - 1;
+  }
+
+  public static int getPromotionType(final int move) {
+    return ((move >>> PROMOTION_SHIFT) & PROMOTION_MASK) - 1;
+  }
+
+  public static int getKind(final int move) {
+    return (move >>> KIND_SHIFT) & KIND_MASK;
+  }
+
+  public static boolean isCapture(final int move) {
+    return (move & (PIECE_MASK << CAPTURED_SHIFT)) != 0;
+  }
+
+  public static boolean isPromotion(final int move) {
+    return (move & (PROMOTION_MASK << PROMOTION_SHIFT)) != 0;
+  }
+
+  /**
+   * 기물을 잡지도, 승진하지도 않는 조용한 이동인지 확인합니다.
+   *
+   * @param move 인코딩된 이동
+   * @return 조용한 이동이면 true, 아니면 false
+   */
+  public static boolean isQuiet(final int move) {
+    return (move & ((PIECE_MASK << CAPTURED_SHIFT) | (PROMOTION_MASK << PROMOTION_SHIFT))) == 0;
+  }
+
+  /**
+   * 이동 객체를 인코딩합니다.
+   *
+   * @param move 인코딩할 이동
+   * @return 인코딩된 이동, {@link Move#NULL_MOVE}이면 {@link #NULL_MOVE}
+   */
+  public static int fromMove(final Move move) {
+    if (move == null || move.getMovedPiece() == null) {
+      return NULL_MOVE;
+    }
+    final int kind;
+    if (move.isCastlingMove()) {
+      kind = KIND_CASTLE;
+    } else if (move instanceof PawnEnpassantAttackMove) {
+      kind = KIND_EN_PASSANT;
+    } else if (move instanceof PawnJump) {
+      kind = KIND_PAWN_JUMP;
+    } else {
+      kind = KIND_NORMAL;
+    }
+    final Piece attackedPiece = move.isAttack() ? move.getAttackedPiece() : null;
+    return encode(move.getCurrentCoordinate(), move.getDestinationCoordinate(),
+        pieceIndex(move.getMovedPiece()),
+        attackedPiece == null ? NONE : pieceIndex(attackedPiece),
+        move instanceof PawnPromotion promotion
+            ? promotion.getPromotionPiece().getPieceType().ordinal() : NONE,
+        kind);
+  }
+
+  /**
+   * 인코딩된 이동을 보드의 현재 플레이어가 둘 수 있는 이동 객체로 변환합니다.
+   * <p>
+   * 반환되는 객체는 {@link com.project.chess.player.Player#getLegalMoves()}의 원소이므로 그대로
+   * {@link com.project.chess.player.Player#makeMove(Move)}에 넘길 수 있습니다.
+   *
+   * @param board 이동을 둘 보드
+   * @param move  인코딩된 이동
+   * @return 출발 타일, 도착 타일, 승진 기물이 같은 합법적인 이동, 없으면 {@link Move#NULL_MOVE}
+   */
+  public static Move toMove(final Board board, final int move) {
+    if (move == NULL_MOVE) {
+      return Move.NULL_MOVE;
+    }
+    final int from = getFrom(move);
+    final int to = getTo(move);
+    final int promotionType = getPromotionType(move);
+    for (final Move candidate : board.getCurrentPlayer().getLegalMoves()) {
+      if (candidate.getCurrentCoordinate() == from
+          && candidate.getDestinationCoordinate() == to
+          && promotionTypeOf(candidate) == promotionType) {
+        return candidate;
+      }
+    }
+    return Move.NULL_MOVE;
+  }
+
+  /**
+   * 인코딩된 이동을 UCI 형식의 문자열로 변환합니다.
+   *
+   * @param move 인코딩된 이동
+   * @return "e2e4", "e7e8q" 형식의 문자열
+   */
+  public static String toString(final int move) {
+    if (move == NULL_MOVE) {
+      return "0000";
+    }
+    final String squares = BoardUtil.getPositionAtCoordinate(getFrom(move))
+        + BoardUtil.getPositionAtCoordinate(getTo(move));
+    final int promotionType = getPromotionType(move);
+    return promotionType == NONE ? squares : squares + PROMOTION_CHARS[promotionType];
+  }
+
+  private static int promotionTypeOf(final Move move) {
+    return move instanceof PawnPromotion promotion
+        ? promotion.getPromotionPiece().getPieceType().ordinal() : NONE;
+  }
+
+  private static int pieceIndex(final Piece piece) {
+    return BitBoard.pieceIndex(piece.getPieceType(), piece.getPieceAlliance());
+  }
+}
@@ -0,0 +1,109 @@
+package com.project.chess.moves;
+
+/**
+ * {@link MoveEncoding}으로 인코딩된 이동을 담는 재사용 가능한 목록입니다.
+ * <p>
+ * 고정 크기 {@code int[]}를 사용하므로 {@link #clear()} 후 다시 채워도 할당이 일어나지 않습니다. 탐색에서는 깊이마다 하나씩 만들어
+ * 재사용합니다. 이동마다 정렬 점수를 함께 담을 수 있으며, {@link #pickNext(int)}로 점수가 높은 이동부터 꺼냅니다.
+ */
+public final class MoveList {
+
+  // 합법적인 체스 포지션의 최대 이동 수는 218입니다.
+  public static final int MAX_MOVES = 256;
+
+  private final int[] moves = new int[MAX_MOVES];
+  private final int[] scores = new int[MAX_MOVES];
+  private int size;
+
+  public void add(final int move) {
+    this.moves[this.size++] = move;
+  }
+
+  public int get(final int index) {
+    return this.moves[index];
+  }
+
+  public void set(final int index, final int move) {
+    this.moves[index] = move;
+  }
+
+  public int getScore(final int index) {
+    return this.scores[index];
+  }
+
+  public void setScore(final int index, final int score) {
+    this.scores[index] = score;
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  public void clear() {
+    this.size = 0;
+  }
+
+  /**
+   * 목록의 앞쪽 {@code newSize}개만 남깁니다.
+   *
+   * @param newSize 남길 이동 수
+   */
+  public void truncate(final int newSize) {
+    this.size = newSize;
+  }
+
+  /**
+   * 두 위치의 이동을 맞바꿉니다.
+   *
+   * @param first  첫 번째 인덱스
+   * @param second 두 번째 인덱스
+   */
+  public void swap(final int first, final int second) {
+    final int move = this.moves[first];
+    this.moves[first] = this.moves[second];
+    this.moves[second] = move;
+    final int score = this.scores[first];
+    this.scores[first] = this.scores[second];
+    this.scores[second] = score;
+  }
+
+  /**
+   * {@code index} 이후에서 점수가 가장 높은 이동을 {@code index} 위치로 옮기고 반환합니다 (선택 정렬의 한 단계).
+   * <p>
+   * 컷오프가 일어나면 나머지 이동은 정렬할 필요가 없으므로, 전체를 미리 정렬하는 대신 필요한 만큼만 꺼냅니다.
+   *
+   * @param index 꺼낼 위치
+   * @return 점수가 가장 높은 이동
+   */
+  public int pickNext(final int index) {
+    int best = index;
+    for (int i = index + 1; i < this.size; i++) {
+      if (this.scores[i] > this.scores[best]) {
+        best = i;
+      }
+    }
+    if (best != index) {
+      swap(index, best);
+    }
+    return this.moves[index];
+  }
+
+  /**
+   * 목록에 이동이 들어 있는지 확인합니다.
+   *
+   * @param move 찾을 이동
+   * @return 들어 있으면 true, 아니면 false
+   */
+  public boolean contains(final int move) {
+    for (int i = 0; i < this.size; i++) {
+      if (this.moves[i] == move) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
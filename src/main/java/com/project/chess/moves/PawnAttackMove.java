@@ -5,10 +5,18 @@ import com.project.chess.pieces.Piece;
 import lombok.Getter;
 
 @Getter
-public final class PawnAttackMove extends Move {
+public class PawnAttackMove extends Move {
+
+  final Piece attackedPiece;
 
   public PawnAttackMove(final Board board, final Piece movedPiece, final int destinationCoordinate,
       final Piece attackedPiece) {
     super(board, movedPiece, destinationCoordinate);
+    this.attackedPiece = attackedPiece;
+  }
+
+  @Override
+  public boolean isAttack() {
+    return true;
   }
 }
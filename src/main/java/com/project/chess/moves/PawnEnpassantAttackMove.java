@@ -1,15 +1,42 @@
 package com.project.chess.moves;
 
 import com.project.chess.board.Board;
+import com.project.chess.board.BoardUtil;
+import com.project.chess.board.Builder;
 import com.project.chess.pieces.Piece;
 import lombok.Getter;
 
 @Getter
-public final class PawnEnpassantAttackMove extends Move {
+public final class PawnEnpassantAttackMove extends PawnAttackMove {
 
   public PawnEnpassantAttackMove(final Board board, final Piece movedPiece,
       final int destinationCoordinate,
       final Piece attackedPiece) {
-    super(board, movedPiece, destinationCoordinate);
+    super(board, movedPiece, destinationCoordinate, attackedPiece);
+  }
+
+  @Override
+  public Board execute() {
+    final Builder builder = new Builder();
+
+    for (final Piece piece : this.board.getCurrentPlayer().getActivePieces()) {
+      if (!this.movedPiece.equals(piece)) {
+        builder.setPiece(piece);
+      }
+    }
+
+    // 공격받은 폰은 목적지가 아닌 옆 타일에 있으므로 직접 제외합니다.
+    for (final Piece piece : this.board.getCurrentPlayer().getOpponent().getActivePieces()) {
+      if (!this.attackedPiece.equals(piece)) {
+        builder.setPiece(piece);
+      }
+    }
+
+    final Piece movedPawn = this.movedPiece.movePiece(this);
+    builder.setPiece(movedPawn);
+    builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+    setMoveCounters(builder);
+    builder.setZobristKey(calculateZobristKey(movedPawn, BoardUtil.NO_SQUARE));
+    return builder.build();
   }
 }
@@ -31,6 +31,9 @@ public final class PawnJump extends Move {
     builder.setPiece(movedPawn);
     builder.setEnpassantPawn(movedPawn);
     builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+    setMoveCounters(builder);
+    builder.setZobristKey(calculateZobristKey(movedPawn,
+        (getCurrentCoordinate() + this.destinationCoordinate) >>> 1));
     return builder.build();
   }
 }
@@ -0,0 +1,59 @@
+package com.project.chess.moves;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.BoardUtil;
+import com.project.chess.board.Builder;
+import com.project.chess.pieces.Piece;
+import lombok.Getter;
+
+/**
+ * PawnPromotion 클래스는 마지막 랭크에 도달한 폰이 다른 기물로 승진하는 이동을 나타냅니다.
+ */
+@Getter
+public final class PawnPromotion extends Move {
+
+  private final Move decoratedMove;
+  private final Piece promotionPiece;
+
+  /**
+   * @param decoratedMove  승진 랭크에 도달하는 폰 이동 (전진 또는 공격)
+   * @param promotionPiece 목적지에 놓일 승진 기물
+   */
+  public PawnPromotion(final Move decoratedMove, final Piece promotionPiece) {
+    super(decoratedMove.getBoard(), decoratedMove.getMovedPiece(),
+        decoratedMove.getDestinationCoordinate());
+    this.decoratedMove = decoratedMove;
+    this.promotionPiece = promotionPiece;
+  }
+
+  @Override
+  public Board execute() {
+    final Builder builder = new Builder();
+
+    for (final Piece piece : this.board.getCurrentPlayer().getActivePieces()) {
+      if (!this.movedPiece.equals(piece)) {
+        builder.setPiece(piece);
+      }
+    }
+
+    for (final Piece piece : this.board.getCurrentPlayer().getOpponent().getActivePieces()) {
+      builder.setPiece(piece);
+    }
+
+    builder.setPiece(this.promotionPiece);
+    builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+    setMoveCounters(builder);
+    builder.setZobristKey(calculateZobristKey(this.promotionPiece, BoardUtil.NO_SQUARE));
+    return builder.build();
+  }
+
+  @Override
+  public boolean isAttack() {
+    return this.decoratedMove.isAttack();
+  }
+
+  @Override
+  public Piece getAttackedPiece() {
+    return this.decoratedMove.getAttackedPiece();
+  }
+}
@@ -0,0 +1,78 @@
+package com.project.chess.perft;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.player.MoveStatus;
+import com.project.chess.player.MoveTransition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@link ForkJoinPool}로 퍼프트를 병렬 계산하는 유틸리티 클래스입니다.
+ * <p>
+ * {@link Board}는 불변이므로 루트에서 {@code splitDepth} 수까지의 이동을 각각 독립된 작업으로 나눌 수 있습니다. 나눈 뒤의
+ * 하위 트리는 작업마다 {@link Perft}로 순차 계산하며, 가변 보드 경로를 사용할 때는 작업마다 새 {@link MutableBoard}를
+ * 만듭니다.
+ */
+public final class ParallelPerft {
+
+  private ParallelPerft() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * 주어진 풀에서 퍼프트를 병렬 계산합니다.
+   *
+   * @param pool       작업을 실행할 풀
+   * @param board      시작 보드
+   * @param depth      탐색 깊이
+   * @param splitDepth 작업으로 나눌 수의 깊이 (1이면 루트 이동, 2면 루트 이동과 그 응수)
+   * @param useBoard   하위 트리에서 불변 보드 API를 사용할지 여부
+   * @return 리프 노드 수
+   */
+  public static long perft(final ForkJoinPool pool, final Board board, final int depth,
+      final int splitDepth, final boolean useBoard) {
+    return pool.invoke(new PerftTask(board, depth, splitDepth, useBoard));
+  }
+
+  @SuppressWarnings("serial")
+  private static final class PerftTask extends RecursiveTask<Long> {
+
+    private final Board board;
+    private final int depth;
+    private final int splitDepth;
+    private final boolean useBoard;
+
+    private PerftTask(final Board board, final int depth, final int splitDepth,
+        final boolean useBoard) {
+      this.board = board;
+      this.depth = depth;
+      this.splitDepth = splitDepth;
+      this.useBoard = useBoard;
+    }
+
+    @Override
+    protected Long compute() {
+      if (this.splitDepth == 0 || this.depth <= 1) {
+        return this.useBoard ? Perft.perft(this.board, this.depth)
+            : Perft.perft(new MutableBoard(this.board), this.depth);
+      }
+      final List<PerftTask> subtasks = new ArrayList<>();
+      for (final Move move : this.board.getCurrentPlayer().getLegalMoves()) {
+        final MoveTransition transition = this.board.getCurrentPlayer().makeMove(move);
+        if (transition.getMoveStatus() == MoveStatus.DONE) {
+          subtasks.add(new PerftTask(transition.getTransitionBoard(), this.depth - 1,
+              this.splitDepth - 1, this.useBoard));
+        }
+      }
+      long nodes = 0L;
+      for (final PerftTask subtask : invokeAll(subtasks)) {
+        nodes += subtask.join();
+      }
+      return nodes;
+    }
+  }
+}
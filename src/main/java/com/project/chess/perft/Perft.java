@@ -0,0 +1,124 @@
+package com.project.chess.perft;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.player.MoveStatus;
+import com.project.chess.player.MoveTransition;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주어진 깊이까지의 합법적인 이동 경로 수(퍼프트)를 세는 유틸리티 클래스입니다.
+ * <p>
+ * {@link Board}와 {@link com.project.chess.player.Player#makeMove}를 사용하는 경로와 {@link MutableBoard}와
+ * {@link MoveGenerator}를 사용하는 경로를 모두 제공하므로, 두 이동 생성기의 정확성과 처리량을 같은 기준으로 비교할 수 있습니다.
+ */
+public final class Perft {
+
+  private Perft() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * 불변 보드 API로 퍼프트를 계산합니다.
+   *
+   * @param board 시작 보드
+   * @param depth 탐색 깊이
+   * @return 리프 노드 수
+   */
+  public static long perft(final Board board, final int depth) {
+    if (depth == 0) {
+      return 1L;
+    }
+    long nodes = 0L;
+    for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+      final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+      if (transition.getMoveStatus() == MoveStatus.DONE) {
+        nodes += perft(transition.getTransitionBoard(), depth - 1);
+      }
+    }
+    return nodes;
+  }
+
+  /**
+   * 가변 보드로 퍼프트를 계산합니다. 반환 시 보드는 원래 상태로 돌아옵니다.
+   *
+   * @param board 시작 보드
+   * @param depth 탐색 깊이
+   * @return 리프 노드 수
+   */
+  public static long perft(final MutableBoard board, final int depth) {
+    return perft(board, depth, createMoveLists(depth));
+  }
+
+  /**
+   * 불변 보드 API로 루트 이동별 퍼프트를 계산합니다.
+   *
+   * @param board 시작 보드
+   * @param depth 1 이상의 탐색 깊이
+   * @return 루트 이동의 UCI 표기와 그 아래 리프 노드 수 (이동 생성 순서)
+   */
+  public static Map<String, Long> divide(final Board board, final int depth) {
+    final Map<String, Long> result = new LinkedHashMap<>();
+    for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+      final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+      if (transition.getMoveStatus() == MoveStatus.DONE) {
+        result.put(MoveEncoding.toString(MoveEncoding.fromMove(move)),
+            perft(transition.getTransitionBoard(), depth - 1));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 가변 보드로 루트 이동별 퍼프트를 계산합니다. 반환 시 보드는 원래 상태로 돌아옵니다.
+   *
+   * @param board 시작 보드
+   * @param depth 1 이상의 탐색 깊이
+   * @return 루트 이동의 UCI 표기와 그 아래 리프 노드 수 (이동 생성 순서)
+   */
+  public static Map<String, Long> divide(final MutableBoard board, final int depth) {
+    final Map<String, Long> result = new LinkedHashMap<>();
+    final MoveList[] moveLists = createMoveLists(depth);
+    final MoveList rootMoves = new MoveList();
+    MoveGenerator.generateLegalMoves(board, rootMoves);
+    for (int i = 0; i < rootMoves.size(); i++) {
+      final int move = rootMoves.get(i);
+      board.makeMove(move);
+      result.put(MoveEncoding.toString(move), perft(board, depth - 1, moveLists));
+      board.unmakeMove();
+    }
+    return result;
+  }
+
+  private static long perft(final MutableBoard board, final int depth,
+      final MoveList[] moveLists) {
+    if (depth == 0) {
+      return 1L;
+    }
+    final MoveList moves = moveLists[depth];
+    MoveGenerator.generateMoves(board, moves);
+    long nodes = 0L;
+    for (int i = 0; i < moves.size(); i++) {
+      board.makeMove(moves.get(i));
+      if (!board.leavesKingInCheck()) {
+        nodes += perft(board, depth - 1, moveLists);
+      }
+      board.unmakeMove();
+    }
+    return nodes;
+  }
+
+  // 깊이마다 하나씩 재사용하는 이동 목록
+  private static MoveList[] createMoveLists(final int depth) {
+    final MoveList[] moveLists = new MoveList[depth + 1];
+    for (int i = 0; i < moveLists.length; i++) {
+      moveLists[i] = new MoveList();
+    }
+    return moveLists;
+  }
+}
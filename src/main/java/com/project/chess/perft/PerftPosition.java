@@ -0,0 +1,65 @@
+package com.project.chess.perft;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+
+/**
+ * 퍼프트 검증에 사용하는 기준 포지션과 깊이별로 알려진 노드 수입니다.
+ * <p>
+ * 노드 수는 Chess Programming Wiki의 Perft Results 페이지에 정리된 값입니다.
+ */
+public enum PerftPosition {
+
+  START(Fen.STARTING_POSITION,
+      20L, 400L, 8_902L, 197_281L, 4_865_609L, 119_060_324L),
+  KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+      48L, 2_039L, 97_862L, 4_085_603L, 193_690_690L),
+  POSITION_3("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+      14L, 191L, 2_812L, 43_238L, 674_624L, 11_030_083L),
+  POSITION_4("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+      6L, 264L, 9_467L, 422_333L, 15_833_292L),
+  POSITION_5("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+      44L, 1_486L, 62_379L, 2_103_487L, 89_941_194L),
+  POSITION_6("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+      46L, 2_079L, 89_890L, 3_894_594L, 164_075_551L);
+
+  private final String fen;
+  private final long[] expectedNodes;
+
+  PerftPosition(final String fen, final long... expectedNodes) {
+    this.fen = fen;
+    this.expectedNodes = expectedNodes;
+  }
+
+  /**
+   * 기록된 노드 수가 있는 최대 깊이를 반환합니다.
+   *
+   * @return 최대 깊이
+   */
+  public int getMaxDepth() {
+    return this.expectedNodes.length;
+  }
+
+  /**
+   * 주어진 깊이의 기준 노드 수를 반환합니다.
+   *
+   * @param depth 1 이상 {@link #getMaxDepth()} 이하의 깊이
+   * @return 기준 노드 수
+   */
+  public long getExpectedNodes(final int depth) {
+    return this.expectedNodes[depth - 1];
+  }
+
+  public String getFen() {
+    return this.fen;
+  }
+
+  /**
+   * 포지션의 보드를 생성합니다.
+   *
+   * @return 새 보드
+   */
+  public Board createBoard() {
+    return Fen.parse(this.fen);
+  }
+}
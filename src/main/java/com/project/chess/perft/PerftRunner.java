@@ -0,0 +1,189 @@
+package com.project.chess.perft;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.MutableBoard;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 퍼프트 명령줄 실행기입니다.
+ * <p>
+ * 깊이마다 노드 수, 소요 시간, 초당 노드 수를 출력하며, 다음 옵션을 받습니다.
+ * <pre>
+ * --position NAME  포지션 ({@link PerftPosition}의 이름, 기본값 START)
+ * --depth N        최대 깊이 (기본값 5)
+ * --divide         최대 깊이에서 루트 이동별 노드 수를 출력합니다.
+ * --board          {@link MutableBoard} 대신 불변 {@link Board} API를 사용합니다.
+ * --threads N      N개의 스레드로 병렬 계산하고 단일 스레드 대비 속도 향상을 출력합니다 (기본값 1).
+ * --split N        병렬 계산에서 작업으로 나눌 수의 깊이, 1 또는 2 (기본값 2)
+ * --suite          모든 기준 포지션을 {@link #SUITE_NODE_LIMIT} 노드 이하의 깊이까지 검증합니다.
+ * --deep           --suite와 함께 사용하면 기록된 모든 깊이를 검증합니다.
+ * </pre>
+ * 검증에 실패하면 종료 코드 1로 끝나므로 빌드의 정확성 검사로 사용할 수 있습니다.
+ */
+public final class PerftRunner {
+
+  // --suite에서 기본으로 검증하는 최대 노드 수
+  static final long SUITE_NODE_LIMIT = 5_000_000L;
+
+  private static final int DEFAULT_DEPTH = 5;
+  private static final int DEFAULT_SPLIT_DEPTH = 2;
+
+  private PerftRunner() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  public static void main(final String[] args) {
+    PerftPosition position = PerftPosition.START;
+    int depth = DEFAULT_DEPTH;
+    boolean divide = false;
+    boolean useBoard = false;
+    boolean suite = false;
+    boolean deep = false;
+    int threads = 1;
+    int splitDepth = DEFAULT_SPLIT_DEPTH;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--position" -> position = PerftPosition.valueOf(args[++i]);
+        case "--depth" -> depth = Integer.parseInt(args[++i]);
+        case "--divide" -> divide = true;
+        case "--board" -> useBoard = true;
+        case "--suite" -> suite = true;
+        case "--deep" -> deep = true;
+        case "--threads" -> threads = Integer.parseInt(args[++i]);
+        case "--split" -> splitDepth = Integer.parseInt(args[++i]);
+        default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+      }
+    }
+
+    if (splitDepth < 1 || splitDepth > 2) {
+      throw new IllegalArgumentException("--split은 1 또는 2여야 합니다: " + splitDepth);
+    }
+
+    final ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+    try {
+      if (suite) {
+        if (!runSuite(pool, splitDepth, useBoard, deep)) {
+          System.exit(1);
+        }
+        return;
+      }
+      if (pool == null) {
+        run(position, depth, useBoard);
+      } else {
+        runParallel(pool, splitDepth, position, depth, useBoard);
+      }
+      if (divide) {
+        printDivide(position, depth, useBoard);
+      }
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+  }
+
+  private static void run(final PerftPosition position, final int maxDepth,
+      final boolean useBoard) {
+    System.out.println(position + (useBoard ? " (Board)" : " (MutableBoard)"));
+    System.out.printf("%5s %15s %10s %12s%n", "depth", "nodes", "ms", "nps");
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      final long start = System.nanoTime();
+      final long nodes = countNodes(null, 0, position, depth, useBoard);
+      final long elapsed = System.nanoTime() - start;
+      System.out.printf("%5d %15d %10d %12d%n", depth, nodes, elapsed / 1_000_000L,
+          nodesPerSecond(nodes, elapsed));
+    }
+  }
+
+  /**
+   * 깊이마다 단일 스레드와 병렬 계산을 차례로 수행하고 속도 향상을 출력합니다.
+   */
+  private static void runParallel(final ForkJoinPool pool, final int splitDepth,
+      final PerftPosition position, final int maxDepth, final boolean useBoard) {
+    System.out.println(position + (useBoard ? " (Board, " : " (MutableBoard, ")
+        + pool.getParallelism() + " threads, split " + splitDepth + ")");
+    System.out.printf("%5s %15s %10s %10s %12s %8s%n", "depth", "nodes", "1T ms", "ms", "nps",
+        "speedup");
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      final long sequentialStart = System.nanoTime();
+      final long sequentialNodes = countNodes(null, 0, position, depth, useBoard);
+      final long sequentialElapsed = System.nanoTime() - sequentialStart;
+
+      final long start = System.nanoTime();
+      final long nodes = countNodes(pool, splitDepth, position, depth, useBoard);
+      final long elapsed = System.nanoTime() - start;
+      if (nodes != sequentialNodes) {
+        throw new IllegalStateException(
+            "병렬 계산 결과가 다릅니다: " + nodes + " != " + sequentialNodes);
+      }
+      System.out.printf("%5d %15d %10d %10d %12d %8.2f%n", depth, nodes,
+          sequentialElapsed / 1_000_000L, elapsed / 1_000_000L, nodesPerSecond(nodes, elapsed),
+          elapsed == 0 ? 0.0 : (double) sequentialElapsed / elapsed);
+    }
+  }
+
+  private static void printDivide(final PerftPosition position, final int depth,
+      final boolean useBoard) {
+    final Map<String, Long> divide = useBoard
+        ? Perft.divide(position.createBoard(), depth)
+        : Perft.divide(new MutableBoard(position.createBoard()), depth);
+    long total = 0L;
+    for (final Map.Entry<String, Long> entry : divide.entrySet()) {
+      System.out.println(entry.getKey() + ": " + entry.getValue());
+      total += entry.getValue();
+    }
+    System.out.println();
+    System.out.println("moves: " + divide.size());
+    System.out.println("nodes: " + total);
+  }
+
+  /**
+   * 모든 기준 포지션의 노드 수를 검증합니다.
+   *
+   * @param pool       병렬 계산에 사용할 풀, 단일 스레드면 null
+   * @param splitDepth 병렬 계산에서 작업으로 나눌 수의 깊이
+   * @param useBoard   불변 보드 API 사용 여부
+   * @param deep       기록된 모든 깊이를 검증할지 여부
+   * @return 모두 일치하면 true, 아니면 false
+   */
+  static boolean runSuite(final ForkJoinPool pool, final int splitDepth, final boolean useBoard,
+      final boolean deep) {
+    boolean passed = true;
+    long totalNodes = 0L;
+    long totalElapsed = 0L;
+    for (final PerftPosition position : PerftPosition.values()) {
+      for (int depth = 1; depth <= position.getMaxDepth(); depth++) {
+        final long expected = position.getExpectedNodes(depth);
+        if (!deep && expected > SUITE_NODE_LIMIT) {
+          break;
+        }
+        final long start = System.nanoTime();
+        final long nodes = countNodes(pool, splitDepth, position, depth, useBoard);
+        final long elapsed = System.nanoTime() - start;
+        totalNodes += nodes;
+        totalElapsed += elapsed;
+        final boolean ok = nodes == expected;
+        passed &= ok;
+        System.out.printf("%-10s depth %d: %12d %s%n", position, depth, nodes,
+            ok ? "ok" : "FAILED (expected " + expected + ")");
+      }
+    }
+    System.out.printf("%s: %d nodes in %d ms (%d nps)%n", passed ? "PASSED" : "FAILED",
+        totalNodes, totalElapsed / 1_000_000L, nodesPerSecond(totalNodes, totalElapsed));
+    return passed;
+  }
+
+  private static long countNodes(final ForkJoinPool pool, final int splitDepth,
+      final PerftPosition position, final int depth, final boolean useBoard) {
+    if (pool != null) {
+      return ParallelPerft.perft(pool, position.createBoard(), depth, splitDepth, useBoard);
+    }
+    return useBoard ? Perft.perft(position.createBoard(), depth)
+        : Perft.perft(new MutableBoard(position.createBoard()), depth);
+  }
+
+  private static long nodesPerSecond(final long nodes, final long elapsedNanos) {
+    return elapsedNanos == 0 ? 0L : nodes * 1_000_000_000L / elapsedNanos;
+  }
+}
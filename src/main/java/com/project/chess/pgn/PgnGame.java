@@ -0,0 +1,65 @@
+package com.project.chess.pgn;
+
+import com.project.chess.board.Board;
+import com.project.chess.moves.Move;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * PGN 파일이나 게임 데이터베이스에서 읽은 게임 하나입니다.
+ * <p>
+ * 포지션 목록은 시작 포지션과 각 이동 후의 포지션이므로 이동보다 하나 많습니다. 이동을 해석하지 못하면 그 앞까지의 이동과 포지션,
+ * 그리고 오류 메시지를 담습니다.
+ */
+@Getter
+public final class PgnGame {
+
+  private final Map<String, String> tags;
+  private final List<Move> moves;
+  private final List<Board> positions;
+  // "1-0", "0-1", "1/2-1/2", "*" 중 하나, 결과 없이 끝났으면 "*"
+  private final String result;
+  // 해석하지 못한 이동이 있으면 그 설명, 없으면 null
+  private final String error;
+
+  /**
+   * 생성자
+   *
+   * @param tags      태그 이름과 값
+   * @param moves     이동 목록
+   * @param positions 시작 포지션과 각 이동 후의 포지션
+   * @param result    게임 결과
+   * @param error     해석하지 못한 이동의 설명, 없으면 null
+   */
+  public PgnGame(final Map<String, String> tags, final List<Move> moves, final List<Board> positions,
+      final String result, final String error) {
+    this.tags = tags;
+    this.moves = moves;
+    this.positions = positions;
+    this.result = result;
+    this.error = error;
+  }
+
+  /**
+   * 태그 값을 반환합니다.
+   *
+   * @param name 태그 이름
+   * @return 태그 값, 없으면 null
+   */
+  public String getTag(final String name) {
+    return this.tags.get(name);
+  }
+
+  public Board getInitialBoard() {
+    return this.positions.get(0);
+  }
+
+  public Board getFinalBoard() {
+    return this.positions.get(this.positions.size() - 1);
+  }
+
+  public boolean hasError() {
+    return this.error != null;
+  }
+}
@@ -0,0 +1,666 @@
+package com.project.chess.pgn;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.BoardUtil;
+import com.project.chess.board.Fen;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.PawnPromotion;
+import com.project.chess.pieces.Piece.PieceType;
+import com.project.chess.player.MoveStatus;
+import com.project.chess.player.MoveTransition;
+import com.project.chess.player.Player;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * PGN 파일을 한 게임씩 읽는 반복자입니다.
+ * <p>
+ * 파일 전체나 게임 전체를 문자열로 읽지 않고, 하나의 다이렉트 버퍼로 {@link FileChannel}을 조금씩 읽으면서 바이트 단위로 해석하므로
+ * 수 GB의 파일도 일정한 메모리로 읽을 수 있습니다. 문자열로 만드는 것은 태그의 이름과 값뿐이며, 이동은 바이트에서 곧바로
+ * {@link Board}의 합법적인 {@link Move}로 해석합니다. 주석, 변화수, NAG와 {@code %} 이스케이프 줄은 건너뜁니다.
+ * <p>
+ * {@code FEN} 태그가 있으면 그 포지션에서, 없으면 표준 시작 포지션에서 시작합니다. 해석하지 못한 이동이 있으면 게임의 나머지
+ * 이동은 건너뛰고 {@link PgnGame#getError()}에 이유를 남기며, 다음 게임부터 계속 읽습니다. 스레드 안전하지 않습니다.
+ */
+public final class PgnReader implements Iterator<PgnGame>, Closeable {
+
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  private static final int EOF = -1;
+  private static final int NO_CHAR = -2;
+  private static final String UNKNOWN_RESULT = "*";
+  private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  private final FileChannel channel;
+  private final boolean ownsChannel;
+  private final ByteBuffer buffer;
+  // 다음에 읽을 채널 위치와 읽기를 멈출 위치
+  private long position;
+  private final long end;
+  // 파일 처음부터 읽으면 첫 게임을 읽기 전에 UTF-8 BOM을 확인합니다.
+  private boolean checkByteOrderMark;
+  // 현재 토큰 또는 태그 값의 바이트, 긴 태그 값을 만나면 늘어납니다.
+  private byte[] token = new byte[256];
+  private int tokenLength;
+  private int pushedBack = NO_CHAR;
+  // 마지막으로 읽은 문자가 줄 맨 앞이면 true, % 이스케이프 줄은 줄 맨 앞에서만 인식합니다.
+  private boolean lineStart;
+  private int previous = '\n';
+
+  private PgnGame nextGame;
+  private long gamesRead;
+
+  /**
+   * 생성자: 파일을 열고 기본 크기의 버퍼를 사용합니다.
+   *
+   * @param path PGN 파일 경로
+   * @throws IOException 파일을 열 수 없는 경우
+   */
+  public PgnReader(final Path path) throws IOException {
+    this(FileChannel.open(path, StandardOpenOption.READ), DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * 생성자
+   *
+   * @param channel    읽을 채널, {@link #close()}가 닫습니다
+   * @param bufferSize 읽기 버퍼 크기 (바이트)
+   * @throws IOException 채널의 위치를 읽을 수 없는 경우
+   */
+  public PgnReader(final FileChannel channel, final int bufferSize) throws IOException {
+    this(channel, channel.position(), Long.MAX_VALUE, bufferSize, true);
+  }
+
+  /**
+   * 생성자: 채널의 일부 구간만 읽습니다.
+   * <p>
+   * 채널의 위치를 바꾸지 않는 절대 위치 읽기를 사용하므로 여러 리더가 하나의 채널을 동시에 읽을 수 있습니다. 구간은 게임의 시작에서
+   * 시작하고 끝나야 하며, {@link #splitGames}로 나눈 경계를 사용할 수 있습니다.
+   *
+   * @param channel    읽을 채널, {@link #close()}가 닫지 않습니다
+   * @param start      읽기 시작할 위치 (바이트)
+   * @param end        읽기를 멈출 위치 (바이트, 제외)
+   * @param bufferSize 읽기 버퍼 크기 (바이트)
+   */
+  public PgnReader(final FileChannel channel, final long start, final long end,
+      final int bufferSize) {
+    this(channel, start, end, bufferSize, false);
+  }
+
+  private PgnReader(final FileChannel channel, final long start, final long end,
+      final int bufferSize, final boolean ownsChannel) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("버퍼 크기는 양수여야 합니다: " + bufferSize);
+    }
+    if (start < 0 || start > end) {
+      throw new IllegalArgumentException("잘못된 구간입니다: " + start + " - " + end);
+    }
+    this.channel = channel;
+    this.ownsChannel = ownsChannel;
+    this.position = start;
+    this.end = end;
+    this.checkByteOrderMark = start == 0;
+    this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    this.buffer.flip();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws UncheckedIOException 파일을 읽을 수 없는 경우
+   */
+  @Override
+  public boolean hasNext() {
+    if (this.nextGame == null) {
+      try {
+        this.nextGame = readGame();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return this.nextGame != null;
+  }
+
+  @Override
+  public PgnGame next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final PgnGame game = this.nextGame;
+    this.nextGame = null;
+    return game;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (this.ownsChannel) {
+      this.channel.close();
+    }
+  }
+
+  /**
+   * 지금까지 읽은 게임 수를 반환합니다.
+   *
+   * @return 게임 수
+   */
+  public long getGamesRead() {
+    return this.gamesRead;
+  }
+
+  /**
+   * 파일을 병렬로 읽을 수 있도록 게임 경계에서 나눕니다.
+   * <p>
+   * 이전 경계에서 목표 크기만큼 떨어진 위치부터, 빈 줄 바로 다음에 오는 첫 태그 줄({@code [}와 태그 이름으로 시작하는 줄)을
+   * 찾아 다음 경계로 삼습니다. 태그 줄 다음의 태그 줄은 같은 게임의 태그이고, 주석이 줄을 넘어가며 {@code [%clk ...]}처럼
+   * 줄 앞에 온 경우도 앞 줄이 비어 있지 않으므로 경계가 되지 않습니다. 게임 사이에 빈 줄이 없는 파일은 덜 나뉠 뿐 결과는 같습니다.
+   *
+   * @param channel   나눌 채널, 위치는 바뀌지 않습니다
+   * @param chunkSize 구간의 목표 크기 (바이트)
+   * @return 0으로 시작해 파일 크기로 끝나는 오름차순 경계, 구간 i는 경계 i부터 경계 i + 1 직전까지입니다
+   * @throws IOException 채널을 읽을 수 없는 경우
+   */
+  public static long[] splitGames(final FileChannel channel, final long chunkSize)
+      throws IOException {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("구간 크기는 양수여야 합니다: " + chunkSize);
+    }
+    final long size = channel.size();
+    final List<Long> boundaries = new ArrayList<>();
+    boundaries.add(0L);
+    final ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+    long boundary = 0L;
+    while (size - boundary > chunkSize) {
+      boundary = findGameStart(channel, boundary + chunkSize, size, buffer);
+      if (boundary >= size) {
+        break;
+      }
+      boundaries.add(boundary);
+    }
+    boundaries.add(size);
+    return boundaries.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  // from 이후에서 빈 줄 다음의 첫 태그 줄 위치를 찾습니다. from이 걸친 줄의 앞 줄은 알 수 없으므로 건너뜁니다.
+  private static long findGameStart(final FileChannel channel, final long from, final long size,
+      final ByteBuffer buffer) throws IOException {
+    boolean previousLineBlank = false;
+    boolean lineBlank = false;
+    boolean lineStart = false;
+    // '['로 시작하는 줄을 찾았으면 그 위치, 태그 이름이 이어지는지는 다음 바이트로 확인합니다.
+    long tagStart = -1L;
+    long position = from - 1;
+    buffer.clear().flip();
+    while (position < size) {
+      if (!buffer.hasRemaining()) {
+        buffer.clear();
+        if (channel.read(buffer, position) < 0) {
+          break;
+        }
+        buffer.flip();
+      }
+      final byte c = buffer.get();
+      if (tagStart >= 0) {
+        if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+          return tagStart;
+        }
+        tagStart = -1L;
+      }
+      if (c == '\n') {
+        if (position >= from) {
+          previousLineBlank = lineBlank;
+        }
+        lineBlank = true;
+        lineStart = true;
+      } else {
+        if (lineStart && c == '[' && previousLineBlank) {
+          tagStart = position;
+        }
+        if (!isWhitespace(c)) {
+          lineBlank = false;
+        }
+        lineStart = false;
+      }
+      position++;
+    }
+    return size;
+  }
+
+  private PgnGame readGame() throws IOException {
+    if (this.checkByteOrderMark) {
+      this.checkByteOrderMark = false;
+      skipByteOrderMark();
+    }
+    int c = skipWhitespace();
+    while (c == '%' && this.lineStart) {
+      skipLine();
+      c = skipWhitespace();
+    }
+    if (c == EOF) {
+      return null;
+    }
+
+    final Map<String, String> tags = new LinkedHashMap<>();
+    while (c == '[') {
+      readTag(tags);
+      c = skipWhitespace();
+    }
+
+    String error = null;
+    Board board;
+    final String fen = tags.get("FEN");
+    try {
+      board = fen != null ? Fen.parse(fen) : Board.createStandardBoard();
+    } catch (IllegalArgumentException e) {
+      error = e.getMessage();
+      board = Board.createStandardBoard();
+    }
+    final List<Move> moves = new ArrayList<>();
+    final List<Board> positions = new ArrayList<>();
+    positions.add(board);
+    String result = UNKNOWN_RESULT;
+
+    movetext:
+    while (c != EOF) {
+      switch (c) {
+        case '[' -> {
+          // 결과 없이 다음 게임의 태그가 시작되었습니다.
+          unread(c);
+          break movetext;
+        }
+        case '{' -> skipComment();
+        case ';' -> skipLine();
+        case '(' -> skipVariation();
+        case '%' -> {
+          if (this.lineStart) {
+            skipLine();
+          } else {
+            readToken(c);
+          }
+        }
+        case ')', '}', ']' -> {
+          // 짝이 맞지 않는 닫는 괄호는 무시합니다.
+        }
+        default -> {
+          readToken(c);
+          final String gameResult = readResult();
+          if (gameResult != null) {
+            result = gameResult;
+            break movetext;
+          }
+          final int start = skipMoveNumber();
+          // NAG, 수 번호만 있는 토큰, 떨어져 있는 "!?" 같은 평가 기호는 이동이 아닙니다.
+          if (c == '$' || isAnnotationOnly(start) || error != null) {
+            break;
+          }
+          final MoveTransition transition = resolveSan(board, start);
+          if (transition == null) {
+            error = (moves.size() / 2 + 1) + "번째 수의 이동 '"
+                + new String(this.token, start, this.tokenLength - start, StandardCharsets.UTF_8)
+                + "'을 해석할 수 없습니다.";
+          } else {
+            board = transition.getTransitionBoard();
+            moves.add(transition.getMove());
+            positions.add(board);
+          }
+        }
+      }
+      c = skipWhitespace();
+    }
+
+    this.gamesRead++;
+    return new PgnGame(tags, moves, positions, result, error);
+  }
+
+  /**
+   * 현재 토큰의 SAN 이동을 보드의 합법적인 이동으로 해석합니다.
+   *
+   * @param board 이동을 둘 보드
+   * @param start 토큰에서 SAN이 시작하는 위치
+   * @return 이동과 이동 후 보드, 맞는 합법적인 이동이 없거나 둘 이상이면 null
+   */
+  private MoveTransition resolveSan(final Board board, final int start) {
+    int end = this.tokenLength;
+    while (end > start && isAnnotation(this.token[end - 1])) {
+      end--;
+    }
+
+    final Player player = board.getCurrentPlayer();
+    final int castle = castleSide(start, end);
+    if (castle != 0) {
+      // 킹 쪽 캐슬링은 킹이 g열로, 퀸 쪽 캐슬링은 c열로 갑니다.
+      final int kingFile = castle > 0 ? 6 : 2;
+      for (final Move move : player.getLegalMoves()) {
+        if (move.isCastlingMove()
+            && move.getDestinationCoordinate() % BoardUtil.NUM_TILES_PER_ROW == kingFile) {
+          final MoveTransition transition = player.makeMove(move);
+          return transition.getMoveStatus() == MoveStatus.DONE ? transition : null;
+        }
+      }
+      return null;
+    }
+
+    int index = start;
+    PieceType pieceType = pieceType(this.token[index]);
+    if (pieceType == null) {
+      pieceType = PieceType.PAWN;
+    } else {
+      index++;
+    }
+
+    PieceType promotionType = null;
+    if (end - index >= 2 && this.token[end - 2] == '=') {
+      promotionType = pieceType(this.token[end - 1]);
+      end -= 2;
+    } else if (pieceType == PieceType.PAWN && end > index
+        && pieceType(this.token[end - 1]) != null) {
+      promotionType = pieceType(this.token[end - 1]);
+      end--;
+    }
+    if (end - index < 2) {
+      return null;
+    }
+
+    final int file = this.token[end - 2] - 'a';
+    final int rank = this.token[end - 1] - '1';
+    if (!isCoordinate(file) || !isCoordinate(rank)) {
+      return null;
+    }
+    final int destination = (BoardUtil.NUM_TILES_PER_ROW - 1 - rank) * BoardUtil.NUM_TILES_PER_ROW
+        + file;
+
+    int fromFile = -1;
+    int fromRank = -1;
+    for (int i = index; i < end - 2; i++) {
+      final byte b = this.token[i];
+      if (b >= 'a' && b <= 'h') {
+        fromFile = b - 'a';
+      } else if (b >= '1' && b <= '8') {
+        fromRank = b - '1';
+      } else if (b != 'x' && b != ':' && b != '-') {
+        return null;
+      }
+    }
+
+    MoveTransition found = null;
+    for (final Move move : player.getLegalMoves()) {
+      if (move.isCastlingMove()
+          || move.getDestinationCoordinate() != destination
+          || move.getMovedPiece().getPieceType() != pieceType) {
+        continue;
+      }
+      final int from = move.getCurrentCoordinate();
+      if ((fromFile >= 0 && from % BoardUtil.NUM_TILES_PER_ROW != fromFile)
+          || (fromRank >= 0
+          && BoardUtil.NUM_TILES_PER_ROW - 1 - from / BoardUtil.NUM_TILES_PER_ROW != fromRank)) {
+        continue;
+      }
+      final PieceType movePromotion = move instanceof PawnPromotion promotion
+          ? promotion.getPromotionPiece().getPieceType() : null;
+      if (movePromotion != promotionType) {
+        continue;
+      }
+      final MoveTransition transition = player.makeMove(move);
+      if (transition.getMoveStatus() == MoveStatus.DONE) {
+        if (found != null) {
+          return null;
+        }
+        found = transition;
+      }
+    }
+    return found;
+  }
+
+  // 킹 쪽이면 1, 퀸 쪽이면 -1, 캐슬링이 아니면 0
+  private int castleSide(final int start, final int end) {
+    final int length = end - start;
+    if (length != 3 && length != 5) {
+      return 0;
+    }
+    for (int i = start; i < end; i++) {
+      final byte b = this.token[i];
+      final boolean expectDash = (i - start) % 2 == 1;
+      if (expectDash ? b != '-' : b != 'O' && b != '0') {
+        return 0;
+      }
+    }
+    return length == 3 ? 1 : -1;
+  }
+
+  private static PieceType pieceType(final byte symbol) {
+    return switch (symbol) {
+      case 'K' -> PieceType.KING;
+      case 'Q' -> PieceType.QUEEN;
+      case 'R' -> PieceType.ROOK;
+      case 'B' -> PieceType.BISHOP;
+      case 'N' -> PieceType.KNIGHT;
+      default -> null;
+    };
+  }
+
+  private boolean isAnnotationOnly(final int start) {
+    for (int i = start; i < this.tokenLength; i++) {
+      if (!isAnnotation(this.token[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAnnotation(final byte b) {
+    return b == '+' || b == '#' || b == '!' || b == '?';
+  }
+
+  private static boolean isCoordinate(final int value) {
+    return value >= 0 && value < BoardUtil.NUM_TILES_PER_ROW;
+  }
+
+  /**
+   * 현재 토큰이 게임 결과이면 그 문자열을 반환합니다.
+   */
+  private String readResult() {
+    if (matches("1-0")) {
+      return "1-0";
+    }
+    if (matches("0-1")) {
+      return "0-1";
+    }
+    if (matches("1/2-1/2")) {
+      return "1/2-1/2";
+    }
+    if (matches("*")) {
+      return UNKNOWN_RESULT;
+    }
+    return null;
+  }
+
+  private boolean matches(final String text) {
+    if (this.tokenLength != text.length()) {
+      return false;
+    }
+    for (int i = 0; i < this.tokenLength; i++) {
+      if (this.token[i] != text.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 토큰 앞의 "12." 또는 "12..." 형식의 수 번호를 건너뜁니다. 숫자 뒤에 점이 없으면 수 번호가 아닙니다 ("0-0").
+   *
+   * @return SAN이 시작하는 위치, 토큰이 수 번호뿐이면 토큰 길이
+   */
+  private int skipMoveNumber() {
+    int i = 0;
+    while (i < this.tokenLength && this.token[i] >= '0' && this.token[i] <= '9') {
+      i++;
+    }
+    if (i == this.tokenLength || this.token[i] != '.') {
+      i = 0;
+    }
+    while (i < this.tokenLength && this.token[i] == '.') {
+      i++;
+    }
+    return i;
+  }
+
+  private void readTag(final Map<String, String> tags) throws IOException {
+    int c = skipWhitespace();
+    this.tokenLength = 0;
+    while (c != EOF && c != '"' && c != ']' && !isWhitespace(c)) {
+      append(c);
+      c = read();
+    }
+    final String name = new String(this.token, 0, this.tokenLength, StandardCharsets.UTF_8);
+    if (isWhitespace(c)) {
+      c = skipWhitespace();
+    }
+
+    this.tokenLength = 0;
+    if (c == '"') {
+      c = read();
+      while (c != EOF && c != '"' && c != '\n') {
+        if (c == '\\') {
+          c = read();
+          if (c == EOF) {
+            break;
+          }
+        }
+        append(c);
+        c = read();
+      }
+      c = read();
+    }
+    while (c != EOF && c != ']' && c != '\n') {
+      c = read();
+    }
+    if (!name.isEmpty()) {
+      tags.put(name, new String(this.token, 0, this.tokenLength, StandardCharsets.UTF_8));
+    }
+  }
+
+  private void readToken(final int first) throws IOException {
+    this.tokenLength = 0;
+    int c = first;
+    do {
+      append(c);
+      c = read();
+    } while (c != EOF && !isWhitespace(c) && !isDelimiter(c));
+    unread(c);
+  }
+
+  private void append(final int c) {
+    if (this.tokenLength == this.token.length) {
+      this.token = Arrays.copyOf(this.token, this.token.length * 2);
+    }
+    this.token[this.tokenLength++] = (byte) c;
+  }
+
+  private void skipComment() throws IOException {
+    int c;
+    do {
+      c = read();
+    } while (c != EOF && c != '}');
+  }
+
+  private void skipLine() throws IOException {
+    int c;
+    do {
+      c = read();
+    } while (c != EOF && c != '\n');
+  }
+
+  // 변화수는 중첩될 수 있고, 안의 주석에 괄호가 있을 수 있습니다.
+  private void skipVariation() throws IOException {
+    int depth = 1;
+    while (depth > 0) {
+      final int c = read();
+      switch (c) {
+        case EOF -> depth = 0;
+        case '(' -> depth++;
+        case ')' -> depth--;
+        case '{' -> skipComment();
+        case ';' -> skipLine();
+        default -> {
+        }
+      }
+    }
+  }
+
+  private int skipWhitespace() throws IOException {
+    int c = read();
+    while (isWhitespace(c)) {
+      c = read();
+    }
+    return c;
+  }
+
+  // 아직 버퍼를 채우기 전이므로 절대 위치로 파일 앞의 세 바이트를 확인합니다.
+  private void skipByteOrderMark() throws IOException {
+    if (this.end < BYTE_ORDER_MARK.length) {
+      return;
+    }
+    final ByteBuffer head = ByteBuffer.allocate(BYTE_ORDER_MARK.length);
+    int read;
+    do {
+      read = this.channel.read(head, head.position());
+    } while (read > 0 && head.hasRemaining());
+    if (Arrays.equals(head.array(), BYTE_ORDER_MARK)) {
+      this.position = BYTE_ORDER_MARK.length;
+    }
+  }
+
+  // 구분자는 ASCII 공백뿐입니다. 0x80 이상의 바이트는 UTF-8 문자의 일부이므로 토큰과 태그에 그대로 남깁니다.
+  private static boolean isWhitespace(final int c) {
+    return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f';
+  }
+
+  private static boolean isDelimiter(final int c) {
+    return c == '{' || c == '}' || c == '(' || c == ')' || c == '[' || c == ']' || c == ';'
+        || c == '$';
+  }
+
+  private int read() throws IOException {
+    if (this.pushedBack != NO_CHAR) {
+      final int c = this.pushedBack;
+      this.pushedBack = NO_CHAR;
+      return c;
+    }
+    if (!this.buffer.hasRemaining()) {
+      if (this.position >= this.end) {
+        return EOF;
+      }
+      this.buffer.clear();
+      if (this.end - this.position < this.buffer.capacity()) {
+        this.buffer.limit((int) (this.end - this.position));
+      }
+      final int read = this.channel.read(this.buffer, this.position);
+      this.buffer.flip();
+      if (read < 0) {
+        return EOF;
+      }
+      this.position += read;
+    }
+    final int c = this.buffer.get() & 0xFF;
+    this.lineStart = this.previous == '\n';
+    this.previous = c;
+    return c;
+  }
+
+  private void unread(final int c) {
+    this.pushedBack = c;
+  }
+}
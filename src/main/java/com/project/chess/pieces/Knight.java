@@ -1,18 +1,10 @@
 package com.project.chess.pieces;
 
-import static com.project.chess.board.BoardUtil.isValidCoordinate;
-
-import com.google.common.collect.ImmutableList;
 import com.project.chess.Alliance;
 import com.project.chess.board.Board;
-import com.project.chess.board.Tile;
 import com.project.chess.moves.Move;
-import com.project.chess.moves.Move.AttackMove;
-import com.project.chess.moves.Move.MajorMove;
 import com.project.chess.pieces.precompute.KnightMovePrecompute;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 /**
  * 체스의 나이트(말)를 나타냅니다.
@@ -29,6 +21,10 @@ public class Knight extends Piece {
     super(PieceType.KNIGHT, piecePosition, pieceAlliance);
   }
 
+  public Knight(final int piecePosition, final Alliance pieceAlliance, final boolean isFirstMove) {
+    super(PieceType.KNIGHT, piecePosition, pieceAlliance, isFirstMove);
+  }
+
   /**
    * 주어진 보드에서 나이트의 합법적인 이동을 계산합니다.
    *
@@ -37,44 +33,18 @@ public class Knight extends Piece {
    */
   @Override
   public Collection<Move> calculateLegalMoves(final Board board) {
-    final List<Move> legalMoves = new ArrayList<>();
-
-    // Precomputed possible moves for the current position
-    List<Integer> precomputedMoves = KnightMovePrecompute.getKnightMoves(this.piecePosition);
-
-    // Check each precomputed move
-    for (final int candidateDestinationCoordinate : precomputedMoves) {
-      if (isValidCoordinate(candidateDestinationCoordinate)) {
-        final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-
-        // If the destination tile is not occupied, add a major move
-        if (!candidateDestinationTile.isTileOccupied()) {
-          legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
-        } else {
-          // If the destination tile is occupied, check the alliance of the piece
-          final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-          final Alliance pieceAlliance = pieceAtDestination.getPieceAlliance();
-
-          // If the piece is an enemy piece, add an attack move
-          if (this.pieceAlliance != pieceAlliance) {
-            legalMoves.add(
-                new AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
-          }
-        }
-      }
-    }
-
-    // Return the list of legal moves
-    return ImmutableList.copyOf(legalMoves);
+    // Precomputed attack mask for the current position
+    return createMoves(board, KnightMovePrecompute.getKnightAttacks(this.piecePosition));
   }
 
   @Override
   public Knight movePiece(Move move) {
-    return new Knight(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance());
+    return new Knight(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(),
+        false);
   }
 
   @Override
   public String toString() {
     return PieceType.KNIGHT.toString();
   }
-}
\ No newline at end of file
+}
@@ -1,16 +1,19 @@
 package com.project.chess.pieces;
 
-import static com.project.chess.board.BoardUtil.EIGHTH_COLUMN;
-import static com.project.chess.board.BoardUtil.FIRST_COLUMN;
-import static com.project.chess.board.BoardUtil.SEVENTH_RANK;
 import static com.project.chess.board.BoardUtil.SECOND_RANK;
-import static com.project.chess.board.BoardUtil.isValidCoordinate;
+import static com.project.chess.board.BoardUtil.SEVENTH_RANK;
 
 import com.google.common.collect.ImmutableList;
 import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
 import com.project.chess.board.Board;
 import com.project.chess.moves.Move;
-import com.project.chess.moves.Move.MajorMove;
+import com.project.chess.moves.PawnAttackMove;
+import com.project.chess.moves.PawnEnpassantAttackMove;
+import com.project.chess.moves.PawnJump;
+import com.project.chess.moves.PawnMove;
+import com.project.chess.moves.PawnPromotion;
+import com.project.chess.pieces.precompute.PawnAttackPrecompute;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -20,9 +23,6 @@ import java.util.List;
  */
 public class Pawn extends Piece {
 
-  // 폰의 가능한 이동 오프셋
-  private static final int[] CANDIDATE_MOVE_COORDINATES = {7, 8, 9, 16};
-
   /**
    * 폰 조각의 생성자.
    *
@@ -33,6 +33,10 @@ public class Pawn extends Piece {
     super(PieceType.PAWN, piecePosition, pieceAlliance);
   }
 
+  public Pawn(final int piecePosition, final Alliance pieceAlliance, final boolean isFirstMove) {
+    super(PieceType.PAWN, piecePosition, pieceAlliance, isFirstMove);
+  }
+
   /**
    * 주어진 보드에서 폰의 합법적인 이동을 계산합니다.
    *
@@ -41,69 +45,88 @@ public class Pawn extends Piece {
    */
   @Override
   public Collection<Move> calculateLegalMoves(final Board board) {
-
+    final BitBoard bitBoard = board.getBitBoard();
+    final long emptySquares = ~bitBoard.getOccupancy();
+    final int forward = this.pieceAlliance.getDirection() * 8;
     final List<Move> legalMoves = new ArrayList<>();
 
-    for (final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES) {
-      // 이동 후보 좌표 계산
-      int candidateDestinationCoordinate =
-          this.piecePosition + (this.pieceAlliance.getDirection() * currentCandidateOffset);
+    // 한 칸 앞으로 이동 (폰은 승진 랭크 전에 항상 앞 칸이 보드 안에 있습니다)
+    final int pushDestination = this.piecePosition + forward;
+    if ((emptySquares & (1L << pushDestination)) != 0) {
+      if (this.pieceAlliance.isPawnPromotionSquare(pushDestination)) {
+        addPromotions(new PawnMove(board, this, pushDestination), legalMoves);
+      } else {
+        legalMoves.add(new PawnMove(board, this, pushDestination));
 
-      // 후보 좌표가 유효한지 확인
-      if (!isValidCoordinate(candidateDestinationCoordinate)) {
-        continue;
-      }
-
-      // 한 칸 앞으로 이동
-      if (currentCandidateOffset == 8 && !board.getTile(candidateDestinationCoordinate)
-          .isTileOccupied()) {
-        // TODO: 폰 프로모션 처리
-        legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
-      }
-      // 두 칸 앞으로 이동
-      else if (currentCandidateOffset == 16 && this.isFirstMove() &&
-          ((SEVENTH_RANK[this.piecePosition] && this.pieceAlliance.isBlack()) ||
-              (SECOND_RANK[this.piecePosition] && this.pieceAlliance.isWhite()))) {
-        final int behindCandidateDestinationCoordinate =
-            this.piecePosition + (this.pieceAlliance.getDirection() * 8);
-        if (!board.getTile(behindCandidateDestinationCoordinate).isTileOccupied() &&
-            !board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-          legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
+        // 두 칸 앞으로 이동
+        final int jumpDestination = pushDestination + forward;
+        if (isOnStartingRank() && (emptySquares & (1L << jumpDestination)) != 0) {
+          legalMoves.add(new PawnJump(board, this, jumpDestination));
         }
       }
-      // 대각선 왼쪽 이동 (공격)
-      else if (currentCandidateOffset == 7 &&
-          !((EIGHTH_COLUMN[this.piecePosition] && this.pieceAlliance.isWhite()) ||
-              (FIRST_COLUMN[this.piecePosition] && this.pieceAlliance.isBlack()))) {
-        if (board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-          final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
-          if (this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-            legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
-          }
-        }
+    }
+
+    // 대각선 공격
+    final long attacks = PawnAttackPrecompute.getPawnAttacks(this.pieceAlliance,
+        this.piecePosition);
+    long captures = attacks & bitBoard.getAllianceOccupancy(this.pieceAlliance.getOpposite());
+    while (captures != 0) {
+      final int destination = Long.numberOfTrailingZeros(captures);
+      final Move attackMove = new PawnAttackMove(board, this, destination,
+          board.getPiece(destination));
+      if (this.pieceAlliance.isPawnPromotionSquare(destination)) {
+        addPromotions(attackMove, legalMoves);
+      } else {
+        legalMoves.add(attackMove);
       }
-      // 대각선 오른쪽 이동 (공격)
-      else if (currentCandidateOffset == 9 &&
-          !((FIRST_COLUMN[this.piecePosition] && this.pieceAlliance.isWhite()) ||
-              (EIGHTH_COLUMN[this.piecePosition] && this.pieceAlliance.isBlack()))) {
-        if (board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-          final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
-          if (this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-            legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
-          }
-        }
+      captures &= captures - 1;
+    }
+
+    // 앙파상 공격: 직전에 두 칸 전진한 상대 폰의 뒤쪽 타일을 공격합니다.
+    final Pawn enPassantPawn = board.getEnPassantPawn();
+    if (enPassantPawn != null && enPassantPawn.getPieceAlliance() != this.pieceAlliance) {
+      final int enPassantDestination = enPassantPawn.getPiecePosition() + forward;
+      if ((attacks & (1L << enPassantDestination)) != 0) {
+        legalMoves.add(new PawnEnpassantAttackMove(board, this, enPassantDestination,
+            enPassantPawn));
       }
     }
+
     return ImmutableList.copyOf(legalMoves);
   }
 
+  /**
+   * 폰이 시작 랭크에 있는지 확인합니다.
+   *
+   * @return 시작 랭크에 있으면 true, 아니면 false
+   */
+  private boolean isOnStartingRank() {
+    return (SEVENTH_RANK[this.piecePosition] && this.pieceAlliance.isBlack()) ||
+        (SECOND_RANK[this.piecePosition] && this.pieceAlliance.isWhite());
+  }
+
+  /**
+   * 승진 랭크에 도달하는 이동을 퀸, 룩, 비숍, 나이트 승진 이동으로 확장합니다.
+   *
+   * @param pawnMove   승진 랭크에 도달하는 폰 이동
+   * @param legalMoves 이동을 추가할 목록
+   */
+  private void addPromotions(final Move pawnMove, final List<Move> legalMoves) {
+    final int destination = pawnMove.getDestinationCoordinate();
+    legalMoves.add(new PawnPromotion(pawnMove, new Queen(destination, this.pieceAlliance, false)));
+    legalMoves.add(new PawnPromotion(pawnMove, new Rook(destination, this.pieceAlliance, false)));
+    legalMoves.add(new PawnPromotion(pawnMove, new Bishop(destination, this.pieceAlliance, false)));
+    legalMoves.add(new PawnPromotion(pawnMove, new Knight(destination, this.pieceAlliance, false)));
+  }
+
   @Override
   public Pawn movePiece(Move move) {
-    return new Pawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance());
+    return new Pawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(),
+        false);
   }
 
   @Override
   public String toString() {
     return PieceType.PAWN.toString();
   }
-}
\ No newline at end of file
+}
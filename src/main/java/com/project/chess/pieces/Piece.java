@@ -1,8 +1,12 @@
 package com.project.chess.pieces;
 
+import com.google.common.collect.ImmutableList;
 import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
 import com.project.chess.board.Board;
 import com.project.chess.moves.Move;
+import com.project.chess.moves.Move.AttackMove;
+import com.project.chess.moves.Move.MajorMove;
 import java.util.Collection;
 import java.util.Objects;
 import lombok.Getter;
@@ -21,10 +25,15 @@ public abstract class Piece {
 
   protected Piece(final PieceType pieceType, final int piecePosition,
       final Alliance pieceAlliance) {
+    this(pieceType, piecePosition, pieceAlliance, true);
+  }
+
+  protected Piece(final PieceType pieceType, final int piecePosition,
+      final Alliance pieceAlliance, final boolean isFirstMove) {
     this.pieceType = pieceType;
     this.piecePosition = piecePosition;
     this.pieceAlliance = pieceAlliance;
-    this.isFirstMove = false;
+    this.isFirstMove = isFirstMove;
     this.cachedHashCode = Objects.hash(this.pieceType, this.piecePosition, this.pieceAlliance);
   }
 
@@ -42,6 +51,32 @@ public abstract class Piece {
 
   public abstract Piece movePiece(Move move);
 
+  /**
+   * 목적지 비트마스크로부터 이동 목록을 생성합니다. 아군 기물이 있는 타일은 제외하고, 적군 기물이 있는 타일은 공격 이동이 됩니다.
+   *
+   * @param board      이동을 계산할 보드
+   * @param attackMask 조각이 도달할 수 있는 타일의 비트마스크
+   * @return 이동 컬렉션
+   */
+  protected Collection<Move> createMoves(final Board board, final long attackMask) {
+    final BitBoard bitBoard = board.getBitBoard();
+    final long enemyOccupancy = bitBoard.getAllianceOccupancy(this.pieceAlliance.getOpposite());
+    long destinations = attackMask & ~bitBoard.getAllianceOccupancy(this.pieceAlliance);
+    final Move[] legalMoves = new Move[Long.bitCount(destinations)];
+
+    int index = 0;
+    while (destinations != 0) {
+      final int destination = Long.numberOfTrailingZeros(destinations);
+      if ((enemyOccupancy & (1L << destination)) != 0) {
+        legalMoves[index++] = new AttackMove(board, this, destination, board.getPiece(destination));
+      } else {
+        legalMoves[index++] = new MajorMove(board, this, destination);
+      }
+      destinations &= destinations - 1;
+    }
+    return ImmutableList.copyOf(legalMoves);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -1,50 +1,73 @@
 package com.project.chess.pieces.precompute;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class BishopBitboard {
 
-  private static final Map<Integer, Long> BISHOP_MOVE_MASKS = new HashMap<>();
+  // 방향별 광선: 북서(-9), 북동(-7), 남서(7), 남동(9)
+  private static final int[][] DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+  private static final long[][] BISHOP_RAYS = new long[DIRECTIONS.length][64];
+  private static final long[] BISHOP_MOVE_MASKS = new long[64];
 
   static {
     for (int i = 0; i < 64; i++) {
-      BISHOP_MOVE_MASKS.put(i, computeBishopMoves(i));
+      for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+        BISHOP_RAYS[direction][i] = computeRay(i, DIRECTIONS[direction][0],
+            DIRECTIONS[direction][1]);
+        BISHOP_MOVE_MASKS[i] |= BISHOP_RAYS[direction][i];
+      }
     }
   }
 
-  private static long computeBishopMoves(int position) {
-    long moves = 0L;
-    int[] directions = {-9, -7, 7, 9};
-    for (int direction : directions) {
-      int currentPos = position;
-      while (isValidCoordinate(currentPos)) {
-        currentPos += direction;
-        if (isFirstColumnExclusion(currentPos, direction) || isEighthColumnExclusion(currentPos,
-            direction)) {
-          break;
-        }
-        if (isValidCoordinate(currentPos)) {
-          moves |= 1L << currentPos;
-        }
-      }
+  private static long computeRay(int position, int rowStep, int columnStep) {
+    long ray = 0L;
+    int row = position / 8 + rowStep;
+    int column = position % 8 + columnStep;
+    while (row >= 0 && row < 8 && column >= 0 && column < 8) {
+      ray |= 1L << (row * 8 + column);
+      row += rowStep;
+      column += columnStep;
     }
-    return moves;
+    return ray;
   }
 
-  private static boolean isValidCoordinate(int coordinate) {
-    return coordinate >= 0 && coordinate < 64;
+  public static long getBishopMoves(int position) {
+    return BISHOP_MOVE_MASKS[position];
   }
 
-  private static boolean isFirstColumnExclusion(int currentPosition, int candidateOffset) {
-    return (currentPosition % 8 == 0) && (candidateOffset == -9 || candidateOffset == 7);
+  /**
+   * 주어진 점유 상태에서 비숍이 공격하는 타일의 비트마스크를 반환합니다. 매직 비트보드 테이블을 한 번 조회합니다.
+   *
+   * @param position  비숍의 위치
+   * @param occupancy 보드 전체의 점유 비트마스크
+   * @return 공격 가능한 타일의 비트마스크 (막는 기물의 타일 포함)
+   */
+  public static long getBishopAttacks(int position, long occupancy) {
+    return MagicBitboard.getBishopAttacks(position, occupancy);
   }
 
-  private static boolean isEighthColumnExclusion(int currentPosition, int candidateOffset) {
-    return (currentPosition % 8 == 7) && (candidateOffset == -7 || candidateOffset == 9);
+  /**
+   * 광선을 따라 비숍의 공격 범위를 계산합니다. 매직 테이블을 채울 때 사용합니다.
+   *
+   * @param position  비숍의 위치
+   * @param occupancy 보드 전체의 점유 비트마스크
+   * @return 공격 가능한 타일의 비트마스크 (막는 기물의 타일 포함)
+   */
+  static long calculateBishopAttacks(int position, long occupancy) {
+    return SlidingRays.rayAttacks(BISHOP_RAYS[0], position, occupancy, false)
+        | SlidingRays.rayAttacks(BISHOP_RAYS[1], position, occupancy, false)
+        | SlidingRays.rayAttacks(BISHOP_RAYS[2], position, occupancy, true)
+        | SlidingRays.rayAttacks(BISHOP_RAYS[3], position, occupancy, true);
   }
 
-  public static long getBishopMoves(int position) {
-    return BISHOP_MOVE_MASKS.get(position);
+  /**
+   * 공격 범위에 영향을 주는 점유 타일의 마스크를 반환합니다. 광선 끝의 가장자리 타일은 막는 기물이 있어도 결과가 같으므로 제외합니다.
+   *
+   * @param position 비숍의 위치
+   * @return 관련 점유 마스크
+   */
+  static long getRelevantOccupancyMask(int position) {
+    return SlidingRays.withoutEdge(BISHOP_RAYS[0][position], false)
+        | SlidingRays.withoutEdge(BISHOP_RAYS[1][position], false)
+        | SlidingRays.withoutEdge(BISHOP_RAYS[2][position], true)
+        | SlidingRays.withoutEdge(BISHOP_RAYS[3][position], true);
   }
-}
\ No newline at end of file
+}
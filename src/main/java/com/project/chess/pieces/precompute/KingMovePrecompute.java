@@ -0,0 +1,30 @@
+package com.project.chess.pieces.precompute;
+
+public class KingMovePrecompute {
+
+  private static final int[][] CANDIDATE_MOVE_STEPS = {
+      {-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+  private static final long[] KING_ATTACK_MASKS = new long[64];
+
+  static {
+    for (int i = 0; i < 64; i++) {
+      KING_ATTACK_MASKS[i] = calculateKingAttacks(i);
+    }
+  }
+
+  private static long calculateKingAttacks(int position) {
+    long attacks = 0L;
+    for (int[] step : CANDIDATE_MOVE_STEPS) {
+      int row = position / 8 + step[0];
+      int column = position % 8 + step[1];
+      if (row >= 0 && row < 8 && column >= 0 && column < 8) {
+        attacks |= 1L << (row * 8 + column);
+      }
+    }
+    return attacks;
+  }
+
+  public static long getKingAttacks(int position) {
+    return KING_ATTACK_MASKS[position];
+  }
+}
@@ -11,11 +11,16 @@ public class KnightMovePrecompute {
 
   private static final int[] CANDIDATE_MOVE_COORDINATES = {-17, -15, -10, -6, 6, 10, 15, 17};
   private static final ImmutableMap<Integer, List<Integer>> KNIGHT_MOVES_CACHE;
+  private static final long[] KNIGHT_ATTACK_MASKS = new long[64];
 
   static {
     Map<Integer, List<Integer>> movesMap = new HashMap<>();
     for (int i = 0; i < 64; i++) {
-      movesMap.put(i, calculateKnightMoves(i));
+      final List<Integer> knightMoves = calculateKnightMoves(i);
+      movesMap.put(i, knightMoves);
+      for (int destination : knightMoves) {
+        KNIGHT_ATTACK_MASKS[i] |= 1L << destination;
+      }
     }
     KNIGHT_MOVES_CACHE = ImmutableMap.copyOf(movesMap);
   }
@@ -67,4 +72,8 @@ public class KnightMovePrecompute {
     return KNIGHT_MOVES_CACHE.get(position);
   }
 
+  public static long getKnightAttacks(int position) {
+    return KNIGHT_ATTACK_MASKS[position];
+  }
+
 }
\ No newline at end of file
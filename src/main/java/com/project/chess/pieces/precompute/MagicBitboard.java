@@ -0,0 +1,139 @@
+package com.project.chess.pieces.precompute;
+
+/**
+ * 매직 비트보드를 이용해 룩과 비숍의 공격 범위를 조회하는 클래스입니다.
+ * <p>
+ * 관련 점유 마스크로 걸러낸 점유 상태에 위치별 매직 상수를 곱하고 상위 비트만 남기면, 서로 다른 공격 범위가 충돌하지 않는
+ * 테이블 인덱스가 됩니다. 모든 위치의 테이블은 하나의 평평한 {@code long[]}에 이어 붙여 저장합니다. 매직 상수는 이 프로젝트의
+ * 타일 좌표(0 = a8, 63 = h1)에 맞춰 고정 시드 무작위 탐색으로 찾은 값입니다.
+ */
+public final class MagicBitboard {
+
+  private static final long[] ROOK_MAGICS = {
+      0x0080018840015420L, 0x0540100420014002L, 0x0100110008402004L,
+      0x0900100100200408L, 0x2A00200200080410L, 0x6080040002008001L,
+      0x4280020000800100L, 0x0180004100002480L, 0x0020800232400280L,
+      0x0189402010004001L, 0x0008802000801008L, 0x8082001008204204L,
+      0x0022000A00201004L, 0x0804802400020080L, 0x2114001001080204L,
+      0x0001800500004080L, 0x8040208000400080L, 0x4110820022420300L,
+      0x0000808010002002L, 0x0000090010002100L, 0x0000808004000802L,
+      0x0002008002040080L, 0x08E0040001100208L, 0x8288060000A24C03L,
+      0x8800802080004000L, 0x8090500040002000L, 0x9020010100104020L,
+      0x200A001200200840L, 0x020C000808004080L, 0x0002000200100804L,
+      0x0001002100141200L, 0x0080014200209904L, 0x0080814001800024L,
+      0x8410002000404002L, 0x0220A00082803000L, 0x0000080080801000L,
+      0x8404008008080040L, 0x4006000402000810L, 0x0801020804005001L,
+      0x4400800040800100L, 0x044018C221808000L, 0x1021500320044000L,
+      0x3006048020120041L, 0x1270008008008010L, 0x2054000800808004L,
+      0x40C1000804010002L, 0x05800208410400B0L, 0x0640508061160004L,
+      0x202040118000A280L, 0x0020084008802080L, 0x0008204080120200L,
+      0x4101A30210000900L, 0x090500C800045100L, 0x000200E4000E8080L,
+      0x0030500102884400L, 0x1900404401008200L, 0x8010800010204109L,
+      0x2020108900244001L, 0x9000084011002001L, 0x1042442100C81001L,
+      0x1409000210040801L, 0x0112000811041016L, 0x197A100802008104L,
+      0x0928840102815422L
+  };
+
+  private static final long[] BISHOP_MAGICS = {
+      0x0440100200803280L, 0x4250100900618808L, 0x2004010425084090L,
+      0x840C042580A00001L, 0x0014242000800002L, 0x0042086208000288L,
+      0x0080420820088040L, 0x8029010810840402L, 0x4020040410040108L,
+      0x0020840404040832L, 0x8C201044004040A8L, 0x8000040418800204L,
+      0x4110C11041182050L, 0xC881010120100000L, 0x9210020202218401L,
+      0x4300048401080201L, 0x5140002104240080L, 0xC104001050009100L,
+      0x80900C8A44048220L, 0x0208000C02400A04L, 0x0284002A0611100DL,
+      0x4001000480A0010AL, 0x8004100C80841049L, 0x0000400208420800L,
+      0x2020100020024220L, 0x02080400A9210815L, 0x0000500008008012L,
+      0x7034080020220040L, 0x00490010A5004000L, 0x0000920001010080L,
+      0x020A285028841000L, 0x0001120003420089L, 0x9044022001424410L,
+      0x100110820008880CL, 0x1021004046080080L, 0x2200020080480082L,
+      0x2004140400001010L, 0x2000900102038084L, 0x0021190204040240L,
+      0x0004244200614120L, 0x02008248401C2000L, 0x8005010820810280L,
+      0x0030202030002800L, 0x0000020102412403L, 0x4100080104442400L,
+      0x000AAE1042000100L, 0x1002108111008200L, 0x0008420040400200L,
+      0x4086023005040004L, 0x0012841111100200L, 0x240004242208270AL,
+      0x000C081104980400L, 0x0020A00410440000L, 0x1800430408098400L,
+      0x2020C40102240000L, 0x00788200DC01000AL, 0x1100105110082000L,
+      0x0600004420A80808L, 0x00018003004110A4L, 0x1010700000208830L,
+      0x0801102091020200L, 0x4000000408105100L, 0x8000300401481620L,
+      0x1010042810404200L
+  };
+
+  private static final long[] ROOK_MASKS = new long[64];
+  private static final long[] BISHOP_MASKS = new long[64];
+  private static final int[] ROOK_SHIFTS = new int[64];
+  private static final int[] BISHOP_SHIFTS = new int[64];
+  private static final int[] ROOK_OFFSETS = new int[64];
+  private static final int[] BISHOP_OFFSETS = new int[64];
+  private static final long[] ROOK_ATTACKS;
+  private static final long[] BISHOP_ATTACKS;
+
+  static {
+    ROOK_ATTACKS = initAttackTable(ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_OFFSETS, true);
+    BISHOP_ATTACKS = initAttackTable(BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_OFFSETS,
+        false);
+  }
+
+  private MagicBitboard() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * 모든 위치의 관련 점유 부분집합을 열거하여 공격 테이블을 채웁니다.
+   *
+   * @return 모든 위치의 공격 범위를 이어 붙인 테이블
+   */
+  private static long[] initAttackTable(final long[] masks, final long[] magics,
+      final int[] shifts, final int[] offsets, final boolean rook) {
+    int size = 0;
+    for (int position = 0; position < 64; position++) {
+      masks[position] = rook ? RookBitboard.getRelevantOccupancyMask(position)
+          : BishopBitboard.getRelevantOccupancyMask(position);
+      shifts[position] = 64 - Long.bitCount(masks[position]);
+      offsets[position] = size;
+      size += 1 << Long.bitCount(masks[position]);
+    }
+
+    final long[] attacks = new long[size];
+    for (int position = 0; position < 64; position++) {
+      final long mask = masks[position];
+      long subset = 0L;
+      // Carry-Rippler 방식으로 마스크의 모든 부분집합을 순회합니다.
+      do {
+        final long attack = rook ? RookBitboard.calculateRookAttacks(position, subset)
+            : BishopBitboard.calculateBishopAttacks(position, subset);
+        final int index = offsets[position] + (int) ((subset * magics[position])
+            >>> shifts[position]);
+        if (attacks[index] != 0 && attacks[index] != attack) {
+          throw new IllegalStateException("매직 상수 충돌: " + position);
+        }
+        attacks[index] = attack;
+        subset = (subset - mask) & mask;
+      } while (subset != 0);
+    }
+    return attacks;
+  }
+
+  public static long getRookAttacks(final int position, final long occupancy) {
+    return ROOK_ATTACKS[ROOK_OFFSETS[position]
+        + (int) (((occupancy & ROOK_MASKS[position]) * ROOK_MAGICS[position])
+        >>> ROOK_SHIFTS[position])];
+  }
+
+  public static long getBishopAttacks(final int position, final long occupancy) {
+    return BISHOP_ATTACKS[BISHOP_OFFSETS[position]
+        + (int) (((occupancy & BISHOP_MASKS[position]) * BISHOP_MAGICS[position])
+        >>> BISHOP_SHIFTS[position])];
+  }
+
+  /**
+   * 퀸의 공격 범위를 룩과 비숍 공격 범위의 합집합으로 반환합니다.
+   *
+   * @param position  퀸의 위치
+   * @param occupancy 보드 전체의 점유 비트마스크
+   * @return 공격 가능한 타일의 비트마스크
+   */
+  public static long getQueenAttacks(final int position, final long occupancy) {
+    return getRookAttacks(position, occupancy) | getBishopAttacks(position, occupancy);
+  }
+}
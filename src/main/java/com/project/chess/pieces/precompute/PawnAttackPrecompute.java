@@ -0,0 +1,37 @@
+package com.project.chess.pieces.precompute;
+
+import com.project.chess.Alliance;
+
+public class PawnAttackPrecompute {
+
+  // [연합][위치] 폰이 대각선으로 공격하는 타일
+  private static final long[][] PAWN_ATTACK_MASKS = new long[Alliance.values().length][64];
+
+  static {
+    for (final Alliance alliance : Alliance.values()) {
+      for (int i = 0; i < 64; i++) {
+        PAWN_ATTACK_MASKS[alliance.ordinal()][i] = calculatePawnAttacks(i, alliance.getDirection());
+      }
+    }
+  }
+
+  private static long calculatePawnAttacks(int position, int direction) {
+    long attacks = 0L;
+    int row = position / 8 + direction;
+    if (row < 0 || row >= 8) {
+      return attacks;
+    }
+    int column = position % 8;
+    if (column > 0) {
+      attacks |= 1L << (row * 8 + column - 1);
+    }
+    if (column < 7) {
+      attacks |= 1L << (row * 8 + column + 1);
+    }
+    return attacks;
+  }
+
+  public static long getPawnAttacks(Alliance alliance, int position) {
+    return PAWN_ATTACK_MASKS[alliance.ordinal()][position];
+  }
+}
@@ -0,0 +1,73 @@
+package com.project.chess.pieces.precompute;
+
+public class RookBitboard {
+
+  // 방향별 광선: 북(-8), 서(-1), 동(1), 남(8)
+  private static final int[][] DIRECTIONS = {{-1, 0}, {0, -1}, {0, 1}, {1, 0}};
+  private static final long[][] ROOK_RAYS = new long[DIRECTIONS.length][64];
+  private static final long[] ROOK_MOVE_MASKS = new long[64];
+
+  static {
+    for (int i = 0; i < 64; i++) {
+      for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+        ROOK_RAYS[direction][i] = computeRay(i, DIRECTIONS[direction][0],
+            DIRECTIONS[direction][1]);
+        ROOK_MOVE_MASKS[i] |= ROOK_RAYS[direction][i];
+      }
+    }
+  }
+
+  private static long computeRay(int position, int rowStep, int columnStep) {
+    long ray = 0L;
+    int row = position / 8 + rowStep;
+    int column = position % 8 + columnStep;
+    while (row >= 0 && row < 8 && column >= 0 && column < 8) {
+      ray |= 1L << (row * 8 + column);
+      row += rowStep;
+      column += columnStep;
+    }
+    return ray;
+  }
+
+  public static long getRookMoves(int position) {
+    return ROOK_MOVE_MASKS[position];
+  }
+
+  /**
+   * 주어진 점유 상태에서 룩이 공격하는 타일의 비트마스크를 반환합니다. 매직 비트보드 테이블을 한 번 조회합니다.
+   *
+   * @param position  룩의 위치
+   * @param occupancy 보드 전체의 점유 비트마스크
+   * @return 공격 가능한 타일의 비트마스크 (막는 기물의 타일 포함)
+   */
+  public static long getRookAttacks(int position, long occupancy) {
+    return MagicBitboard.getRookAttacks(position, occupancy);
+  }
+
+  /**
+   * 광선을 따라 룩의 공격 범위를 계산합니다. 매직 테이블을 채울 때 사용합니다.
+   *
+   * @param position  룩의 위치
+   * @param occupancy 보드 전체의 점유 비트마스크
+   * @return 공격 가능한 타일의 비트마스크 (막는 기물의 타일 포함)
+   */
+  static long calculateRookAttacks(int position, long occupancy) {
+    return SlidingRays.rayAttacks(ROOK_RAYS[0], position, occupancy, false)
+        | SlidingRays.rayAttacks(ROOK_RAYS[1], position, occupancy, false)
+        | SlidingRays.rayAttacks(ROOK_RAYS[2], position, occupancy, true)
+        | SlidingRays.rayAttacks(ROOK_RAYS[3], position, occupancy, true);
+  }
+
+  /**
+   * 공격 범위에 영향을 주는 점유 타일의 마스크를 반환합니다. 광선 끝의 가장자리 타일은 막는 기물이 있어도 결과가 같으므로 제외합니다.
+   *
+   * @param position 룩의 위치
+   * @return 관련 점유 마스크
+   */
+  static long getRelevantOccupancyMask(int position) {
+    return SlidingRays.withoutEdge(ROOK_RAYS[0][position], false)
+        | SlidingRays.withoutEdge(ROOK_RAYS[1][position], false)
+        | SlidingRays.withoutEdge(ROOK_RAYS[2][position], true)
+        | SlidingRays.withoutEdge(ROOK_RAYS[3][position], true);
+  }
+}
@@ -0,0 +1,43 @@
+package com.project.chess.pieces.precompute;
+
+/**
+ * 미리 계산된 광선을 이용해 슬라이딩 기물의 공격 범위를 계산하는 유틸리티 클래스입니다.
+ */
+final class SlidingRays {
+
+  private SlidingRays() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * 한 방향의 광선에서 첫 번째 막는 기물 뒤쪽을 잘라낸 공격 범위를 반환합니다.
+   *
+   * @param rays      해당 방향의 위치별 광선
+   * @param position  기물의 위치
+   * @param occupancy 보드 전체의 점유 비트마스크
+   * @param ascending 광선이 좌표가 증가하는 방향이면 true
+   * @return 막는 기물까지의 공격 범위
+   */
+  static long rayAttacks(final long[] rays, final int position, final long occupancy,
+      final boolean ascending) {
+    final long ray = rays[position];
+    final long blockers = ray & occupancy;
+    if (blockers == 0) {
+      return ray;
+    }
+    final int blocker = ascending ? Long.numberOfTrailingZeros(blockers)
+        : 63 - Long.numberOfLeadingZeros(blockers);
+    return ray ^ rays[blocker];
+  }
+
+  /**
+   * 광선에서 보드 가장자리에 닿는 마지막 타일을 제거합니다.
+   *
+   * @param ray       한 방향의 광선
+   * @param ascending 광선이 좌표가 증가하는 방향이면 true
+   * @return 마지막 타일을 제외한 광선
+   */
+  static long withoutEdge(final long ray, final boolean ascending) {
+    return ray & ~(ascending ? Long.highestOneBit(ray) : Long.lowestOneBit(ray));
+  }
+}
@@ -31,18 +31,16 @@ public class BlackPlayer extends Player {
 
   private static final int[] KING_SIDE_CASTLE_EMPTY_TILES = {5, 6};
   private static final int[] QUEEN_SIDE_CASTLE_EMPTY_TILES = {1, 2, 3};
+  // 퀸사이드 캐슬링 시 킹이 지나가는 타일 (b8은 비어 있기만 하면 됩니다)
+  private static final int[] QUEEN_SIDE_CASTLE_KING_PATH_TILES = {2, 3};
 
   /**
    * 블랙 플레이어 생성자.
    *
-   * @param board                   현재 보드 상태
-   * @param whiteStandardLegalMoves 화이트 플레이어의 합법적인 이동들
-   * @param blackStandardLegalMoves 블랙 플레이어의 합법적인 이동들
+   * @param board 현재 보드 상태
    */
-  public BlackPlayer(final Board board,
-      final Collection<Move> whiteStandardLegalMoves,
-      final Collection<Move> blackStandardLegalMoves) {
-    super(board, blackStandardLegalMoves, whiteStandardLegalMoves);
+  public BlackPlayer(final Board board) {
+    super(board);
   }
 
   @Override
@@ -61,17 +59,16 @@ public class BlackPlayer extends Player {
   }
 
   @Override
-  protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals,
-      final Collection<Move> opponentLegals) {
+  protected Collection<Move> calculateKingCastles() {
 
     final List<Move> kingCastles = new ArrayList<>();
 
     if (this.playerKing.isFirstMove() && !this.isInCheck()) {
       // 블랙 킹 캐슬링
       // 킹사이드 캐슬링
-      addKingSideCastle(playerLegals, opponentLegals, kingCastles);
+      addKingSideCastle(kingCastles);
       // 퀸사이드 캐슬링
-      addQueenSideCastle(playerLegals, opponentLegals, kingCastles);
+      addQueenSideCastle(kingCastles);
     }
 
     return ImmutableList.copyOf(kingCastles);
@@ -80,16 +77,12 @@ public class BlackPlayer extends Player {
   /**
    * 킹사이드 캐슬링을 추가합니다.
    *
-   * @param playerLegals   플레이어의 합법적인 이동들
-   * @param opponentLegals 상대방의 합법적인 이동들
-   * @param kingCastles    캐슬링 이동 목록
+   * @param kingCastles 캐슬링 이동 목록
    */
-  private void addKingSideCastle(final Collection<Move> playerLegals,
-      final Collection<Move> opponentLegals,
-      final List<Move> kingCastles) {
+  private void addKingSideCastle(final List<Move> kingCastles) {
 
     if (areTilesEmpty(KING_SIDE_CASTLE_EMPTY_TILES) &&
-        !isUnderAttack(KING_SIDE_CASTLE_EMPTY_TILES, opponentLegals)) {
+        !isUnderAttack(KING_SIDE_CASTLE_EMPTY_TILES)) {
       final Tile rookTile = this.board.getTile(KING_SIDE_ROOK_POSITION);
 
       if (isRookFirstMove(rookTile)) {
@@ -107,16 +100,12 @@ public class BlackPlayer extends Player {
   /**
    * 퀸사이드 캐슬링을 추가합니다.
    *
-   * @param playerLegals   플레이어의 합법적인 이동들
-   * @param opponentLegals 상대방의 합법적인 이동들
-   * @param kingCastles    캐슬링 이동 목록
+   * @param kingCastles 캐슬링 이동 목록
    */
-  private void addQueenSideCastle(final Collection<Move> playerLegals,
-      final Collection<Move> opponentLegals,
-      final List<Move> kingCastles) {
+  private void addQueenSideCastle(final List<Move> kingCastles) {
 
     if (areTilesEmpty(QUEEN_SIDE_CASTLE_EMPTY_TILES) &&
-        !isUnderAttack(QUEEN_SIDE_CASTLE_EMPTY_TILES, opponentLegals)) {
+        !isUnderAttack(QUEEN_SIDE_CASTLE_KING_PATH_TILES)) {
       final Tile rookTile = this.board.getTile(QUEEN_SIDE_ROOK_POSITION);
 
       if (isRookFirstMove(rookTile)) {
@@ -147,15 +136,14 @@ public class BlackPlayer extends Player {
   }
 
   /**
-   * 주어진 타일들이 공격받고 있는지 확인합니다.
+   * 주어진 타일들이 상대방 기물에게 공격받고 있는지 확인합니다.
    *
-   * @param positions      확인할 타일 위치들
-   * @param opponentLegals 상대방의 합법적인 이동들
+   * @param positions 확인할 타일 위치들
    * @return 타일들이 공격받고 있으면 true, 아니면 false
    */
-  private boolean isUnderAttack(int[] positions, Collection<Move> opponentLegals) {
+  private boolean isUnderAttack(int[] positions) {
     for (int position : positions) {
-      if (!Player.calculateAttacksOnTile(position, opponentLegals).isEmpty()) {
+      if (this.board.getBitBoard().isSquareAttacked(position, getAlliance().getOpposite())) {
         return true;
       }
     }
@@ -171,6 +159,7 @@ public class BlackPlayer extends Player {
   private boolean isRookFirstMove(Tile rookTile) {
     return rookTile.isTileOccupied() &&
         rookTile.getPiece().isFirstMove() &&
-        rookTile.getPiece().getPieceType().isRook();
+        rookTile.getPiece().getPieceType().isRook() &&
+        rookTile.getPiece().getPieceAlliance() == getAlliance();
   }
 }
\ No newline at end of file
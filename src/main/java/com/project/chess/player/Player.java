@@ -7,13 +7,16 @@ import static com.project.chess.player.MoveStatus.LEAVES_PLAYER_IN_CHECK;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
 import com.project.chess.board.Board;
 import com.project.chess.moves.Move;
 import com.project.chess.pieces.King;
 import com.project.chess.pieces.Piece;
+import com.project.chess.pieces.Piece.PieceType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -24,66 +27,68 @@ public abstract class Player {
 
   protected final Board board;
   protected final King playerKing;
-  protected final Collection<Move> legalMoves;
-  private final boolean isInCheck;
+
+  // 합법적인 이동과 체크 여부는 처음 접근할 때 계산합니다.
+  @Getter(AccessLevel.NONE)
+  private volatile Collection<Move> legalMoves;
+  @Getter(AccessLevel.NONE)
+  private volatile Boolean isInCheck;
 
   /**
    * 플레이어 생성자.
    *
-   * @param board         현재 보드 상태
-   * @param legalMoves    플레이어의 합법적인 이동들
-   * @param opponentMoves 상대방의 이동들
+   * @param board 현재 보드 상태
    */
-  protected Player(final Board board,
-      final Collection<Move> legalMoves,
-      final Collection<Move> opponentMoves) {
+  protected Player(final Board board) {
     this.board = board;
     this.playerKing = establishKing();
-    this.legalMoves = ImmutableList.copyOf(
-        Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));
-    this.isInCheck = !calculateAttacksOnTile(this.playerKing.getPiecePosition(),
-        opponentMoves).isEmpty();
   }
 
   /**
-   * 주어진 타일에 대한 공격을 계산합니다.
+   * 플레이어의 왕을 찾습니다.
    *
-   * @param piecePosition 공격을 계산할 타일 위치
-   * @param moves         이동들
-   * @return 공격 이동들의 컬렉션
+   * @return 플레이어의 왕 조각
    */
-  static Collection<Move> calculateAttacksOnTile(final int piecePosition,
-      final Collection<Move> moves) {
-    final List<Move> attackMoves = new ArrayList<>();
-    for (final Move move : moves) {
-      if (piecePosition == move.getDestinationCoordinate()) {
-        attackMoves.add(move);
-      }
+  private King establishKing() {
+    final long king = this.board.getBitBoard().getPieceBitboard(PieceType.KING, getAlliance());
+    if (king == 0) {
+      throw new RuntimeException("Error: unable to establish the player's king!");
     }
-    return ImmutableList.copyOf(attackMoves);
+    return (King) this.board.getPiece(Long.numberOfTrailingZeros(king));
   }
 
   /**
-   * 플레이어의 왕을 찾습니다.
+   * 플레이어의 합법적인 이동들을 반환합니다. 처음 호출될 때 계산하여 저장합니다.
    *
-   * @return 플레이어의 왕 조각
+   * @return 캐슬링을 포함한 이동들
    */
-  private King establishKing() {
-    for (final Piece piece : getActivePieces()) {
-      if (piece.getPieceType().isKing()) {
-        return (King) piece;
+  public Collection<Move> getLegalMoves() {
+    Collection<Move> moves = this.legalMoves;
+    if (moves == null) {
+      final List<Move> standardMoves = new ArrayList<>();
+      for (final Piece piece : getActivePieces()) {
+        standardMoves.addAll(piece.calculateLegalMoves(this.board));
       }
+      moves = ImmutableList.copyOf(
+          Iterables.concat(standardMoves, calculateKingCastles()));
+      this.legalMoves = moves;
     }
-    throw new RuntimeException("Error: unable to establish the player's king!");
+    return moves;
   }
 
   /**
-   * 플레이어가 체크 상태인지 확인합니다.
+   * 플레이어가 체크 상태인지 확인합니다. 처음 호출될 때 계산하여 저장합니다.
    *
    * @return 체크 상태이면 true, 아니면 false
    */
   public boolean isInCheck() {
-    return this.isInCheck;
+    Boolean inCheck = this.isInCheck;
+    if (inCheck == null) {
+      inCheck = this.board.getBitBoard().isSquareAttacked(this.playerKing.getPiecePosition(),
+          getAlliance().getOpposite());
+      this.isInCheck = inCheck;
+    }
+    return inCheck;
   }
 
   /**
@@ -92,7 +97,7 @@ public abstract class Player {
    * @return 체크메이트 상태이면 true, 아니면 false
    */
   public boolean isInCheckmate() {
-    return this.isInCheck && !hasEscapeMoves();
+    return isInCheck() && !hasEscapeMoves();
   }
 
   /**
@@ -101,7 +106,7 @@ public abstract class Player {
    * @return 스테일메이트 상태이면 true, 아니면 false
    */
   public boolean isInStalemate() {
-    return !this.isInCheck && !hasEscapeMoves();
+    return !isInCheck() && !hasEscapeMoves();
   }
 
   /**
@@ -110,7 +115,7 @@ public abstract class Player {
    * @return 탈출 이동이 있으면 true, 아니면 false
    */
   protected boolean hasEscapeMoves() {
-    for (final Move move : this.legalMoves) {
+    for (final Move move : getLegalMoves()) {
       final MoveTransition moveTransition = makeMove(move);
       if (moveTransition.getMoveStatus().isDone()) {
         return true;
@@ -135,7 +140,7 @@ public abstract class Player {
    * @return 합법적이면 true, 아니면 false
    */
   public boolean isMoveLegal(final Move move) {
-    return this.legalMoves.contains(move);
+    return getLegalMoves().contains(move);
   }
 
   /**
@@ -151,11 +156,12 @@ public abstract class Player {
 
     final Board transitionBoard = move.execute();
 
-    final Collection<Move> kingAttacks = calculateAttacksOnTile(
-        transitionBoard.getCurrentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-        transitionBoard.getCurrentPlayer().getLegalMoves());
+    // 상대방의 이동을 생성하지 않고 비트보드로 킹이 공격받는지 확인합니다.
+    final BitBoard transitionBitBoard = transitionBoard.getBitBoard();
+    final int kingPosition = Long.numberOfTrailingZeros(
+        transitionBitBoard.getPieceBitboard(PieceType.KING, getAlliance()));
 
-    if (!kingAttacks.isEmpty()) {
+    if (transitionBitBoard.isSquareAttacked(kingPosition, getAlliance().getOpposite())) {
       return new MoveTransition(transitionBoard, move, LEAVES_PLAYER_IN_CHECK);
     }
 
@@ -186,10 +192,7 @@ public abstract class Player {
   /**
    * 킹 캐슬링을 계산합니다.
    *
-   * @param playerLegals   플레이어의 합법적인 이동들
-   * @param opponentLegals 상대방의 합법적인 이동들
    * @return 킹 캐슬링 이동들의 컬렉션
    */
-  protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals,
-      Collection<Move> opponentLegals);
+  protected abstract Collection<Move> calculateKingCastles();
 }
\ No newline at end of file
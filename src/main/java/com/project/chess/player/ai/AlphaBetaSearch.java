@@ -0,0 +1,436 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.bitbase.Bitbase;
+import com.project.chess.bitbase.Bitbases;
+import com.project.chess.board.Board;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 반복 심화를 사용하는 네가맥스 알파-베타 탐색입니다.
+ * <p>
+ * 주어진 {@link Board}를 {@link MutableBoard}로 복사한 뒤 인코딩된 이동으로 탐색하고, 결과만 다시 {@link Move}로 변환합니다.
+ * 깊이 1부터 한 수씩 깊게 탐색하며, 반복이 끝날 때마다 {@link SearchInfo}를 리스너에 알립니다. 제한에 걸려 중간에 멈춘 반복의
+ * 결과는 버리고 마지막으로 끝난 반복의 결과를 사용합니다. 탐색한 노드는 {@link TranspositionTable}에 저장하여, 다른 수순으로 같은
+ * 포지션에 도달하면 저장된 결과로 잘라내거나 저장된 최선 수를 먼저 탐색합니다. 이동 순서는 {@link MoveOrderer}가 정합니다.
+ * 남은 깊이가 0이 되면 곧바로 평가하지 않고 잡는 이동과 퀸 승진만 이어서 탐색하는 정지 탐색으로 들어가, 교환 도중의 포지션을
+ * 평가하는 수평선 효과를 줄입니다.
+ * <p>
+ * {@link Bitbases}가 주어지면 루트가 아닌 노드에서 엔드게임 비트베이스를 조회하여, 결과가 있으면 더 탐색하지 않고 무승부 점수나
+ * 메이트 점수보다 낮은 확정 승패 점수를 반환합니다. 확정 승패 점수에는 평가 점수를 더하여 이기는 쪽이 진행하는 수를 고르게 합니다.
+ * 루트가 이미 비트베이스에 있으면 모든 노드가 곧바로 잘려 메이트를 찾지 못하므로 조회하지 않고 보통 탐색으로 메이트를 찾습니다.
+ * <p>
+ * 탐색 상태를 인스턴스에 보관하므로 한 인스턴스에서 동시에 두 탐색을 실행할 수 없습니다. {@link #stop()}은 다른 스레드에서 호출할
+ * 수 있습니다.
+ */
+public final class AlphaBetaSearch implements MoveStrategy {
+
+  public static final int MAX_PLY = 128;
+
+  static final int INFINITY = 32_000;
+  static final int MATE_SCORE = 31_000;
+  // 이 값 이상의 점수는 메이트 점수입니다.
+  static final int MATE_BOUND = MATE_SCORE - MAX_PLY;
+  static final int DRAW_SCORE = 0;
+  // 비트베이스의 승패 점수, 평가 점수를 더해도 메이트 점수보다 작습니다.
+  static final int KNOWN_WIN_SCORE = 20_000;
+  private static final int KNOWN_WIN_MARGIN = 2_000;
+  // 이 값 이상의 점수는 메이트 점수이거나 비트베이스의 승리 점수입니다.
+  private static final int KNOWN_WIN_BOUND = KNOWN_WIN_SCORE - KNOWN_WIN_MARGIN - MAX_PLY;
+
+  public static final int DEFAULT_HASH_MEGABYTES = 16;
+
+  // 정지 탐색에서 체크를 피하는 모든 응수를 탐색하는 깊이, 더 깊으면 체크를 거는 조용한 응수는 건너뜁니다.
+  private static final int QUIESCENCE_EVASION_DEPTH = 2;
+
+  // 제한을 확인하는 노드 간격
+  private static final int CHECK_INTERVAL_MASK = 2047;
+
+  private final SearchLimits limits;
+  private final Evaluator evaluator;
+  private final TranspositionTable transpositionTable;
+  private final Consumer<SearchInfo> listener;
+  private final MoveOrderer moveOrderer = new MoveOrderer();
+  private Bitbases bitbases;
+
+  private final MoveList[] moveLists = new MoveList[MAX_PLY];
+  // 삼각형 주 변화 테이블: pvTable[ply]는 ply부터 시작하는 주 변화입니다.
+  private final int[][] pvTable = new int[MAX_PLY][MAX_PLY];
+  private final int[] pvLength = new int[MAX_PLY];
+  // 노드마다 먼저 탐색한 조용한 이동 (히스토리 감점용)
+  private final int[][] quietsTried = new int[MAX_PLY][MoveList.MAX_MOVES];
+
+  // Lazy SMP의 스레드 번호, 0이면 주 스레드입니다.
+  private int threadIndex;
+
+  private MutableBoard board;
+  // 이번 탐색에서 노드마다 비트베이스를 조회하는지 여부
+  private boolean probeBitbases;
+  private long nodes;
+  private long startTime;
+  private volatile boolean stopped;
+
+  public AlphaBetaSearch(final SearchLimits limits) {
+    this(limits, new PawnStructureEvaluator(), info -> {
+    });
+  }
+
+  public AlphaBetaSearch(final SearchLimits limits, final Evaluator evaluator,
+      final Consumer<SearchInfo> listener) {
+    this(limits, evaluator, new TranspositionTable(DEFAULT_HASH_MEGABYTES), listener);
+  }
+
+  /**
+   * 생성자
+   *
+   * @param limits             탐색 제한
+   * @param evaluator          리프 노드 평가 함수
+   * @param transpositionTable 치환표 (여러 탐색이 공유할 수 있습니다)
+   * @param listener           반복마다 결과를 받을 리스너
+   */
+  public AlphaBetaSearch(final SearchLimits limits, final Evaluator evaluator,
+      final TranspositionTable transpositionTable, final Consumer<SearchInfo> listener) {
+    this.limits = limits;
+    this.evaluator = evaluator;
+    this.transpositionTable = transpositionTable;
+    this.listener = listener;
+    for (int i = 0; i < MAX_PLY; i++) {
+      this.moveLists[i] = new MoveList();
+    }
+  }
+
+  @Override
+  public Move execute(final Board board) {
+    return MoveEncoding.toMove(board, search(board).getBestMove());
+  }
+
+  /**
+   * 보드를 탐색합니다.
+   *
+   * @param board 탐색할 보드
+   * @return 마지막으로 끝난 반복의 결과
+   */
+  public SearchInfo search(final Board board) {
+    return search(new MutableBoard(board));
+  }
+
+  /**
+   * 가변 보드를 탐색합니다. 반환 시 보드는 원래 상태로 돌아옵니다.
+   *
+   * @param board 탐색할 보드
+   * @return 마지막으로 끝난 반복의 결과
+   */
+  public SearchInfo search(final MutableBoard board) {
+    this.stopped = false;
+    this.transpositionTable.newSearch();
+    return iterate(board);
+  }
+
+  /**
+   * 멈춤 상태와 치환표 세대를 초기화하지 않고 반복 심화를 실행합니다. 탐색을 시작하기 전에 {@link #stop()}이 호출되었으면 곧바로
+   * 끝납니다.
+   *
+   * @param board 탐색할 보드
+   * @return 마지막으로 끝난 반복의 결과
+   */
+  SearchInfo iterate(final MutableBoard board) {
+    this.board = board;
+    this.nodes = 0L;
+    this.startTime = System.currentTimeMillis();
+    this.moveOrderer.newSearch();
+    this.probeBitbases = this.bitbases != null && this.bitbases.probe(board) == Bitbase.UNKNOWN;
+
+    final MoveList rootMoves = new MoveList();
+    MoveGenerator.generateLegalMoves(board, rootMoves);
+    if (rootMoves.isEmpty()) {
+      final int score = board.isInCheck(board.getSideToMove()) ? -MATE_SCORE : DRAW_SCORE;
+      return new SearchInfo(0, score, new int[0], 0L, 0L, 0);
+    }
+
+    // 첫 반복도 끝나지 못하면 첫 번째 합법 이동을 둡니다.
+    SearchInfo result = new SearchInfo(0, DRAW_SCORE, new int[]{rootMoves.get(0)}, 0L, 0L, 0);
+    // 보조 스레드는 주 스레드와 다른 깊이를 탐색하도록 절반이 한 깊이 앞서 시작합니다.
+    final int startDepth = 1 + (this.threadIndex & 1);
+    for (int depth = startDepth; depth <= this.limits.getMaxDepth(); depth++) {
+      final int score = negamax(depth, 0, -INFINITY, INFINITY);
+      if (this.stopped) {
+        break;
+      }
+      result = new SearchInfo(depth, score, Arrays.copyOf(this.pvTable[0], this.pvLength[0]),
+          this.nodes, elapsedMillis(), this.transpositionTable.hashfull());
+      this.listener.accept(result);
+      // 다음 반복은 보통 지금까지보다 오래 걸리므로, 시간의 절반을 넘겼으면 시작하지 않습니다.
+      if (this.limits.hasTimeLimit() && elapsedMillis() * 2 > this.limits.getMaxTimeMillis()) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 진행 중인 탐색을 멈춥니다. 탐색은 마지막으로 끝난 반복의 결과를 반환합니다.
+   */
+  public void stop() {
+    this.stopped = true;
+  }
+
+  private int negamax(final int depth, final int ply, int alpha, final int beta) {
+    this.pvLength[ply] = ply;
+    if (ply > 0 && (this.board.getHalfmoveClock() >= 100 || this.board.isRepetition())) {
+      return DRAW_SCORE;
+    }
+    if (ply > 0 && this.probeBitbases) {
+      final int result = this.bitbases.probe(this.board);
+      if (result != Bitbase.UNKNOWN) {
+        return bitbaseScore(result, ply);
+      }
+    }
+    if (depth == 0 || ply >= MAX_PLY - 1) {
+      return quiescence(ply, 0, alpha, beta);
+    }
+    this.nodes++;
+    if ((this.nodes & CHECK_INTERVAL_MASK) == 0 || this.nodes >= this.limits.getMaxNodes()) {
+      checkLimits();
+    }
+    if (this.stopped) {
+      return DRAW_SCORE;
+    }
+
+    final long key = this.board.getZobristKey();
+    final long entry = this.transpositionTable.probe(key);
+    int hashMove = MoveEncoding.NULL_MOVE;
+    if (entry != 0L) {
+      hashMove = TranspositionTable.getMove(entry);
+      if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+        final int hashScore = scoreFromTable(TranspositionTable.getScore(entry), ply);
+        final int bound = TranspositionTable.getBound(entry);
+        if (bound == TranspositionTable.BOUND_EXACT
+            || (bound == TranspositionTable.BOUND_LOWER && hashScore >= beta)
+            || (bound == TranspositionTable.BOUND_UPPER && hashScore <= alpha)) {
+          return hashScore;
+        }
+      }
+    }
+
+    final MoveList moves = this.moveLists[ply];
+    MoveGenerator.generateMoves(this.board, moves);
+    this.moveOrderer.scoreMoves(this.board, moves, hashMove, ply);
+    if (ply == 0 && this.threadIndex > 0 && moves.size() > 2) {
+      // 보조 스레드마다 다른 루트 이동을 치환표의 최선 수 다음으로 올려 서로 다른 하위 트리를 먼저 채웁니다.
+      final int index = 1 + this.threadIndex % (moves.size() - 1);
+      moves.setScore(index, Math.max(moves.getScore(index), MoveOrderer.HASH_MOVE_SCORE - 1));
+    }
+    final int originalAlpha = alpha;
+    int bestScore = -INFINITY;
+    int bestMove = MoveEncoding.NULL_MOVE;
+    int legalMoves = 0;
+    int quietCount = 0;
+    for (int i = 0; i < moves.size(); i++) {
+      final int move = moves.pickNext(i);
+      this.board.makeMove(move);
+      if (this.board.leavesKingInCheck()) {
+        this.board.unmakeMove();
+        continue;
+      }
+      legalMoves++;
+      final int score = -negamax(depth - 1, ply + 1, -beta, -alpha);
+      this.board.unmakeMove();
+      if (this.stopped) {
+        return DRAW_SCORE;
+      }
+
+      if (score > bestScore) {
+        bestScore = score;
+        bestMove = move;
+        if (score > alpha) {
+          alpha = score;
+          updatePrincipalVariation(ply, move);
+          if (alpha >= beta) {
+            this.moveOrderer.recordCutoff(legalMoves);
+            if (MoveEncoding.isQuiet(move)) {
+              this.moveOrderer.updateQuietCutoff(this.board, move, ply, depth,
+                  this.quietsTried[ply], quietCount);
+            }
+            break;
+          }
+        }
+      }
+      if (MoveEncoding.isQuiet(move)) {
+        this.quietsTried[ply][quietCount++] = move;
+      }
+    }
+
+    if (legalMoves == 0) {
+      return this.board.isInCheck(this.board.getSideToMove()) ? -MATE_SCORE + ply : DRAW_SCORE;
+    }
+
+    final int bound = bestScore >= beta ? TranspositionTable.BOUND_LOWER
+        : bestScore > originalAlpha ? TranspositionTable.BOUND_EXACT
+            : TranspositionTable.BOUND_UPPER;
+    this.transpositionTable.store(key,
+        bound == TranspositionTable.BOUND_UPPER ? MoveEncoding.NULL_MOVE : bestMove,
+        scoreToTable(bestScore, ply), depth, bound);
+    return bestScore;
+  }
+
+  /**
+   * 정지 탐색: 잡는 이동과 퀸 승진만 탐색하여 조용한 포지션에서 평가합니다.
+   * <p>
+   * 둘 차례인 쪽은 잡지 않고 현재 평가를 받아들일 수 있으므로(stand pat) 평가가 베타 이상이면 바로 잘라냅니다. 정적 교환 평가가
+   * 손해인 잡는 이동은 {@link MoveOrderer}가 뒤로 보내므로, 손해 보지 않는 이동을 다 탐색하면 멈춥니다. 체크를 받고 있으면 가만히
+   * 있을 수 없으므로 모든 응수를 탐색하고, 응수가 없으면 메이트입니다. 체크를 피하는 조용한 이동이 다시 체크를 거는 수순이 끝없이
+   * 이어지지 않도록, 정지 탐색의 처음 {@link #QUIESCENCE_EVASION_DEPTH}수보다 깊은 곳에서는 체크를 거는 조용한 응수를 건너뜁니다.
+   * 건너뛴 응수도 합법 수이므로 메이트로 보지 않고, 모든 응수를 건너뛰었으면 현재 평가를 돌려줍니다.
+   *
+   * @param quiescenceDepth 정지 탐색에 들어온 뒤의 수
+   */
+  private int quiescence(final int ply, final int quiescenceDepth, int alpha, final int beta) {
+    this.pvLength[ply] = ply;
+    this.nodes++;
+    if ((this.nodes & CHECK_INTERVAL_MASK) == 0 || this.nodes >= this.limits.getMaxNodes()) {
+      checkLimits();
+    }
+    if (this.stopped) {
+      return DRAW_SCORE;
+    }
+    if (ply >= MAX_PLY - 1) {
+      return this.evaluator.evaluate(this.board);
+    }
+
+    final boolean inCheck = this.board.isInCheck(this.board.getSideToMove());
+    final MoveList moves = this.moveLists[ply];
+    int bestScore;
+    if (inCheck) {
+      bestScore = -INFINITY;
+      MoveGenerator.generateMoves(this.board, moves);
+    } else {
+      bestScore = this.evaluator.evaluate(this.board);
+      if (bestScore >= beta) {
+        return bestScore;
+      }
+      alpha = Math.max(alpha, bestScore);
+      MoveGenerator.generateCaptures(this.board, moves);
+    }
+    this.moveOrderer.scoreMoves(this.board, moves, MoveEncoding.NULL_MOVE, ply);
+
+    int legalMoves = 0;
+    for (int i = 0; i < moves.size(); i++) {
+      final int move = moves.pickNext(i);
+      if (!inCheck && moves.getScore(i) < MoveOrderer.CAPTURE_SCORE) {
+        // 남은 이동은 모두 손해인 잡는 이동입니다.
+        break;
+      }
+      this.board.makeMove(move);
+      if (this.board.leavesKingInCheck()) {
+        this.board.unmakeMove();
+        continue;
+      }
+      legalMoves++;
+      if (inCheck && quiescenceDepth >= QUIESCENCE_EVASION_DEPTH && MoveEncoding.isQuiet(move)
+          && this.board.isInCheck(this.board.getSideToMove())) {
+        this.board.unmakeMove();
+        continue;
+      }
+      final int score = -quiescence(ply + 1, quiescenceDepth + 1, -beta, -alpha);
+      this.board.unmakeMove();
+      if (this.stopped) {
+        return DRAW_SCORE;
+      }
+
+      if (score > bestScore) {
+        bestScore = score;
+        if (score > alpha) {
+          alpha = score;
+          updatePrincipalVariation(ply, move);
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+
+    if (inCheck && legalMoves == 0) {
+      return -MATE_SCORE + ply;
+    }
+    if (bestScore == -INFINITY) {
+      // 합법 응수를 모두 건너뛰었습니다.
+      return this.evaluator.evaluate(this.board);
+    }
+    return bestScore;
+  }
+
+  // 빨리 이기고 늦게 지도록 ply를 빼고, 평가 점수로 같은 결과의 포지션을 구분합니다.
+  private int bitbaseScore(final int result, final int ply) {
+    if (result == Bitbase.DRAW) {
+      return DRAW_SCORE;
+    }
+    final int evaluation = Math.max(-KNOWN_WIN_MARGIN,
+        Math.min(KNOWN_WIN_MARGIN, this.evaluator.evaluate(this.board)));
+    return result == Bitbase.WIN ? KNOWN_WIN_SCORE - ply + evaluation
+        : -KNOWN_WIN_SCORE + ply + evaluation;
+  }
+
+  // 메이트 점수와 비트베이스의 승패 점수는 ply에 따라 달라지므로 루트가 아닌 저장하는 노드로부터의 거리로 바꾸어 저장합니다.
+  private static int scoreToTable(final int score, final int ply) {
+    if (score >= KNOWN_WIN_BOUND) {
+      return score + ply;
+    }
+    return score <= -KNOWN_WIN_BOUND ? score - ply : score;
+  }
+
+  private static int scoreFromTable(final int score, final int ply) {
+    if (score >= KNOWN_WIN_BOUND) {
+      return score - ply;
+    }
+    return score <= -KNOWN_WIN_BOUND ? score + ply : score;
+  }
+
+  private void updatePrincipalVariation(final int ply, final int move) {
+    final int[] pv = this.pvTable[ply];
+    pv[ply] = move;
+    final int childLength = this.pvLength[ply + 1];
+    System.arraycopy(this.pvTable[ply + 1], ply + 1, pv, ply + 1, childLength - (ply + 1));
+    this.pvLength[ply] = childLength;
+  }
+
+  private void checkLimits() {
+    if (this.nodes >= this.limits.getMaxNodes()
+        || (this.limits.hasTimeLimit() && elapsedMillis() >= this.limits.getMaxTimeMillis())) {
+      this.stopped = true;
+    }
+  }
+
+  private long elapsedMillis() {
+    return System.currentTimeMillis() - this.startTime;
+  }
+
+  /**
+   * 탐색 중 조회할 엔드게임 비트베이스를 지정합니다. 다음 탐색부터 적용됩니다.
+   *
+   * @param bitbases 비트베이스, 조회하지 않으려면 null
+   */
+  public void setBitbases(final Bitbases bitbases) {
+    this.bitbases = bitbases;
+  }
+
+  void setThreadIndex(final int threadIndex) {
+    this.threadIndex = threadIndex;
+  }
+
+  public long getNodes() {
+    return this.nodes;
+  }
+
+  public MoveOrderer getMoveOrderer() {
+    return this.moveOrderer;
+  }
+
+  public TranspositionTable getTranspositionTable() {
+    return this.transpositionTable;
+  }
+}
@@ -0,0 +1,17 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.board.MutableBoard;
+
+/**
+ * 탐색의 리프 노드에서 포지션을 평가합니다.
+ */
+public interface Evaluator {
+
+  /**
+   * 포지션을 평가합니다.
+   *
+   * @param board 평가할 보드
+   * @return 센티폰 단위의 점수, 둘 차례인 쪽이 유리하면 양수
+   */
+  int evaluate(MutableBoard board);
+}
@@ -0,0 +1,167 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.bitbase.Bitbases;
+import com.project.chess.board.Board;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 여러 스레드가 하나의 치환표를 공유하며 같은 루트를 탐색하는 Lazy SMP 탐색입니다.
+ * <p>
+ * 주 스레드는 주어진 제한으로 {@link AlphaBetaSearch}를 실행하고, 보조 스레드는 제한 없이 같은 포지션을 탐색합니다. 보조 스레드는
+ * 절반이 한 깊이 앞서 시작하고 루트 이동 순서도 서로 다르므로, 주 스레드가 나중에 도달할 포지션의 결과를 치환표에 미리 채워 둡니다.
+ * 결과와 반복별 보고는 주 스레드의 것을 사용하며, 보고의 노드 수만 모든 스레드의 합입니다. 노드 제한은 주 스레드의 노드에만
+ * 적용됩니다.
+ */
+public final class LazySmpSearch implements MoveStrategy {
+
+  private final SearchLimits limits;
+  private final Supplier<Evaluator> evaluatorFactory;
+  private final TranspositionTable transpositionTable;
+  private final int threads;
+  private final Consumer<SearchInfo> listener;
+  private Bitbases bitbases;
+
+  private volatile AlphaBetaSearch mainSearch;
+  private volatile boolean stopped;
+
+  /**
+   * 생성자
+   *
+   * @param limits             주 스레드의 탐색 제한
+   * @param evaluatorFactory   스레드마다 평가 함수를 만드는 팩토리
+   * @param transpositionTable 모든 스레드가 공유하는 치환표
+   * @param threads            주 스레드를 포함한 스레드 수
+   * @param listener           반복마다 결과를 받을 리스너
+   */
+  public LazySmpSearch(final SearchLimits limits, final Supplier<Evaluator> evaluatorFactory,
+      final TranspositionTable transpositionTable, final int threads,
+      final Consumer<SearchInfo> listener) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다: " + threads);
+    }
+    this.limits = limits;
+    this.evaluatorFactory = evaluatorFactory;
+    this.transpositionTable = transpositionTable;
+    this.threads = threads;
+    this.listener = listener;
+  }
+
+  @Override
+  public Move execute(final Board board) {
+    return MoveEncoding.toMove(board, search(board).getBestMove());
+  }
+
+  /**
+   * 보드를 탐색합니다. 주 스레드의 탐색은 호출한 스레드에서 실행됩니다.
+   *
+   * @param board 탐색할 보드
+   * @return 주 스레드가 마지막으로 끝낸 반복의 결과
+   */
+  public SearchInfo search(final Board board) {
+    return search(new MutableBoard(board));
+  }
+
+  /**
+   * 가변 보드를 탐색합니다. 보조 스레드는 되돌리기 스택까지 복사한 보드를 사용하므로 모든 스레드가 이전 포지션의 반복을 판정할 수
+   * 있습니다. 반환 시 보드는 원래 상태로 돌아옵니다.
+   *
+   * @param board 탐색할 보드
+   * @return 주 스레드가 마지막으로 끝낸 반복의 결과
+   */
+  public SearchInfo search(final MutableBoard board) {
+    this.transpositionTable.newSearch();
+
+    final List<AlphaBetaSearch> helpers = new ArrayList<>();
+    final List<Thread> helperThreads = new ArrayList<>();
+    for (int i = 1; i < this.threads; i++) {
+      final AlphaBetaSearch helper = new AlphaBetaSearch(SearchLimits.infinite(),
+          this.evaluatorFactory.get(), this.transpositionTable, info -> {
+      });
+      helper.setThreadIndex(i);
+      helper.setBitbases(this.bitbases);
+      final MutableBoard helperBoard = new MutableBoard(board);
+      final Thread thread = new Thread(() -> helper.iterate(helperBoard), "lazy-smp-helper-" + i);
+      thread.setDaemon(true);
+      helpers.add(helper);
+      helperThreads.add(thread);
+    }
+
+    final AlphaBetaSearch main = new AlphaBetaSearch(this.limits, this.evaluatorFactory.get(),
+        this.transpositionTable,
+        info -> this.listener.accept(withTotalNodes(info, helpers)));
+    main.setBitbases(this.bitbases);
+    this.mainSearch = main;
+    // 주 탐색을 게시하기 전에 stop()이 호출되었으면 여기서 전달합니다.
+    if (this.stopped) {
+      main.stop();
+    }
+    helperThreads.forEach(Thread::start);
+    try {
+      final SearchInfo result = main.iterate(board);
+      return withTotalNodes(result, helpers);
+    } finally {
+      helpers.forEach(AlphaBetaSearch::stop);
+      for (final Thread thread : helperThreads) {
+        joinUninterruptibly(thread);
+      }
+      this.mainSearch = null;
+    }
+  }
+
+  /**
+   * 모든 스레드가 탐색 중 조회할 엔드게임 비트베이스를 지정합니다.
+   *
+   * @param bitbases 비트베이스, 조회하지 않으려면 null
+   * @see AlphaBetaSearch#setBitbases(Bitbases)
+   */
+  public void setBitbases(final Bitbases bitbases) {
+    this.bitbases = bitbases;
+  }
+
+  /**
+   * 진행 중인 탐색을 멈춥니다. 주 스레드가 멈추면 보조 스레드도 모두 멈춥니다.
+   * <p>
+   * 탐색을 시작하기 전에 호출해도 다음 탐색이 곧바로 끝나므로, 다른 스레드에서 탐색 시작과 경쟁하여 호출해도 멈춤 요청을 잃지
+   * 않습니다. 한 번 멈춘 인스턴스는 다시 사용할 수 없습니다.
+   */
+  public void stop() {
+    this.stopped = true;
+    final AlphaBetaSearch search = this.mainSearch;
+    if (search != null) {
+      search.stop();
+    }
+  }
+
+  private SearchInfo withTotalNodes(final SearchInfo info, final List<AlphaBetaSearch> helpers) {
+    long nodes = info.getNodes();
+    for (final AlphaBetaSearch helper : helpers) {
+      nodes += helper.getNodes();
+    }
+    return new SearchInfo(info.getDepth(), info.getScore(), info.getPrincipalVariation(), nodes,
+        info.getElapsedMillis(), info.getHashfull());
+  }
+
+  private static void joinUninterruptibly(final Thread thread) {
+    boolean interrupted = false;
+    while (thread.isAlive()) {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public int getThreads() {
+    return this.threads;
+  }
+}
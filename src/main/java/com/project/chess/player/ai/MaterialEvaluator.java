@@ -0,0 +1,30 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.pieces.Piece.PieceType;
+
+/**
+ * 기물 가치의 합만으로 포지션을 평가합니다.
+ */
+public final class MaterialEvaluator implements Evaluator {
+
+  // PieceType 순서: 폰, 룩, 나이트, 비숍, 퀸, 킹
+  private static final int[] PIECE_VALUES = {100, 500, 320, 330, 900, 0};
+
+  @Override
+  public int evaluate(final MutableBoard board) {
+    final int score = material(board, Alliance.WHITE) - material(board, Alliance.BLACK);
+    return board.getSideToMove().isWhite() ? score : -score;
+  }
+
+  private static int material(final MutableBoard board, final Alliance alliance) {
+    int material = 0;
+    for (final PieceType pieceType : PieceType.values()) {
+      material += PIECE_VALUES[pieceType.ordinal()]
+          * Long.bitCount(board.getPieceBitboard(BitBoard.pieceIndex(pieceType, alliance)));
+    }
+    return material;
+  }
+}
@@ -0,0 +1,204 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.BoardUtil;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.pieces.Piece.PieceType;
+import java.util.Arrays;
+
+/**
+ * 알파-베타 탐색의 이동 순서를 정합니다.
+ * <p>
+ * 이동마다 다음 순서로 점수를 매깁니다.
+ * <ol>
+ *   <li>치환표의 최선 수</li>
+ *   <li>손해 보지 않는 잡는 이동과 퀸 승진: 가장 비싼 기물을 가장 싼 기물로 잡는 순서 (MVV-LVA)</li>
+ *   <li>같은 깊이에서 컷오프를 일으킨 조용한 이동 (킬러 무브 두 개)</li>
+ *   <li>상대의 직전 이동에 대한 응수로 컷오프를 일으킨 이동 (카운터무브)</li>
+ *   <li>나머지 조용한 이동: 출발·도착 타일별 컷오프 기록 (버터플라이 히스토리)</li>
+ *   <li>{@link StaticExchange 정적 교환 평가}가 손해인 잡는 이동</li>
+ *   <li>퀸이 아닌 승진</li>
+ * </ol>
+ * 모든 표는 기본형 배열이며, 탐색 스레드마다 별도의 인스턴스를 사용합니다. 컷오프 중 첫 번째 이동에서 일어난 비율도 기록하므로
+ * 순서의 품질을 확인할 수 있습니다.
+ */
+public final class MoveOrderer {
+
+  static final int HASH_MOVE_SCORE = 2_000_000;
+  static final int CAPTURE_SCORE = 1_000_000;
+  static final int FIRST_KILLER_SCORE = 900_000;
+  static final int SECOND_KILLER_SCORE = 800_000;
+  static final int COUNTER_MOVE_SCORE = 700_000;
+  static final int LOSING_CAPTURE_SCORE = -100_000;
+  static final int UNDERPROMOTION_SCORE = -1_000_000;
+
+  // 히스토리 점수의 절대값 상한, 카운터무브 점수보다 작아야 합니다.
+  static final int HISTORY_MAX = 16_384;
+
+  // MVV-LVA용 공격 기물 순위 (PieceType 순서: 폰, 룩, 나이트, 비숍, 퀸, 킹)
+  private static final int[] ATTACKER_RANKS = {1, 4, 2, 3, 5, 6};
+
+  private static final int NUM_PIECE_TYPES = PieceType.values().length;
+  private static final int QUEEN = PieceType.QUEEN.ordinal();
+
+  private final StaticExchange staticExchange = new StaticExchange();
+  private final int[][] killers = new int[AlphaBetaSearch.MAX_PLY][2];
+  // [연합][출발 타일][도착 타일]
+  private final int[] history = new int[2 * BoardUtil.NUM_TILES * BoardUtil.NUM_TILES];
+  // [직전 이동의 기물][직전 이동의 도착 타일]
+  private final int[] counterMoves = new int[BitBoard.NUM_PIECE_BITBOARDS * BoardUtil.NUM_TILES];
+
+  private long cutoffs;
+  private long firstMoveCutoffs;
+
+  /**
+   * 새 탐색을 시작할 때 호출합니다. 킬러 무브와 통계를 지우고 히스토리를 절반으로 줄입니다.
+   */
+  public void newSearch() {
+    for (final int[] plyKillers : this.killers) {
+      Arrays.fill(plyKillers, MoveEncoding.NULL_MOVE);
+    }
+    for (int i = 0; i < this.history.length; i++) {
+      this.history[i] /= 2;
+    }
+    this.cutoffs = 0L;
+    this.firstMoveCutoffs = 0L;
+  }
+
+  /**
+   * 목록의 모든 이동에 정렬 점수를 매깁니다.
+   *
+   * @param board    현재 보드
+   * @param moves    점수를 매길 이동 목록
+   * @param hashMove 치환표의 최선 수, 없으면 {@link MoveEncoding#NULL_MOVE}
+   * @param ply      루트로부터의 수
+   */
+  public void scoreMoves(final MutableBoard board, final MoveList moves, final int hashMove,
+      final int ply) {
+    final int side = board.getSideToMove().ordinal();
+    final int[] plyKillers = this.killers[ply];
+    final int counterMove = getCounterMove(board.getLastMove());
+    for (int i = 0; i < moves.size(); i++) {
+      final int move = moves.get(i);
+      final int score;
+      if (move == hashMove) {
+        score = HASH_MOVE_SCORE;
+      } else if (MoveEncoding.isPromotion(move) && MoveEncoding.getPromotionType(move) != QUEEN) {
+        score = UNDERPROMOTION_SCORE + mvvLva(move);
+      } else if (!MoveEncoding.isQuiet(move)) {
+        score = (this.staticExchange.isAtLeast(board, move, 0) ? CAPTURE_SCORE : LOSING_CAPTURE_SCORE)
+            + mvvLva(move);
+      } else if (move == plyKillers[0]) {
+        score = FIRST_KILLER_SCORE;
+      } else if (move == plyKillers[1]) {
+        score = SECOND_KILLER_SCORE;
+      } else if (move == counterMove) {
+        score = COUNTER_MOVE_SCORE;
+      } else {
+        score = this.history[historyIndex(side, move)];
+      }
+      moves.setScore(i, score);
+    }
+  }
+
+  /**
+   * 잡는 이동의 MVV-LVA 점수를 계산합니다. 승진이면 승진 기물의 가치를 더합니다.
+   *
+   * @param move 인코딩된 이동
+   * @return 잡히는 기물이 비쌀수록, 잡는 기물이 쌀수록 큰 점수
+   */
+  static int mvvLva(final int move) {
+    int score = 0;
+    final int capturedPiece = MoveEncoding.getCapturedPiece(move);
+    if (capturedPiece != MoveEncoding.NONE) {
+      score += StaticExchange.PIECE_VALUES[capturedPiece % NUM_PIECE_TYPES] * 8
+          - ATTACKER_RANKS[MoveEncoding.getPiece(move) % NUM_PIECE_TYPES];
+    }
+    if (MoveEncoding.isPromotion(move)) {
+      score += StaticExchange.PIECE_VALUES[MoveEncoding.getPromotionType(move)] * 8;
+    }
+    return score;
+  }
+
+  /**
+   * 베타 컷오프가 일어났을 때 통계를 기록합니다.
+   *
+   * @param moveNumber 컷오프를 일으킨 이동이 몇 번째로 탐색한 합법 이동인지 (1부터)
+   */
+  public void recordCutoff(final int moveNumber) {
+    this.cutoffs++;
+    if (moveNumber == 1) {
+      this.firstMoveCutoffs++;
+    }
+  }
+
+  /**
+   * 조용한 이동이 베타 컷오프를 일으켰을 때 킬러 무브, 카운터무브, 히스토리를 갱신합니다. 먼저 탐색했지만 컷오프를 일으키지 못한
+   * 조용한 이동의 히스토리는 줄입니다.
+   *
+   * @param board       현재 보드
+   * @param move        컷오프를 일으킨 이동
+   * @param ply         루트로부터의 수
+   * @param depth       남은 깊이
+   * @param quietsTried 이 노드에서 먼저 탐색한 조용한 이동
+   * @param quietCount  {@code quietsTried}의 이동 수
+   */
+  public void updateQuietCutoff(final MutableBoard board, final int move, final int ply,
+      final int depth, final int[] quietsTried, final int quietCount) {
+    final int[] plyKillers = this.killers[ply];
+    if (plyKillers[0] != move) {
+      plyKillers[1] = plyKillers[0];
+      plyKillers[0] = move;
+    }
+
+    final int lastMove = board.getLastMove();
+    if (lastMove != MoveEncoding.NULL_MOVE) {
+      this.counterMoves[counterMoveIndex(lastMove)] = move;
+    }
+
+    final int side = board.getSideToMove().ordinal();
+    final int bonus = Math.min(depth * depth, HISTORY_MAX / 4);
+    updateHistory(historyIndex(side, move), bonus);
+    for (int i = 0; i < quietCount; i++) {
+      updateHistory(historyIndex(side, quietsTried[i]), -bonus);
+    }
+  }
+
+  // 값이 상한에 가까울수록 적게 움직여 항상 [-HISTORY_MAX, HISTORY_MAX] 안에 머뭅니다.
+  private void updateHistory(final int index, final int bonus) {
+    this.history[index] += bonus - this.history[index] * Math.abs(bonus) / HISTORY_MAX;
+  }
+
+  private int getCounterMove(final int lastMove) {
+    return lastMove == MoveEncoding.NULL_MOVE ? MoveEncoding.NULL_MOVE
+        : this.counterMoves[counterMoveIndex(lastMove)];
+  }
+
+  private static int historyIndex(final int side, final int move) {
+    return (side * BoardUtil.NUM_TILES + MoveEncoding.getFrom(move)) * BoardUtil.NUM_TILES
+        + MoveEncoding.getTo(move);
+  }
+
+  private static int counterMoveIndex(final int lastMove) {
+    return MoveEncoding.getPiece(lastMove) * BoardUtil.NUM_TILES + MoveEncoding.getTo(lastMove);
+  }
+
+  public long getCutoffs() {
+    return this.cutoffs;
+  }
+
+  public long getFirstMoveCutoffs() {
+    return this.firstMoveCutoffs;
+  }
+
+  /**
+   * 컷오프 중 첫 번째 이동에서 일어난 비율을 반환합니다. 순서가 좋을수록 1에 가깝습니다.
+   *
+   * @return 0.0부터 1.0까지의 비율
+   */
+  public double getFirstMoveCutoffRate() {
+    return this.cutoffs == 0 ? 0.0 : (double) this.firstMoveCutoffs / this.cutoffs;
+  }
+}
@@ -0,0 +1,19 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.board.Board;
+import com.project.chess.moves.Move;
+
+/**
+ * 보드에서 둘 이동을 고르는 전략입니다.
+ */
+public interface MoveStrategy {
+
+  /**
+   * 현재 플레이어가 둘 이동을 고릅니다.
+   *
+   * @param board 현재 보드
+   * @return {@link com.project.chess.player.Player#makeMove(Move)}에 넘길 수 있는 이동, 둘 수 있는 이동이 없으면
+   *     {@link Move#NULL_MOVE}
+   */
+  Move execute(Board board);
+}
@@ -0,0 +1,96 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.board.MutableBoard;
+import java.util.Arrays;
+
+/**
+ * 폰 키별로 {@link PawnStructure} 점수를 캐시하는 고정 크기 표입니다.
+ * <p>
+ * 폰 구조는 대부분의 이동에서 바뀌지 않으므로, 탐색 중 같은 폰 키가 반복해서 나타납니다. 항목은 키 하나와 묶인 점수 하나로
+ * 이루어지며, 키 하위 비트로 고른 자리에 항상 덮어씁니다. 잠금이 없으므로 탐색 스레드마다 별도의 인스턴스를 사용해야 합니다.
+ */
+public final class PawnHashTable {
+
+  public static final int DEFAULT_KILOBYTES = 1024;
+
+  private static final int BYTES_PER_ENTRY = Long.BYTES + Integer.BYTES;
+
+  private final long[] keys;
+  private final int[] scores;
+  private final int indexMask;
+
+  private long probes;
+  private long hits;
+
+  /**
+   * 생성자: 주어진 크기 이하에서 가장 큰 2의 거듭제곱 개의 항목을 할당합니다.
+   *
+   * @param kilobytes 표의 최대 크기 (KB)
+   */
+  public PawnHashTable(final int kilobytes) {
+    if (kilobytes <= 0) {
+      throw new IllegalArgumentException("폰 해시 크기는 양수여야 합니다: " + kilobytes);
+    }
+    final int entries = Integer.highestOneBit(
+        (int) Math.min(kilobytes * 1024L / BYTES_PER_ENTRY, 1 << 30));
+    this.keys = new long[entries];
+    this.scores = new int[entries];
+    this.indexMask = entries - 1;
+    clear();
+  }
+
+  /**
+   * 보드의 폰 구조 점수를 반환합니다. 표에 없으면 계산하여 저장합니다.
+   *
+   * @param board 평가할 보드
+   * @return {@link PawnStructure#evaluate}와 같은 묶인 점수
+   */
+  public int probe(final MutableBoard board) {
+    this.probes++;
+    final long key = board.getPawnKey();
+    final int index = (int) key & this.indexMask;
+    if (this.keys[index] == key) {
+      this.hits++;
+      return this.scores[index];
+    }
+    final int score = PawnStructure.evaluate(board);
+    this.keys[index] = key;
+    this.scores[index] = score;
+    return score;
+  }
+
+  /**
+   * 모든 항목과 통계를 지웁니다.
+   */
+  public void clear() {
+    // 빈 항목이 키 0과 맞아 적중으로 보이지 않도록 -1로 채웁니다.
+    Arrays.fill(this.keys, -1L);
+    resetStatistics();
+  }
+
+  public void resetStatistics() {
+    this.probes = 0L;
+    this.hits = 0L;
+  }
+
+  public long getProbes() {
+    return this.probes;
+  }
+
+  public long getHits() {
+    return this.hits;
+  }
+
+  /**
+   * 조회 적중률을 반환합니다.
+   *
+   * @return 0.0부터 1.0까지의 적중률
+   */
+  public double getHitRate() {
+    return this.probes == 0 ? 0.0 : (double) this.hits / this.probes;
+  }
+
+  public int capacity() {
+    return this.keys.length;
+  }
+}
@@ -0,0 +1,167 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.BoardUtil;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.pieces.Piece.PieceType;
+import com.project.chess.pieces.precompute.PawnAttackPrecompute;
+
+/**
+ * 폰과 킹의 배치만으로 정해지는 폰 구조 항목을 계산합니다.
+ * <p>
+ * 겹친 폰, 고립된 폰, 뒤처진 폰, 통과한 폰과 킹 앞의 폰 쉴드를 중반·종반 점수로 계산합니다. 결과는 폰 키가 같으면 항상 같으므로
+ * {@link PawnHashTable}에 캐시할 수 있습니다. 두 점수는 하나의 {@code int}에 묶어 반환하며, {@link #midgame(int)}과
+ * {@link #endgame(int)}으로 꺼냅니다.
+ */
+public final class PawnStructure {
+
+  private static final int DOUBLED_MIDGAME = -10;
+  private static final int DOUBLED_ENDGAME = -25;
+  private static final int ISOLATED_MIDGAME = -8;
+  private static final int ISOLATED_ENDGAME = -15;
+  private static final int BACKWARD_MIDGAME = -8;
+  private static final int BACKWARD_ENDGAME = -12;
+  // 자기 진영 기준 행 (0 = 1행)별 통과한 폰 보너스
+  private static final int[] PASSED_MIDGAME = {0, 0, 5, 10, 20, 35, 60, 0};
+  private static final int[] PASSED_ENDGAME = {0, 0, 10, 20, 40, 70, 120, 0};
+  // 킹 바로 앞 행과 그 다음 행의 폰 하나당 보너스
+  private static final int SHIELD_NEAR_MIDGAME = 12;
+  private static final int SHIELD_FAR_MIDGAME = 6;
+
+  private static final int NUM_ROWS = BoardUtil.NUM_TILES_PER_ROW;
+  private static final int NUM_ALLIANCES = Alliance.values().length;
+
+  private static final long[] FILE_MASKS = new long[NUM_ROWS];
+  private static final long[] ADJACENT_FILE_MASKS = new long[NUM_ROWS];
+  // [연합][타일] 같은 열과 양옆 열에서 타일보다 앞쪽
+  private static final long[][] PASSED_MASKS = new long[NUM_ALLIANCES][BoardUtil.NUM_TILES];
+  // [연합][타일] 양옆 열에서 타일과 같은 행이거나 뒤쪽
+  private static final long[][] SUPPORT_MASKS = new long[NUM_ALLIANCES][BoardUtil.NUM_TILES];
+  // [연합][타일] 킹 열과 양옆 열에서 한 행 앞, 두 행 앞
+  private static final long[][] SHIELD_NEAR_MASKS = new long[NUM_ALLIANCES][BoardUtil.NUM_TILES];
+  private static final long[][] SHIELD_FAR_MASKS = new long[NUM_ALLIANCES][BoardUtil.NUM_TILES];
+
+  static {
+    for (int file = 0; file < NUM_ROWS; file++) {
+      for (int row = 0; row < NUM_ROWS; row++) {
+        FILE_MASKS[file] |= 1L << (row * NUM_ROWS + file);
+      }
+    }
+    for (int file = 0; file < NUM_ROWS; file++) {
+      ADJACENT_FILE_MASKS[file] = (file > 0 ? FILE_MASKS[file - 1] : 0L)
+          | (file < NUM_ROWS - 1 ? FILE_MASKS[file + 1] : 0L);
+    }
+    for (final Alliance alliance : Alliance.values()) {
+      final int side = alliance.ordinal();
+      for (int square = 0; square < BoardUtil.NUM_TILES; square++) {
+        final int file = square % NUM_ROWS;
+        final int row = square / NUM_ROWS;
+        final long neighbourFiles = FILE_MASKS[file] | ADJACENT_FILE_MASKS[file];
+        for (int other = 0; other < BoardUtil.NUM_TILES; other++) {
+          final long bit = 1L << other;
+          // 전진 방향으로 센 행 차이: 양수이면 앞쪽
+          final int ahead = (other / NUM_ROWS - row) * alliance.getDirection();
+          if ((neighbourFiles & bit) != 0 && ahead > 0) {
+            PASSED_MASKS[side][square] |= bit;
+          }
+          if ((ADJACENT_FILE_MASKS[file] & bit) != 0 && ahead <= 0) {
+            SUPPORT_MASKS[side][square] |= bit;
+          }
+          if ((neighbourFiles & bit) != 0 && ahead == 1) {
+            SHIELD_NEAR_MASKS[side][square] |= bit;
+          }
+          if ((neighbourFiles & bit) != 0 && ahead == 2) {
+            SHIELD_FAR_MASKS[side][square] |= bit;
+          }
+        }
+      }
+    }
+  }
+
+  private PawnStructure() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  /**
+   * 폰 구조 점수를 계산합니다.
+   *
+   * @param board 평가할 보드
+   * @return 백 기준 중반·종반 점수를 묶은 값
+   */
+  public static int evaluate(final MutableBoard board) {
+    final long whitePawns =
+        board.getPieceBitboard(BitBoard.pieceIndex(PieceType.PAWN, Alliance.WHITE));
+    final long blackPawns =
+        board.getPieceBitboard(BitBoard.pieceIndex(PieceType.PAWN, Alliance.BLACK));
+    final int white = evaluateSide(board, Alliance.WHITE, whitePawns, blackPawns);
+    final int black = evaluateSide(board, Alliance.BLACK, blackPawns, whitePawns);
+    return white - black;
+  }
+
+  private static int evaluateSide(final MutableBoard board, final Alliance alliance,
+      final long ownPawns, final long enemyPawns) {
+    final int side = alliance.ordinal();
+    int midgame = 0;
+    int endgame = 0;
+
+    for (int file = 0; file < NUM_ROWS; file++) {
+      final int count = Long.bitCount(ownPawns & FILE_MASKS[file]);
+      if (count > 1) {
+        midgame += DOUBLED_MIDGAME * (count - 1);
+        endgame += DOUBLED_ENDGAME * (count - 1);
+      }
+    }
+
+    long pawns = ownPawns;
+    while (pawns != 0) {
+      final int square = Long.numberOfTrailingZeros(pawns);
+      pawns &= pawns - 1;
+      final int file = square % NUM_ROWS;
+
+      if ((ownPawns & ADJACENT_FILE_MASKS[file]) == 0) {
+        midgame += ISOLATED_MIDGAME;
+        endgame += ISOLATED_ENDGAME;
+      } else if ((ownPawns & SUPPORT_MASKS[side][square]) == 0) {
+        // 양옆 폰이 모두 앞서 있어 받쳐 줄 수 없고, 앞 칸이 상대 폰에게 공격받으면 뒤처진 폰입니다.
+        final int stopSquare = square + alliance.getDirection() * NUM_ROWS;
+        if ((PawnAttackPrecompute.getPawnAttacks(alliance, stopSquare) & enemyPawns) != 0) {
+          midgame += BACKWARD_MIDGAME;
+          endgame += BACKWARD_ENDGAME;
+        }
+      }
+
+      if ((enemyPawns & PASSED_MASKS[side][square]) == 0) {
+        final int relativeRank = alliance.isWhite()
+            ? NUM_ROWS - 1 - square / NUM_ROWS : square / NUM_ROWS;
+        midgame += PASSED_MIDGAME[relativeRank];
+        endgame += PASSED_ENDGAME[relativeRank];
+      }
+    }
+
+    // 테스트나 도구에서 만든 킹 없는 보드에서는 폰 쉴드를 계산하지 않습니다.
+    final long kingBitboard = board.getPieceBitboard(BitBoard.pieceIndex(PieceType.KING, alliance));
+    if (kingBitboard != 0L) {
+      final int king = Long.numberOfTrailingZeros(kingBitboard);
+      midgame += SHIELD_NEAR_MIDGAME * Long.bitCount(ownPawns & SHIELD_NEAR_MASKS[side][king])
+          + SHIELD_FAR_MIDGAME * Long.bitCount(ownPawns & SHIELD_FAR_MASKS[side][king]);
+    }
+
+    return pack(midgame, endgame);
+  }
+
+  /**
+   * 중반·종반 점수를 하나의 {@code int}로 묶습니다. 묶은 값끼리 더하고 빼도 각 점수의 합과 차가 됩니다.
+   */
+  static int pack(final int midgame, final int endgame) {
+    return (midgame << 16) + endgame;
+  }
+
+  public static int midgame(final int packed) {
+    return (packed + 0x8000) >> 16;
+  }
+
+  public static int endgame(final int packed) {
+    return (short) packed;
+  }
+}
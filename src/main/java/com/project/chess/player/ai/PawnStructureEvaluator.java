@@ -0,0 +1,49 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.board.MutableBoard;
+import com.project.chess.board.PieceSquareTable;
+
+/**
+ * 다른 평가 함수의 점수에 {@link PawnStructure} 점수를 더합니다.
+ * <p>
+ * 폰 구조 점수는 {@link PawnHashTable}에서 찾고, 없을 때만 계산합니다. 표 없이 생성하면 매번 계산하므로 캐시가 결과를 바꾸지
+ * 않는지 확인하는 데 사용할 수 있습니다. 중반·종반 점수는 보드의 게임 단계에 따라 섞습니다.
+ */
+public final class PawnStructureEvaluator implements Evaluator {
+
+  private final Evaluator baseEvaluator;
+  private final PawnHashTable pawnHashTable;
+
+  /**
+   * 생성자: 증분 {@link PieceSquareEvaluator}와 기본 크기의 폰 해시 표를 사용합니다.
+   */
+  public PawnStructureEvaluator() {
+    this(new PieceSquareEvaluator(), new PawnHashTable(PawnHashTable.DEFAULT_KILOBYTES));
+  }
+
+  /**
+   * 생성자
+   *
+   * @param baseEvaluator 폰 구조 외의 항목을 평가할 평가 함수
+   * @param pawnHashTable 폰 구조 점수를 캐시할 표, null이면 매번 계산합니다
+   */
+  public PawnStructureEvaluator(final Evaluator baseEvaluator,
+      final PawnHashTable pawnHashTable) {
+    this.baseEvaluator = baseEvaluator;
+    this.pawnHashTable = pawnHashTable;
+  }
+
+  @Override
+  public int evaluate(final MutableBoard board) {
+    final int pawnScore = this.pawnHashTable == null ? PawnStructure.evaluate(board)
+        : this.pawnHashTable.probe(board);
+    final int score = PieceSquareTable.taper(PawnStructure.midgame(pawnScore),
+        PawnStructure.endgame(pawnScore), board.getPhase());
+    return this.baseEvaluator.evaluate(board)
+        + (board.getSideToMove().isWhite() ? score : -score);
+  }
+
+  public PawnHashTable getPawnHashTable() {
+    return this.pawnHashTable;
+  }
+}
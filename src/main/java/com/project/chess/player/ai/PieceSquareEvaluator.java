@@ -0,0 +1,64 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.board.PieceSquareTable;
+
+/**
+ * 기물 가치와 타일별 위치 점수를 게임 단계에 따라 섞어 평가합니다 (테이퍼드 평가).
+ * <p>
+ * 기본 모드는 {@link MutableBoard}가 이동마다 갱신한 중반·종반 점수와 게임 단계를 읽기만 하므로 기물 수와 관계없이 상수 시간입니다.
+ * 전체 재계산 모드는 같은 값을 비트보드를 훑어 처음부터 계산하며, 증분 갱신이 맞는지 확인하는 데 사용합니다.
+ */
+public final class PieceSquareEvaluator implements Evaluator {
+
+  private final boolean fullRescan;
+
+  public PieceSquareEvaluator() {
+    this(false);
+  }
+
+  /**
+   * 생성자
+   *
+   * @param fullRescan true이면 평가할 때마다 보드의 모든 기물을 훑어 다시 계산합니다
+   */
+  public PieceSquareEvaluator(final boolean fullRescan) {
+    this.fullRescan = fullRescan;
+  }
+
+  @Override
+  public int evaluate(final MutableBoard board) {
+    final int score = this.fullRescan ? rescan(board)
+        : PieceSquareTable.taper(board.getMidgameScore(), board.getEndgameScore(),
+            board.getPhase());
+    return board.getSideToMove().isWhite() ? score : -score;
+  }
+
+  /**
+   * 보드의 모든 기물을 훑어 백 기준 테이퍼드 점수를 계산합니다.
+   *
+   * @param board 평가할 보드
+   * @return 백 기준 점수
+   */
+  static int rescan(final MutableBoard board) {
+    int midgame = 0;
+    int endgame = 0;
+    int phase = 0;
+    for (int piece = 0; piece < BitBoard.NUM_PIECE_BITBOARDS; piece++) {
+      long pieces = board.getPieceBitboard(piece);
+      while (pieces != 0) {
+        final int square = Long.numberOfTrailingZeros(pieces);
+        midgame += PieceSquareTable.midgame(piece, square);
+        endgame += PieceSquareTable.endgame(piece, square);
+        phase += PieceSquareTable.phase(piece);
+        pieces &= pieces - 1;
+      }
+    }
+    return PieceSquareTable.taper(midgame, endgame, phase);
+  }
+
+  public boolean isFullRescan() {
+    return this.fullRescan;
+  }
+}
@@ -0,0 +1,78 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.moves.MoveEncoding;
+import lombok.Getter;
+
+/**
+ * 반복 심화의 한 반복이 끝났을 때의 탐색 결과입니다.
+ */
+@Getter
+public final class SearchInfo {
+
+  private final int depth;
+  private final int score;
+  private final int[] principalVariation;
+  private final long nodes;
+  private final long elapsedMillis;
+  // 치환표 사용률 (천분율)
+  private final int hashfull;
+
+  public SearchInfo(final int depth, final int score, final int[] principalVariation,
+      final long nodes, final long elapsedMillis, final int hashfull) {
+    this.depth = depth;
+    this.score = score;
+    this.principalVariation = principalVariation;
+    this.nodes = nodes;
+    this.elapsedMillis = elapsedMillis;
+    this.hashfull = hashfull;
+  }
+
+  /**
+   * 최선 수를 반환합니다.
+   *
+   * @return 인코딩된 최선 수, 없으면 {@link MoveEncoding#NULL_MOVE}
+   */
+  public int getBestMove() {
+    return this.principalVariation.length == 0 ? MoveEncoding.NULL_MOVE
+        : this.principalVariation[0];
+  }
+
+  public long getNodesPerSecond() {
+    return this.elapsedMillis == 0 ? 0L : this.nodes * 1000L / this.elapsedMillis;
+  }
+
+  public boolean isMateScore() {
+    return Math.abs(this.score) >= AlphaBetaSearch.MATE_BOUND;
+  }
+
+  /**
+   * 메이트까지의 수를 반환합니다.
+   *
+   * @return 둘 차례인 쪽이 메이트시키면 양수, 메이트당하면 음수
+   */
+  public int getMateInMoves() {
+    final int plies = AlphaBetaSearch.MATE_SCORE - Math.abs(this.score);
+    return this.score > 0 ? (plies + 1) / 2 : -(plies / 2);
+  }
+
+  /**
+   * UCI info 형식으로 변환합니다.
+   *
+   * @return "depth 5 score cp 20 nodes ... pv e2e4 e7e5" 형식의 문자열
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder()
+        .append("depth ").append(this.depth)
+        .append(" score ").append(isMateScore() ? "mate " + getMateInMoves() : "cp " + this.score)
+        .append(" nodes ").append(this.nodes)
+        .append(" nps ").append(getNodesPerSecond())
+        .append(" time ").append(this.elapsedMillis)
+        .append(" hashfull ").append(this.hashfull)
+        .append(" pv");
+    for (final int move : this.principalVariation) {
+      builder.append(' ').append(MoveEncoding.toString(move));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,60 @@
+package com.project.chess.player.ai;
+
+import lombok.Getter;
+
+/**
+ * 탐색을 멈추는 조건입니다. 여러 조건을 함께 지정하면 먼저 도달한 조건에서 멈춥니다.
+ */
+@Getter
+public final class SearchLimits {
+
+  public static final int MAX_DEPTH = AlphaBetaSearch.MAX_PLY - 1;
+
+  private final int maxDepth;
+  private final long maxNodes;
+  // 0이면 시간 제한이 없습니다.
+  private final long maxTimeMillis;
+
+  private SearchLimits(final int maxDepth, final long maxNodes, final long maxTimeMillis) {
+    this.maxDepth = Math.min(maxDepth, MAX_DEPTH);
+    this.maxNodes = maxNodes;
+    this.maxTimeMillis = maxTimeMillis;
+  }
+
+  /**
+   * 제한이 없는 탐색. {@link AlphaBetaSearch#stop()}으로만 멈춥니다.
+   *
+   * @return 제한 없음
+   */
+  public static SearchLimits infinite() {
+    return new SearchLimits(MAX_DEPTH, Long.MAX_VALUE, 0L);
+  }
+
+  public static SearchLimits depth(final int maxDepth) {
+    return infinite().withDepth(maxDepth);
+  }
+
+  public static SearchLimits nodes(final long maxNodes) {
+    return infinite().withNodes(maxNodes);
+  }
+
+  public static SearchLimits time(final long maxTimeMillis) {
+    return infinite().withTime(maxTimeMillis);
+  }
+
+  public SearchLimits withDepth(final int maxDepth) {
+    return new SearchLimits(maxDepth, this.maxNodes, this.maxTimeMillis);
+  }
+
+  public SearchLimits withNodes(final long maxNodes) {
+    return new SearchLimits(this.maxDepth, maxNodes, this.maxTimeMillis);
+  }
+
+  public SearchLimits withTime(final long maxTimeMillis) {
+    return new SearchLimits(this.maxDepth, this.maxNodes, maxTimeMillis);
+  }
+
+  public boolean hasTimeLimit() {
+    return this.maxTimeMillis > 0;
+  }
+}
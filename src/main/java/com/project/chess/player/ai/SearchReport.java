@@ -0,0 +1,80 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.perft.PerftPosition;
+import com.project.chess.player.ai.nnue.NnueEvaluator;
+import com.project.chess.player.ai.nnue.NnueKernel;
+import com.project.chess.player.ai.nnue.NnueNetwork;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 기준 포지션을 고정 깊이까지 탐색하고 탐색 통계를 출력하는 명령줄 실행기입니다.
+ * <p>
+ * 포지션마다 깊이 도달에 필요한 노드 수와 시간, 치환표와 폰 해시 적중률, 컷오프 중 첫 번째 이동에서 일어난 비율을 출력하므로,
+ * 이동 순서나 가지치기를 바꾼 효과를 노드 수로 비교할 수 있습니다. 다음 옵션을 받습니다.
+ * <pre>
+ * --depth N       탐색 깊이 (기본값 6)
+ * --hash N        치환표 크기 MB (기본값 {@link AlphaBetaSearch#DEFAULT_HASH_MEGABYTES})
+ * --rescan        평가할 때마다 기물을 모두 훑는 {@link PieceSquareEvaluator} 전체 재계산 모드 사용
+ * --no-pawn-hash  {@link PawnHashTable} 없이 폰 구조를 매번 계산
+ * --nnue FILE     가중치 파일을 읽어 {@link NnueEvaluator}로 평가 (--rescan이면 누산기를 매번 계산)
+ * </pre>
+ */
+public final class SearchReport {
+
+  private static final int DEFAULT_DEPTH = 6;
+
+  private SearchReport() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  public static void main(final String[] args) throws IOException {
+    int depth = DEFAULT_DEPTH;
+    int hashMegabytes = AlphaBetaSearch.DEFAULT_HASH_MEGABYTES;
+    boolean fullRescan = false;
+    boolean pawnHash = true;
+    NnueNetwork network = null;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--depth" -> depth = Integer.parseInt(args[++i]);
+        case "--hash" -> hashMegabytes = Integer.parseInt(args[++i]);
+        case "--rescan" -> fullRescan = true;
+        case "--no-pawn-hash" -> pawnHash = false;
+        case "--nnue" -> network = NnueNetwork.load(Path.of(args[++i]));
+        default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+      }
+    }
+
+    final TranspositionTable transpositionTable = new TranspositionTable(hashMegabytes);
+    if (network != null) {
+      System.out.println("nnue: " + network.getHiddenSize() + " hidden, "
+          + NnueKernel.best().getName() + " kernel");
+    }
+    System.out.printf("%-10s %12s %8s %6s %8s %9s %10s  %s%n", "position", "nodes", "ms",
+        "score", "tt hit", "pawn hit", "1st cut", "best");
+    long totalNodes = 0L;
+    long totalMillis = 0L;
+    for (final PerftPosition position : PerftPosition.values()) {
+      transpositionTable.clear();
+      final PawnHashTable pawnHashTable =
+          pawnHash && network == null ? new PawnHashTable(PawnHashTable.DEFAULT_KILOBYTES) : null;
+      final Evaluator evaluator = network != null
+          ? new NnueEvaluator(network, NnueKernel.best(), fullRescan)
+          : new PawnStructureEvaluator(new PieceSquareEvaluator(fullRescan), pawnHashTable);
+      final AlphaBetaSearch search = new AlphaBetaSearch(SearchLimits.depth(depth), evaluator,
+          transpositionTable, info -> {
+      });
+      final SearchInfo result = search.search(position.createBoard());
+      totalNodes += result.getNodes();
+      totalMillis += result.getElapsedMillis();
+      System.out.printf("%-10s %12d %8d %6d %7.1f%% %8.1f%% %9.1f%%  %s%n", position,
+          result.getNodes(), result.getElapsedMillis(), result.getScore(),
+          transpositionTable.getHitRate() * 100.0,
+          pawnHashTable == null ? 0.0 : pawnHashTable.getHitRate() * 100.0,
+          search.getMoveOrderer().getFirstMoveCutoffRate() * 100.0,
+          MoveEncoding.toString(result.getBestMove()));
+    }
+    System.out.printf("total: %d nodes in %d ms%n", totalNodes, totalMillis);
+  }
+}
@@ -0,0 +1,81 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.perft.PerftPosition;
+
+/**
+ * Lazy SMP의 스레드 수별 깊이 도달 시간을 측정하는 명령줄 실행기입니다.
+ * <p>
+ * 스레드 수를 1부터 두 배씩 늘려 가며 모든 {@link PerftPosition}을 같은 깊이까지 탐색하고, 단일 스레드 대비 속도 향상을 출력합니다.
+ * 측정마다 치환표를 비우므로 이전 측정의 결과가 남지 않습니다. 다음 옵션을 받습니다.
+ * <pre>
+ * --depth N    탐색 깊이 (기본값 6)
+ * --threads N  최대 스레드 수 (기본값 사용 가능한 프로세서 수)
+ * --hash N     치환표 크기 MB (기본값 {@link AlphaBetaSearch#DEFAULT_HASH_MEGABYTES})
+ * </pre>
+ */
+public final class SmpScalingReport {
+
+  private static final int DEFAULT_DEPTH = 6;
+
+  private SmpScalingReport() {
+    throw new RuntimeException("이 클래스는 인스턴스화할 수 없습니다.");
+  }
+
+  public static void main(final String[] args) {
+    int depth = DEFAULT_DEPTH;
+    int maxThreads = Runtime.getRuntime().availableProcessors();
+    int hashMegabytes = AlphaBetaSearch.DEFAULT_HASH_MEGABYTES;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--depth" -> depth = Integer.parseInt(args[++i]);
+        case "--threads" -> maxThreads = Integer.parseInt(args[++i]);
+        case "--hash" -> hashMegabytes = Integer.parseInt(args[++i]);
+        default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+      }
+    }
+
+    final TranspositionTable transpositionTable = new TranspositionTable(hashMegabytes);
+    // 단일 스레드 측정에 JIT 컴파일 시간이 섞이지 않도록 한 번 먼저 실행합니다.
+    measure(transpositionTable, depth, 1);
+
+    System.out.println("time to depth " + depth + " over " + PerftPosition.values().length
+        + " positions");
+    System.out.printf("%7s %10s %14s %12s %8s%n", "threads", "ms", "nodes", "nps", "speedup");
+    long baseline = 0L;
+    for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+      final long[] result = measure(transpositionTable, depth, threads);
+      final long elapsed = result[0];
+      final long nodes = result[1];
+      if (threads == 1) {
+        baseline = elapsed;
+      }
+      final long millis = elapsed / 1_000_000L;
+      System.out.printf("%7d %10d %14d %12d %8.2f%n", threads, millis, nodes,
+          millis == 0 ? 0L : nodes * 1000L / millis, (double) baseline / elapsed);
+      if (threads >= maxThreads) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * 모든 포지션을 주어진 깊이까지 탐색합니다.
+   *
+   * @return 소요 시간(ns)과 노드 수
+   */
+  private static long[] measure(final TranspositionTable transpositionTable, final int depth,
+      final int threads) {
+    long elapsed = 0L;
+    long nodes = 0L;
+    for (final PerftPosition position : PerftPosition.values()) {
+      transpositionTable.clear();
+      final LazySmpSearch search = new LazySmpSearch(SearchLimits.depth(depth),
+          PawnStructureEvaluator::new, transpositionTable, threads, info -> {
+      });
+      final long start = System.nanoTime();
+      nodes += search.search(position.createBoard()).getNodes();
+      elapsed += System.nanoTime() - start;
+    }
+    return new long[]{elapsed, nodes};
+  }
+}
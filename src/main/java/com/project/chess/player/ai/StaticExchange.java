@@ -0,0 +1,197 @@
+package com.project.chess.player.ai;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.Board;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.pieces.Piece.PieceType;
+import com.project.chess.pieces.precompute.BishopBitboard;
+import com.project.chess.pieces.precompute.RookBitboard;
+
+/**
+ * 정적 교환 평가(SEE): 한 타일에서 양쪽이 가장 싼 기물부터 번갈아 잡을 때 이동한 쪽이 얻는 기물 가치를 계산합니다.
+ * <p>
+ * 잡을 때마다 점유에서 잡은 기물을 지우고 공격자를 다시 구하므로, 같은 줄에 겹쳐 있는 룩·비숍·퀸(X-ray)도 차례에 포함됩니다. 각
+ * 쪽은 잡기를 멈추는 편이 나으면 언제든 멈출 수 있다고 보고 역순으로 최솟값-최댓값을 계산합니다. 킹에 핀된 기물은 핀한 기물이
+ * 점유에 남아 있는 동안 잡기에 참여하지 않으며, 체크는 고려하지 않습니다.
+ * <p>
+ * 계산에 쓰는 배열을 인스턴스에 두어 호출마다 할당하지 않으므로, 탐색 스레드마다 별도의 인스턴스를 사용해야 합니다.
+ */
+public final class StaticExchange {
+
+  // PieceType 순서: 폰, 룩, 나이트, 비숍, 퀸, 킹
+  static final int[] PIECE_VALUES = {100, 500, 320, 330, 900, 20_000};
+
+  private static final int NUM_PIECE_TYPES = PieceType.values().length;
+  private static final int PAWN = PieceType.PAWN.ordinal();
+  // 가장 싼 공격자를 찾는 순서
+  private static final int[] ATTACKER_ORDER = {
+      PieceType.PAWN.ordinal(), PieceType.KNIGHT.ordinal(), PieceType.BISHOP.ordinal(),
+      PieceType.ROOK.ordinal(), PieceType.QUEEN.ordinal(), PieceType.KING.ordinal()};
+
+  // 한 타일에서 일어날 수 있는 최대 잡기 수 (양쪽 기물 32개)
+  private static final int MAX_EXCHANGES = 32;
+
+  private final int[] gain = new int[MAX_EXCHANGES];
+  // [연합] 킹에 핀된 그 연합의 기물과, 그 기물을 핀한 상대 기물
+  private final long[] pinned = new long[Alliance.values().length];
+  private final long[] pinners = new long[Alliance.values().length];
+
+  /**
+   * 불변 보드의 이동을 평가합니다. 잡는 기물은 {@link Move#getAttackedPiece()}에서 가져옵니다.
+   *
+   * @param board 이동을 생성한 보드
+   * @param move  평가할 이동
+   * @return 이동한 쪽이 얻는 기물 가치, 손해이면 음수
+   */
+  public int evaluate(final Board board, final Move move) {
+    return evaluate(new MutableBoard(board), MoveEncoding.fromMove(move));
+  }
+
+  /**
+   * 이동을 평가합니다.
+   *
+   * @param board 이동을 수행하기 전의 보드
+   * @param move  평가할 인코딩된 이동
+   * @return 이동한 쪽이 얻는 기물 가치, 손해이면 음수
+   */
+  public int evaluate(final MutableBoard board, final int move) {
+    final int from = MoveEncoding.getFrom(move);
+    final int to = MoveEncoding.getTo(move);
+    final int capturedPiece = MoveEncoding.getCapturedPiece(move);
+    final int[] gain = this.gain;
+
+    long occupancy = board.getOccupancy() ^ (1L << from);
+    gain[0] = capturedPiece == MoveEncoding.NONE ? 0
+        : PIECE_VALUES[capturedPiece % NUM_PIECE_TYPES];
+    // 다음에 잡힐 기물, 즉 방금 도착 타일로 이동한 기물의 가치
+    int pieceOnSquare = PIECE_VALUES[MoveEncoding.getPiece(move) % NUM_PIECE_TYPES];
+    if (MoveEncoding.isPromotion(move)) {
+      final int promotionValue = PIECE_VALUES[MoveEncoding.getPromotionType(move)];
+      gain[0] += promotionValue - PIECE_VALUES[PAWN];
+      pieceOnSquare = promotionValue;
+    }
+    if (MoveEncoding.getKind(move) == MoveEncoding.KIND_EN_PASSANT) {
+      // 앙파상으로 잡힌 폰은 도착 타일이 아닌, 출발 타일과 같은 행의 도착 열에 있습니다.
+      occupancy ^= 1L << ((from / 8) * 8 + to % 8);
+    }
+
+    final long diagonalSliders = slidersOf(board, PieceType.BISHOP);
+    final long straightSliders = slidersOf(board, PieceType.ROOK);
+    for (final Alliance alliance : Alliance.values()) {
+      findPins(board, alliance, occupancy);
+    }
+    long attackers = board.attackersOf(to, occupancy) & occupancy;
+    Alliance side = board.getSideToMove().getOpposite();
+    int depth = 0;
+    while (true) {
+      long sideAttackers = attackers & board.getAllianceOccupancy(side);
+      if ((this.pinners[side.ordinal()] & occupancy) != 0L) {
+        sideAttackers &= ~this.pinned[side.ordinal()];
+      }
+      if (sideAttackers == 0L) {
+        break;
+      }
+      int attackerType = -1;
+      long attackerSquare = 0L;
+      for (final int type : ATTACKER_ORDER) {
+        final long candidates = sideAttackers
+            & board.getPieceBitboard(side.ordinal() * NUM_PIECE_TYPES + type);
+        if (candidates != 0L) {
+          attackerType = type;
+          attackerSquare = Long.lowestOneBit(candidates);
+          break;
+        }
+      }
+
+      depth++;
+      gain[depth] = pieceOnSquare - gain[depth - 1];
+      if (depth == MAX_EXCHANGES - 1) {
+        break;
+      }
+      pieceOnSquare = PIECE_VALUES[attackerType];
+      occupancy ^= attackerSquare;
+      // 지운 기물 뒤에 있던 슬라이딩 기물을 공격자에 더합니다.
+      attackers |= (BishopBitboard.getBishopAttacks(to, occupancy) & diagonalSliders)
+          | (RookBitboard.getRookAttacks(to, occupancy) & straightSliders);
+      attackers &= occupancy;
+      side = side.getOpposite();
+    }
+    for (; depth > 0; depth--) {
+      gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+    }
+    return gain[0];
+  }
+
+  /**
+   * 이동의 교환 결과가 기준 이상인지 확인합니다.
+   *
+   * @param board     이동을 수행하기 전의 보드
+   * @param move      평가할 인코딩된 이동
+   * @param threshold 기준 값
+   * @return 교환 결과가 기준 이상이면 true, 아니면 false
+   */
+  public boolean isAtLeast(final MutableBoard board, final int move, final int threshold) {
+    // 잡히는 기물이 잡는 기물보다 비싸면 되잡혀도 손해가 아니므로 계산하지 않습니다.
+    if (threshold <= 0 && !MoveEncoding.isPromotion(move)) {
+      final int capturedPiece = MoveEncoding.getCapturedPiece(move);
+      if (capturedPiece != MoveEncoding.NONE && PIECE_VALUES[capturedPiece % NUM_PIECE_TYPES]
+          >= PIECE_VALUES[MoveEncoding.getPiece(move) % NUM_PIECE_TYPES]) {
+        return true;
+      }
+    }
+    return evaluate(board, move) >= threshold;
+  }
+
+  // 킹에서 같은 연합의 기물 하나를 건너 뛰어 보이는 상대 슬라이딩 기물을 찾습니다.
+  private void findPins(final MutableBoard board, final Alliance side, final long occupancy) {
+    final int sideIndex = side.ordinal();
+    this.pinned[sideIndex] = 0L;
+    this.pinners[sideIndex] = 0L;
+    final long king = board.getPieceBitboard(BitBoard.pieceIndex(PieceType.KING, side));
+    if (king == 0L) {
+      return;
+    }
+    final int kingSquare = Long.numberOfTrailingZeros(king);
+    final long own = board.getAllianceOccupancy(side) & occupancy;
+    final Alliance enemy = side.getOpposite();
+    final long enemyQueens = board.getPieceBitboard(BitBoard.pieceIndex(PieceType.QUEEN, enemy));
+    final long straightRays = RookBitboard.getRookAttacks(kingSquare, occupancy);
+    addPins(sideIndex, straightRays, RookBitboard.getRookAttacks(kingSquare,
+        occupancy ^ (straightRays & own)) & ~straightRays & occupancy
+        & (board.getPieceBitboard(BitBoard.pieceIndex(PieceType.ROOK, enemy)) | enemyQueens),
+        own, occupancy, false);
+    final long diagonalRays = BishopBitboard.getBishopAttacks(kingSquare, occupancy);
+    addPins(sideIndex, diagonalRays, BishopBitboard.getBishopAttacks(kingSquare,
+        occupancy ^ (diagonalRays & own)) & ~diagonalRays & occupancy
+        & (board.getPieceBitboard(BitBoard.pieceIndex(PieceType.BISHOP, enemy)) | enemyQueens),
+        own, occupancy, true);
+  }
+
+  // 킹과 핀한 기물이 같은 줄에 있으므로 두 기물의 공격이 겹치는 같은 연합 기물이 그 사이의 핀된 기물입니다.
+  private void addPins(final int sideIndex, final long kingRays, long snipers, final long own,
+      final long occupancy, final boolean diagonal) {
+    while (snipers != 0L) {
+      final int sniper = Long.numberOfTrailingZeros(snipers);
+      final long sniperRays = diagonal ? BishopBitboard.getBishopAttacks(sniper, occupancy)
+          : RookBitboard.getRookAttacks(sniper, occupancy);
+      final long pinnedPiece = kingRays & sniperRays & own;
+      if (pinnedPiece != 0L) {
+        this.pinned[sideIndex] |= pinnedPiece;
+        this.pinners[sideIndex] |= 1L << sniper;
+      }
+      snipers &= snipers - 1;
+    }
+  }
+
+  private static long slidersOf(final MutableBoard board, final PieceType sliderType) {
+    long sliders = 0L;
+    for (final Alliance alliance : Alliance.values()) {
+      sliders |= board.getPieceBitboard(BitBoard.pieceIndex(sliderType, alliance))
+          | board.getPieceBitboard(BitBoard.pieceIndex(PieceType.QUEEN, alliance));
+    }
+    return sliders;
+  }
+}
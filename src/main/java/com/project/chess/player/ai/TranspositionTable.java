@@ -0,0 +1,235 @@
+package com.project.chess.player.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 탐색 결과를 Zobrist 키로 저장하는 고정 크기 치환표입니다.
+ * <p>
+ * 항목은 키와 데이터 두 개의 {@code long}으로 이루어지며, 네 항목을 묶은 버킷(64바이트)이 하나의 {@code long[]}에 연속으로
+ * 놓입니다. 키 자리에는 {@code key ^ data}를 저장하고, 읽을 때 두 값을 다시 XOR하여 키가 맞는지 확인합니다. 여러 스레드가 잠금
+ * 없이 같은 항목을 동시에 쓰다가 키와 데이터가 서로 다른 쓰기에서 섞이면 XOR 결과가 키와 맞지 않으므로, 깨진 항목은 적중이 아닌
+ * 실패로 처리됩니다.
+ * <p>
+ * 데이터의 비트 배치는 다음과 같습니다.
+ * <pre>
+ *  0 - 24 인코딩된 최선 수
+ * 25 - 40 점수 (16비트 부호 있는 정수)
+ * 41 - 48 깊이
+ * 49 - 50 경계 종류
+ * 51 - 56 세대
+ * </pre>
+ * 경계 종류는 0이 아니므로, 저장된 항목의 데이터는 항상 0이 아닙니다.
+ */
+public final class TranspositionTable {
+
+  public static final int BOUND_EXACT = 1;
+  public static final int BOUND_LOWER = 2;
+  public static final int BOUND_UPPER = 3;
+
+  private static final int BUCKET_SIZE = 4;
+  private static final int LONGS_PER_ENTRY = 2;
+  private static final int LONGS_PER_BUCKET = BUCKET_SIZE * LONGS_PER_ENTRY;
+  private static final int BYTES_PER_BUCKET = LONGS_PER_BUCKET * Long.BYTES;
+
+  private static final int SCORE_SHIFT = 25;
+  private static final int DEPTH_SHIFT = 41;
+  private static final int BOUND_SHIFT = 49;
+  private static final int AGE_SHIFT = 51;
+  private static final long MOVE_MASK = (1L << SCORE_SHIFT) - 1;
+  private static final int SCORE_MASK = 0xFFFF;
+  private static final int DEPTH_MASK = 0xFF;
+  private static final int BOUND_MASK = 0x3;
+  private static final int AGE_MASK = 0x3F;
+
+  // hashfull 계산에 사용하는 표본 버킷 수
+  private static final int HASHFULL_SAMPLE_BUCKETS = 250;
+
+  private final long[] table;
+  private final long bucketMask;
+  private volatile int age;
+
+  private final LongAdder probes = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * 생성자: 주어진 크기 이하에서 가장 큰 2의 거듭제곱 개의 버킷을 할당합니다.
+   *
+   * @param megabytes 표의 최대 크기 (MB)
+   */
+  public TranspositionTable(final int megabytes) {
+    if (megabytes <= 0) {
+      throw new IllegalArgumentException("치환표 크기는 양수여야 합니다: " + megabytes);
+    }
+    final long buckets = Long.highestOneBit(megabytes * 1024L * 1024L / BYTES_PER_BUCKET);
+    if (buckets * LONGS_PER_BUCKET > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("치환표 크기가 너무 큽니다: " + megabytes + "MB");
+    }
+    this.table = new long[(int) (buckets * LONGS_PER_BUCKET)];
+    this.bucketMask = buckets - 1;
+  }
+
+  /**
+   * 키에 해당하는 항목을 찾습니다.
+   *
+   * @param key Zobrist 키
+   * @return 항목의 데이터, 없으면 0
+   */
+  public long probe(final long key) {
+    this.probes.increment();
+    final int bucket = bucketIndex(key);
+    for (int i = bucket; i < bucket + LONGS_PER_BUCKET; i += LONGS_PER_ENTRY) {
+      final long data = this.table[i + 1];
+      if ((this.table[i] ^ data) == key && data != 0L) {
+        this.hits.increment();
+        return data;
+      }
+    }
+    return 0L;
+  }
+
+  /**
+   * 항목을 저장합니다. 같은 키의 항목이 있으면 덮어쓰고, 없으면 버킷에서 가장 얕고 오래된 항목을 대체합니다.
+   *
+   * @param key   Zobrist 키
+   * @param move  인코딩된 최선 수, 없으면 0
+   * @param score 점수 (메이트 점수는 현재 노드 기준으로 보정된 값)
+   * @param depth 남은 탐색 깊이
+   * @param bound 경계 종류
+   */
+  public void store(final long key, final int move, final int score, final int depth,
+      final int bound) {
+    final int bucket = bucketIndex(key);
+    final int currentAge = this.age;
+    int replace = bucket;
+    int replaceValue = Integer.MAX_VALUE;
+    for (int i = bucket; i < bucket + LONGS_PER_BUCKET; i += LONGS_PER_ENTRY) {
+      final long data = this.table[i + 1];
+      if (data == 0L) {
+        if (replaceValue > Integer.MIN_VALUE) {
+          replace = i;
+          replaceValue = Integer.MIN_VALUE;
+        }
+        continue;
+      }
+      if ((this.table[i] ^ data) == key) {
+        // 같은 포지션: 새 결과에 최선 수가 없으면 이전 최선 수를 유지합니다.
+        final int storedMove = move != 0 ? move : getMove(data);
+        write(i, key, pack(storedMove, score, depth, bound, currentAge));
+        return;
+      }
+      // 깊이가 얕을수록, 오래된 세대일수록 먼저 대체합니다.
+      final int value = getDepth(data) - 4 * ((currentAge - getAge(data)) & AGE_MASK);
+      if (value < replaceValue) {
+        replace = i;
+        replaceValue = value;
+      }
+    }
+    write(replace, key, pack(move, score, depth, bound, currentAge));
+  }
+
+  private void write(final int index, final long key, final long data) {
+    this.table[index] = key ^ data;
+    this.table[index + 1] = data;
+  }
+
+  private int bucketIndex(final long key) {
+    return (int) (key & this.bucketMask) * LONGS_PER_BUCKET;
+  }
+
+  private static long pack(final int move, final int score, final int depth, final int bound,
+      final int age) {
+    return (move & MOVE_MASK)
+        | ((long) (score & SCORE_MASK) << SCORE_SHIFT)
+        | ((long) (Math.max(depth, 0) & DEPTH_MASK) << DEPTH_SHIFT)
+        | ((long) bound << BOUND_SHIFT)
+        | ((long) age << AGE_SHIFT);
+  }
+
+  public static int getMove(final long data) {
+    return (int) (data & MOVE_MASK);
+  }
+
+  public static int getScore(final long data) {
+    return (short) (data >>> SCORE_SHIFT);
+  }
+
+  public static int getDepth(final long data) {
+    return (int) (data >>> DEPTH_SHIFT) & DEPTH_MASK;
+  }
+
+  public static int getBound(final long data) {
+    return (int) (data >>> BOUND_SHIFT) & BOUND_MASK;
+  }
+
+  private static int getAge(final long data) {
+    return (int) (data >>> AGE_SHIFT) & AGE_MASK;
+  }
+
+  /**
+   * 새 탐색을 시작할 때 호출하여 세대를 올립니다. 이전 세대의 항목은 먼저 대체됩니다.
+   */
+  public void newSearch() {
+    this.age = (this.age + 1) & AGE_MASK;
+  }
+
+  /**
+   * 모든 항목과 통계를 지웁니다.
+   */
+  public void clear() {
+    Arrays.fill(this.table, 0L);
+    this.age = 0;
+    resetStatistics();
+  }
+
+  public void resetStatistics() {
+    this.probes.reset();
+    this.hits.reset();
+  }
+
+  public long getProbes() {
+    return this.probes.sum();
+  }
+
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * 조회 적중률을 반환합니다.
+   *
+   * @return 0.0부터 1.0까지의 적중률
+   */
+  public double getHitRate() {
+    final long probeCount = this.probes.sum();
+    return probeCount == 0 ? 0.0 : (double) this.hits.sum() / probeCount;
+  }
+
+  /**
+   * 현재 세대의 항목이 차지한 비율을 표본 버킷으로 추정합니다 (UCI의 hashfull).
+   *
+   * @return 천분율
+   */
+  public int hashfull() {
+    final int currentAge = this.age;
+    final int sampleLongs = (int) Math.min(this.table.length,
+        (long) HASHFULL_SAMPLE_BUCKETS * LONGS_PER_BUCKET);
+    int used = 0;
+    for (int i = 0; i < sampleLongs; i += LONGS_PER_ENTRY) {
+      final long data = this.table[i + 1];
+      if (data != 0L && getAge(data) == currentAge) {
+        used++;
+      }
+    }
+    return used * 1000 / (sampleLongs / LONGS_PER_ENTRY);
+  }
+
+  /**
+   * 항목 수를 반환합니다.
+   *
+   * @return 표가 담을 수 있는 항목 수
+   */
+  public int capacity() {
+    return this.table.length / LONGS_PER_ENTRY;
+  }
+}
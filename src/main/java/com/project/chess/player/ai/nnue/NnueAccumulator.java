@@ -0,0 +1,82 @@
+package com.project.chess.player.ai.nnue;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.board.PieceListener;
+
+/**
+ * 두 관점의 첫 번째 층 값을 보관하고 기물 단위로 증분 갱신합니다.
+ * <p>
+ * {@link MutableBoard}의 {@link PieceListener}로 등록되어, 기물이 놓이거나 치워질 때마다 해당 입력의 가중치 행을 관점마다 하나씩
+ * 더하거나 뺍니다. 이동 하나는 보통 두세 번의 갱신이며, 되돌릴 때는 반대 갱신이 일어나므로 별도의 스택이 필요 없습니다.
+ */
+public final class NnueAccumulator implements PieceListener {
+
+  private final NnueNetwork network;
+  private final NnueKernel kernel;
+  private final short[][] values;
+
+  /**
+   * 생성자
+   *
+   * @param network 가중치
+   * @param kernel  갱신에 사용할 커널
+   */
+  public NnueAccumulator(final NnueNetwork network, final NnueKernel kernel) {
+    this.network = network;
+    this.kernel = kernel;
+    this.values = new short[Alliance.values().length][network.getHiddenSize()];
+  }
+
+  /**
+   * 보드의 모든 기물로 값을 처음부터 계산합니다.
+   *
+   * @param board 기준 보드
+   */
+  public void refresh(final MutableBoard board) {
+    for (final Alliance perspective : Alliance.values()) {
+      final short[] accumulator = this.values[perspective.ordinal()];
+      System.arraycopy(this.network.getFeatureBiases(), 0, accumulator, 0, accumulator.length);
+      for (int piece = 0; piece < BitBoard.NUM_PIECE_BITBOARDS; piece++) {
+        long pieces = board.getPieceBitboard(piece);
+        while (pieces != 0) {
+          final int square = Long.numberOfTrailingZeros(pieces);
+          this.kernel.add(accumulator, this.network.getFeatureWeights(),
+              rowOffset(perspective, piece, square));
+          pieces &= pieces - 1;
+        }
+      }
+    }
+  }
+
+  @Override
+  public void pieceAdded(final int piece, final int square) {
+    for (final Alliance perspective : Alliance.values()) {
+      this.kernel.add(this.values[perspective.ordinal()], this.network.getFeatureWeights(),
+          rowOffset(perspective, piece, square));
+    }
+  }
+
+  @Override
+  public void pieceRemoved(final int piece, final int square) {
+    for (final Alliance perspective : Alliance.values()) {
+      this.kernel.subtract(this.values[perspective.ordinal()], this.network.getFeatureWeights(),
+          rowOffset(perspective, piece, square));
+    }
+  }
+
+  private int rowOffset(final Alliance perspective, final int piece, final int square) {
+    return NnueNetwork.featureIndex(perspective, piece, square) * this.network.getHiddenSize();
+  }
+
+  /**
+   * 주어진 관점의 값을 반환합니다. 반환된 배열은 내부 상태이므로 수정하면 안 됩니다.
+   *
+   * @param perspective 관점
+   * @return 관점별 첫 번째 층 값
+   */
+  public short[] get(final Alliance perspective) {
+    return this.values[perspective.ordinal()];
+  }
+}
@@ -0,0 +1,92 @@
+package com.project.chess.player.ai.nnue;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.player.ai.Evaluator;
+import java.util.Arrays;
+
+/**
+ * 양자화된 신경망으로 포지션을 평가합니다.
+ * <p>
+ * 처음 평가하는 보드에는 {@link NnueAccumulator}를 리스너로 등록하고 값을 한 번 계산합니다. 이후에는 보드가 이동을 수행하고 되돌릴
+ * 때마다 누산기가 갱신되므로, 평가할 때는 출력 층만 계산합니다. 보드 하나에는 리스너를 하나만 둘 수 있으므로 같은 보드를 두 평가
+ * 함수가 동시에 평가하면 안 됩니다. 탐색 스레드마다 별도의 인스턴스를 사용해야 하지만, {@link NnueNetwork}는 공유할 수 있습니다.
+ * <p>
+ * 전체 재계산 모드는 평가할 때마다 누산기를 처음부터 계산하며, 증분 갱신이 맞는지 확인하는 데 사용합니다.
+ */
+public final class NnueEvaluator implements Evaluator {
+
+  // 메이트 점수와 겹치지 않도록 평가 값을 이 범위로 자릅니다.
+  private static final int MAX_EVALUATION = 30_000;
+
+  private final NnueNetwork network;
+  private final NnueKernel kernel;
+  private final NnueAccumulator accumulator;
+  private final boolean fullRescan;
+
+  private MutableBoard attachedBoard;
+
+  public NnueEvaluator(final NnueNetwork network) {
+    this(network, NnueKernel.best(), false);
+  }
+
+  /**
+   * 생성자
+   *
+   * @param network    가중치
+   * @param kernel     추론에 사용할 커널
+   * @param fullRescan true이면 평가할 때마다 누산기를 처음부터 계산합니다
+   */
+  public NnueEvaluator(final NnueNetwork network, final NnueKernel kernel,
+      final boolean fullRescan) {
+    this.network = network;
+    this.kernel = kernel;
+    this.accumulator = new NnueAccumulator(network, kernel);
+    this.fullRescan = fullRescan;
+  }
+
+  @Override
+  public int evaluate(final MutableBoard board) {
+    if (this.fullRescan) {
+      this.accumulator.refresh(board);
+    } else if (board != this.attachedBoard || board.getPieceListener() != this.accumulator) {
+      attach(board);
+    }
+    final Alliance side = board.getSideToMove();
+    final long output = this.kernel.forward(this.accumulator.get(side),
+        this.accumulator.get(side.getOpposite()), this.network.getOutputWeights())
+        + (long) this.network.getOutputBias();
+    final long score = output * NnueNetwork.SCALE / (NnueNetwork.QA * NnueNetwork.QB);
+    return (int) Math.max(-MAX_EVALUATION, Math.min(MAX_EVALUATION, score));
+  }
+
+  private void attach(final MutableBoard board) {
+    if (this.attachedBoard != null && this.attachedBoard.getPieceListener() == this.accumulator) {
+      this.attachedBoard.setPieceListener(null);
+    }
+    board.setPieceListener(this.accumulator);
+    this.attachedBoard = board;
+    this.accumulator.refresh(board);
+  }
+
+  /**
+   * 보드의 누산기 값이 처음부터 계산한 값과 같은지 확인합니다.
+   *
+   * @param board 확인할 보드 (이 평가 함수가 평가한 적이 있어야 합니다)
+   * @return 같으면 true, 아니면 false
+   */
+  public boolean isAccumulatorConsistent(final MutableBoard board) {
+    final NnueAccumulator expected = new NnueAccumulator(this.network, NnueKernel.scalar());
+    expected.refresh(board);
+    for (final Alliance perspective : Alliance.values()) {
+      if (!Arrays.equals(expected.get(perspective), this.accumulator.get(perspective))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public NnueKernel getKernel() {
+    return this.kernel;
+  }
+}
@@ -0,0 +1,74 @@
+package com.project.chess.player.ai.nnue;
+
+/**
+ * 신경망 추론의 반복 연산을 담당합니다.
+ * <p>
+ * {@link #best()}는 {@code jdk.incubator.vector} 모듈을 사용할 수 있으면 SIMD 구현을, 없으면 스칼라 구현을 반환합니다. Vector
+ * API를 참조하는 클래스는 {@code VectorKernel} 하나뿐이며, 모듈 옵션을 주어 따로 컴파일하는 {@code vector} 소스 세트에 있고
+ * 리플렉션으로만 불러옵니다. 따라서 다른 클래스는 모듈 없이 컴파일하고 실행할 수 있습니다. 시스템 속성
+ * {@code chess.nnue.scalar}를 {@code true}로 두면 항상 스칼라 구현을 사용합니다.
+ */
+public interface NnueKernel {
+
+  /**
+   * 가중치 행을 누산기에 더합니다.
+   *
+   * @param accumulator 누산기
+   * @param weights     가중치 배열
+   * @param offset      더할 행의 시작 위치
+   */
+  void add(short[] accumulator, short[] weights, int offset);
+
+  /**
+   * 가중치 행을 누산기에서 뺍니다.
+   *
+   * @param accumulator 누산기
+   * @param weights     가중치 배열
+   * @param offset      뺄 행의 시작 위치
+   */
+  void subtract(short[] accumulator, short[] weights, int offset);
+
+  /**
+   * 두 관점의 누산기에 [0, {@link NnueNetwork#QA}]로 자른 ReLU를 적용하고 출력 층 가중치와 내적합니다.
+   *
+   * @param us            둘 차례인 쪽 관점의 누산기
+   * @param them          상대 쪽 관점의 누산기
+   * @param outputWeights 출력 층 가중치, {@code us} 다음에 {@code them}
+   * @return 내적 값 ({@link NnueNetwork#QA} * {@link NnueNetwork#QB} 배율)
+   */
+  int forward(short[] us, short[] them, short[] outputWeights);
+
+  /**
+   * 구현의 이름을 반환합니다.
+   *
+   * @return "vector" 또는 "scalar"
+   */
+  String getName();
+
+  /**
+   * 스칼라 구현을 반환합니다.
+   *
+   * @return 스칼라 커널
+   */
+  static NnueKernel scalar() {
+    return new ScalarKernel();
+  }
+
+  /**
+   * 사용할 수 있는 가장 빠른 구현을 반환합니다.
+   *
+   * @return SIMD 커널, 사용할 수 없으면 스칼라 커널
+   */
+  static NnueKernel best() {
+    if (Boolean.getBoolean("chess.nnue.scalar")) {
+      return scalar();
+    }
+    try {
+      return (NnueKernel) Class.forName(NnueKernel.class.getPackageName() + ".VectorKernel")
+          .getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // --add-modules jdk.incubator.vector 없이 실행한 경우
+      return scalar();
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.project.chess.player.ai.nnue;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.BitBoard;
+import com.project.chess.board.BoardUtil;
+import com.project.chess.pieces.Piece.PieceType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 양쪽 관점의 768 입력을 사용하는 2층 신경망의 양자화된 가중치입니다.
+ * <p>
+ * 입력은 관점별로 (같은 편/상대 편, 기물 종류, 타일) 조합 768개이며, 흑의 관점에서는 행을 뒤집은 타일을 사용합니다. 타일 좌표는
+ * 보드와 같이 a8이 0입니다. 첫 번째 층은 관점마다 {@code hiddenSize}개의 뉴런을 같은 가중치로 계산하고, 출력 층은 둘 차례인 쪽의
+ * 뉴런 다음에 상대 쪽의 뉴런을 이어 붙인 {@code 2 * hiddenSize}개의 입력에 [0, {@link #QA}]로 자른 ReLU를 적용하여 하나의 값을
+ * 계산합니다.
+ * <p>
+ * 가중치 파일은 리틀 엔디언이며 다음 순서로 저장됩니다.
+ * <pre>
+ * int32  매직 넘버 {@link #MAGIC} ("NNUE")
+ * int32  형식 버전 {@link #VERSION}
+ * int32  hiddenSize
+ * int16  첫 번째 층 가중치 [입력 768][hiddenSize]  (QA 배율)
+ * int16  첫 번째 층 편향 [hiddenSize]             (QA 배율)
+ * int16  출력 층 가중치 [2 * hiddenSize]           (QB 배율)
+ * int32  출력 층 편향                             (QA * QB 배율)
+ * </pre>
+ */
+public final class NnueNetwork {
+
+  public static final int MAGIC = 0x45554E4E;
+  public static final int VERSION = 1;
+
+  public static final int NUM_FEATURES = BitBoard.NUM_PIECE_BITBOARDS * BoardUtil.NUM_TILES;
+  public static final int QA = 255;
+  public static final int QB = 64;
+  // 출력 값을 센티폰으로 바꾸는 배율
+  public static final int SCALE = 400;
+
+  private static final int HEADER_BYTES = 3 * Integer.BYTES;
+  private static final int NUM_PIECE_TYPES = PieceType.values().length;
+
+  private final int hiddenSize;
+  private final short[] featureWeights;
+  private final short[] featureBiases;
+  private final short[] outputWeights;
+  private final int outputBias;
+
+  /**
+   * 생성자
+   *
+   * @param hiddenSize     관점별 첫 번째 층의 뉴런 수
+   * @param featureWeights 첫 번째 층 가중치, 입력마다 {@code hiddenSize}개씩
+   * @param featureBiases  첫 번째 층 편향
+   * @param outputWeights  출력 층 가중치, 둘 차례인 쪽 다음에 상대 쪽
+   * @param outputBias     출력 층 편향
+   */
+  public NnueNetwork(final int hiddenSize, final short[] featureWeights,
+      final short[] featureBiases, final short[] outputWeights, final int outputBias) {
+    if (hiddenSize <= 0) {
+      throw new IllegalArgumentException("뉴런 수는 양수여야 합니다: " + hiddenSize);
+    }
+    if (featureWeights.length != NUM_FEATURES * hiddenSize
+        || featureBiases.length != hiddenSize
+        || outputWeights.length != 2 * hiddenSize) {
+      throw new IllegalArgumentException("가중치 배열의 크기가 뉴런 수 " + hiddenSize + "와 맞지 않습니다.");
+    }
+    this.hiddenSize = hiddenSize;
+    this.featureWeights = featureWeights;
+    this.featureBiases = featureBiases;
+    this.outputWeights = outputWeights;
+    this.outputBias = outputBias;
+  }
+
+  /**
+   * 가중치 파일을 읽습니다.
+   *
+   * @param path 가중치 파일 경로
+   * @return 읽은 신경망
+   * @throws IOException 파일을 읽을 수 없거나 형식이 맞지 않는 경우
+   */
+  public static NnueNetwork load(final Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final ByteBuffer header = readFully(channel, HEADER_BYTES);
+      if (header.getInt() != MAGIC) {
+        throw new IOException("신경망 가중치 파일이 아닙니다: " + path);
+      }
+      final int version = header.getInt();
+      if (version != VERSION) {
+        throw new IOException("지원하지 않는 가중치 파일 버전입니다: " + version);
+      }
+      final int hiddenSize = header.getInt();
+      if (hiddenSize <= 0 || hiddenSize > (Integer.MAX_VALUE / Short.BYTES) / NUM_FEATURES) {
+        throw new IOException("잘못된 뉴런 수입니다: " + hiddenSize);
+      }
+      final long expectedBytes = HEADER_BYTES + payloadBytes(hiddenSize);
+      if (channel.size() != expectedBytes) {
+        throw new IOException("가중치 파일의 크기가 " + channel.size() + "바이트입니다. "
+            + expectedBytes + "바이트여야 합니다: " + path);
+      }
+
+      final ByteBuffer payload = readFully(channel, (int) payloadBytes(hiddenSize));
+      final short[] featureWeights = new short[NUM_FEATURES * hiddenSize];
+      final short[] featureBiases = new short[hiddenSize];
+      final short[] outputWeights = new short[2 * hiddenSize];
+      payload.asShortBuffer().get(featureWeights);
+      payload.position(payload.position() + featureWeights.length * Short.BYTES);
+      payload.asShortBuffer().get(featureBiases);
+      payload.position(payload.position() + featureBiases.length * Short.BYTES);
+      payload.asShortBuffer().get(outputWeights);
+      payload.position(payload.position() + outputWeights.length * Short.BYTES);
+      return new NnueNetwork(hiddenSize, featureWeights, featureBiases, outputWeights,
+          payload.getInt());
+    }
+  }
+
+  /**
+   * 가중치를 {@link #load(Path)}가 읽는 형식으로 저장합니다.
+   *
+   * @param path 저장할 파일 경로
+   * @throws IOException 파일을 쓸 수 없는 경우
+   */
+  public void save(final Path path) throws IOException {
+    final int bytes = (int) (HEADER_BYTES + payloadBytes(this.hiddenSize));
+    final ByteBuffer buffer = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(this.hiddenSize);
+    buffer.asShortBuffer().put(this.featureWeights);
+    buffer.position(buffer.position() + this.featureWeights.length * Short.BYTES);
+    buffer.asShortBuffer().put(this.featureBiases);
+    buffer.position(buffer.position() + this.featureBiases.length * Short.BYTES);
+    buffer.asShortBuffer().put(this.outputWeights);
+    buffer.position(buffer.position() + this.outputWeights.length * Short.BYTES);
+    buffer.putInt(this.outputBias);
+    buffer.flip();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  private static long payloadBytes(final int hiddenSize) {
+    return ((long) NUM_FEATURES * hiddenSize + hiddenSize + 2L * hiddenSize) * Short.BYTES
+        + Integer.BYTES;
+  }
+
+  private static ByteBuffer readFully(final FileChannel channel, final int bytes)
+      throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new IOException("가중치 파일이 예상보다 짧습니다.");
+      }
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * 주어진 관점에서 기물의 입력 번호를 계산합니다.
+   *
+   * @param perspective 관점
+   * @param piece       {@link BitBoard#pieceIndex} 형식의 기물 인덱스
+   * @param square      타일 좌표
+   * @return 0부터 {@link #NUM_FEATURES} - 1까지의 입력 번호
+   */
+  public static int featureIndex(final Alliance perspective, final int piece, final int square) {
+    final boolean own = piece / NUM_PIECE_TYPES == perspective.ordinal();
+    final int relativePiece = (own ? 0 : NUM_PIECE_TYPES) + piece % NUM_PIECE_TYPES;
+    final int relativeSquare = perspective.isWhite() ? square : square ^ 56;
+    return relativePiece * BoardUtil.NUM_TILES + relativeSquare;
+  }
+
+  public int getHiddenSize() {
+    return this.hiddenSize;
+  }
+
+  short[] getFeatureWeights() {
+    return this.featureWeights;
+  }
+
+  short[] getFeatureBiases() {
+    return this.featureBiases;
+  }
+
+  short[] getOutputWeights() {
+    return this.outputWeights;
+  }
+
+  public int getOutputBias() {
+    return this.outputBias;
+  }
+}
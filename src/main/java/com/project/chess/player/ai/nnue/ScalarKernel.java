@@ -0,0 +1,41 @@
+package com.project.chess.player.ai.nnue;
+
+/**
+ * Vector API 없이 배열을 하나씩 계산하는 커널입니다.
+ */
+final class ScalarKernel implements NnueKernel {
+
+  @Override
+  public void add(final short[] accumulator, final short[] weights, final int offset) {
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] += weights[offset + i];
+    }
+  }
+
+  @Override
+  public void subtract(final short[] accumulator, final short[] weights, final int offset) {
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] -= weights[offset + i];
+    }
+  }
+
+  @Override
+  public int forward(final short[] us, final short[] them, final short[] outputWeights) {
+    final int hiddenSize = us.length;
+    int sum = 0;
+    for (int i = 0; i < hiddenSize; i++) {
+      sum += clippedRelu(us[i]) * outputWeights[i]
+          + clippedRelu(them[i]) * outputWeights[hiddenSize + i];
+    }
+    return sum;
+  }
+
+  private static int clippedRelu(final short value) {
+    return Math.min(Math.max(value, 0), NnueNetwork.QA);
+  }
+
+  @Override
+  public String getName() {
+    return "scalar";
+  }
+}
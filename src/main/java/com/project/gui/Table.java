@@ -2,6 +2,14 @@ package com.project.gui;
 
 import com.project.chess.board.Board;
 import com.project.chess.board.BoardUtil;
+import com.project.chess.moves.Move;
+import com.project.chess.pgn.PgnGame;
+import com.project.chess.pgn.PgnReader;
+import com.project.chess.player.MoveStatus;
+import com.project.chess.player.MoveTransition;
+import com.project.chess.player.ai.AlphaBetaSearch;
+import com.project.chess.player.ai.PawnStructureEvaluator;
+import com.project.chess.player.ai.SearchLimits;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -10,16 +18,22 @@ import java.awt.GridLayout;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
+import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.SwingWorker;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import org.imgscalr.Scalr;
 import com.google.common.collect.ImmutableMap;
 import org.imgscalr.Scalr.Method;
@@ -28,7 +42,7 @@ public class Table {
 
   private final JFrame gameFrame;
   private final BoardPanel boardPanel;
-  private final Board chessBoard;
+  private Board chessBoard;
   private final ImmutableMap<String, ImageIcon> pieceIconCache;
 
   private static final Dimension OUTER_PANEL_DIMENSION = new Dimension(600, 600);
@@ -42,6 +56,8 @@ public class Table {
   private static final int CHESS_PIECE_WIDTH = 60;
   private static final int CHESS_PIECE_HEIGHT = 60;
 
+  private static final long ENGINE_MOVE_TIME_MILLIS = 3000L;
+
   /**
    * 테이블 생성자. 게임 프레임, 체스 보드 및 기물 아이콘 캐시를 초기화합니다.
    * 기물 이미지를 로드하고 보드 패널을 설정합니다.
@@ -78,6 +94,7 @@ public class Table {
   private JMenuBar createTableMenuBar() {
     JMenuBar menuBar = new JMenuBar();
     menuBar.add(createFileMenu());
+    menuBar.add(createEngineMenu());
     return menuBar;
   }
 
@@ -90,7 +107,7 @@ public class Table {
     JMenu fileMenu = new JMenu("File");
 
     JMenuItem openPGN = new JMenuItem("Load PGN File");
-    openPGN.addActionListener(e -> System.out.println("open PGN File"));
+    openPGN.addActionListener(e -> loadPgnFile());
     fileMenu.add(openPGN);
 
     JMenuItem exit = new JMenuItem("Exit");
@@ -100,6 +117,89 @@ public class Table {
     return fileMenu;
   }
 
+  /**
+   * PGN 파일을 선택하고, 백그라운드 스레드에서 첫 번째 게임을 읽어 마지막 포지션을 보드에 표시합니다.
+   */
+  private void loadPgnFile() {
+    final JFileChooser chooser = new JFileChooser();
+    chooser.setFileFilter(new FileNameExtensionFilter("PGN 파일 (*.pgn)", "pgn"));
+    if (chooser.showOpenDialog(this.gameFrame) != JFileChooser.APPROVE_OPTION) {
+      return;
+    }
+    final Path path = chooser.getSelectedFile().toPath();
+    new SwingWorker<PgnGame, Void>() {
+      @Override
+      protected PgnGame doInBackground() throws IOException {
+        try (PgnReader reader = new PgnReader(path)) {
+          return reader.hasNext() ? reader.next() : null;
+        }
+      }
+
+      @Override
+      protected void done() {
+        try {
+          final PgnGame game = get();
+          if (game == null) {
+            JOptionPane.showMessageDialog(gameFrame, "PGN 파일에 게임이 없습니다: " + path);
+            return;
+          }
+          if (game.hasError()) {
+            JOptionPane.showMessageDialog(gameFrame, game.getError());
+          }
+          chessBoard = game.getFinalBoard();
+          boardPanel.drawBoard(chessBoard);
+          gameFrame.setTitle("Java Chess - " + game.getTag("White") + " vs "
+              + game.getTag("Black") + " " + game.getResult());
+        } catch (InterruptedException | ExecutionException e) {
+          JOptionPane.showMessageDialog(gameFrame, "PGN 파일을 읽을 수 없습니다: " + e.getCause());
+        }
+      }
+    }.execute();
+  }
+
+  /**
+   * 엔진 메뉴를 생성합니다.
+   *
+   * @return 생성된 엔진 메뉴
+   */
+  private JMenu createEngineMenu() {
+    JMenu engineMenu = new JMenu("Engine");
+
+    JMenuItem engineMove = new JMenuItem("Engine Move");
+    engineMove.addActionListener(e -> playEngineMove());
+    engineMenu.add(engineMove);
+
+    return engineMenu;
+  }
+
+  /**
+   * 백그라운드 스레드에서 현재 보드를 탐색하고, 찾은 이동을 보드에 둡니다.
+   */
+  private void playEngineMove() {
+    final Board searchBoard = this.chessBoard;
+    new SwingWorker<Move, Void>() {
+      @Override
+      protected Move doInBackground() {
+        return new AlphaBetaSearch(SearchLimits.time(ENGINE_MOVE_TIME_MILLIS),
+            new PawnStructureEvaluator(), info -> {
+            }).execute(searchBoard);
+      }
+
+      @Override
+      protected void done() {
+        try {
+          final MoveTransition transition = searchBoard.getCurrentPlayer().makeMove(get());
+          if (transition.getMoveStatus() == MoveStatus.DONE && chessBoard == searchBoard) {
+            chessBoard = transition.getTransitionBoard();
+            boardPanel.drawBoard(chessBoard);
+          }
+        } catch (InterruptedException | ExecutionException e) {
+          JOptionPane.showMessageDialog(gameFrame, "엔진이 이동을 찾지 못했습니다: " + e.getCause());
+        }
+      }
+    }.execute();
+  }
+
   /**
    * 기물 이미지를 로드하고 캐시합니다.
    *
@@ -147,6 +247,19 @@ public class Table {
         add(tilePanel);
       }
     }
+
+    /**
+     * 주어진 보드로 모든 타일을 다시 그립니다.
+     *
+     * @param board 그릴 체스 보드
+     */
+    void drawBoard(final Board board) {
+      for (final TilePanel tilePanel : this.boardTiles) {
+        tilePanel.drawTile(board);
+      }
+      validate();
+      repaint();
+    }
   }
 
   /**
@@ -165,6 +278,18 @@ public class Table {
       validate();
     }
 
+    /**
+     * 주어진 보드로 타일을 다시 그립니다.
+     *
+     * @param board 그릴 체스 보드
+     */
+    void drawTile(final Board board) {
+      assignTileColor();
+      assignTilePieceIcon(board);
+      validate();
+      repaint();
+    }
+
     /**
      * 타일에 기물 아이콘을 할당합니다.
      *
@@ -0,0 +1,95 @@
+package com.project.uci;
+
+import com.project.chess.Alliance;
+import com.project.chess.player.ai.SearchLimits;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * UCI {@code go} 명령의 인자입니다.
+ * <p>
+ * 시간 제어가 주어지면 남은 시간을 남은 수로 나눈 값에 증가 시간의 대부분을 더해 한 수에 쓸 시간을 정합니다. 남은 수를 모르면
+ * {@link #DEFAULT_MOVES_TO_GO}수가 남았다고 보고, 통신 지연을 위해 남은 시간에서 {@link #MOVE_OVERHEAD_MILLIS}를 남깁니다.
+ */
+@Getter
+final class GoParameters {
+
+  static final int DEFAULT_MOVES_TO_GO = 30;
+  static final long MOVE_OVERHEAD_MILLIS = 50L;
+
+  private int depth = SearchLimits.MAX_DEPTH;
+  private long nodes = Long.MAX_VALUE;
+  private long moveTime;
+  private final long[] remainingTime = new long[Alliance.values().length];
+  private final long[] increment = new long[Alliance.values().length];
+  private int movesToGo;
+  private boolean infinite;
+  private boolean ponder;
+
+  private GoParameters() {
+    // 시간이 주어지지 않은 쪽은 -1로 구분합니다.
+    Arrays.fill(this.remainingTime, -1L);
+  }
+
+  /**
+   * {@code go} 명령을 읽습니다. 모르는 인자는 무시합니다.
+   *
+   * @param tokens 공백으로 나눈 명령, 첫 번째는 {@code go}
+   * @return 읽은 인자
+   * @throws IllegalArgumentException 숫자 인자의 값이 잘못된 경우
+   */
+  static GoParameters parse(final String[] tokens) {
+    final GoParameters parameters = new GoParameters();
+    for (int i = 1; i < tokens.length; i++) {
+      switch (tokens[i]) {
+        case "depth" -> parameters.depth = (int) parseNumber(tokens, ++i);
+        case "nodes" -> parameters.nodes = parseNumber(tokens, ++i);
+        case "movetime" -> parameters.moveTime = parseNumber(tokens, ++i);
+        case "wtime" -> parameters.remainingTime[Alliance.WHITE.ordinal()] =
+            parseNumber(tokens, ++i);
+        case "btime" -> parameters.remainingTime[Alliance.BLACK.ordinal()] =
+            parseNumber(tokens, ++i);
+        case "winc" -> parameters.increment[Alliance.WHITE.ordinal()] = parseNumber(tokens, ++i);
+        case "binc" -> parameters.increment[Alliance.BLACK.ordinal()] = parseNumber(tokens, ++i);
+        case "movestogo" -> parameters.movesToGo = (int) parseNumber(tokens, ++i);
+        case "infinite" -> parameters.infinite = true;
+        case "ponder" -> parameters.ponder = true;
+        default -> {
+        }
+      }
+    }
+    return parameters;
+  }
+
+  private static long parseNumber(final String[] tokens, final int index) {
+    if (index >= tokens.length) {
+      throw new IllegalArgumentException(tokens[index - 1] + " 값이 없습니다.");
+    }
+    try {
+      // 일부 GUI는 시간 초과 직후 음수 시간을 보냅니다.
+      return Math.max(0L, Long.parseLong(tokens[index]));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(tokens[index - 1] + " 값이 숫자가 아닙니다: " + tokens[index]);
+    }
+  }
+
+  /**
+   * 한 수에 쓸 시간을 정합니다.
+   *
+   * @param sideToMove 둘 차례인 쪽
+   * @return 밀리초 단위 시간, 시간 제한이 없으면 0
+   */
+  long allocateTime(final Alliance sideToMove) {
+    if (this.moveTime > 0) {
+      return this.moveTime;
+    }
+    final long remaining = this.remainingTime[sideToMove.ordinal()];
+    if (remaining < 0 || this.infinite) {
+      return 0L;
+    }
+    final long inc = this.increment[sideToMove.ordinal()];
+    final int moves = this.movesToGo > 0 ? this.movesToGo : DEFAULT_MOVES_TO_GO;
+    final long allocated = remaining / moves + inc * 3 / 4;
+    return Math.max(1L, Math.min(allocated, remaining - MOVE_OVERHEAD_MILLIS));
+  }
+}
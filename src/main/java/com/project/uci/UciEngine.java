@@ -0,0 +1,426 @@
+package com.project.uci;
+
+import com.project.chess.bitbase.Bitbases;
+import com.project.chess.board.Fen;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.book.PolyglotBook;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.player.ai.AlphaBetaSearch;
+import com.project.chess.player.ai.Evaluator;
+import com.project.chess.player.ai.LazySmpSearch;
+import com.project.chess.player.ai.PawnStructureEvaluator;
+import com.project.chess.player.ai.SearchInfo;
+import com.project.chess.player.ai.SearchLimits;
+import com.project.chess.player.ai.TranspositionTable;
+import com.project.chess.player.ai.nnue.NnueEvaluator;
+import com.project.chess.player.ai.nnue.NnueNetwork;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 표준 입출력으로 UCI 프로토콜을 처리하는 엔진입니다.
+ * <p>
+ * 입력은 전용 리더 스레드가 읽습니다. {@code stop}, {@code ponderhit}, {@code quit}와 탐색 중의 {@code isready}는 리더
+ * 스레드에서 곧바로 처리하고, 나머지 명령은 큐에 넣어 {@link #run()}을 호출한 스레드가 순서대로 실행합니다. 탐색은 명령 스레드에서
+ * 실행되므로 탐색 중에 들어온 {@code position}, {@code go}는 탐색이 끝난 뒤에 처리되지만, 멈춤 요청은 다음 노드 검사에서 곧바로
+ * 반영됩니다.
+ * <p>
+ * {@code go} 명령은 읽은 순서대로 번호를 매깁니다. {@code stop}은 그때까지 읽은 모든 {@code go}에 적용되므로, 탐색이 시작되기
+ * 전에 도착한 멈춤 요청도 잃지 않습니다.
+ */
+public final class UciEngine {
+
+  public static final String NAME = "JavaChessEngine";
+  public static final String AUTHOR = "JavaChessEngine developers";
+
+  private static final int MIN_HASH_MEGABYTES = 1;
+  private static final int MAX_HASH_MEGABYTES = 4096;
+  private static final int MAX_THREADS = 256;
+  private static final String QUIT = "quit";
+  private static final String EMPTY_OPTION = "<empty>";
+
+  private final BufferedReader input;
+  private final PrintStream output;
+  private final BlockingQueue<String> commands = new LinkedBlockingQueue<>();
+  private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+      runnable -> {
+        final Thread thread = new Thread(runnable, "uci-timer");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  // 명령 스레드에서만 사용합니다.
+  private MutableBoard position = new MutableBoard(Fen.parse(Fen.STARTING_POSITION));
+  private TranspositionTable transpositionTable =
+      new TranspositionTable(AlphaBetaSearch.DEFAULT_HASH_MEGABYTES);
+  private int threads = 1;
+  // 가중치를 읽었으면 신경망으로, 아니면 폰 구조 평가 함수로 평가합니다.
+  private Supplier<Evaluator> evaluatorFactory = PawnStructureEvaluator::new;
+  private PolyglotBook book;
+  private final MoveList bookMoves = new MoveList();
+  private Bitbases bitbases;
+  private long goCommandsExecuted;
+
+  // 아래 필드는 lock으로 보호합니다.
+  private final Object lock = new Object();
+  private long goCommandsRead;
+  private long stoppedThrough;
+  private long ponderHitThrough;
+  private LazySmpSearch currentSearch;
+  private boolean currentPonder;
+  private long currentMoveTime;
+  private ScheduledFuture<?> scheduledStop;
+
+  /**
+   * 생성자
+   *
+   * @param input  명령을 읽을 스트림
+   * @param output 응답을 쓸 스트림
+   */
+  public UciEngine(final InputStream input, final PrintStream output) {
+    this.input = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    this.output = output;
+  }
+
+  /**
+   * 리더 스레드를 시작하고 {@code quit} 명령이나 입력의 끝까지 명령을 처리합니다.
+   */
+  public void run() {
+    final Thread reader = new Thread(this::readCommands, "uci-reader");
+    reader.setDaemon(true);
+    reader.start();
+    try {
+      while (true) {
+        final String command = this.commands.take();
+        if (command.equals(QUIT)) {
+          break;
+        }
+        try {
+          execute(command);
+        } catch (IllegalArgumentException e) {
+          send("info string " + e.getMessage());
+        } catch (RuntimeException e) {
+          // 명령 하나가 실패해도 엔진은 계속 명령을 받습니다.
+          send("info string " + command + " 처리 중 오류가 발생했습니다: " + e);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      this.timer.shutdownNow();
+    }
+  }
+
+  private void readCommands() {
+    try {
+      String line;
+      while ((line = this.input.readLine()) != null) {
+        final String command = line.trim();
+        final String name = firstToken(command);
+        switch (name) {
+          case "stop" -> stop();
+          case "ponderhit" -> ponderHit();
+          case QUIT -> {
+            return;
+          }
+          case "isready" -> isReady(command);
+          case "go" -> {
+            synchronized (this.lock) {
+              this.goCommandsRead++;
+              this.commands.add(command);
+            }
+          }
+          case "" -> {
+          }
+          default -> this.commands.add(command);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      // quit이나 입력의 끝에서는 진행 중인 탐색을 멈추고 종료합니다.
+      stop();
+      this.commands.add(QUIT);
+    }
+  }
+
+  private void stop() {
+    synchronized (this.lock) {
+      this.stoppedThrough = this.goCommandsRead;
+      if (this.currentSearch != null) {
+        this.currentSearch.stop();
+      }
+      this.lock.notifyAll();
+    }
+  }
+
+  private void ponderHit() {
+    synchronized (this.lock) {
+      this.ponderHitThrough = this.goCommandsRead;
+      if (this.currentSearch != null && this.currentPonder) {
+        scheduleStop(this.currentSearch, this.currentMoveTime);
+      }
+      this.lock.notifyAll();
+    }
+  }
+
+  private void isReady(final String command) {
+    synchronized (this.lock) {
+      // 탐색 중이면 명령 스레드가 응답할 수 없으므로 여기서 응답합니다. 앞선 명령이 남아 있으면 순서를 지키기 위해 큐에 넣습니다.
+      if (this.currentSearch != null && this.commands.isEmpty()) {
+        send("readyok");
+      } else {
+        this.commands.add(command);
+      }
+    }
+  }
+
+  private void execute(final String command) {
+    final String[] tokens = command.split("\\s+");
+    switch (tokens[0]) {
+      case "uci" -> {
+        send("id name " + NAME);
+        send("id author " + AUTHOR);
+        send("option name Hash type spin default " + AlphaBetaSearch.DEFAULT_HASH_MEGABYTES
+            + " min " + MIN_HASH_MEGABYTES + " max " + MAX_HASH_MEGABYTES);
+        send("option name Threads type spin default 1 min 1 max " + MAX_THREADS);
+        send("option name Ponder type check default false");
+        send("option name EvalFile type string default " + EMPTY_OPTION);
+        send("option name BookFile type string default " + EMPTY_OPTION);
+        send("option name BitbasePath type string default " + EMPTY_OPTION);
+        send("uciok");
+      }
+      case "isready" -> send("readyok");
+      case "ucinewgame" -> {
+        this.transpositionTable.clear();
+        this.position = new MutableBoard(Fen.parse(Fen.STARTING_POSITION));
+      }
+      case "setoption" -> setOption(command);
+      case "position" -> setPosition(command, tokens);
+      case "go" -> go(tokens);
+      default -> send("info string 알 수 없는 명령입니다: " + tokens[0]);
+    }
+  }
+
+  private void setOption(final String command) {
+    final int nameIndex = command.indexOf(" name ");
+    if (nameIndex < 0) {
+      throw new IllegalArgumentException("옵션 이름이 없습니다: " + command);
+    }
+    final int valueIndex = command.indexOf(" value ", nameIndex);
+    final String name = (valueIndex < 0 ? command.substring(nameIndex + 6)
+        : command.substring(nameIndex + 6, valueIndex)).trim();
+    final String value = valueIndex < 0 ? "" : command.substring(valueIndex + 7).trim();
+    switch (name.toLowerCase()) {
+      case "hash" -> this.transpositionTable = new TranspositionTable(
+          parseSpin(name, value, MIN_HASH_MEGABYTES, MAX_HASH_MEGABYTES));
+      case "threads" -> this.threads = parseSpin(name, value, 1, MAX_THREADS);
+      case "ponder" -> {
+        // 폰더 여부는 go ponder로 전달되므로 설정할 것이 없습니다.
+      }
+      case "evalfile" -> this.evaluatorFactory = openEvaluatorFactory(value);
+      case "bookfile" -> this.book = openBook(value);
+      case "bitbasepath" -> this.bitbases = openBitbases(value);
+      default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + name);
+    }
+  }
+
+  private static Supplier<Evaluator> openEvaluatorFactory(final String value) {
+    if (value.isEmpty() || value.equals(EMPTY_OPTION)) {
+      return PawnStructureEvaluator::new;
+    }
+    try {
+      // 가중치는 스레드끼리 공유하고, 누산기를 가진 평가 함수는 탐색 스레드마다 만듭니다.
+      final NnueNetwork network = NnueNetwork.load(Path.of(value));
+      return () -> new NnueEvaluator(network);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("신경망 가중치를 열 수 없습니다: " + e.getMessage());
+    }
+  }
+
+  private static PolyglotBook openBook(final String value) {
+    if (value.isEmpty() || value.equals(EMPTY_OPTION)) {
+      return null;
+    }
+    try {
+      return PolyglotBook.open(Path.of(value));
+    } catch (IOException e) {
+      throw new IllegalArgumentException("오프닝 북을 열 수 없습니다: " + e.getMessage());
+    }
+  }
+
+  private static Bitbases openBitbases(final String value) {
+    if (value.isEmpty() || value.equals(EMPTY_OPTION)) {
+      return null;
+    }
+    try {
+      return Bitbases.open(Path.of(value));
+    } catch (IOException e) {
+      throw new IllegalArgumentException("비트베이스를 열 수 없습니다: " + e.getMessage());
+    }
+  }
+
+  private static int parseSpin(final String name, final String value, final int min,
+      final int max) {
+    try {
+      final int number = Integer.parseInt(value);
+      if (number < min || number > max) {
+        throw new IllegalArgumentException(
+            name + " 값은 " + min + " 이상 " + max + " 이하여야 합니다: " + value);
+      }
+      return number;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+    }
+  }
+
+  private void setPosition(final String command, final String[] tokens) {
+    if (tokens.length < 2) {
+      throw new IllegalArgumentException("포지션이 없습니다: " + command);
+    }
+    final int movesIndex = indexOf(tokens, "moves");
+    final MutableBoard board;
+    if (tokens[1].equals("startpos")) {
+      board = new MutableBoard(Fen.parse(Fen.STARTING_POSITION));
+    } else if (tokens[1].equals("fen")) {
+      final int end = movesIndex < 0 ? tokens.length : movesIndex;
+      board = new MutableBoard(
+          Fen.parse(String.join(" ", Arrays.copyOfRange(tokens, 2, end))));
+    } else {
+      throw new IllegalArgumentException("포지션은 startpos 또는 fen이어야 합니다: " + command);
+    }
+
+    if (movesIndex >= 0) {
+      final MoveList legalMoves = new MoveList();
+      for (int i = movesIndex + 1; i < tokens.length; i++) {
+        board.makeMove(parseMove(board, tokens[i], legalMoves));
+      }
+    }
+    // 잘못된 명령이면 이전 포지션을 유지하도록 모든 이동을 적용한 뒤에 바꿉니다.
+    this.position = board;
+  }
+
+  private static int parseMove(final MutableBoard board, final String text,
+      final MoveList legalMoves) {
+    MoveGenerator.generateLegalMoves(board, legalMoves);
+    for (int i = 0; i < legalMoves.size(); i++) {
+      if (MoveEncoding.toString(legalMoves.get(i)).equals(text)) {
+        return legalMoves.get(i);
+      }
+    }
+    throw new IllegalArgumentException("합법적인 이동이 아닙니다: " + text);
+  }
+
+  private void go(final String[] tokens) {
+    final long sequence = ++this.goCommandsExecuted;
+    final GoParameters parameters = GoParameters.parse(tokens);
+    // infinite와 폰더 탐색은 멈춤 요청을 기다려야 하므로 북을 사용하지 않습니다.
+    if (this.book != null && !parameters.isInfinite() && !parameters.isPonder()) {
+      final int bookMove = this.book.pickMove(this.position, this.bookMoves,
+          ThreadLocalRandom.current());
+      if (bookMove != MoveEncoding.NULL_MOVE) {
+        send("bestmove " + MoveEncoding.toString(bookMove));
+        return;
+      }
+    }
+    final long moveTime = parameters.allocateTime(this.position.getSideToMove());
+    SearchLimits limits = SearchLimits.infinite()
+        .withDepth(parameters.getDepth())
+        .withNodes(parameters.getNodes());
+    // 폰더 중에는 상대가 둘 때까지 시간 제한 없이 탐색하고, ponderhit을 받으면 그때부터 시간을 잽니다.
+    if (moveTime > 0 && !parameters.isPonder()) {
+      limits = limits.withTime(moveTime);
+    }
+
+    final LazySmpSearch search = new LazySmpSearch(limits, this.evaluatorFactory,
+        this.transpositionTable, this.threads, info -> send("info " + info));
+    search.setBitbases(this.bitbases);
+    synchronized (this.lock) {
+      this.currentSearch = search;
+      this.currentPonder = parameters.isPonder();
+      this.currentMoveTime = moveTime;
+      if (this.stoppedThrough >= sequence) {
+        search.stop();
+      } else if (parameters.isPonder() && this.ponderHitThrough >= sequence) {
+        scheduleStop(search, moveTime);
+      }
+    }
+
+    final SearchInfo result = search.search(new MutableBoard(this.position));
+
+    synchronized (this.lock) {
+      // infinite와 폰더 탐색은 최대 깊이에 도달해도 stop이나 ponderhit 전에는 결과를 보내지 않아야 합니다.
+      while (this.stoppedThrough < sequence && (parameters.isInfinite()
+          || (parameters.isPonder() && this.ponderHitThrough < sequence))) {
+        try {
+          this.lock.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+      if (this.scheduledStop != null) {
+        this.scheduledStop.cancel(false);
+        this.scheduledStop = null;
+      }
+      this.currentSearch = null;
+    }
+    sendBestMove(result);
+  }
+
+  // lock을 잡은 상태에서 호출해야 합니다.
+  private void scheduleStop(final LazySmpSearch search, final long moveTime) {
+    this.currentPonder = false;
+    if (moveTime > 0) {
+      this.scheduledStop = this.timer.schedule(search::stop, moveTime, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void sendBestMove(final SearchInfo result) {
+    final int[] principalVariation = result.getPrincipalVariation();
+    final StringBuilder builder = new StringBuilder("bestmove ")
+        .append(MoveEncoding.toString(result.getBestMove()));
+    if (principalVariation.length > 1) {
+      builder.append(" ponder ").append(MoveEncoding.toString(principalVariation[1]));
+    }
+    send(builder.toString());
+  }
+
+  private void send(final String message) {
+    synchronized (this.output) {
+      this.output.println(message);
+      this.output.flush();
+    }
+  }
+
+  private static String firstToken(final String command) {
+    final int space = command.indexOf(' ');
+    return space < 0 ? command : command.substring(0, space);
+  }
+
+  private static int indexOf(final String[] tokens, final String token) {
+    for (int i = 0; i < tokens.length; i++) {
+      if (tokens[i].equals(token)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,150 @@
+package com.project.chess.bitbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.board.Fen;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BitbaseTest {
+
+  private static final int A8 = 0;
+  private static final int A1 = 56;
+  private static final int D4 = 35;
+
+  @TempDir
+  static Path directory;
+
+  private static Bitbases bitbases;
+
+  @BeforeAll
+  static void generate() throws IOException {
+    final BitbaseGenerator generator = new BitbaseGenerator(ForkJoinPool.commonPool(), directory);
+    generator.generate(Endgame.parse("KPK"));
+    generator.generate(Endgame.parse("KRK"));
+    bitbases = Bitbases.open(directory);
+  }
+
+  @Test
+  void kingAndPawnAgainstKing() {
+    // 킹이 6랭크에서 폰 앞에 있으면 둘 차례와 상관없이 이깁니다.
+    assertEquals(Bitbase.WIN, probe("4k3/8/4K3/4P3/8/8/8/8 w - - 0 1"));
+    assertEquals(Bitbase.LOSS, probe("4k3/8/4K3/4P3/8/8/8/8 b - - 0 1"));
+    // 폰이 킹보다 앞서 6랭크에 있으면 백이 둘 차례일 때 스테일메이트를 피할 수 없습니다.
+    assertEquals(Bitbase.DRAW, probe("4k3/8/4P3/4K3/8/8/8/8 w - - 0 1"));
+    // 흑이 강한 쪽이면 뒤집어서 찾습니다.
+    assertEquals(Bitbase.WIN, probe("8/8/8/8/4p3/4k3/8/4K3 b - - 0 1"));
+  }
+
+  @Test
+  void defendingKingInFrontOfRookPawnDraws() {
+    // 흑 킹이 a8 구석에 있으면 백 킹과 a 폰이 어디에 있든, 둘 차례와 상관없이 무승부입니다.
+    int positions = 0;
+    for (int pawn = 8; pawn < 56; pawn += 8) {
+      for (int king = 0; king < 64; king++) {
+        for (final String side : new String[]{"w", "b"}) {
+          final String fen = fen(king, 'P', pawn, A8, side);
+          if (fen != null && probe(fen) != Bitbase.UNKNOWN) {
+            assertEquals(Bitbase.DRAW, probe(fen), fen);
+            positions++;
+          }
+        }
+      }
+    }
+    assertTrue(positions > 500);
+    // 폰이 a 파일이 아니면 같은 배치라도 이깁니다.
+    assertEquals(Bitbase.DRAW, probe("k7/8/1K6/P7/8/8/8/8 w - - 0 1"));
+    assertEquals(Bitbase.WIN, probe("1k6/8/2K5/1P6/8/8/8/8 w - - 0 1"));
+  }
+
+  @Test
+  void rookWinsWithWhiteToMove() {
+    int positions = 0;
+    for (final int king : new int[]{A1, D4}) {
+      for (int rook = 0; rook < 64; rook++) {
+        for (int blackKing = 0; blackKing < 64; blackKing++) {
+          final String fen = fen(king, 'R', rook, blackKing, "w");
+          // 킹이 맞닿거나 흑 킹이 체크를 받은 배치는 불가능한 포지션이라 찾지 않습니다.
+          if (fen != null && probe(fen) != Bitbase.UNKNOWN) {
+            assertEquals(Bitbase.WIN, probe(fen), fen);
+            positions++;
+          }
+        }
+      }
+    }
+    assertTrue(positions > 5_000);
+  }
+
+  @Test
+  void rookIsLostOnlyWhenBlackCanTakeIt() {
+    assertEquals(Bitbase.LOSS, probe("8/8/8/8/8/2k5/1R6/K7 b - - 0 1"));
+    // 지키지 않은 룩을 잡으면 무승부입니다.
+    assertEquals(Bitbase.DRAW, probe("8/8/8/8/8/2k5/1R6/7K b - - 0 1"));
+    // 스테일메이트도 무승부입니다.
+    assertEquals(Bitbase.DRAW, probe("k7/1R6/2K5/8/8/8/8/8 b - - 0 1"));
+  }
+
+  @Test
+  void countsAgreeWithProbes() throws IOException {
+    final Endgame endgame = Endgame.parse("KRK");
+    final long[] counts = Bitbase.open(directory.resolve(endgame.getName() + Bitbase.EXTENSION),
+        endgame).countResults();
+    assertEquals(endgame.getPositionCount(), counts[Bitbase.WIN] + counts[Bitbase.DRAW]
+        + counts[Bitbase.LOSS] + counts[Bitbase.INVALID]);
+    assertTrue(counts[Bitbase.WIN] > 0 && counts[Bitbase.LOSS] > 0 && counts[Bitbase.DRAW] > 0);
+  }
+
+  @Test
+  void positionsOutsideTheBitbasesAreUnknown() {
+    assertEquals(Bitbase.UNKNOWN, probe("4k3/8/8/8/8/8/8/4K2R w K - 0 1"));
+    // KPK를 만들 때 승진한 KQK도 함께 만들지만 KNNK는 만들지 않았습니다.
+    assertEquals(Bitbase.WIN, probe("4k3/8/8/8/8/8/8/3QK3 w - - 0 1"));
+    assertEquals(Bitbase.UNKNOWN, probe("4k3/8/8/8/8/8/8/2NNK3 w - - 0 1"));
+    assertEquals(Bitbase.UNKNOWN,
+        probe("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"));
+  }
+
+  private static int probe(final String fen) {
+    return bitbases.probe(Fen.parse(fen));
+  }
+
+  // 백 킹과 백 기물 하나, 흑 킹을 놓은 FEN, 칸이 겹치면 null
+  private static String fen(final int whiteKing, final char piece, final int square,
+      final int blackKing, final String side) {
+    if (whiteKing == square || whiteKing == blackKing || square == blackKing) {
+      return null;
+    }
+    final char[] squares = new char[64];
+    squares[whiteKing] = 'K';
+    squares[square] = piece;
+    squares[blackKing] = 'k';
+    final StringBuilder placement = new StringBuilder();
+    for (int rank = 0; rank < 8; rank++) {
+      int empty = 0;
+      for (int file = 0; file < 8; file++) {
+        final char occupant = squares[rank * 8 + file];
+        if (occupant == 0) {
+          empty++;
+          continue;
+        }
+        if (empty > 0) {
+          placement.append(empty);
+          empty = 0;
+        }
+        placement.append(occupant);
+      }
+      if (empty > 0) {
+        placement.append(empty);
+      }
+      if (rank < 7) {
+        placement.append('/');
+      }
+    }
+    return placement + " " + side + " - - 0 1";
+  }
+}
@@ -0,0 +1,84 @@
+package com.project.chess.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.project.chess.Alliance;
+import org.junit.jupiter.api.Test;
+
+class FenTest {
+
+  private static final String[] ROUND_TRIP_POSITIONS = {
+      Fen.STARTING_POSITION,
+      "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+      "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+      "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+      "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+      "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+      "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+      // 두 자리 이상의 카운터
+      "8/8/4k3/8/8/3K4/8/8 b - - 37 112",
+      "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+      "4k2r/8/8/8/8/8/8/R3K3 b Qk - 99 250",
+  };
+
+  @Test
+  void writeReturnsParsedFen() {
+    for (final String fen : ROUND_TRIP_POSITIONS) {
+      assertEquals(fen, Fen.write(Fen.parse(fen)));
+      assertEquals(fen, Fen.write(new MutableBoard(Fen.parse(fen)).toBoard()));
+    }
+  }
+
+  @Test
+  void readsCountersAndSideToMove() {
+    final Board board = Fen.parse("8/8/4k3/8/8/3K4/8/8 b - - 37 112");
+    assertEquals(37, board.getHalfmoveClock());
+    assertEquals(112, board.getFullmoveNumber());
+    assertEquals(Alliance.BLACK, board.getNextMoveMaker());
+  }
+
+  @Test
+  void epdWithoutCountersUsesDefaults() {
+    final Board board = Fen.parse("8/8/4k3/8/8/3K4/8/8 w - - bm Kc4;");
+    assertEquals(0, board.getHalfmoveClock());
+    assertEquals(1, board.getFullmoveNumber());
+    assertEquals("8/8/4k3/8/8/3K4/8/8 w - - 0 1", Fen.write(board));
+  }
+
+  @Test
+  void rejectsPlacementWithoutEightRanksOfEightSquares() {
+    final String[] placements = {
+        // 합계는 64칸이지만 행이 7개입니다.
+        "88/8/8/8/8/8/8",
+        "4k3K7/8/8/8/8/8/8",
+        "4k3/8/8/8/8/8/8/4K3/",
+        "4k3/8/8/8/8/8/8/4K3/8",
+        "4k3/8/8/8/8/8/8/4K2",
+        "4k3/8/8/8/8/8/8/4K13",
+        "4k3/8/8/8/8/8/8/4K3p",
+        "4k3/8/8/8/8/8/8/44K3",
+        "4k3/8/8/8/8/8/8//4K3",
+        "4k4/8/8/8/8/8/8/4K3",
+    };
+    for (final String placement : placements) {
+      assertThrows(IllegalArgumentException.class, () -> Fen.parse(placement + " w - - 0 1"),
+          placement);
+    }
+  }
+
+  @Test
+  void rejectsInvalidFields() {
+    assertThrows(IllegalArgumentException.class, () -> Fen.parse("8/8/4k3/8/8/3K4/8/8"));
+    assertThrows(IllegalArgumentException.class,
+        () -> Fen.parse("8/8/4k3/8/8/3K4/8/8 x - - 0 1"));
+    assertThrows(IllegalArgumentException.class,
+        () -> Fen.parse("8/8/4k3/8/8/3K4/8/8 w X - 0 1"));
+    assertThrows(IllegalArgumentException.class,
+        () -> Fen.parse("8/8/4k3/8/8/3K4/8/8 w - e9 0 1"));
+    assertThrows(IllegalArgumentException.class,
+        () -> Fen.parse("8/8/8/8/8/3K4/8/8 w - - 0 1"));
+    assertThrows(IllegalArgumentException.class,
+        () -> Fen.parse("8/8/4k3/8/8/3K4/8/8 w - e6 0 1"));
+  }
+}
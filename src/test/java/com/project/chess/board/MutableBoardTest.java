@@ -0,0 +1,154 @@
+package com.project.chess.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.project.chess.Alliance;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.perft.PerftPosition;
+import com.project.chess.player.MoveStatus;
+import com.project.chess.player.MoveTransition;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class MutableBoardTest {
+
+  // 퍼프트 포지션마다 make/unmake를 되풀이할 깊이
+  private static final int UNDO_DEPTH = 3;
+  // 불변 보드와 비교할 깊이, 불변 보드 API가 느리므로 얕게 둡니다.
+  private static final int BOARD_PATH_DEPTH = 2;
+
+  @Test
+  void unmakeMoveRestoresState() {
+    for (final PerftPosition position : PerftPosition.values()) {
+      final MutableBoard board = new MutableBoard(position.createBoard());
+      final State initial = new State(board);
+      assertUndo(board, UNDO_DEPTH, position.name());
+      assertEquals(initial, new State(board), position.name());
+    }
+  }
+
+  @Test
+  void toBoardMatchesBoardPath() {
+    for (final PerftPosition position : PerftPosition.values()) {
+      final Board board = position.createBoard();
+      assertBoardPath(board, new MutableBoard(board), BOARD_PATH_DEPTH);
+    }
+  }
+
+  @Test
+  void copyConstructorKeepsUndoStack() {
+    final MutableBoard board = new MutableBoard(PerftPosition.KIWIPETE.createBoard());
+    final MoveList moves = new MoveList();
+    MoveGenerator.generateLegalMoves(board, moves);
+    final State initial = new State(board);
+    board.makeMove(moves.get(0));
+    final MutableBoard copy = new MutableBoard(board);
+    copy.unmakeMove();
+    assertEquals(initial, new State(copy));
+  }
+
+  // 모든 유사 합법 이동을 두고 되돌린 뒤 상태가 그대로인지 확인합니다.
+  private static void assertUndo(final MutableBoard board, final int depth, final String name) {
+    if (depth == 0) {
+      return;
+    }
+    final MoveList moves = new MoveList();
+    MoveGenerator.generateMoves(board, moves);
+    for (int i = 0; i < moves.size(); i++) {
+      final State before = new State(board);
+      final int move = moves.get(i);
+      board.makeMove(move);
+      if (!board.leavesKingInCheck()) {
+        assertUndo(board, depth - 1, name);
+      }
+      board.unmakeMove();
+      assertEquals(before, new State(board),
+          () -> name + " " + MoveEncoding.toString(move) + " @ " + Fen.write(board.toBoard()));
+    }
+  }
+
+  // 불변 보드의 합법 이동마다 가변 보드의 결과를 비교합니다.
+  private static void assertBoardPath(final Board board, final MutableBoard mutableBoard,
+      final int depth) {
+    final MoveList moves = new MoveList();
+    MoveGenerator.generateLegalMoves(mutableBoard, moves);
+    int legalMoves = 0;
+    for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+      final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+      if (transition.getMoveStatus() != MoveStatus.DONE) {
+        continue;
+      }
+      legalMoves++;
+      final Board expected = transition.getTransitionBoard();
+      final int encoded = MoveEncoding.fromMove(move);
+      mutableBoard.makeMove(encoded);
+      final Board actual = mutableBoard.toBoard();
+      final String message = Fen.write(board) + " " + MoveEncoding.toString(encoded);
+      assertEquals(Fen.write(expected), Fen.write(actual), message);
+      assertEquals(expected, actual, message);
+      assertEquals(expected.getZobristKey(), mutableBoard.getZobristKey(), message);
+      if (depth > 1) {
+        assertBoardPath(expected, mutableBoard, depth - 1);
+      }
+      mutableBoard.unmakeMove();
+    }
+    assertEquals(legalMoves, moves.size(), Fen.write(board));
+  }
+
+  private record State(long[] pieceBitboards, long whiteOccupancy, long blackOccupancy,
+                       long occupancy, int[] mailbox, Alliance sideToMove, int castlingRights,
+                       int enPassantSquare, int halfmoveClock, int fullmoveNumber,
+                       long zobristKey, long pawnKey, int midgameScore, int endgameScore,
+                       int phase, int ply) {
+
+    State(final MutableBoard board) {
+      this(pieceBitboards(board), board.getAllianceOccupancy(Alliance.WHITE),
+          board.getAllianceOccupancy(Alliance.BLACK), board.getOccupancy(),
+          mailbox(board), board.getSideToMove(), board.getCastlingRights(),
+          board.getEnPassantSquare(), board.getHalfmoveClock(), board.getFullmoveNumber(),
+          board.getZobristKey(), board.getPawnKey(), board.getMidgameScore(),
+          board.getEndgameScore(), board.getPhase(), board.getPly());
+    }
+
+    private static long[] pieceBitboards(final MutableBoard board) {
+      final long[] bitboards = new long[BitBoard.NUM_PIECE_BITBOARDS];
+      for (int index = 0; index < bitboards.length; index++) {
+        bitboards[index] = board.getPieceBitboard(index);
+      }
+      return bitboards;
+    }
+
+    private static int[] mailbox(final MutableBoard board) {
+      final int[] mailbox = new int[BoardUtil.NUM_TILES];
+      for (int square = 0; square < mailbox.length; square++) {
+        mailbox[square] = board.getPieceAt(square);
+      }
+      return mailbox;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof State state
+          && Arrays.equals(this.pieceBitboards, state.pieceBitboards)
+          && Arrays.equals(this.mailbox, state.mailbox)
+          && toString().equals(state.toString());
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(this.zobristKey);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "occupancy=%x/%x/%x side=%s castling=%d ep=%d clocks=%d/%d key=%x pawnKey=%x "
+              + "scores=%d/%d phase=%d ply=%d", this.whiteOccupancy, this.blackOccupancy,
+          this.occupancy, this.sideToMove, this.castlingRights, this.enPassantSquare,
+          this.halfmoveClock, this.fullmoveNumber, this.zobristKey, this.pawnKey,
+          this.midgameScore, this.endgameScore, this.phase, this.ply);
+    }
+  }
+}
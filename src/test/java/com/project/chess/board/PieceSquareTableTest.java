@@ -0,0 +1,84 @@
+package com.project.chess.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.perft.PerftPosition;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class PieceSquareTableTest {
+
+  private static final int DEPTH = 3;
+
+  // 퍼프트 포지션에 앙파상이 곧바로 가능한 포지션을 더합니다.
+  private static final String[] EXTRA_POSITIONS = {
+      "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+      "8/8/8/8/1pP5/8/8/K1k5 b - c3 0 1",
+  };
+
+  @Test
+  void incrementalScoresMatchFullRecalculation() {
+    final int[] kinds = new int[MoveEncoding.KIND_CASTLE + 2];
+    for (final PerftPosition position : PerftPosition.values()) {
+      walk(new MutableBoard(position.createBoard()), DEPTH, kinds);
+    }
+    for (final String fen : EXTRA_POSITIONS) {
+      walk(new MutableBoard(Fen.parse(fen)), DEPTH, kinds);
+    }
+    assertTrue(kinds[MoveEncoding.KIND_CASTLE] > 0, "캐슬링 이동이 없습니다.");
+    assertTrue(kinds[MoveEncoding.KIND_EN_PASSANT] > 0, "앙파상 이동이 없습니다.");
+    assertTrue(kinds[kinds.length - 1] > 0, "승진 이동이 없습니다.");
+  }
+
+  @Test
+  void startPositionIsBalancedAtFullPhase() {
+    final MutableBoard board = new MutableBoard(PerftPosition.START.createBoard());
+    assertEquals(0, board.getMidgameScore());
+    assertEquals(0, board.getEndgameScore());
+    assertEquals(PieceSquareTable.MAX_PHASE, board.getPhase());
+  }
+
+  private static void walk(final MutableBoard board, final int depth, final int[] kinds) {
+    assertScores(board, "");
+    if (depth == 0) {
+      return;
+    }
+    final MoveList moves = new MoveList();
+    MoveGenerator.generateLegalMoves(board, moves);
+    for (int i = 0; i < moves.size(); i++) {
+      final int move = moves.get(i);
+      kinds[MoveEncoding.getKind(move)]++;
+      if (MoveEncoding.isPromotion(move)) {
+        kinds[kinds.length - 1]++;
+      }
+      board.makeMove(move);
+      assertScores(board, MoveEncoding.toString(move));
+      walk(board, depth - 1, kinds);
+      board.unmakeMove();
+    }
+  }
+
+  // 비트보드를 모두 훑어 점수를 다시 계산하고 증분 갱신한 값과 비교합니다.
+  private static void assertScores(final MutableBoard board, final String move) {
+    int midgame = 0;
+    int endgame = 0;
+    int phase = 0;
+    for (int piece = 0; piece < BitBoard.NUM_PIECE_BITBOARDS; piece++) {
+      long pieces = board.getPieceBitboard(piece);
+      while (pieces != 0) {
+        final int square = Long.numberOfTrailingZeros(pieces);
+        midgame += PieceSquareTable.midgame(piece, square);
+        endgame += PieceSquareTable.endgame(piece, square);
+        phase += PieceSquareTable.phase(piece);
+        pieces &= pieces - 1;
+      }
+    }
+    final Supplier<String> message = () -> board.toBoard() + " after " + move;
+    assertEquals(midgame, board.getMidgameScore(), message);
+    assertEquals(endgame, board.getEndgameScore(), message);
+    assertEquals(phase, board.getPhase(), message);
+  }
+}
@@ -0,0 +1,125 @@
+package com.project.chess.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.perft.PerftPosition;
+import com.project.chess.player.MoveStatus;
+import com.project.chess.player.MoveTransition;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ZobristTest {
+
+  private static final int BOARD_DEPTH = 2;
+  private static final int MUTABLE_DEPTH = 3;
+
+  // 퍼프트 포지션에 앙파상이 곧바로 가능한 포지션을 더합니다.
+  private static final String[] EXTRA_POSITIONS = {
+      "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+      "8/8/8/8/1pP5/8/8/K1k5 b - c3 0 1",
+  };
+
+  @Test
+  void incrementalKeyMatchesCalculatedKeyOnBoardPath() {
+    final Coverage coverage = new Coverage();
+    for (final Board board : positions()) {
+      assertEquals(Zobrist.calculateKey(board), board.getZobristKey(), board.toString());
+      walkBoard(board, BOARD_DEPTH, coverage);
+    }
+    coverage.assertCovered();
+  }
+
+  @Test
+  void incrementalKeyMatchesCalculatedKeyOnMutableBoard() {
+    final Coverage coverage = new Coverage();
+    for (final Board board : positions()) {
+      walkMutableBoard(new MutableBoard(board), MUTABLE_DEPTH, coverage);
+    }
+    coverage.assertCovered();
+  }
+
+  @Test
+  void keyDependsOnSideToMoveCastlingAndEnPassant() {
+    final long key =
+        Fen.parse("r3k2r/8/8/8/3pP3/8/8/R3K2R b KQkq e3 0 1").getZobristKey();
+    assertNotEquals(Fen.parse("r3k2r/8/8/8/3pP3/8/8/R3K2R w KQkq - 0 1").getZobristKey(),
+        Fen.parse("r3k2r/8/8/8/3pP3/8/8/R3K2R b KQkq - 0 1").getZobristKey());
+    assertNotEquals(key,
+        Fen.parse("r3k2r/8/8/8/3pP3/8/8/R3K2R b Kkq e3 0 1").getZobristKey());
+    assertNotEquals(key,
+        Fen.parse("r3k2r/8/8/8/3pP3/8/8/R3K2R b KQkq - 0 1").getZobristKey());
+  }
+
+  private static List<Board> positions() {
+    final List<Board> boards = new ArrayList<>();
+    for (final PerftPosition position : PerftPosition.values()) {
+      boards.add(position.createBoard());
+    }
+    for (final String fen : EXTRA_POSITIONS) {
+      boards.add(Fen.parse(fen));
+    }
+    return boards;
+  }
+
+  private static void walkBoard(final Board board, final int depth, final Coverage coverage) {
+    for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+      final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+      if (transition.getMoveStatus() != MoveStatus.DONE) {
+        continue;
+      }
+      final Board next = transition.getTransitionBoard();
+      coverage.count(MoveEncoding.fromMove(move));
+      assertEquals(Zobrist.calculateKey(next), next.getZobristKey(), () -> board + " " + move);
+      if (depth > 1) {
+        walkBoard(next, depth - 1, coverage);
+      }
+    }
+  }
+
+  private static void walkMutableBoard(final MutableBoard board, final int depth,
+      final Coverage coverage) {
+    final MoveList moves = new MoveList();
+    MoveGenerator.generateLegalMoves(board, moves);
+    for (int i = 0; i < moves.size(); i++) {
+      final int move = moves.get(i);
+      coverage.count(move);
+      board.makeMove(move);
+      final Board expected = board.toBoard();
+      assertEquals(Zobrist.calculateKey(expected), board.getZobristKey(),
+          () -> expected + " after " + MoveEncoding.toString(move));
+      assertEquals(Zobrist.calculatePawnKey(expected), board.getPawnKey(),
+          () -> expected + " after " + MoveEncoding.toString(move));
+      if (depth > 1) {
+        walkMutableBoard(board, depth - 1, coverage);
+      }
+      board.unmakeMove();
+    }
+  }
+
+  // 키 갱신이 특별한 이동 종류를 한 번 이상 지났는지 셉니다.
+  private static final class Coverage {
+
+    private final int[] kinds = new int[MoveEncoding.KIND_CASTLE + 1];
+    private int promotions;
+
+    private void count(final int move) {
+      this.kinds[MoveEncoding.getKind(move)]++;
+      if (MoveEncoding.isPromotion(move)) {
+        this.promotions++;
+      }
+    }
+
+    private void assertCovered() {
+      assertTrue(this.kinds[MoveEncoding.KIND_CASTLE] > 0, "캐슬링 이동이 없습니다.");
+      assertTrue(this.kinds[MoveEncoding.KIND_EN_PASSANT] > 0, "앙파상 이동이 없습니다.");
+      assertTrue(this.kinds[MoveEncoding.KIND_PAWN_JUMP] > 0, "폰 두 칸 이동이 없습니다.");
+      assertTrue(this.promotions > 0, "승진 이동이 없습니다.");
+    }
+  }
+}
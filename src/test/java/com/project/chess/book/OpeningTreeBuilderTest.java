@@ -0,0 +1,189 @@
+package com.project.chess.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpeningTreeBuilderTest {
+
+  private static final String PGN = """
+      [Event "1"]
+      [Result "1-0"]
+
+      1. e4 e5 2. Nf3 Nc6 3. Bb5 1-0
+
+      [Event "2"]
+      [Result "1-0"]
+
+      1. e4 c5 2. Nf3 d6 1-0
+
+      [Event "3"]
+      [Result "0-1"]
+
+      1. d4 d5 2. c4 e6 0-1
+
+      [Event "4"]
+      [Result "1/2-1/2"]
+
+      1. e4 e5 2. Bc4 Nf6 1/2-1/2
+      """;
+  private static final int MAX_PLY = 4;
+
+  @TempDir
+  Path directory;
+
+  private ForkJoinPool pool;
+  private OpeningTreeBuilder builder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    this.pool = new ForkJoinPool(2);
+    this.builder = new OpeningTreeBuilder(MAX_PLY, 1L << 20, this.pool, this.directory);
+    final Path pgn = this.directory.resolve("games.pgn");
+    Files.writeString(pgn, PGN);
+    this.builder.addPgn(pgn);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    this.builder.close();
+    this.pool.shutdown();
+  }
+
+  @Test
+  void countsGamesAndPositionsUpToMaxPly() {
+    assertEquals(4, this.builder.getGamesRead());
+    assertEquals(4 * MAX_PLY, this.builder.getPositionsRead());
+  }
+
+  @Test
+  void writesPolyglotBookReadableByPolyglotBook() throws IOException {
+    final Path output = this.directory.resolve("book.bin");
+    // 두는 쪽의 승 2점, 무 1점이 가중치이며, 가중치가 0인 이동(1. d4, 1... c5 등)은 쓰지 않습니다.
+    final Map<String, Integer> expected = new HashMap<>();
+    expected.put(" e2e4", 5);
+    expected.put("e2e4 e7e5", 1);
+    expected.put("e2e4 e7e5 g1f3", 2);
+    expected.put("e2e4 e7e5 f1c4", 1);
+    expected.put("e2e4 e7e5 f1c4 g8f6", 1);
+    expected.put("e2e4 c7c5 g1f3", 2);
+    expected.put("d2d4 d7d5", 2);
+    expected.put("d2d4 d7d5 c2c4 e7e6", 2);
+    assertEquals(expected.size(), this.builder.writePolyglotBook(output, 1));
+    assertEquals(expected, readBook(output));
+
+    final PolyglotBook book = PolyglotBook.open(output);
+    assertEquals(expected.size(), book.getEntryCount());
+    final Random random = new Random(7);
+    assertEquals("e2e4", pick(book, "", random));
+    assertEquals("e7e5", pick(book, "e2e4", random));
+    assertEquals("d7d5", pick(book, "d2d4", random));
+    assertEquals(MoveEncoding.toString(MoveEncoding.NULL_MOVE), pick(book, "e2e4 e7e5 g1f3",
+        random));
+    assertEquals(bookMove("e2e4 e7e5", "g1f3"),
+        book.bestBookMove(PolyglotKey.calculateKey(play("e2e4 e7e5"))));
+  }
+
+  @Test
+  void minGamesFiltersRareMoves() throws IOException {
+    final Path output = this.directory.resolve("book.bin");
+    assertEquals(2, this.builder.writePolyglotBook(output, 2));
+    assertEquals(Map.of(" e2e4", 5, "e2e4 e7e5", 1), readBook(output));
+  }
+
+  @Test
+  void writesStatisticsForEveryMove() throws IOException {
+    final Path output = this.directory.resolve("tree.stats");
+    assertEquals(13, this.builder.writeStatistics(output, 1));
+    assertEquals(13L * StatisticsTable.RECORD_SIZE, Files.size(output));
+  }
+
+  @Test
+  void addingGamesAfterWritingMergesRuns() throws IOException {
+    final Path first = this.directory.resolve("first.bin");
+    final Path second = this.directory.resolve("second.bin");
+    this.builder.writePolyglotBook(first, 1);
+    // 쓰면서 내보낸 파일과 새로 더한 게임을 함께 병합하므로 가중치가 두 배가 됩니다.
+    this.builder.addPgn(this.directory.resolve("games.pgn"));
+    this.builder.writePolyglotBook(second, 1);
+    final Map<String, Integer> doubled = new HashMap<>();
+    readBook(first).forEach((move, weight) -> doubled.put(move, 2 * weight));
+    assertEquals(doubled, readBook(second));
+    assertEquals(8, this.builder.getGamesRead());
+  }
+
+  // 북의 항목을 "이전 이동들 이동" 형식의 문자열과 가중치로 읽으며, 키 순서로 정렬되었는지 확인합니다.
+  private static Map<String, Integer> readBook(final Path path) throws IOException {
+    final Map<Long, String> lines = new HashMap<>();
+    for (final String line : new String[] {"", "e2e4", "e2e4 e7e5", "e2e4 e7e5 f1c4",
+        "e2e4 c7c5", "d2d4", "d2d4 d7d5 c2c4"}) {
+      lines.put(PolyglotKey.calculateKey(play(line)), line);
+    }
+    final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+    final Map<String, Integer> entries = new HashMap<>();
+    long previous = 0L;
+    while (buffer.hasRemaining()) {
+      final long key = buffer.getLong();
+      final int move = Short.toUnsignedInt(buffer.getShort());
+      final int weight = Short.toUnsignedInt(buffer.getShort());
+      buffer.getInt();
+      assertTrue(Long.compareUnsigned(previous, key) <= 0);
+      previous = key;
+      final String line = lines.get(key);
+      final Board board = play(line);
+      entries.put(line + " " + MoveEncoding.toString(PolyglotBook.toEncodedMove(move,
+          board.getPiece(PolyglotBook.fromSquare(move)).getPieceType().isKing())), weight);
+    }
+    return entries;
+  }
+
+  private static String pick(final PolyglotBook book, final String line, final Random random) {
+    final Board board = play(line);
+    final Move move = book.pickMove(board, random);
+    final int encoded = book.pickMove(new MutableBoard(board), new MoveList(), random);
+    assertEquals(move == Move.NULL_MOVE ? MoveEncoding.NULL_MOVE : MoveEncoding.fromMove(move),
+        encoded);
+    return MoveEncoding.toString(encoded);
+  }
+
+  private static int bookMove(final String line, final String text) {
+    final Board board = play(line);
+    return PolyglotBook.toBookMove(MoveEncoding.toMove(board, encodedMove(board, text)));
+  }
+
+  private static Board play(final String line) {
+    Board board = Board.createStandardBoard();
+    for (final String text : line.isEmpty() ? new String[0] : line.split(" ")) {
+      final Move move = MoveEncoding.toMove(board, encodedMove(board, text));
+      board = board.getCurrentPlayer().makeMove(move).getTransitionBoard();
+    }
+    return board;
+  }
+
+  private static int encodedMove(final Board board, final String text) {
+    for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+      final int encoded = MoveEncoding.fromMove(move);
+      if (MoveEncoding.toString(encoded).equals(text)) {
+        return encoded;
+      }
+    }
+    throw new IllegalArgumentException(text);
+  }
+}
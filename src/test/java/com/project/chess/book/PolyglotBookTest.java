@@ -0,0 +1,111 @@
+package com.project.chess.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.perft.PerftPosition;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PolyglotBookTest {
+
+  private static final String CASTLING_WHITE = "r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1";
+  private static final String CASTLING_BLACK = "r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 0 1";
+  private static final String KING_STEP = "4k3/8/8/8/8/8/8/4K3 w - - 0 1";
+  private static final String KING_STEP_BLACK = "4k3/8/8/8/8/8/8/3K4 b - - 0 1";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void picksCastlingRecordedAsKingTakesRook() throws IOException {
+    final PolyglotBook book = writeBook(Map.of(
+        key(CASTLING_WHITE), bookMove("e1h1"),
+        key(CASTLING_BLACK), bookMove("e8a8")));
+    assertPicks(book, CASTLING_WHITE, "e1g1");
+    assertPicks(book, CASTLING_BLACK, "e8c8");
+  }
+
+  @Test
+  void keepsDestinationOfOrdinaryKingMoves() throws IOException {
+    final PolyglotBook book = writeBook(Map.of(
+        key(KING_STEP), bookMove("e1f2"),
+        key(KING_STEP_BLACK), bookMove("e8e7")));
+    assertPicks(book, KING_STEP, "e1f2");
+    assertPicks(book, KING_STEP_BLACK, "e8e7");
+  }
+
+  @Test
+  void missingPositionReturnsNullMove() throws IOException {
+    final PolyglotBook book = writeBook(Map.of(
+        key(KING_STEP), bookMove("e1f2")));
+    final Board board = Fen.parse(Fen.STARTING_POSITION);
+    assertEquals(Move.NULL_MOVE, book.pickMove(board, new Random(1)));
+    assertEquals(MoveEncoding.NULL_MOVE,
+        book.pickMove(new MutableBoard(board), new MoveList(), new Random(1)));
+    assertEquals(1, book.getEntryCount());
+  }
+
+  @Test
+  void encodedMoveRoundTripsThroughBookMove() {
+    for (final PerftPosition position : PerftPosition.values()) {
+      final Board board = position.createBoard();
+      for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+        final int expected = MoveEncoding.fromMove(move);
+        final int actual = PolyglotBook.toEncodedMove(PolyglotBook.toBookMove(move),
+            move.getMovedPiece().getPieceType().isKing());
+        assertEquals(MoveEncoding.getFrom(expected), MoveEncoding.getFrom(actual));
+        assertEquals(MoveEncoding.getTo(expected), MoveEncoding.getTo(actual),
+            () -> position + " " + MoveEncoding.toString(expected));
+        assertEquals(MoveEncoding.getPromotionType(expected),
+            MoveEncoding.getPromotionType(actual));
+      }
+    }
+  }
+
+  private static void assertPicks(final PolyglotBook book, final String fen,
+      final String expected) {
+    final Board board = Fen.parse(fen);
+    final Move move = book.pickMove(board, new Random(1));
+    assertEquals(expected, MoveEncoding.toString(MoveEncoding.fromMove(move)), fen);
+    final int encoded = book.pickMove(new MutableBoard(board), new MoveList(), new Random(1));
+    assertEquals(expected, MoveEncoding.toString(encoded), fen);
+  }
+
+  private static long key(final String fen) {
+    return PolyglotKey.calculateKey(Fen.parse(fen));
+  }
+
+  // Polyglot 이동: 도착 파일 0-2, 도착 랭크 3-5, 출발 파일 6-8, 출발 랭크 9-11
+  private static int bookMove(final String move) {
+    final int fromFile = move.charAt(0) - 'a';
+    final int fromRank = move.charAt(1) - '1';
+    final int toFile = move.charAt(2) - 'a';
+    final int toRank = move.charAt(3) - '1';
+    return toFile | toRank << 3 | fromFile << 6 | fromRank << 9;
+  }
+
+  // 북 항목은 키를 부호 없는 값으로 정렬해야 합니다.
+  private PolyglotBook writeBook(final Map<Long, Integer> moves) throws IOException {
+    final TreeMap<Long, Integer> entries = new TreeMap<>(Long::compareUnsigned);
+    entries.putAll(moves);
+    final ByteBuffer buffer = ByteBuffer.allocate(entries.size() * PolyglotBook.ENTRY_SIZE);
+    entries.forEach((key, move) -> buffer.putLong(key).putShort(move.shortValue())
+        .putShort((short) 1).putInt(0));
+    final Path path = Files.createTempFile(this.directory, "book", ".bin");
+    Files.write(path, buffer.array());
+    return PolyglotBook.open(path);
+  }
+}
@@ -0,0 +1,62 @@
+package com.project.chess.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+import com.project.chess.board.MutableBoard;
+import org.junit.jupiter.api.Test;
+
+class PolyglotKeyTest {
+
+  // Polyglot 명세에 실린 기준 포지션과 키
+  private static final String[] FENS = {
+      "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+      "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+      "rnbqkbnr/ppp1pppp/8/3p4/4P3/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 2",
+      "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR b KQkq - 0 2",
+      "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+      "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPPKPPP/RNBQ1BNR b kq - 0 3",
+      "rnbq1bnr/ppp1pkpp/8/3pPp2/8/8/PPPPKPPP/RNBQ1BNR w - - 0 4",
+      "rnbqkbnr/p1pppppp/8/8/PpP4P/8/1P1PPPP1/RNBQKBNR b KQkq c3 0 3",
+      "rnbqkbnr/p1pppppp/8/8/P6P/R1p5/1P1PPPP1/1NBQKBNR b Kkq - 0 4",
+  };
+  private static final long[] KEYS = {
+      0x463B96181691FC9CL,
+      0x823C9B50FD114196L,
+      0x0756B94461C50FB0L,
+      0x662FAFB965DB29D4L,
+      0x22A48B5A8E47FF78L,
+      0x652A607CA3F242C1L,
+      0x00FDD303C946BDD9L,
+      0x3C8123EA7B067637L,
+      0x5C3F9B829B279560L,
+  };
+
+  @Test
+  void matchesReferenceKeys() {
+    for (int i = 0; i < FENS.length; i++) {
+      final Board board = Fen.parse(FENS[i]);
+      assertEquals(KEYS[i], PolyglotKey.calculateKey(board), FENS[i]);
+      assertEquals(KEYS[i], PolyglotKey.calculateKey(new MutableBoard(board)), FENS[i]);
+    }
+  }
+
+  @Test
+  void ignoresEnPassantSquareWithoutCapturingPawn() {
+    // e3 뒤에 잡을 흑 폰이 없으므로 앙파상 타일이 없는 포지션과 같은 키입니다.
+    assertEquals(
+        PolyglotKey.calculateKey(Fen.parse("4k3/8/8/8/4P3/8/8/4K3 b - - 0 1")),
+        PolyglotKey.calculateKey(Fen.parse("4k3/8/8/8/4P3/8/8/4K3 b - e3 0 1")));
+  }
+
+  @Test
+  void polyglotSquareIsItsOwnInverse() {
+    // 엔진의 a8(0)은 Polyglot의 a8(56), 엔진의 h1(63)은 Polyglot의 h1(7)입니다.
+    assertEquals(56, PolyglotKey.toPolyglotSquare(0));
+    assertEquals(7, PolyglotKey.toPolyglotSquare(63));
+    for (int square = 0; square < 64; square++) {
+      assertEquals(square, PolyglotKey.toPolyglotSquare(PolyglotKey.toPolyglotSquare(square)));
+    }
+  }
+}
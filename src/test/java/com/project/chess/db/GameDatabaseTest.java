@@ -0,0 +1,206 @@
+package com.project.chess.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.pgn.PgnGame;
+import com.project.chess.pgn.PgnReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameDatabaseTest {
+
+  private static final String PGN = """
+      [Event "Paris"]
+      [Site "Paris FRA"]
+      [Date "1858.??.??"]
+      [White "Paul Morphy"]
+      [Black "Duke Karl / Count Isouard"]
+      [Result "1-0"]
+      [Annotator "테스트"]
+      [CustomTag "값"]
+
+      1. e4 e5 2. Nf3 d6 3. d4 Bg4 4. dxe5 Bxf3 5. Qxf3 dxe5 6. Bc4 Nf6 7. Qb3 Qe7
+      8. Nc3 c6 9. Bg5 b5 10. Nxb5 cxb5 11. Bxb5+ Nbd7 12. O-O-O Rd8 13. Rxd7 Rxd7
+      14. Rd1 Qe6 15. Bxd7+ Nxd7 16. Qb8+ Nxb8 17. Rd8# 1-0
+
+      [Event "promotion"]
+      [SetUp "1"]
+      [FEN "r3k3/1P6/8/8/8/8/6p1/4K3 w q - 0 40"]
+
+      40. bxa8=N Kd7 41. Ke2 g1=B 42. Nb6+ Kc6 0-1
+
+      [Event "empty"]
+
+      *
+
+      [Event "error"]
+
+      1. d4 d5 2. Qd3 Qd6 3. Ke3 Kd7 4. Kxd5 1/2-1/2
+      """;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void roundTripsPgnGamesMoveForMove() throws IOException {
+    final List<PgnGame> games = readPgn(this.directory, PGN);
+    assertTrue(games.get(3).hasError());
+    final Path base = this.directory.resolve("games");
+    write(base, games);
+    final List<PgnGame> stored = readAll(base);
+    assertEquals(games.size(), stored.size());
+    for (int i = 0; i < games.size(); i++) {
+      assertSameGame(games.get(i), stored.get(i));
+    }
+    // 해석하지 못한 이동(3. Ke3) 앞까지만 저장되고, 읽은 게임에는 오류가 없습니다.
+    assertEquals(4, stored.get(3).getMoves().size());
+    assertNull(stored.get(3).getError());
+    assertEquals("r3k3/1P6/8/8/8/8/6p1/4K3 w q - 0 40",
+        Fen.write(stored.get(1).getInitialBoard()));
+  }
+
+  @Test
+  void roundTripsRandomGamesAcrossBufferBoundaries() throws IOException {
+    final Random random = new Random(23);
+    final List<PgnGame> games = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      games.add(randomGame(random, i));
+    }
+    final Path base = this.directory.resolve("random");
+    write(base, games);
+    // 태그 열이 쓰기와 읽기 버퍼(64KB)보다 커서 버퍼를 여러 번 비우고 채웁니다.
+    assertTrue(Files.size(this.directory.resolve("random.tags")) > 1 << 16);
+    final List<PgnGame> stored = readAll(base);
+    assertEquals(games.size(), stored.size());
+    for (int i = 0; i < games.size(); i++) {
+      assertSameGame(games.get(i), stored.get(i));
+    }
+    try (GameDatabaseReader reader = new GameDatabaseReader(base)) {
+      for (final int number : new int[] {249, 0, 117, 118, 3}) {
+        assertSameGame(games.get(number), reader.readGame(number));
+      }
+      // readGame 다음의 next()는 그 다음 게임을 읽습니다.
+      assertSameGame(games.get(4), reader.next());
+    }
+  }
+
+  @Test
+  void reopeningAppendsAndDropsUnindexedTail() throws IOException {
+    final List<PgnGame> games = readPgn(this.directory, PGN);
+    final Path base = this.directory.resolve("append");
+    write(base, games.subList(0, 2));
+    // 색인을 쓰기 전에 중단된 쓰기가 남긴 바이트
+    Files.write(this.directory.resolve("append.moves"), new byte[] {5, 1, 2},
+        StandardOpenOption.APPEND);
+    Files.write(this.directory.resolve("append.tags"), new byte[] {9},
+        StandardOpenOption.APPEND);
+    try (GameDatabaseWriter writer = new GameDatabaseWriter(base)) {
+      assertEquals(2, writer.getGameCount());
+      assertEquals(2, writer.append(games.get(2)));
+      assertEquals(3, writer.append(games.get(3)));
+    }
+    final List<PgnGame> stored = readAll(base);
+    assertEquals(games.size(), stored.size());
+    for (int i = 0; i < games.size(); i++) {
+      assertSameGame(games.get(i), stored.get(i));
+    }
+  }
+
+  private static void assertSameGame(final PgnGame expected, final PgnGame actual) {
+    assertEquals(new ArrayList<>(expected.getTags().entrySet()),
+        new ArrayList<>(actual.getTags().entrySet()));
+    assertEquals(expected.getResult(), actual.getResult());
+    assertEquals(moveStrings(expected), moveStrings(actual));
+    assertEquals(expected.getPositions().size(), actual.getPositions().size());
+    for (int ply = 0; ply < expected.getPositions().size(); ply++) {
+      assertEquals(expected.getPositions().get(ply), actual.getPositions().get(ply));
+    }
+  }
+
+  private static List<PgnGame> readPgn(final Path directory, final String pgn) throws IOException {
+    final Path path = Files.createTempFile(directory, "games", ".pgn");
+    Files.writeString(path, pgn);
+    final List<PgnGame> games = new ArrayList<>();
+    try (PgnReader reader = new PgnReader(path)) {
+      reader.forEachRemaining(games::add);
+    }
+    return games;
+  }
+
+  private static void write(final Path base, final List<PgnGame> games) throws IOException {
+    try (GameDatabaseWriter writer = new GameDatabaseWriter(base)) {
+      for (final PgnGame game : games) {
+        writer.append(game);
+      }
+    }
+  }
+
+  private static List<PgnGame> readAll(final Path base) throws IOException {
+    final List<PgnGame> games = new ArrayList<>();
+    try (GameDatabaseReader reader = new GameDatabaseReader(base)) {
+      reader.forEachRemaining(games::add);
+      assertFalse(reader.hasNext());
+      assertEquals(reader.getGameCount(), reader.getGamesRead());
+    }
+    return games;
+  }
+
+  private static List<String> moveStrings(final PgnGame game) {
+    final List<String> moves = new ArrayList<>();
+    for (final Move move : game.getMoves()) {
+      moves.add(MoveEncoding.toString(MoveEncoding.fromMove(move)));
+    }
+    return moves;
+  }
+
+  // 합법적인 이동을 무작위로 두는 게임, 태그 수와 결과도 게임마다 다릅니다.
+  private static PgnGame randomGame(final Random random, final int number) {
+    final Map<String, String> tags = new LinkedHashMap<>();
+    tags.put("Event", "random " + number);
+    if (number % 3 == 0) {
+      tags.put("Round", Integer.toString(number));
+    }
+    tags.put("Custom" + number % 7, "x".repeat(200 + number * 7 % 300));
+    // 이동은 가변 보드로 고르고, 고른 이동만 불변 보드로 둡니다.
+    final MutableBoard mutableBoard = new MutableBoard(Board.createStandardBoard());
+    final MoveList legalMoves = new MoveList();
+    Board board = Board.createStandardBoard();
+    final List<Move> moves = new ArrayList<>();
+    final List<Board> positions = new ArrayList<>();
+    positions.add(board);
+    final int plies = 60 + random.nextInt(90);
+    for (int ply = 0; ply < plies; ply++) {
+      MoveGenerator.generateLegalMoves(mutableBoard, legalMoves);
+      if (legalMoves.size() == 0) {
+        break;
+      }
+      final int encoded = legalMoves.get(random.nextInt(legalMoves.size()));
+      mutableBoard.makeMove(encoded);
+      final Move move = MoveEncoding.toMove(board, encoded);
+      board = board.getCurrentPlayer().makeMove(move).getTransitionBoard();
+      moves.add(move);
+      positions.add(board);
+    }
+    final String[] results = {"*", "1-0", "0-1", "1/2-1/2"};
+    return new PgnGame(tags, moves, positions, results[number % results.length], null);
+  }
+}
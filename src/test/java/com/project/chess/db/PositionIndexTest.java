@@ -0,0 +1,172 @@
+package com.project.chess.db;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+import com.project.chess.book.PolyglotKey;
+import com.project.chess.pgn.PgnGame;
+import com.project.chess.pgn.PgnReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PositionIndexTest {
+
+  // 세 게임 모두 나이트 네 개가 c3, f3, c6, f6에 선 포지션에 이르고, 세 번째 게임은 시작 포지션을 한 번 되풀이합니다.
+  private static final String PGN = """
+      [Event "0"]
+
+      1. Nf3 Nf6 2. Nc3 Nc6 *
+
+      [Event "1"]
+
+      1. Nc3 Nc6 2. Nf3 Nf6 *
+
+      [Event "2"]
+
+      1. Nf3 Nf6 2. Ng1 Ng8 3. Nc3 Nc6 4. Nf3 Nf6 *
+      """;
+
+  // 두 게임은 같은 포지션에 이르지만, 두 번째 게임만 마지막 수가 폰의 두 칸 전진이라 앙파상 타일이 남습니다.
+  private static final String DOUBLE_PUSH_PGN = """
+      [Event "0"]
+
+      1. e4 Nf6 2. Nc3 *
+
+      [Event "1"]
+
+      1. Nc3 Nf6 2. e4 *
+      """;
+
+  private static final String KNIGHTS =
+      "r1bqkb1r/pppppppp/2n2n2/8/8/2N2N2/PPPPPPPP/R1BQKB1R w KQkq - 4 3";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void findsEveryGameAndPlyOfAPosition() throws IOException {
+    final PositionIndex index = PositionIndex.open(write(readPgn(PGN)));
+    assertEquals(5 + 5 + 9, index.getRecordCount());
+
+    assertHits(index, Board.createStandardBoard(), new long[][]{{0, 0}, {1, 0}, {2, 0}, {2, 4}});
+    // 수순이 달라도 같은 포지션이면 게임마다 이른 수에서 찾습니다.
+    assertHits(index, Fen.parse(KNIGHTS), new long[][]{{0, 4}, {1, 4}, {2, 8}});
+    assertHits(index, Fen.parse("rnbqkbnr/pppppppp/8/8/8/5N2/PPPPPPPP/RNBQKB1R b KQkq - 1 1"),
+        new long[][]{{0, 1}, {2, 1}});
+  }
+
+  @Test
+  void findsTranspositionsThroughADoublePush() throws IOException {
+    final PositionIndex index = PositionIndex.open(write(readPgn(DOUBLE_PUSH_PGN)));
+    // 앙파상으로 잡을 폰이 없으므로 앙파상 타일이 있든 없든 같은 포지션입니다.
+    final long[][] expected = {{0, 3}, {1, 3}};
+    assertHits(index,
+        Fen.parse("rnbqkb1r/pppppppp/5n2/8/4P3/2N5/PPPP1PPP/R1BQKBNR b KQkq - 1 2"), expected);
+    assertHits(index,
+        Fen.parse("rnbqkb1r/pppppppp/5n2/8/4P3/2N5/PPPP1PPP/R1BQKBNR b KQkq e3 0 2"), expected);
+  }
+
+  @Test
+  void missesPositionsThatNeverOccurred() throws IOException {
+    final PositionIndex index = PositionIndex.open(write(readPgn(PGN)));
+    final PositionIndex.Cursor cursor = index.cursor();
+    final Board board = Fen.parse("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1");
+    assertFalse(cursor.find(board));
+    assertFalse(cursor.next());
+    assertEquals(0, index.count(PolyglotKey.calculateKey(board)));
+    // 같은 배치라도 둘 차례가 다르면 다른 포지션입니다.
+    assertEquals(0,
+        index.count(PolyglotKey.calculateKey(Fen.parse(KNIGHTS.replace(" w ", " b ")))));
+  }
+
+  @Test
+  void databaseAndRepeatedWritesProduceTheSameIndex() throws IOException {
+    final List<PgnGame> games = readPgn(PGN);
+    final Path pgnIndex = this.directory.resolve("pgn.idx");
+    try (PositionIndexBuilder builder = new PositionIndexBuilder(0L, this.directory)) {
+      builder.addPgn(this.directory.resolve("games.pgn"));
+      builder.write(pgnIndex);
+    }
+
+    final Path base = this.directory.resolve("games");
+    try (GameDatabaseWriter writer = new GameDatabaseWriter(base)) {
+      for (final PgnGame game : games) {
+        writer.append(game);
+      }
+    }
+    final Path databaseIndex = this.directory.resolve("db.idx");
+    try (PositionIndexBuilder builder = new PositionIndexBuilder(0L, this.directory)) {
+      builder.addDatabase(base);
+      builder.write(databaseIndex);
+      assertEquals(3, builder.getGameCount());
+    }
+    assertArrayEquals(Files.readAllBytes(pgnIndex), Files.readAllBytes(databaseIndex));
+
+    // 쓴 뒤에 게임을 더하면 앞서 내보낸 파일과 병합해 다시 씁니다.
+    final Path splitIndex = this.directory.resolve("split.idx");
+    try (PositionIndexBuilder builder = new PositionIndexBuilder(0L, this.directory)) {
+      builder.add(games.get(0));
+      builder.write(splitIndex);
+      builder.add(games.get(1));
+      builder.add(games.get(2));
+      builder.write(splitIndex);
+    }
+    assertArrayEquals(Files.readAllBytes(pgnIndex), Files.readAllBytes(splitIndex));
+  }
+
+  @Test
+  void rejectsTruncatedFiles() throws IOException {
+    final Path path = write(readPgn(PGN));
+    final byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+    assertThrows(IOException.class, () -> PositionIndex.open(path));
+  }
+
+  private static void assertHits(final PositionIndex index, final Board board,
+      final long[][] expected) {
+    final PositionIndex.Cursor cursor = index.cursor();
+    assertTrue(cursor.find(board));
+    final List<String> hits = new ArrayList<>();
+    while (cursor.next()) {
+      hits.add(cursor.getGameNumber() + ":" + cursor.getPly());
+    }
+    final List<String> expectedHits = new ArrayList<>();
+    for (final long[] hit : expected) {
+      expectedHits.add(hit[0] + ":" + hit[1]);
+    }
+    assertEquals(expectedHits, hits);
+    assertEquals(expected.length, index.count(PolyglotKey.calculateKey(board)));
+  }
+
+  private Path write(final List<PgnGame> games) throws IOException {
+    final Path path = this.directory.resolve("games.idx");
+    try (PositionIndexBuilder builder = new PositionIndexBuilder(0L, this.directory)) {
+      for (final PgnGame game : games) {
+        builder.add(game);
+      }
+      builder.write(path);
+    }
+    return path;
+  }
+
+  private List<PgnGame> readPgn(final String pgn) throws IOException {
+    final Path path = this.directory.resolve("games.pgn");
+    Files.writeString(path, pgn);
+    final List<PgnGame> games = new ArrayList<>();
+    try (PgnReader reader = new PgnReader(path)) {
+      reader.forEachRemaining(games::add);
+    }
+    return games;
+  }
+}
@@ -0,0 +1,68 @@
+package com.project.chess.perft;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.project.chess.board.MutableBoard;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 기준 포지션의 퍼프트 노드 수를 얕은 깊이에서 확인합니다. 깊은 깊이는 {@code ./gradlew perft}로 확인합니다.
+ */
+class PerftTest {
+
+  // 가변 보드로 확인할 포지션별 깊이, 포지션마다 노드가 50만 개를 넘지 않습니다.
+  private static final Map<PerftPosition, Integer> MUTABLE_DEPTHS = Map.of(
+      PerftPosition.START, 4,
+      PerftPosition.KIWIPETE, 3,
+      PerftPosition.POSITION_3, 4,
+      PerftPosition.POSITION_4, 3,
+      PerftPosition.POSITION_5, 3,
+      PerftPosition.POSITION_6, 3);
+  // 불변 보드 API는 느리므로 더 얕게 확인합니다.
+  private static final int BOARD_DEPTH = 2;
+
+  @Test
+  void mutableBoardMatchesReferenceCounts() {
+    for (final PerftPosition position : PerftPosition.values()) {
+      final int maxDepth = MUTABLE_DEPTHS.get(position);
+      for (int depth = 1; depth <= maxDepth; depth++) {
+        assertEquals(position.getExpectedNodes(depth),
+            Perft.perft(new MutableBoard(position.createBoard()), depth),
+            position + " depth " + depth);
+      }
+    }
+  }
+
+  @Test
+  void boardMatchesReferenceCounts() {
+    for (final PerftPosition position : PerftPosition.values()) {
+      for (int depth = 1; depth <= BOARD_DEPTH; depth++) {
+        assertEquals(position.getExpectedNodes(depth),
+            Perft.perft(position.createBoard(), depth), position + " depth " + depth);
+      }
+    }
+  }
+
+  @Test
+  void divideSumsToPerft() {
+    final PerftPosition position = PerftPosition.KIWIPETE;
+    final long total = Perft.divide(new MutableBoard(position.createBoard()), 2).values()
+        .stream().mapToLong(Long::longValue).sum();
+    assertEquals(position.getExpectedNodes(2), total);
+  }
+
+  @Test
+  void parallelPerftMatchesReferenceCounts() {
+    final ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      for (final PerftPosition position : PerftPosition.values()) {
+        assertEquals(position.getExpectedNodes(3),
+            ParallelPerft.perft(pool, position.createBoard(), 3, 2, false), position.name());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.project.chess.pgn;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.board.Fen;
+import com.project.chess.moves.Move;
+import com.project.chess.moves.MoveEncoding;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PgnReaderTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void resolvesFileAndRankDisambiguation() throws IOException {
+    final PgnGame game = readSingle("""
+        [FEN "1n5k/8/5n2/8/8/4R3/8/4R2K w - - 0 1"]
+
+        1. R1e2 Nbd7 2. Rf3 Kg7 3. Kg1 *
+        """);
+    assertNull(game.getError());
+    assertEquals(List.of("e1e2", "b8d7", "e3f3", "h8g7", "h1g1"), moveStrings(game));
+  }
+
+  @Test
+  void reportsAmbiguousMoveAndKeepsEarlierMoves() throws IOException {
+    final List<PgnGame> games = readAll("""
+        [FEN "1n5k/8/5n2/8/8/4R3/8/4R2K w - - 0 1"]
+
+        1. Re2 Nbd7 *
+
+        [Event "next"]
+
+        1. e4 *
+        """);
+    assertEquals(2, games.size());
+    assertNotNull(games.get(0).getError());
+    assertTrue(games.get(0).getMoves().isEmpty());
+    assertNull(games.get(1).getError());
+    assertEquals(List.of("e2e4"), moveStrings(games.get(1)));
+  }
+
+  @Test
+  void readsPromotionWithAndWithoutEqualsSign() throws IOException {
+    final PgnGame game = readSingle("""
+        [FEN "r3k3/1P6/8/8/8/8/6p1/4K3 w - - 0 1"]
+
+        1. bxa8Q+ Kd7 2. Qb7+ Ke6 3. Ke2 g1=N+ 4. Ke1 Nf3+ 0-1
+        """);
+    assertNull(game.getError());
+    assertEquals(List.of("b7a8q", "e8d7", "a8b7", "d7e6", "e1e2", "g2g1n", "e2e1", "g1f3"),
+        moveStrings(game));
+    assertEquals("0-1", game.getResult());
+  }
+
+  @Test
+  void readsUnderpromotionWithoutEqualsSign() throws IOException {
+    final PgnGame game = readSingle("""
+        [FEN "4k3/1P6/8/8/8/8/8/4K3 w - - 0 1"]
+
+        1. b8N Kf7 2. b8=R *
+        """);
+    // 두 번째 승진은 폰이 없으므로 해석할 수 없습니다.
+    assertNotNull(game.getError());
+    assertEquals(List.of("b7b8n", "e8f7"), moveStrings(game));
+  }
+
+  @Test
+  void readsCastlingWithLettersAndDigits() throws IOException {
+    final PgnGame game = readSingle("""
+        1. e4 e5 2. Nf3 Nc6 3. Bc4 Bc5 4. 0-0 d6 5. d3 Be6 6. Nc3 Qd7 7. Be3 O-O-O+ 1/2-1/2
+        """);
+    assertNull(game.getError());
+    final List<String> moves = moveStrings(game);
+    assertEquals(14, moves.size());
+    assertEquals("e1g1", moves.get(6));
+    assertEquals("e8c8", moves.get(13));
+    assertEquals("1/2-1/2", game.getResult());
+    assertEquals("2kr2nr/pppq1ppp/2npb3/2b1p3/2B1P3/2NPBN2/PPP2PPP/R2Q1RK1 w - - 5 8",
+        Fen.write(game.getFinalBoard()));
+  }
+
+  @Test
+  void skipsCommentsVariationsNagsAndEscapeLines() throws IOException {
+    final List<PgnGame> games = readAll("""
+        % 파일 앞의 이스케이프 줄 [Event "no"]
+        [Event "annotated"]
+        [White "A \\"quoted\\" name"]
+
+        {시작 주석 (괄호 포함} 1. e4 $1 e5 (1... c5 2. Nf3 (2. Nc3 {중첩 (} Nc6) d6 ; 줄 주석 )
+        ) 2. Nf3!? $14 ; 줄 끝 주석 Nf6
+        % 이동 사이의 이스케이프 줄 2... d5
+        Nc6 ?! 3. Bb5 {끝} 1-0
+        """);
+    assertEquals(1, games.size());
+    final PgnGame game = games.get(0);
+    assertNull(game.getError());
+    assertEquals("annotated", game.getTag("Event"));
+    assertEquals("A \"quoted\" name", game.getTag("White"));
+    assertEquals(List.of("e2e4", "e7e5", "g1f3", "b8c6", "f1b5"), moveStrings(game));
+    assertEquals("1-0", game.getResult());
+    assertEquals(game.getMoves().size() + 1, game.getPositions().size());
+  }
+
+  @Test
+  void skipsByteOrderMarkOnlyAtFileStartAndKeepsNonAsciiText() throws IOException {
+    // ¿(C2 BF), »(C2 BB), 전각 문자(EF BC ..)는 BOM과 같은 바이트를 포함합니다.
+    final PgnGame game = readSingle("\uFEFF[Ｅvent \"¿Qué? » Ｏpen\"]\n"
+        + "[White \"Ｋim\"]\n\n1. e4 {주석 ¿ » Ｘ} e5 2. Nf3 *\n");
+    assertNull(game.getError());
+    assertEquals("¿Qué? » Ｏpen", game.getTag("Ｅvent"));
+    assertEquals("Ｋim", game.getTag("White"));
+    assertEquals(List.of("e2e4", "e7e5", "g1f3"), moveStrings(game));
+  }
+
+  @Test
+  void startsFromFenTag() throws IOException {
+    final String fen = "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1";
+    final PgnGame game = readSingle("[SetUp \"1\"]\n[FEN \"" + fen + "\"]\n\n1... d5 2. exd5 *\n");
+    assertNull(game.getError());
+    assertEquals(fen, Fen.write(game.getInitialBoard()));
+    assertEquals(List.of("d7d5", "e4d5"), moveStrings(game));
+    assertEquals("rnbqkbnr/ppp1pppp/8/3P4/8/8/PPPP1PPP/RNBQKBNR b KQkq - 0 2",
+        Fen.write(game.getFinalBoard()));
+    assertEquals("*", game.getResult());
+  }
+
+  @Test
+  void readsGamesThroughTinyBuffer() throws IOException {
+    final Path path = write(manyGames(5));
+    final List<PgnGame> expected = readAll(path);
+    try (PgnReader reader = new PgnReader(FileChannel.open(path, StandardOpenOption.READ), 3)) {
+      final List<PgnGame> actual = new ArrayList<>();
+      reader.forEachRemaining(actual::add);
+      assertSameGames(expected, actual);
+      assertEquals(expected.size(), reader.getGamesRead());
+    }
+  }
+
+  @Test
+  void splitGamesBoundariesStartGamesAndCoverFile() throws IOException {
+    final Path path = write(manyGames(30));
+    final List<PgnGame> expected = readAll(path);
+    assertEquals(30, expected.size());
+    final byte[] bytes = Files.readAllBytes(path);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      for (final long chunkSize : new long[] {1, 17, 100, 257, 1000, bytes.length,
+          10L * bytes.length}) {
+        final long[] boundaries = PgnReader.splitGames(channel, chunkSize);
+        assertEquals(0L, boundaries[0]);
+        assertEquals(bytes.length, boundaries[boundaries.length - 1]);
+        final List<PgnGame> actual = new ArrayList<>();
+        for (int i = 0; i + 1 < boundaries.length; i++) {
+          assertTrue(boundaries[i] < boundaries[i + 1], "chunk " + chunkSize);
+          if (i > 0) {
+            assertEquals('[', bytes[(int) boundaries[i]], "chunk " + chunkSize);
+            assertEquals('\n', bytes[(int) boundaries[i] - 1], "chunk " + chunkSize);
+          }
+          new PgnReader(channel, boundaries[i], boundaries[i + 1], 64)
+              .forEachRemaining(actual::add);
+        }
+        assertSameGames(expected, actual);
+      }
+      assertEquals(0L, channel.position());
+    }
+  }
+
+  // 태그 수와 이동 수가 서로 다른 게임들, 사이에 이스케이프 줄과 빈 줄을 섞습니다.
+  private static String manyGames(final int count) {
+    final String[] movetexts = {
+        "1. e4 e5 2. Nf3 Nc6 3. Bb5 a6 1-0",
+        // 줄 앞에 온 주석 안의 '['는 게임의 시작이 아닙니다.
+        "1. d4 {주석\n[%clk 0:03:00]\n\n[여러 줄]} d5 (1... Nf6 2. c4) 2. c4 e6 0-1",
+        "1. Nf3 d5 2. g3 Nf6 3. Bg2 e6 4. O-O Be7 5. d3 O-O 1/2-1/2",
+        "*",
+    };
+    final StringBuilder pgn = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      pgn.append("[Event \"game ").append(i).append("\"]\n");
+      if (i % 3 == 0) {
+        pgn.append("[Round \"").append(i).append("\"]\n");
+      }
+      pgn.append('\n').append(movetexts[i % movetexts.length]).append('\n');
+      if (i % 4 == 1) {
+        pgn.append("% 이스케이프\n");
+      }
+      pgn.append(i % 2 == 0 ? "\n" : "\n\n");
+    }
+    return pgn.toString();
+  }
+
+  private static void assertSameGames(final List<PgnGame> expected, final List<PgnGame> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getTags(), actual.get(i).getTags());
+      assertEquals(moveStrings(expected.get(i)), moveStrings(actual.get(i)));
+      assertEquals(expected.get(i).getResult(), actual.get(i).getResult());
+      assertEquals(expected.get(i).getError(), actual.get(i).getError());
+    }
+  }
+
+  private static List<String> moveStrings(final PgnGame game) {
+    final List<String> moves = new ArrayList<>();
+    for (final Move move : game.getMoves()) {
+      moves.add(MoveEncoding.toString(MoveEncoding.fromMove(move)));
+    }
+    return moves;
+  }
+
+  private PgnGame readSingle(final String pgn) throws IOException {
+    final List<PgnGame> games = readAll(pgn);
+    assertEquals(1, games.size());
+    assertFalse(games.get(0).getMoves().isEmpty());
+    return games.get(0);
+  }
+
+  private List<PgnGame> readAll(final String pgn) throws IOException {
+    return readAll(write(pgn));
+  }
+
+  private static List<PgnGame> readAll(final Path path) throws IOException {
+    final List<PgnGame> games = new ArrayList<>();
+    try (PgnReader reader = new PgnReader(path)) {
+      reader.forEachRemaining(games::add);
+    }
+    return games;
+  }
+
+  private Path write(final String pgn) throws IOException {
+    final Path path = Files.createTempFile(this.directory, "games", ".pgn");
+    Files.writeString(path, pgn, StandardCharsets.UTF_8);
+    return path;
+  }
+}
@@ -0,0 +1,135 @@
+package com.project.chess.player.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.bitbase.BitbaseGenerator;
+import com.project.chess.bitbase.Bitbases;
+import com.project.chess.bitbase.Endgame;
+import com.project.chess.board.Fen;
+import com.project.chess.moves.MoveEncoding;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AlphaBetaSearchTest {
+
+  // Qxd4를 두면 비트베이스에 있는 KQK가 되지만, 루트의 KQKN은 비트베이스에 없습니다.
+  private static final String KNIGHT_HANGS = "8/8/8/8/3n4/8/4k3/Q6K w - - 0 1";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void findsMateInOne() {
+    // 1. f3 e5 2. g4 뒤의 포지션, 흑은 Qh4#으로 메이트합니다.
+    final SearchInfo info = new AlphaBetaSearch(SearchLimits.depth(3)).search(
+        Fen.parse("rnbqkbnr/pppp1ppp/8/4p3/6P1/5P2/PPPPP2P/RNBQKBNR b KQkq g3 0 2"));
+
+    assertEquals("d8h4", MoveEncoding.toString(info.getBestMove()));
+    assertTrue(info.isMateScore(), info.toString());
+    assertEquals(AlphaBetaSearch.MATE_SCORE - 1, info.getScore());
+  }
+
+  @Test
+  void capturesHangingQueen() {
+    final SearchInfo info = new AlphaBetaSearch(SearchLimits.depth(2)).search(
+        Fen.parse("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1"));
+
+    assertEquals("d2d5", MoveEncoding.toString(info.getBestMove()));
+  }
+
+  @Test
+  void mateScoreFromTableIsRelativeToPly() {
+    // 흑의 유일한 수 Ka7 뒤에 백은 Re6, Ra6#로 메이트합니다.
+    // 첫 탐색은 이 포지션의 수순을 한 플라이 더 깊은 곳에서 표에 저장합니다.
+    final String mateInTwo = "2K1R3/k7/8/8/8/8/8/8 w - - 0 1";
+    final SearchInfo fresh = new AlphaBetaSearch(SearchLimits.depth(4)).search(
+        Fen.parse(mateInTwo));
+    assertEquals(AlphaBetaSearch.MATE_SCORE - 3, fresh.getScore(), fresh.toString());
+
+    final TranspositionTable table = new TranspositionTable(1);
+    new AlphaBetaSearch(SearchLimits.depth(5), new MaterialEvaluator(), table, info -> {
+    }).search(Fen.parse("k1K1R3/8/8/8/8/8/8/8 b - - 0 1"));
+    final SearchInfo shared = new AlphaBetaSearch(SearchLimits.depth(4),
+        new MaterialEvaluator(), table, info -> {
+    }).search(Fen.parse(mateInTwo));
+    assertEquals(fresh.getScore(), shared.getScore(), shared.toString());
+  }
+
+  @Test
+  void quiescenceFindsMateBehindDeepQuietEvasion() {
+    // 깊이 1에서는 Nxg6+ Kh7 Nxf8+ Kh8 Bxc3#을 모두 정지 탐색에서 봅니다.
+    // 메이트 직전의 Kh8은 정지 탐색 세 번째 수에서 체크를 피하는 조용한 응수입니다.
+    final SearchInfo info = new AlphaBetaSearch(SearchLimits.depth(1)).search(
+        Fen.parse("5b1k/5K2/6p1/4N1P1/8/2p5/1B6/8 w - - 0 1"));
+
+    assertEquals("e5g6", MoveEncoding.toString(info.getBestMove()));
+    assertEquals(AlphaBetaSearch.MATE_SCORE - 5, info.getScore(), info.toString());
+  }
+
+  @Test
+  void bitbaseLeavesScoreAsKnownWins() throws IOException {
+    new BitbaseGenerator(ForkJoinPool.commonPool(), this.directory).generate(
+        Endgame.parse("KQK"));
+    final AlphaBetaSearch search = new AlphaBetaSearch(SearchLimits.depth(4));
+    search.setBitbases(Bitbases.open(this.directory));
+    final SearchInfo info = search.search(Fen.parse(KNIGHT_HANGS));
+
+    assertEquals("a1d4", MoveEncoding.toString(info.getBestMove()));
+    assertTrue(info.getScore() >= AlphaBetaSearch.KNOWN_WIN_SCORE / 2, info.toString());
+    assertFalse(info.isMateScore());
+  }
+
+  @Test
+  void rootInsideTheBitbasesStillSearchesForMate() throws IOException {
+    new BitbaseGenerator(ForkJoinPool.commonPool(), this.directory).generate(
+        Endgame.parse("KQK"));
+    final AlphaBetaSearch search = new AlphaBetaSearch(SearchLimits.depth(4));
+    search.setBitbases(Bitbases.open(this.directory));
+    final SearchInfo info = search.search(Fen.parse("k7/8/1K6/8/8/8/8/6Q1 w - - 0 1"));
+
+    assertTrue(info.isMateScore(), info.toString());
+    assertEquals(1, info.getMateInMoves());
+  }
+
+  @Test
+  void knownWinScoreFromTableIsRelativeToPly() throws IOException {
+    new BitbaseGenerator(ForkJoinPool.commonPool(), this.directory).generate(
+        Endgame.parse("KQK"));
+    final Bitbases bitbases = Bitbases.open(this.directory);
+    // 흑의 유일한 수 Kd7 뒤의 포지션, 백은 퀸으로 나이트를 잡아 KQK로 넘어갑니다.
+    final String knightFalls = "KQ6/3k4/8/8/3n4/8/8/8 w - - 1 2";
+    final AlphaBetaSearch fresh = new AlphaBetaSearch(SearchLimits.depth(3),
+        new MaterialEvaluator(), new TranspositionTable(1), info -> {
+    });
+    fresh.setBitbases(bitbases);
+    final SearchInfo expected = fresh.search(Fen.parse(knightFalls));
+    assertTrue(expected.getScore() >= AlphaBetaSearch.KNOWN_WIN_SCORE / 2, expected.toString());
+
+    final TranspositionTable table = new TranspositionTable(1);
+    final AlphaBetaSearch before = new AlphaBetaSearch(SearchLimits.depth(4),
+        new MaterialEvaluator(), table, info -> {
+    });
+    before.setBitbases(bitbases);
+    before.search(Fen.parse("KQk5/8/8/8/3n4/8/8/8 b - - 0 1"));
+    final AlphaBetaSearch shared = new AlphaBetaSearch(SearchLimits.depth(3),
+        new MaterialEvaluator(), table, info -> {
+    });
+    shared.setBitbases(bitbases);
+    final SearchInfo actual = shared.search(Fen.parse(knightFalls));
+    assertEquals(expected.getScore(), actual.getScore(), actual.toString());
+  }
+
+  @Test
+  void searchWithoutBitbasesOnlySeesMaterial() {
+    final SearchInfo info = new AlphaBetaSearch(SearchLimits.depth(4)).search(
+        Fen.parse(KNIGHT_HANGS));
+
+    assertEquals("a1d4", MoveEncoding.toString(info.getBestMove()));
+    assertTrue(info.getScore() < AlphaBetaSearch.KNOWN_WIN_SCORE / 2, info.toString());
+  }
+}
@@ -0,0 +1,34 @@
+package com.project.chess.player.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.project.chess.Alliance;
+import com.project.chess.board.Builder;
+import com.project.chess.board.Fen;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.pieces.Pawn;
+import org.junit.jupiter.api.Test;
+
+class PawnStructureTest {
+
+  @Test
+  void kingShieldCountsPawnsInFrontOfKing() {
+    // 백 킹 앞의 f2, g2 폰과 한 행 더 앞의 h3 폰이 쉴드이고, 흑 킹 앞에는 폰이 없습니다.
+    final int withShield = PawnStructure.evaluate(new MutableBoard(
+        Fen.parse("7k/8/8/8/8/7P/5PP1/6K1 w - - 0 1")));
+    final int withoutShield = PawnStructure.evaluate(new MutableBoard(
+        Fen.parse("6k1/8/8/8/8/7P/5PP1/K7 w - - 0 1")));
+    assertEquals(withoutShield, withShield - PawnStructure.pack(30, 0));
+  }
+
+  @Test
+  void boardWithoutKingsSkipsShield() {
+    // 폰만 놓은 도구용 보드, 양쪽 배치가 대칭이므로 점수는 0입니다.
+    final MutableBoard board = new MutableBoard(new Builder()
+        .setPiece(new Pawn(52, Alliance.WHITE))
+        .setPiece(new Pawn(12, Alliance.BLACK))
+        .setMoveMaker(Alliance.WHITE)
+        .build());
+    assertEquals(0, PawnStructure.evaluate(board));
+  }
+}
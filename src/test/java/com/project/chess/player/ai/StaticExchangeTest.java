@@ -0,0 +1,96 @@
+package com.project.chess.player.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.Fen;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import org.junit.jupiter.api.Test;
+
+class StaticExchangeTest {
+
+  private final StaticExchange staticExchange = new StaticExchange();
+
+  @Test
+  void undefendedPawnIsWon() {
+    assertEquals(100, see("1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1", "e1e5"));
+  }
+
+  @Test
+  void exchangeSequenceWithXrayAttackers() {
+    // Nxe5 Nxe5 Rxe5 Bxe5 Qxe5 Qxe5: 퀸 뒤의 퀸과 룩 뒤의 퀸이 차례로 참여합니다.
+    assertEquals(-220,
+        see("1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1", "d3e5"));
+  }
+
+  @Test
+  void xrayRecaptureBehindRook() {
+    // Rxe5 Rxe5 Rxe5: 뒤에 있던 룩이 되잡으므로 폰을 얻습니다.
+    assertEquals(100, see("4r1k1/8/8/4p3/8/8/4R3/4R1K1 w - - 0 1", "e2e5"));
+  }
+
+  @Test
+  void losingCaptureIsNegative() {
+    final String fen = "4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1";
+    assertEquals(-800, see(fen, "d1d5"));
+    final MutableBoard board = new MutableBoard(Fen.parse(fen));
+    assertFalse(this.staticExchange.isAtLeast(board, move(board, "d1d5"), 0));
+  }
+
+  @Test
+  void pinnedDefenderDoesNotRecapture() {
+    // e7의 나이트는 e1의 룩에 킹으로 핀되어 d5를 되잡을 수 없습니다.
+    assertEquals(100, see("4k3/4n3/8/3p4/8/8/8/3QR1K1 w - - 0 1", "d1d5"));
+    // 핀이 없으면 나이트가 퀸을 잡습니다.
+    assertEquals(-800, see("4k3/4n3/8/3p4/8/8/8/3Q2K1 w - - 0 1", "d1d5"));
+  }
+
+  @Test
+  void pinnedAttackerDoesNotJoinExchange() {
+    // Rxd6 cxd6 뒤에 e4의 나이트가 되잡으면 -300이지만, 나이트는 a8의 비숍에 킹으로 핀되어 있습니다.
+    assertEquals(-400, see("b3k3/2p5/3p4/8/4N3/8/3R4/7K w - - 0 1", "d2d6"));
+    assertEquals(-300, see("4k3/2p5/3p4/8/4N3/8/3R4/7K w - - 0 1", "d2d6"));
+  }
+
+  @Test
+  void enPassantAndPromotion() {
+    assertEquals(100, see("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", "e5d6"));
+    assertEquals(800, see("4k3/1P6/8/8/8/8/8/4K3 w - - 0 1", "b7b8q"));
+    // 승진한 퀸이 곧바로 잡히면 폰만 잃습니다.
+    assertEquals(-100, see("1r2k3/P7/8/8/8/8/8/4K3 w - - 0 1", "a7a8q"));
+  }
+
+  @Test
+  void boardOverloadMatchesMutableBoard() {
+    final String fen = "1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1";
+    final Board board = Fen.parse(fen);
+    final MutableBoard mutableBoard = new MutableBoard(board);
+    final int move = move(mutableBoard, "d3e5");
+    assertEquals(this.staticExchange.evaluate(mutableBoard, move),
+        this.staticExchange.evaluate(board, MoveEncoding.toMove(board, move)));
+    assertTrue(this.staticExchange.isAtLeast(mutableBoard, move, -220));
+    assertFalse(this.staticExchange.isAtLeast(mutableBoard, move, -219));
+  }
+
+  private int see(final String fen, final String move) {
+    final MutableBoard board = new MutableBoard(Fen.parse(fen));
+    return this.staticExchange.evaluate(board, move(board, move));
+  }
+
+  private static int move(final MutableBoard board, final String text) {
+    final MoveList moves = new MoveList();
+    MoveGenerator.generateLegalMoves(board, moves);
+    for (int i = 0; i < moves.size(); i++) {
+      if (MoveEncoding.toString(moves.get(i)).equals(text)) {
+        return moves.get(i);
+      }
+    }
+    return fail("합법 이동이 아닙니다: " + text);
+  }
+}
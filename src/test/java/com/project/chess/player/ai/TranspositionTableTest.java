@@ -0,0 +1,110 @@
+package com.project.chess.player.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.lang.reflect.Field;
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+
+  // 1MB 표는 2^14개의 버킷을 가지므로, 아래 14비트가 같은 키는 같은 버킷에 들어갑니다.
+  private static final int MEGABYTES = 1;
+  private static final long KEY = 0x1234_5678_9ABC_DEF0L;
+
+  private static long sameBucketKey(final int index) {
+    return KEY + ((long) index << 32);
+  }
+
+  @Test
+  void probeReturnsStoredEntry() {
+    final TranspositionTable table = new TranspositionTable(MEGABYTES);
+    table.store(KEY, 0x12345, -31_000 + 7, 12, TranspositionTable.BOUND_LOWER);
+
+    final long entry = table.probe(KEY);
+    assertEquals(0x12345, TranspositionTable.getMove(entry));
+    assertEquals(-31_000 + 7, TranspositionTable.getScore(entry));
+    assertEquals(12, TranspositionTable.getDepth(entry));
+    assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.getBound(entry));
+    assertEquals(0L, table.probe(KEY + 1));
+  }
+
+  @Test
+  void fullBucketReplacesShallowestEntry() {
+    final TranspositionTable table = new TranspositionTable(MEGABYTES);
+    final int[] depths = {5, 2, 7, 9};
+    for (int i = 0; i < depths.length; i++) {
+      table.store(sameBucketKey(i), i + 1, 0, depths[i], TranspositionTable.BOUND_EXACT);
+    }
+    table.store(sameBucketKey(4), 5, 0, 4, TranspositionTable.BOUND_EXACT);
+
+    assertEquals(0L, table.probe(sameBucketKey(1)));
+    for (final int index : new int[] {0, 2, 3, 4}) {
+      assertEquals(index + 1, TranspositionTable.getMove(table.probe(sameBucketKey(index))));
+    }
+  }
+
+  @Test
+  void fullBucketReplacesOlderGenerationFirst() {
+    final TranspositionTable table = new TranspositionTable(MEGABYTES);
+    table.store(sameBucketKey(0), 1, 0, 6, TranspositionTable.BOUND_EXACT);
+    table.newSearch();
+    table.newSearch();
+    for (int i = 1; i < 4; i++) {
+      table.store(sameBucketKey(i), i + 1, 0, 3, TranspositionTable.BOUND_EXACT);
+    }
+    table.store(sameBucketKey(4), 5, 0, 3, TranspositionTable.BOUND_EXACT);
+
+    assertEquals(0L, table.probe(sameBucketKey(0)));
+    assertNotEquals(0L, table.probe(sameBucketKey(4)));
+  }
+
+  @Test
+  void storingSameKeyOverwritesInPlaceAndKeepsMove() {
+    final TranspositionTable table = new TranspositionTable(MEGABYTES);
+    table.store(KEY, 0x777, 10, 3, TranspositionTable.BOUND_EXACT);
+    table.store(KEY, 0, -20, 5, TranspositionTable.BOUND_UPPER);
+    // 같은 키가 두 칸을 차지했다면 아래 세 항목 중 하나가 밀려납니다.
+    for (int i = 1; i < 4; i++) {
+      table.store(sameBucketKey(i), i, 0, 8, TranspositionTable.BOUND_EXACT);
+    }
+
+    final long entry = table.probe(KEY);
+    assertEquals(0x777, TranspositionTable.getMove(entry));
+    assertEquals(-20, TranspositionTable.getScore(entry));
+    assertEquals(5, TranspositionTable.getDepth(entry));
+    assertEquals(TranspositionTable.BOUND_UPPER, TranspositionTable.getBound(entry));
+    for (int i = 1; i < 4; i++) {
+      assertNotEquals(0L, table.probe(sameBucketKey(i)));
+    }
+  }
+
+  @Test
+  void probeMissesOtherKeyInSameBucket() {
+    final TranspositionTable table = new TranspositionTable(MEGABYTES);
+    table.store(KEY, 0x123, 50, 4, TranspositionTable.BOUND_EXACT);
+
+    assertEquals(0L, table.probe(sameBucketKey(1)));
+  }
+
+  @Test
+  void probeRejectsTornEntry() throws ReflectiveOperationException {
+    final TranspositionTable table = new TranspositionTable(MEGABYTES);
+    table.store(KEY, 0x123, 50, 4, TranspositionTable.BOUND_EXACT);
+    final TranspositionTable other = new TranspositionTable(MEGABYTES);
+    other.store(KEY, 0x456, -50, 6, TranspositionTable.BOUND_LOWER);
+    final long otherData = other.probe(KEY);
+
+    // 다른 스레드가 같은 항목의 데이터만 먼저 덮어쓴 상태를 흉내 냅니다.
+    final Field field = TranspositionTable.class.getDeclaredField("table");
+    field.setAccessible(true);
+    final long[] entries = (long[]) field.get(table);
+    for (int i = 0; i < entries.length; i += 2) {
+      if (entries[i + 1] != 0L) {
+        entries[i + 1] = otherData;
+      }
+    }
+
+    assertEquals(0L, table.probe(KEY));
+  }
+}
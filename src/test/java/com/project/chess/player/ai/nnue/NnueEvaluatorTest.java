@@ -0,0 +1,112 @@
+package com.project.chess.player.ai.nnue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.chess.board.Board;
+import com.project.chess.board.MoveGenerator;
+import com.project.chess.board.MutableBoard;
+import com.project.chess.moves.MoveEncoding;
+import com.project.chess.moves.MoveList;
+import com.project.chess.perft.PerftPosition;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NnueEvaluatorTest {
+
+  private static final int HIDDEN_SIZE = 40;
+  private static final int WALK_DEPTH = 3;
+  private static final int RANDOM_PLIES = 200;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void incrementalAccumulatorMatchesRefreshAfterMakeUnmake() {
+    final NnueNetwork network = randomNetwork(new Random(3));
+    for (final NnueKernel kernel : new NnueKernel[] {new ScalarKernel(), NnueKernel.best()}) {
+      for (final PerftPosition position : PerftPosition.values()) {
+        final MutableBoard board = new MutableBoard(position.createBoard());
+        final NnueEvaluator incremental = new NnueEvaluator(network, kernel, false);
+        final NnueEvaluator rescan = new NnueEvaluator(network, kernel, true);
+        incremental.evaluate(board);
+        walk(board, incremental, rescan, WALK_DEPTH, kernel.getName() + " " + position);
+        assertEquals(rescan.evaluate(board), incremental.evaluate(board));
+        assertTrue(incremental.isAccumulatorConsistent(board), position.name());
+      }
+    }
+  }
+
+  @Test
+  void incrementalAccumulatorMatchesRefreshAlongRandomGame() {
+    final Random random = new Random(11);
+    final NnueNetwork network = randomNetwork(random);
+    final NnueEvaluator incremental = new NnueEvaluator(network);
+    final NnueEvaluator rescan = new NnueEvaluator(network, NnueKernel.scalar(), true);
+    final MutableBoard board = new MutableBoard(PerftPosition.START.createBoard());
+    final MoveList moves = new MoveList();
+    incremental.evaluate(board);
+    for (int ply = 0; ply < RANDOM_PLIES; ply++) {
+      MoveGenerator.generateLegalMoves(board, moves);
+      // 둘 이동이 없거나 가끔은 한 수를 되돌려 make와 unmake를 섞습니다.
+      if (moves.size() == 0 || (board.getPly() > 0 && random.nextInt(4) == 0)) {
+        if (board.getPly() == 0) {
+          break;
+        }
+        board.unmakeMove();
+      } else {
+        board.makeMove(moves.get(random.nextInt(moves.size())));
+      }
+      assertEquals(rescan.evaluate(board), incremental.evaluate(board),
+          () -> board.toBoard().toString());
+      assertTrue(incremental.isAccumulatorConsistent(board), () -> board.toBoard().toString());
+    }
+  }
+
+  @Test
+  void savedNetworkEvaluatesTheSame() throws Exception {
+    final NnueNetwork network = randomNetwork(new Random(5));
+    final Path path = this.directory.resolve("test.nnue");
+    network.save(path);
+    final NnueNetwork loaded = NnueNetwork.load(path);
+    final Board board = PerftPosition.KIWIPETE.createBoard();
+    assertEquals(new NnueEvaluator(network).evaluate(new MutableBoard(board)),
+        new NnueEvaluator(loaded).evaluate(new MutableBoard(board)));
+  }
+
+  private static void walk(final MutableBoard board, final NnueEvaluator incremental,
+      final NnueEvaluator rescan, final int depth, final String name) {
+    final MoveList moves = new MoveList();
+    MoveGenerator.generateLegalMoves(board, moves);
+    for (int i = 0; i < moves.size(); i++) {
+      final int move = moves.get(i);
+      board.makeMove(move);
+      assertEquals(rescan.evaluate(board), incremental.evaluate(board),
+          () -> name + " " + MoveEncoding.toString(move) + " @ " + board.toBoard().toString());
+      if (depth > 1) {
+        walk(board, incremental, rescan, depth - 1, name);
+      }
+      board.unmakeMove();
+    }
+  }
+
+  // 누산기가 short 범위를 넘지 않도록 작은 가중치를 사용합니다.
+  private static NnueNetwork randomNetwork(final Random random) {
+    final short[] featureWeights = new short[NnueNetwork.NUM_FEATURES * HIDDEN_SIZE];
+    final short[] featureBiases = new short[HIDDEN_SIZE];
+    final short[] outputWeights = new short[2 * HIDDEN_SIZE];
+    fill(random, featureWeights, 64);
+    fill(random, featureBiases, 128);
+    fill(random, outputWeights, 64);
+    return new NnueNetwork(HIDDEN_SIZE, featureWeights, featureBiases, outputWeights,
+        random.nextInt(2001) - 1000);
+  }
+
+  private static void fill(final Random random, final short[] values, final int bound) {
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (short) (random.nextInt(2 * bound + 1) - bound);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.project.chess.player.ai.nnue;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NnueKernelTest {
+
+  // 벡터 길이의 배수와 나머지가 남는 크기를 함께 확인합니다.
+  private static final int[] HIDDEN_SIZES = {1, 7, 16, 40, 64, 257};
+  private static final int ROWS = 4;
+
+  private final NnueKernel scalar = new ScalarKernel();
+  private final NnueKernel vector = NnueKernel.best();
+
+  @Test
+  void bestKernelUsesVectorModule() {
+    assertEquals("vector", NnueKernel.best().getName());
+  }
+
+  @Test
+  void addAndSubtractMatchScalarKernel() {
+    final Random random = new Random(17);
+    for (final int hiddenSize : HIDDEN_SIZES) {
+      final short[] weights = randomShorts(random, ROWS * hiddenSize, 2000);
+      final short[] expected = randomShorts(random, hiddenSize, 2000);
+      final short[] actual = expected.clone();
+      for (int row = 0; row < ROWS; row++) {
+        this.scalar.add(expected, weights, row * hiddenSize);
+        this.vector.add(actual, weights, row * hiddenSize);
+        assertArrayEquals(expected, actual, "add " + hiddenSize);
+      }
+      for (int row = ROWS - 1; row >= 0; row -= 2) {
+        this.scalar.subtract(expected, weights, row * hiddenSize);
+        this.vector.subtract(actual, weights, row * hiddenSize);
+        assertArrayEquals(expected, actual, "subtract " + hiddenSize);
+      }
+    }
+  }
+
+  @Test
+  void forwardMatchesScalarKernel() {
+    final Random random = new Random(29);
+    for (final int hiddenSize : HIDDEN_SIZES) {
+      for (int trial = 0; trial < 20; trial++) {
+        // 음수와 QA를 넘는 값을 섞어 자르는 경계를 확인합니다.
+        final short[] us = randomShorts(random, hiddenSize, 2 * NnueNetwork.QA);
+        final short[] them = randomShorts(random, hiddenSize, 2 * NnueNetwork.QA);
+        final short[] outputWeights = randomShorts(random, 2 * hiddenSize, 1000);
+        assertEquals(this.scalar.forward(us, them, outputWeights),
+            this.vector.forward(us, them, outputWeights), "forward " + hiddenSize);
+      }
+    }
+  }
+
+  private static short[] randomShorts(final Random random, final int length, final int bound) {
+    final short[] values = new short[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = (short) (random.nextInt(2 * bound + 1) - bound);
+    }
+    return values;
+  }
+}
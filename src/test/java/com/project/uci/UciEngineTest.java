@@ -0,0 +1,71 @@
+package com.project.uci;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class UciEngineTest {
+
+  private static final long TIMEOUT_MILLIS = 30_000L;
+
+  @Test
+  void answersGoWithBestMove() throws Exception {
+    final List<String> lines = play("bestmove d8h4", "uci", "isready",
+        "position startpos moves f2f3 e7e5 g2g4", "go depth 2");
+    assertTrue(lines.contains("uciok"), lines::toString);
+    assertTrue(lines.contains("readyok"), lines::toString);
+    assertTrue(lines.contains("bestmove d8h4"), lines::toString);
+  }
+
+  @Test
+  void keepsRunningAfterMalformedCommands() throws Exception {
+    final List<String> lines = play("bestmove d8h4", "position startpos moves e2e5",
+        "go depth x", "setoption name Hash value 0", "position fen 8/8/8/8/8/8/8/8 w - - 0 1",
+        "go depth 1", "position startpos moves f2f3 e7e5 g2g4", "go depth 2");
+    assertTrue(lines.stream().anyMatch(line -> line.startsWith("info string")), lines::toString);
+    assertTrue(lines.contains("bestmove d8h4"), lines::toString);
+  }
+
+  // 입력이 끝나면 탐색이 멈추므로 기다리는 응답이 나올 때까지 입력을 열어 두고, 그 뒤에 quit으로 종료합니다.
+  private static List<String> play(final String awaited, final String... commands)
+      throws Exception {
+    final PipedOutputStream commandStream = new PipedOutputStream();
+    final PipedInputStream input = new PipedInputStream(commandStream);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final UciEngine engine = new UciEngine(input,
+        new PrintStream(output, true, StandardCharsets.UTF_8));
+    final Thread thread = new Thread(engine::run, "uci-test");
+    thread.start();
+
+    send(commandStream, commands);
+    final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (!lines(output).contains(awaited) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10L);
+    }
+    send(commandStream, "quit");
+    commandStream.close();
+    thread.join(TIMEOUT_MILLIS);
+    assertFalse(thread.isAlive(), "엔진이 quit 후에도 종료되지 않았습니다.");
+    return lines(output);
+  }
+
+  private static void send(final PipedOutputStream stream, final String... commands)
+      throws IOException {
+    for (final String command : commands) {
+      stream.write((command + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+    stream.flush();
+  }
+
+  private static List<String> lines(final ByteArrayOutputStream output) {
+    return output.toString(StandardCharsets.UTF_8).lines().toList();
+  }
+}
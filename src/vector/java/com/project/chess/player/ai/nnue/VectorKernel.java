@@ -0,0 +1,81 @@
+package com.project.chess.player.ai.nnue;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@code jdk.incubator.vector}로 여러 뉴런을 한 번에 계산하는 커널입니다.
+ * <p>
+ * 누산기 갱신은 CPU가 지원하는 가장 넓은 {@code short} 벡터로 계산합니다. 출력 층은 자른 값에 가중치를 곱하면 {@code short}
+ * 범위를 넘으므로, 벡터의 두 절반을 각각 {@code int} 벡터로 넓혀서 곱하고 더합니다. 벡터 길이로 나누어떨어지지 않는 나머지는 스칼라로
+ * 계산합니다. 이 클래스는 {@link NnueKernel#best()}가 리플렉션으로만 생성합니다.
+ */
+final class VectorKernel implements NnueKernel {
+
+  private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+  private static final short QA = (short) NnueNetwork.QA;
+
+  @Override
+  public void add(final short[] accumulator, final short[] weights, final int offset) {
+    final int bound = SHORTS.loopBound(accumulator.length);
+    int i = 0;
+    for (; i < bound; i += SHORTS.length()) {
+      ShortVector.fromArray(SHORTS, accumulator, i)
+          .add(ShortVector.fromArray(SHORTS, weights, offset + i))
+          .intoArray(accumulator, i);
+    }
+    for (; i < accumulator.length; i++) {
+      accumulator[i] += weights[offset + i];
+    }
+  }
+
+  @Override
+  public void subtract(final short[] accumulator, final short[] weights, final int offset) {
+    final int bound = SHORTS.loopBound(accumulator.length);
+    int i = 0;
+    for (; i < bound; i += SHORTS.length()) {
+      ShortVector.fromArray(SHORTS, accumulator, i)
+          .sub(ShortVector.fromArray(SHORTS, weights, offset + i))
+          .intoArray(accumulator, i);
+    }
+    for (; i < accumulator.length; i++) {
+      accumulator[i] -= weights[offset + i];
+    }
+  }
+
+  @Override
+  public int forward(final short[] us, final short[] them, final short[] outputWeights) {
+    final int hiddenSize = us.length;
+    return dot(us, outputWeights, 0) + dot(them, outputWeights, hiddenSize);
+  }
+
+  private static int dot(final short[] accumulator, final short[] weights, final int offset) {
+    final int bound = SHORTS.loopBound(accumulator.length);
+    IntVector sum = IntVector.zero(INTS);
+    int i = 0;
+    for (; i < bound; i += SHORTS.length()) {
+      final ShortVector activation = ShortVector.fromArray(SHORTS, accumulator, i)
+          .max((short) 0).min(QA);
+      final ShortVector weight = ShortVector.fromArray(SHORTS, weights, offset + i);
+      for (int part = 0; part < 2; part++) {
+        final IntVector a = (IntVector) activation.convertShape(VectorOperators.S2I, INTS, part);
+        final IntVector w = (IntVector) weight.convertShape(VectorOperators.S2I, INTS, part);
+        sum = sum.add(a.mul(w));
+      }
+    }
+    int result = sum.reduceLanes(VectorOperators.ADD);
+    for (; i < accumulator.length; i++) {
+      result += Math.min(Math.max(accumulator[i], 0), NnueNetwork.QA) * weights[offset + i];
+    }
+    return result;
+  }
+
+  @Override
+  public String getName() {
+    return "vector";
+  }
+}